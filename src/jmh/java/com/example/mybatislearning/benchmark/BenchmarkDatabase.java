@@ -0,0 +1,73 @@
+package com.example.mybatislearning.benchmark;
+
+import com.example.mybatislearning.MyBatisLearningApplication;
+import com.example.mybatislearning.datagen.DataGenerationResult;
+import com.example.mybatislearning.datagen.DataGenerationSpec;
+import com.example.mybatislearning.datagen.SyntheticDataGenerator;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import javax.sql.DataSource;
+import java.util.Arrays;
+
+/**
+ * BenchmarkDatabase
+ * ベンチマーク用にSpringコンテキストを起動し、SyntheticDataGeneratorで指定規模のデータを投入するヘルパー
+ *
+ * <p>規模ごとに別のインメモリDBを使い、schema.sql/data.sqlの適用後に固定シードのデータを追加する。</p>
+ */
+final class BenchmarkDatabase implements AutoCloseable {
+
+    static final int PERSON_COUNT = 10_000;
+    static final long SEED = 20240401L;
+
+    private final ConfigurableApplicationContext context;
+    private final DataGenerationResult result;
+
+    private BenchmarkDatabase(ConfigurableApplicationContext context, DataGenerationResult result) {
+        this.context = context;
+        this.result = result;
+    }
+
+    /**
+     * Springコンテキストを起動してデータを投入
+     *
+     * @param projectCount 追加するプロジェクト件数（工程・メンバー・技術はプロジェクトあたり5・5・3件）
+     * @param properties   追加の設定（key=value。application.ymlより優先する）
+     * @return 起動したデータベース（呼び出し側で@TearDown時にcloseする）
+     */
+    static BenchmarkDatabase start(int projectCount, String... properties) {
+        String[] args = Arrays.stream(properties).map(property -> "--" + property).toArray(String[]::new);
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(MyBatisLearningApplication.class)
+                .web(WebApplicationType.NONE)
+                .properties(
+                        "spring.datasource.url=jdbc:h2:mem:bench" + projectCount + ";DB_CLOSE_DELAY=-1",
+                        "logging.level.root=WARN")
+                .run(args);
+        DataGenerationSpec spec = new DataGenerationSpec();
+        spec.setSeed(SEED);
+        spec.setPersons(PERSON_COUNT);
+        spec.setProjects(projectCount);
+        try {
+            DataGenerationResult result = new SyntheticDataGenerator(context.getBean(DataSource.class)).generate(spec);
+            return new BenchmarkDatabase(context, result);
+        } catch (RuntimeException e) {
+            context.close();
+            throw e;
+        }
+    }
+
+    <T> T getBean(Class<T> type) {
+        return context.getBean(type);
+    }
+
+    long firstId(String table) {
+        return result.getFirstId(table);
+    }
+
+    @Override
+    public void close() {
+        context.close();
+    }
+}
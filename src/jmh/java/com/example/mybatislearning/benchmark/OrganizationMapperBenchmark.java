@@ -0,0 +1,73 @@
+package com.example.mybatislearning.benchmark;
+
+import com.example.mybatislearning.entity.Organization;
+import com.example.mybatislearning.mapper.OrganizationAnnotationMapper;
+import com.example.mybatislearning.mapper.OrganizationMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * OrganizationMapperBenchmark
+ * XMLマッパー（OrganizationMapper）とアノテーションマッパー（OrganizationAnnotationMapper）を比較
+ *
+ * <p>両者はorganizationsの2次キャッシュを共有しているため、キャッシュを有効にしたままでは
+ * マッピング方式ではなくキャッシュの有無を比較することになる。そのため2次キャッシュを無効にした
+ * コンテキストで計測し、両者とも毎回SQLを実行させる。</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrganizationMapperBenchmark {
+
+    private BenchmarkDatabase database;
+    private OrganizationMapper organizationMapper;
+    private OrganizationAnnotationMapper organizationAnnotationMapper;
+
+    @Setup
+    public void setUp() {
+        // 2次キャッシュを無効にし、XML版・アノテーション版とも毎回SQLを実行させる
+        database = BenchmarkDatabase.start(0, "mybatis.configuration.cache-enabled=false");
+        organizationMapper = database.getBean(OrganizationMapper.class);
+        organizationAnnotationMapper = database.getBean(OrganizationAnnotationMapper.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public Organization xmlSelectById() {
+        return organizationMapper.selectById(1L);
+    }
+
+    @Benchmark
+    public Organization annotationSelectById() {
+        return organizationAnnotationMapper.selectById(1L);
+    }
+
+    @Benchmark
+    public List<Organization> xmlSelectAll() {
+        return organizationMapper.selectAll();
+    }
+
+    @Benchmark
+    public List<Organization> annotationSelectAll() {
+        return organizationAnnotationMapper.selectAll();
+    }
+}
@@ -0,0 +1,52 @@
+package com.example.mybatislearning.benchmark;
+
+import com.example.mybatislearning.datagen.SyntheticDataGenerator;
+import com.example.mybatislearning.entity.Person;
+import com.example.mybatislearning.mapper.PersonMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * PersonMapperBenchmark
+ * メールアドレスによるPerson検索（idx_persons_email）を計測
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class PersonMapperBenchmark {
+
+    private BenchmarkDatabase database;
+    private PersonMapper personMapper;
+
+    @Setup
+    public void setUp() {
+        database = BenchmarkDatabase.start(0);
+        personMapper = database.getBean(PersonMapper.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public Person findByEmail() {
+        int index = ThreadLocalRandom.current().nextInt(BenchmarkDatabase.PERSON_COUNT);
+        return personMapper.findByEmail(SyntheticDataGenerator.email(index));
+    }
+}
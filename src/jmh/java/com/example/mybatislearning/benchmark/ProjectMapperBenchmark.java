@@ -0,0 +1,77 @@
+package com.example.mybatislearning.benchmark;
+
+import com.example.mybatislearning.entity.Project;
+import com.example.mybatislearning.mapper.ProjectMapper;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ProjectMapperBenchmark
+ * ProjectMapperのホットパス（ID検索・関連込み検索・全件取得）を規模別に計測
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ProjectMapperBenchmark {
+
+    @Param({"10000", "100000"})
+    private int projectCount;
+
+    private BenchmarkDatabase database;
+    private ProjectMapper projectMapper;
+    private long firstProjectId;
+
+    @Setup
+    public void setUp() {
+        database = BenchmarkDatabase.start(projectCount);
+        projectMapper = database.getBean(ProjectMapper.class);
+        firstProjectId = database.firstId("projects");
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.close();
+    }
+
+    private long randomProjectId() {
+        return firstProjectId + ThreadLocalRandom.current().nextInt(projectCount);
+    }
+
+    @Benchmark
+    public Project selectById() {
+        return projectMapper.selectById(randomProjectId());
+    }
+
+    @Benchmark
+    public Project selectProjectWithAllRelations() {
+        return projectMapper.selectProjectWithAllRelations(randomProjectId());
+    }
+
+    /**
+     * 全件取得は1回あたりの時間が長いため、スループットではなく1回の所要時間で見る
+     */
+    @Benchmark
+    @BenchmarkMode(Mode.SingleShotTime)
+    @Warmup(iterations = 2)
+    @Measurement(iterations = 5)
+    public List<Project> selectAll() {
+        return projectMapper.selectAll();
+    }
+}
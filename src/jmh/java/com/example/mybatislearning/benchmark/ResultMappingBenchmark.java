@@ -0,0 +1,93 @@
+package com.example.mybatislearning.benchmark;
+
+import com.example.mybatislearning.entity.Person;
+import com.example.mybatislearning.entity.Phase;
+import com.example.mybatislearning.entity.Project;
+import com.example.mybatislearning.mapper.PersonMapper;
+import com.example.mybatislearning.mapper.PhaseMapper;
+import com.example.mybatislearning.mapper.ProjectMapper;
+import com.example.mybatislearning.readmodel.PersonRecord;
+import com.example.mybatislearning.readmodel.PhaseRecord;
+import com.example.mybatislearning.readmodel.ProjectRecord;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ResultMappingBenchmark
+ * 同じ行をsetter（POJO）とコンストラクタ（record）で生成した場合の全件取得時間を比較
+ *
+ * <p>SQLと取得列は同一のため、差はMyBatisの結果オブジェクト生成方式によるもの。
+ * 1回あたりの生成量を比べるには {@code -Djmh.args="ResultMappingBenchmark -prof gc"} で実行する。</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 5, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class ResultMappingBenchmark {
+
+    @Param({"10000"})
+    private int projectCount;
+
+    private BenchmarkDatabase database;
+    private ProjectMapper projectMapper;
+    private PhaseMapper phaseMapper;
+    private PersonMapper personMapper;
+
+    @Setup
+    public void setUp() {
+        database = BenchmarkDatabase.start(projectCount);
+        projectMapper = database.getBean(ProjectMapper.class);
+        phaseMapper = database.getBean(PhaseMapper.class);
+        personMapper = database.getBean(PersonMapper.class);
+    }
+
+    @TearDown
+    public void tearDown() {
+        database.close();
+    }
+
+    @Benchmark
+    public List<Project> projectSetter() {
+        return projectMapper.selectAll();
+    }
+
+    @Benchmark
+    public List<ProjectRecord> projectConstructor() {
+        return projectMapper.selectAllRecords();
+    }
+
+    @Benchmark
+    public List<Phase> phaseSetter() {
+        return phaseMapper.selectAll();
+    }
+
+    @Benchmark
+    public List<PhaseRecord> phaseConstructor() {
+        return phaseMapper.selectAllRecords();
+    }
+
+    @Benchmark
+    public List<Person> personSetter() {
+        return personMapper.selectAll();
+    }
+
+    @Benchmark
+    public List<PersonRecord> personConstructor() {
+        return personMapper.selectAllRecords();
+    }
+}
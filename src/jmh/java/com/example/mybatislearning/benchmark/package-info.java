@@ -0,0 +1,19 @@
+/**
+ * ベンチマークパッケージを提供します
+ *
+ * <p>
+ * 主なクラス:
+ * </p>
+ * <ul>
+ * <li>ProjectMapperBenchmark</li>
+ * <li>PersonMapperBenchmark</li>
+ * <li>OrganizationMapperBenchmark</li>
+ * <li>ResultMappingBenchmark</li>
+ * </ul>
+ *
+ * <p>
+ * このパッケージはJMHによるマッパーのマイクロベンチマークを提供します。
+ * 実行: mvn -Pbenchmark test-compile exec:exec
+ * </p>
+ */
+package com.example.mybatislearning.benchmark;
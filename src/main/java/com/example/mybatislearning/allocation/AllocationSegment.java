@@ -0,0 +1,77 @@
+package com.example.mybatislearning.allocation;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * AllocationSegment
+ * ある人の稼働率合計が一定である期間（タイムラインの1区間）
+ *
+ * <p>期間は開始日・終了日ともに含む。終了日がnullの場合は離任日未定の参画が続いていることを表す。</p>
+ */
+public class AllocationSegment {
+
+    private final Long personId;
+    private final LocalDate startDate;
+    private final LocalDate endDate;
+    private final BigDecimal allocation;
+    private final int assignmentCount;
+
+    /**
+     * フィールド初期化コンストラクタ
+     *
+     * @param personId        Person ID
+     * @param startDate       開始日（含む）
+     * @param endDate         終了日（含む）、無期限の場合はnull
+     * @param allocation      期間中の稼働率合計
+     * @param assignmentCount 期間中に並行している参画数
+     */
+    public AllocationSegment(Long personId, LocalDate startDate, LocalDate endDate, BigDecimal allocation,
+                             int assignmentCount) {
+        this.personId = personId;
+        this.startDate = startDate;
+        this.endDate = endDate;
+        this.allocation = allocation;
+        this.assignmentCount = assignmentCount;
+    }
+
+    public Long getPersonId() {
+        return personId;
+    }
+
+    public LocalDate getStartDate() {
+        return startDate;
+    }
+
+    public LocalDate getEndDate() {
+        return endDate;
+    }
+
+    public BigDecimal getAllocation() {
+        return allocation;
+    }
+
+    public int getAssignmentCount() {
+        return assignmentCount;
+    }
+
+    /**
+     * 稼働率合計が1.0を超えているか
+     *
+     * @return 過剰アサインの場合true
+     */
+    public boolean isOverAllocated() {
+        return allocation.compareTo(BigDecimal.ONE) > 0;
+    }
+
+    @Override
+    public String toString() {
+        return "AllocationSegment{" +
+                "personId=" + personId +
+                ", startDate=" + startDate +
+                ", endDate=" + endDate +
+                ", allocation=" + allocation +
+                ", assignmentCount=" + assignmentCount +
+                '}';
+    }
+}
@@ -0,0 +1,140 @@
+package com.example.mybatislearning.allocation;
+
+import com.example.mybatislearning.entity.ProjectMember;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * AllocationTimelineBuilder
+ * Person ID順に並んだProjectMemberを1件ずつ受け取り、区間スイープで1人分ずつタイムラインを構築する
+ *
+ * <p>同じPersonの行が連続して届くことを前提に、Personが切り替わった時点でその人の参画を
+ * 開始・終了イベントに分解し、日付順に稼働率を加減算して区間を確定する。
+ * 保持するのは処理中の1人分の参画のみで、全行をメモリに載せることはない。</p>
+ *
+ * <pre>
+ * AllocationTimelineBuilder builder = new AllocationTimelineBuilder(timelines::add);
+ * cursor.forEach(builder::accept);
+ * builder.finish();
+ * </pre>
+ */
+public class AllocationTimelineBuilder implements Consumer<ProjectMember> {
+
+    private final Consumer<PersonAllocationTimeline> sink;
+    private final List<ProjectMember> current = new ArrayList<>();
+    private Long currentPersonId;
+    private long rowCount;
+
+    /**
+     * コンストラクタ
+     *
+     * @param sink 確定したタイムラインを受け取る関数
+     */
+    public AllocationTimelineBuilder(Consumer<PersonAllocationTimeline> sink) {
+        this.sink = sink;
+    }
+
+    /**
+     * 参画を1件追加
+     *
+     * @param member ProjectMember（Person ID順に渡すこと）
+     * @throws IllegalArgumentException Person IDの順序が逆転した場合
+     */
+    @Override
+    public void accept(ProjectMember member) {
+        if (currentPersonId != null && !currentPersonId.equals(member.getPersonId())) {
+            if (member.getPersonId() < currentPersonId) {
+                throw new IllegalArgumentException("ProjectMembers must be ordered by personId");
+            }
+            flush();
+        }
+        currentPersonId = member.getPersonId();
+        current.add(member);
+        rowCount++;
+    }
+
+    /**
+     * 最後のPersonのタイムラインを確定
+     */
+    public void finish() {
+        if (currentPersonId != null) {
+            flush();
+        }
+    }
+
+    /**
+     * 処理した参画の件数
+     *
+     * @return 件数
+     */
+    public long getRowCount() {
+        return rowCount;
+    }
+
+    private void flush() {
+        sink.accept(build(currentPersonId, current));
+        current.clear();
+        currentPersonId = null;
+    }
+
+    /**
+     * 1人分の参画から区間スイープでタイムラインを構築
+     * 参画日に+稼働率、離任日の翌日に-稼働率のイベントを置き、日付順に累積した値が変わる位置で区間を区切る
+     *
+     * @param personId Person ID
+     * @param members  その人の参画（順不同）
+     * @return タイムライン
+     */
+    public static PersonAllocationTimeline build(Long personId, List<ProjectMember> members) {
+        // 同日のイベントは1つにまとめる（エポック日 -> [稼働率の増減, 参画数の増減]）
+        Map<Long, BigDecimal> rateDeltas = new HashMap<>();
+        Map<Long, Integer> countDeltas = new HashMap<>();
+        for (ProjectMember member : members) {
+            long start = member.getJoinDate().toEpochDay();
+            long end = member.getLeaveDate() == null
+                    ? PersonAllocationTimeline.OPEN_END
+                    : member.getLeaveDate().toEpochDay() + 1;
+            BigDecimal rate = member.getAllocationRate() == null ? BigDecimal.ZERO : member.getAllocationRate();
+            if (end <= start) {
+                continue; // 離任日が参画日より前のデータは期間なしとして無視
+            }
+            rateDeltas.merge(start, rate, BigDecimal::add);
+            countDeltas.merge(start, 1, Integer::sum);
+            if (end != PersonAllocationTimeline.OPEN_END) {
+                rateDeltas.merge(end, rate.negate(), BigDecimal::add);
+                countDeltas.merge(end, -1, Integer::sum);
+            }
+        }
+        long[] days = rateDeltas.keySet().stream().mapToLong(Long::longValue).sorted().toArray();
+
+        List<AllocationSegment> segments = new ArrayList<>();
+        BigDecimal allocation = BigDecimal.ZERO;
+        int count = 0;
+        long segmentStart = 0;
+        for (long day : days) {
+            BigDecimal next = allocation.add(rateDeltas.get(day));
+            int nextCount = count + countDeltas.get(day);
+            if (next.compareTo(allocation) == 0 && nextCount == count) {
+                continue;
+            }
+            if (count > 0) {
+                segments.add(new AllocationSegment(personId, LocalDate.ofEpochDay(segmentStart),
+                        LocalDate.ofEpochDay(day - 1), allocation, count));
+            }
+            allocation = next;
+            count = nextCount;
+            segmentStart = day;
+        }
+        if (count > 0) {
+            // 離任日未定の参画が残っている
+            segments.add(new AllocationSegment(personId, LocalDate.ofEpochDay(segmentStart), null, allocation, count));
+        }
+        return new PersonAllocationTimeline(personId, segments);
+    }
+}
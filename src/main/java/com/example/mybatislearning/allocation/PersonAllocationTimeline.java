@@ -0,0 +1,164 @@
+package com.example.mybatislearning.allocation;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * PersonAllocationTimeline
+ * 1人分の稼働タイムライン（重ならない区間を開始日順に並べた区間インデックス）
+ *
+ * <p>区間は互いに重ならず開始日順に並んでいるため、日付・期間による検索は二分探索でO(log n)となる
+ * （期間検索は該当区間数kを加えてO(log n + k)）。稼働のない期間は区間を持たない。</p>
+ */
+public class PersonAllocationTimeline {
+
+    /** 無期限の区間の終了（排他的）を表す値 */
+    static final long OPEN_END = Long.MAX_VALUE;
+
+    private final Long personId;
+    private final List<AllocationSegment> segments;
+    // 二分探索用: 各区間の開始日（含む）と終了日（含まない）のエポック日
+    private final long[] starts;
+    private final long[] ends;
+    private final BigDecimal peakAllocation;
+
+    PersonAllocationTimeline(Long personId, List<AllocationSegment> segments) {
+        this.personId = personId;
+        this.segments = Collections.unmodifiableList(new ArrayList<>(segments));
+        this.starts = new long[segments.size()];
+        this.ends = new long[segments.size()];
+        BigDecimal peak = BigDecimal.ZERO;
+        for (int i = 0; i < segments.size(); i++) {
+            AllocationSegment segment = segments.get(i);
+            starts[i] = segment.getStartDate().toEpochDay();
+            ends[i] = segment.getEndDate() == null ? OPEN_END : segment.getEndDate().toEpochDay() + 1;
+            peak = peak.max(segment.getAllocation());
+        }
+        this.peakAllocation = peak;
+    }
+
+    public Long getPersonId() {
+        return personId;
+    }
+
+    /**
+     * 全区間を取得
+     *
+     * @return 開始日順の区間（変更不可）
+     */
+    public List<AllocationSegment> getSegments() {
+        return segments;
+    }
+
+    /**
+     * 期間全体での稼働率合計の最大値
+     *
+     * @return 最大稼働率（参画がない場合は0）
+     */
+    public BigDecimal getPeakAllocation() {
+        return peakAllocation;
+    }
+
+    /**
+     * いずれかの期間で稼働率合計が1.0を超えているか
+     *
+     * @return 過剰アサインがある場合true
+     */
+    public boolean isOverAllocated() {
+        return peakAllocation.compareTo(BigDecimal.ONE) > 0;
+    }
+
+    /**
+     * 稼働率合計が1.0を超えている区間を取得
+     *
+     * @return 過剰アサインの区間（開始日順）
+     */
+    public List<AllocationSegment> getOverAllocatedSegments() {
+        List<AllocationSegment> result = new ArrayList<>();
+        for (AllocationSegment segment : segments) {
+            if (segment.isOverAllocated()) {
+                result.add(segment);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 指定日の稼働率合計を取得（O(log n)）
+     *
+     * @param date 対象日
+     * @return 稼働率合計（参画がない日は0）
+     */
+    public BigDecimal allocationOn(LocalDate date) {
+        int index = indexOfFirstEndingAfter(date.toEpochDay());
+        if (index < segments.size() && starts[index] <= date.toEpochDay()) {
+            return segments.get(index).getAllocation();
+        }
+        return BigDecimal.ZERO;
+    }
+
+    /**
+     * 指定期間と重なる区間を取得（O(log n + k)）
+     *
+     * @param from 開始日（含む）
+     * @param to   終了日（含む）
+     * @return 期間と重なる区間（開始日順）
+     * @throws IllegalArgumentException fromがtoより後の場合
+     */
+    public List<AllocationSegment> segmentsBetween(LocalDate from, LocalDate to) {
+        if (from.isAfter(to)) {
+            throw new IllegalArgumentException("from must not be after to");
+        }
+        List<AllocationSegment> result = new ArrayList<>();
+        long toDay = to.toEpochDay();
+        for (int i = indexOfFirstEndingAfter(from.toEpochDay()); i < segments.size() && starts[i] <= toDay; i++) {
+            result.add(segments.get(i));
+        }
+        return result;
+    }
+
+    /**
+     * 指定期間内の稼働率合計の最大値を取得（O(log n + k)）
+     *
+     * @param from 開始日（含む）
+     * @param to   終了日（含む）
+     * @return 最大稼働率（参画がない場合は0）
+     */
+    public BigDecimal peakAllocationBetween(LocalDate from, LocalDate to) {
+        BigDecimal peak = BigDecimal.ZERO;
+        for (AllocationSegment segment : segmentsBetween(from, to)) {
+            peak = peak.max(segment.getAllocation());
+        }
+        return peak;
+    }
+
+    /**
+     * 終了日（含まない）がdayより後になる最初の区間の位置を二分探索で求める
+     * 区間は重ならず開始日順のため、endsも昇順に並んでいる
+     */
+    private int indexOfFirstEndingAfter(long day) {
+        int low = 0;
+        int high = ends.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (ends[mid] <= day) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    @Override
+    public String toString() {
+        return "PersonAllocationTimeline{" +
+                "personId=" + personId +
+                ", segments=" + segments.size() +
+                ", peakAllocation=" + peakAllocation +
+                '}';
+    }
+}
@@ -0,0 +1,17 @@
+/**
+ * 稼働タイムラインパッケージを提供します
+ *
+ * <p>
+ * 主なクラス:
+ * </p>
+ * <ul>
+ * <li>AllocationTimelineBuilder</li>
+ * <li>PersonAllocationTimeline</li>
+ * <li>AllocationSegment</li>
+ * </ul>
+ *
+ * <p>
+ * このパッケージはproject_membersの参画期間・稼働率から、人ごとの日別稼働状況を求める区間処理を提供します。
+ * </p>
+ */
+package com.example.mybatislearning.allocation;
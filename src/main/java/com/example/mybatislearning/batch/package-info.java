@@ -0,0 +1,15 @@
+/**
+ * バッチ処理パッケージを提供します
+ *
+ * <p>
+ * 主なクラス:
+ * </p>
+ * <ul>
+ * <li>BatchInsertTemplate</li>
+ * </ul>
+ *
+ * <p>
+ * このパッケージはMyBatisのバッチ実行（ExecutorType.BATCH）に関連するクラスを提供します。
+ * </p>
+ */
+package com.example.mybatislearning.batch;
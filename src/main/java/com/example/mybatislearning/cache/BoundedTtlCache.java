@@ -0,0 +1,315 @@
+package com.example.mybatislearning.cache;
+
+import org.apache.ibatis.cache.Cache;
+import org.apache.ibatis.cache.CacheException;
+import org.apache.ibatis.io.Resources;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.ObjectInputStream;
+import java.io.ObjectOutputStream;
+import java.io.ObjectStreamClass;
+import java.io.Serializable;
+import java.lang.ref.WeakReference;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.LongSupplier;
+
+/**
+ * BoundedTtlCache
+ * サイズ上限（LRU）とTTLで追い出しを行うMyBatis 2次キャッシュ実装
+ *
+ * <p>マッパーXMLの{@code <cache type="...">}で指定し、{@code <property>}で
+ * maxSize（最大エントリ数）、ttlSeconds（有効期間）、copyOnRead（読み取り時にコピーを返すか）を設定する。
+ * insert/update/deleteの実行時はMyBatisがコミット時に{@link #clear()}を呼び出してフラッシュする。</p>
+ *
+ * <p>カスタムキャッシュにはMyBatis標準のSerializedCache/SynchronizedCacheが適用されないため、
+ * スレッドセーフ化と読み取り時のコピー（呼び出し側の変更がキャッシュに波及しないようにする）を本クラスで行う。</p>
+ */
+public class BoundedTtlCache implements Cache {
+
+    // キャッシュID（namespace）ごとのインスタンス（統計情報の参照用）
+    // 同一JVM内に複数のSqlSessionFactoryがある場合、同じIDのインスタンスが複数存在する。
+    // 破棄されたSqlSessionFactoryのインスタンスを保持し続けないよう弱参照で保持し、登録時に回収済みの参照を取り除く
+    // （equals/hashCodeはIDで比較するため、WeakHashMapではなく参照のリストで保持する）
+    private static final Map<String, List<WeakReference<BoundedTtlCache>>> INSTANCES = new ConcurrentHashMap<>();
+
+    private final String id;
+    private final LongSupplier nanoClock;
+    private final LinkedHashMap<Object, Entry> entries = new LinkedHashMap<>(16, 0.75f, true);
+
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder expirations = new LongAdder();
+
+    private int maxSize = 1024;
+    private long ttlNanos = TimeUnit.MINUTES.toNanos(10);
+    private boolean copyOnRead = true;
+
+    /**
+     * MyBatisから呼び出されるコンストラクタ
+     *
+     * @param id キャッシュID（マッパーのnamespace）
+     */
+    public BoundedTtlCache(String id) {
+        this(id, System::nanoTime);
+    }
+
+    /**
+     * 時計を差し替えるためのコンストラクタ（テスト用）
+     *
+     * @param id        キャッシュID
+     * @param nanoClock 現在時刻（ナノ秒）を返す関数
+     */
+    BoundedTtlCache(String id, LongSupplier nanoClock) {
+        if (id == null) {
+            throw new IllegalArgumentException("Cache instances require an ID");
+        }
+        this.id = id;
+        this.nanoClock = nanoClock;
+        List<WeakReference<BoundedTtlCache>> instances = INSTANCES.computeIfAbsent(id, key -> new CopyOnWriteArrayList<>());
+        instances.removeIf(reference -> reference.get() == null);
+        instances.add(new WeakReference<>(this));
+    }
+
+    /**
+     * 最大エントリ数を設定（&lt;property name="maxSize"&gt;）
+     *
+     * @param maxSize 最大エントリ数
+     */
+    public void setMaxSize(int maxSize) {
+        if (maxSize < 1) {
+            throw new IllegalArgumentException("maxSize must be >= 1");
+        }
+        this.maxSize = maxSize;
+    }
+
+    /**
+     * 有効期間を秒で設定（&lt;property name="ttlSeconds"&gt;）
+     *
+     * @param ttlSeconds 有効期間（秒）
+     */
+    public void setTtlSeconds(long ttlSeconds) {
+        if (ttlSeconds < 1) {
+            throw new IllegalArgumentException("ttlSeconds must be >= 1");
+        }
+        this.ttlNanos = TimeUnit.SECONDS.toNanos(ttlSeconds);
+    }
+
+    /**
+     * 読み取り時にコピーを返すかを設定（&lt;property name="copyOnRead"&gt;）
+     *
+     * @param copyOnRead trueの場合、値をシリアライズして保持し取得ごとに復元する
+     */
+    public void setCopyOnRead(boolean copyOnRead) {
+        this.copyOnRead = copyOnRead;
+    }
+
+    @Override
+    public String getId() {
+        return id;
+    }
+
+    @Override
+    public void putObject(Object key, Object value) {
+        Object stored = copyOnRead ? serialize(value) : value;
+        long expiresAt = nanoClock.getAsLong() + ttlNanos;
+        synchronized (entries) {
+            entries.put(key, new Entry(stored, expiresAt));
+            Iterator<Entry> it = entries.values().iterator();
+            while (entries.size() > maxSize && it.hasNext()) {
+                it.next();
+                it.remove();
+                evictions.increment();
+            }
+        }
+    }
+
+    @Override
+    public Object getObject(Object key) {
+        Entry entry;
+        synchronized (entries) {
+            entry = entries.get(key);
+            if (entry != null && entry.expiresAt - nanoClock.getAsLong() <= 0) {
+                entries.remove(key);
+                expirations.increment();
+                entry = null;
+            }
+        }
+        if (entry == null) {
+            misses.increment();
+            return null;
+        }
+        hits.increment();
+        return copyOnRead ? deserialize((byte[]) entry.value) : entry.value;
+    }
+
+    @Override
+    public Object removeObject(Object key) {
+        synchronized (entries) {
+            Entry removed = entries.remove(key);
+            return removed == null ? null : removed.value;
+        }
+    }
+
+    @Override
+    public void clear() {
+        synchronized (entries) {
+            entries.clear();
+        }
+    }
+
+    @Override
+    public int getSize() {
+        synchronized (entries) {
+            return entries.size();
+        }
+    }
+
+    /**
+     * 現在の統計情報を取得
+     *
+     * @return 統計情報のスナップショット
+     */
+    public CacheStatistics getStatistics() {
+        return new CacheStatistics(id, hits.sum(), misses.sum(), evictions.sum(), expirations.sum(), getSize());
+    }
+
+    /**
+     * キャッシュIDで統計情報を取得
+     * 同じIDのインスタンスが複数ある場合は合算する
+     *
+     * @param id キャッシュID（マッパーのnamespace）
+     * @return 統計情報、該当するキャッシュがない場合はnull
+     */
+    public static CacheStatistics getStatistics(String id) {
+        List<WeakReference<BoundedTtlCache>> caches = INSTANCES.get(id);
+        return caches == null ? null : aggregate(id, caches);
+    }
+
+    /**
+     * すべてのキャッシュの統計情報を取得
+     *
+     * @return キャッシュIDをキーとする統計情報のマップ
+     */
+    public static Map<String, CacheStatistics> getAllStatistics() {
+        Map<String, CacheStatistics> result = new TreeMap<>();
+        INSTANCES.forEach((cacheId, caches) -> {
+            CacheStatistics statistics = aggregate(cacheId, caches);
+            if (statistics != null) {
+                result.put(cacheId, statistics);
+            }
+        });
+        return Collections.unmodifiableMap(result);
+    }
+
+    /**
+     * 同じIDの生存しているインスタンスの統計情報を合算（すべて回収済みの場合はnull）
+     */
+    private static CacheStatistics aggregate(String id, List<WeakReference<BoundedTtlCache>> caches) {
+        boolean found = false;
+        long totalHits = 0;
+        long totalMisses = 0;
+        long totalEvictions = 0;
+        long totalExpirations = 0;
+        int totalSize = 0;
+        for (WeakReference<BoundedTtlCache> reference : caches) {
+            BoundedTtlCache cache = reference.get();
+            if (cache == null) {
+                continue;
+            }
+            found = true;
+            CacheStatistics statistics = cache.getStatistics();
+            totalHits += statistics.getHits();
+            totalMisses += statistics.getMisses();
+            totalEvictions += statistics.getEvictions();
+            totalExpirations += statistics.getExpirations();
+            totalSize += statistics.getSize();
+        }
+        if (!found) {
+            return null;
+        }
+        return new CacheStatistics(id, totalHits, totalMisses, totalEvictions, totalExpirations, totalSize);
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Cache)) {
+            return false;
+        }
+        return id.equals(((Cache) o).getId());
+    }
+
+    @Override
+    public int hashCode() {
+        return id.hashCode();
+    }
+
+    private byte[] serialize(Object value) {
+        if (value != null && !(value instanceof Serializable)) {
+            throw new CacheException("Cached object is not Serializable: " + value.getClass().getName());
+        }
+        try (ByteArrayOutputStream bos = new ByteArrayOutputStream();
+             ObjectOutputStream oos = new ObjectOutputStream(bos)) {
+            oos.writeObject(value);
+            oos.flush();
+            return bos.toByteArray();
+        } catch (IOException e) {
+            throw new CacheException("Error serializing object. Cause: " + e, e);
+        }
+    }
+
+    private Object deserialize(byte[] value) {
+        try (ObjectInputStream ois = new ClassLoaderAwareObjectInputStream(new ByteArrayInputStream(value))) {
+            return ois.readObject();
+        } catch (IOException | ClassNotFoundException e) {
+            throw new CacheException("Error deserializing object. Cause: " + e, e);
+        }
+    }
+
+    /**
+     * キャッシュエントリ（値と有効期限）
+     */
+    private static final class Entry {
+        private final Object value;
+        private final long expiresAt;
+
+        private Entry(Object value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+    }
+
+    /**
+     * MyBatisのクラスローダー解決を使用するObjectInputStream
+     */
+    private static final class ClassLoaderAwareObjectInputStream extends ObjectInputStream {
+
+        private ClassLoaderAwareObjectInputStream(InputStream in) throws IOException {
+            super(in);
+        }
+
+        @Override
+        protected Class<?> resolveClass(ObjectStreamClass desc) throws IOException, ClassNotFoundException {
+            try {
+                return Resources.classForName(desc.getName());
+            } catch (ClassNotFoundException e) {
+                return super.resolveClass(desc);
+            }
+        }
+    }
+}
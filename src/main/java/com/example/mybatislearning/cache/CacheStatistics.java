@@ -0,0 +1,81 @@
+package com.example.mybatislearning.cache;
+
+/**
+ * CacheStatistics
+ * 2次キャッシュの統計情報のスナップショット
+ */
+public class CacheStatistics {
+
+    private final String id;
+    private final long hits;
+    private final long misses;
+    private final long evictions;
+    private final long expirations;
+    private final int size;
+
+    /**
+     * フィールド初期化コンストラクタ
+     *
+     * @param id          キャッシュID（マッパーのnamespace）
+     * @param hits        ヒット数
+     * @param misses      ミス数
+     * @param evictions   サイズ上限による追い出し数
+     * @param expirations TTL切れによる破棄数
+     * @param size        現在のエントリ数
+     */
+    public CacheStatistics(String id, long hits, long misses, long evictions, long expirations, int size) {
+        this.id = id;
+        this.hits = hits;
+        this.misses = misses;
+        this.evictions = evictions;
+        this.expirations = expirations;
+        this.size = size;
+    }
+
+    public String getId() {
+        return id;
+    }
+
+    public long getHits() {
+        return hits;
+    }
+
+    public long getMisses() {
+        return misses;
+    }
+
+    public long getEvictions() {
+        return evictions;
+    }
+
+    public long getExpirations() {
+        return expirations;
+    }
+
+    public int getSize() {
+        return size;
+    }
+
+    /**
+     * ヒット率を計算
+     *
+     * @return ヒット率（リクエストがない場合は0.0）
+     */
+    public double getHitRatio() {
+        long requests = hits + misses;
+        return requests == 0 ? 0.0 : (double) hits / requests;
+    }
+
+    @Override
+    public String toString() {
+        return "CacheStatistics{" +
+                "id='" + id + '\'' +
+                ", hits=" + hits +
+                ", misses=" + misses +
+                ", evictions=" + evictions +
+                ", expirations=" + expirations +
+                ", size=" + size +
+                ", hitRatio=" + String.format("%.3f", getHitRatio()) +
+                '}';
+    }
+}
@@ -0,0 +1,16 @@
+/**
+ * キャッシュパッケージを提供します
+ *
+ * <p>
+ * 主なクラス:
+ * </p>
+ * <ul>
+ * <li>BoundedTtlCache</li>
+ * <li>CacheStatistics</li>
+ * </ul>
+ *
+ * <p>
+ * このパッケージはMyBatisの2次キャッシュ実装に関連するクラスを提供します。
+ * </p>
+ */
+package com.example.mybatislearning.cache;
@@ -0,0 +1,17 @@
+package com.example.mybatislearning.concurrency;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableAsync;
+
+/**
+ * AsyncConfiguration
+ * サービス層の{@code @Async}メソッドを有効にする設定
+ *
+ * <p>非同期メソッドはSpring Bootが構成するapplicationTaskExecutorで実行される。
+ * spring.threads.virtual.enabled=true（Java 21以降）の場合は1タスク1仮想スレッド、
+ * それ以外はspring.task.execution.pool.*のプラットフォームスレッドプールになる。</p>
+ */
+@Configuration
+@EnableAsync
+public class AsyncConfiguration {
+}
@@ -0,0 +1,254 @@
+package com.example.mybatislearning.concurrency;
+
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * FanOutScope
+ * 独立したサブタスクを並列に実行し、すべての完了を待ってから結果を使う構造化された並行処理のスコープ
+ *
+ * <p>StructuredTaskScope.ShutdownOnFailure（Java 21ではプレビュー機能）と同じ使い方・同じ失敗時の動作をJava 17のAPIで提供する:
+ * {@link #fork}でサブタスクを開始し、{@link #join}で待ってから{@link Subtask#get}で結果を取り出す。
+ * いずれかのサブタスクが失敗するか、サブタスクごとのタイムアウトを超えた時点で残りのサブタスクを割り込みでキャンセルし、
+ * {@link #join}は最初の失敗を送出する。try-with-resourcesで閉じると、完了していないサブタスクをキャンセルし、
+ * すべてのサブタスクの実行が終了するまで待つ（スコープを抜けた後にサブタスクが接続やトランザクションを使い続けることはない）。</p>
+ *
+ * <p>サブタスクは渡されたExecutorで実行される（仮想スレッドモードではapplicationTaskExecutorが1タスク1仮想スレッドになる）。
+ * forkとjoinはスコープを開いたスレッドから呼び出すこと。</p>
+ */
+public class FanOutScope implements AutoCloseable {
+
+    private final AsyncTaskExecutor executor;
+    private final List<Subtask<?>> subtasks = new CopyOnWriteArrayList<>();
+    private final CompletableFuture<Void> done = new CompletableFuture<>();
+    private final AtomicReference<Throwable> failure = new AtomicReference<>();
+    /** 未完了のサブタスク数（joinが呼ばれるまではスコープ自身の1を含む） */
+    private final AtomicInteger pending = new AtomicInteger(1);
+    private boolean joined;
+
+    /**
+     * コンストラクタ
+     *
+     * @param executor サブタスクを実行するExecutor
+     */
+    public FanOutScope(AsyncTaskExecutor executor) {
+        this.executor = executor;
+    }
+
+    /**
+     * サブタスクを開始
+     *
+     * @param name    サブタスク名（タイムアウト時の例外メッセージに使用）
+     * @param timeout サブタスクのタイムアウト（0以下の場合は実行せずにタイムアウトとする）
+     * @param task    サブタスクの処理
+     * @param <T>     結果の型
+     * @return 結果を取り出すハンドル（{@link #join}の後に参照する）
+     * @throws IllegalStateException joinの後に呼び出した場合
+     */
+    public <T> Subtask<T> fork(String name, Duration timeout, Callable<T> task) {
+        if (joined) {
+            throw new IllegalStateException("Cannot fork after join");
+        }
+        Subtask<T> subtask = new Subtask<>(name);
+        subtasks.add(subtask);
+        if (failure.get() != null) {
+            // 既に失敗しているスコープでは開始しない
+            subtask.result.cancel(false);
+            subtask.skip();
+            return subtask;
+        }
+        pending.incrementAndGet();
+        subtask.result.orTimeout(timeout.toNanos(), TimeUnit.NANOSECONDS).whenComplete((value, error) -> {
+            if (error != null) {
+                fail(error instanceof TimeoutException
+                        ? new QueryTimeoutException("Subtask '" + name + "' did not complete within " + timeout.toMillis() + " ms")
+                        : error);
+            } else if (pending.decrementAndGet() == 0) {
+                done.complete(null);
+            }
+        });
+        if (timeout.isZero() || timeout.isNegative()) {
+            subtask.skip();
+            subtask.result.completeExceptionally(new TimeoutException());
+            return subtask;
+        }
+        try {
+            subtask.future = executor.submit(() -> {
+                if (!subtask.start()) {
+                    return; // 開始前にキャンセルされた
+                }
+                try {
+                    subtask.result.complete(task.call());
+                } catch (Throwable e) {
+                    subtask.result.completeExceptionally(e);
+                } finally {
+                    subtask.terminated.countDown();
+                }
+            });
+        } catch (RuntimeException e) {
+            subtask.skip();
+            subtask.result.completeExceptionally(e);
+        }
+        // submit中に失敗・タイムアウトした場合はキャンセル漏れがないようにする
+        if (failure.get() != null) {
+            cancelAll();
+        }
+        return subtask;
+    }
+
+    /**
+     * すべてのサブタスクの完了、または最初の失敗を待つ
+     *
+     * @throws InterruptedException 待機中に割り込まれた場合（サブタスクはキャンセルされる）
+     * @throws RuntimeException     最初に失敗したサブタスクの例外（タイムアウトは{@link QueryTimeoutException}）
+     */
+    public void join() throws InterruptedException {
+        if (!joined) {
+            joined = true;
+            if (pending.decrementAndGet() == 0) {
+                done.complete(null);
+            }
+        }
+        try {
+            done.get();
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        } catch (InterruptedException e) {
+            cancelAll();
+            throw e;
+        }
+        Throwable error = failure.get();
+        if (error instanceof RuntimeException runtimeException) {
+            throw runtimeException;
+        }
+        if (error instanceof Error e) {
+            throw e;
+        }
+        if (error != null) {
+            throw new CompletionException(error);
+        }
+    }
+
+    private void fail(Throwable error) {
+        Throwable cause = error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+        if (failure.compareAndSet(null, cause)) {
+            cancelAll();
+            done.complete(null);
+        }
+    }
+
+    private void cancelAll() {
+        for (Subtask<?> subtask : subtasks) {
+            subtask.cancel();
+        }
+    }
+
+    /**
+     * 完了していないサブタスクをキャンセルし、すべてのサブタスクの実行が終了するまで待ってスコープを閉じる
+     * 待機中に割り込まれても待ち続け、終了後に割り込み状態を戻す
+     */
+    @Override
+    public void close() {
+        cancelAll();
+        boolean interrupted = false;
+        for (Subtask<?> subtask : subtasks) {
+            while (true) {
+                try {
+                    subtask.terminated.await();
+                    break;
+                } catch (InterruptedException e) {
+                    interrupted = true;
+                }
+            }
+        }
+        if (interrupted) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * fork したサブタスクのハンドル
+     *
+     * @param <T> 結果の型
+     */
+    public static final class Subtask<T> {
+
+        private final String name;
+        private final CompletableFuture<T> result = new CompletableFuture<>();
+        /** 実行の開始（または開始しないことの確定）を1回だけ行うためのフラグ */
+        private final AtomicBoolean claimed = new AtomicBoolean();
+        /** 実行が終了した（または実行されないことが確定した）時点で0になる */
+        private final CountDownLatch terminated = new CountDownLatch(1);
+        private volatile Future<?> future;
+
+        private Subtask(String name) {
+            this.name = name;
+        }
+
+        /**
+         * サブタスク名
+         *
+         * @return サブタスク名
+         */
+        public String getName() {
+            return name;
+        }
+
+        /**
+         * 正常に完了したサブタスクの結果を取得
+         *
+         * @return 結果
+         * @throws IllegalStateException 完了していない、または失敗・キャンセルされた場合
+         */
+        public T get() {
+            if (!result.isDone() || result.isCompletedExceptionally()) {
+                throw new IllegalStateException("Subtask '" + name + "' has not completed successfully");
+            }
+            return result.join();
+        }
+
+        /**
+         * 実行を開始する（開始前にキャンセルされていた場合はfalse）
+         */
+        private boolean start() {
+            return claimed.compareAndSet(false, true);
+        }
+
+        /**
+         * 実行しないことを確定する（既に開始している場合は何もしない）
+         */
+        private void skip() {
+            if (claimed.compareAndSet(false, true)) {
+                terminated.countDown();
+            }
+        }
+
+        private void cancel() {
+            if (!result.isDone()) {
+                result.cancel(false);
+            }
+            // まだ開始していない場合は開始させない
+            skip();
+            Future<?> running = future;
+            if (running != null && !running.isDone()) {
+                // 実行中のスレッドに割り込み、JDBC呼び出しなどのブロックを解除させる
+                running.cancel(true);
+            }
+        }
+    }
+}
@@ -0,0 +1,136 @@
+package com.example.mybatislearning.concurrency;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordingStream;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnThreading;
+import org.springframework.boot.autoconfigure.thread.Threading;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.stream.Collectors;
+
+/**
+ * VirtualThreadPinningMonitor
+ * 仮想スレッドがキャリアスレッドに固定（pinning）されたままブロックした箇所をJFRのjdk.VirtualThreadPinnedイベントで検出する
+ *
+ * <p>synchronizedブロック内でI/Oやロック待ちをすると、仮想スレッドはキャリアスレッドを手放せない。
+ * JDBCドライバ内部のsynchronizedで発生しやすいため、閾値を超えた固定を箇所ごとに集計し、
+ * jvm.threads.virtual.pinnedタイマー（siteタグ）として公開する。箇所ごとの初回はスタックトレースをログに出力する。</p>
+ */
+@Component
+@ConditionalOnThreading(Threading.VIRTUAL)
+public class VirtualThreadPinningMonitor implements SmartLifecycle {
+
+    /** JFRの仮想スレッド固定イベント（Java 21以降） */
+    static final String PINNED_EVENT = "jdk.VirtualThreadPinned";
+
+    private static final Logger logger = LoggerFactory.getLogger(VirtualThreadPinningMonitor.class);
+
+    private static final int LOGGED_FRAMES = 12;
+
+    private final MeterRegistry meterRegistry;
+    private final Duration threshold;
+    private final Map<String, LongAdder> pinnedCounts = new ConcurrentHashMap<>();
+    private volatile RecordingStream stream;
+
+    /**
+     * コンストラクタインジェクション
+     *
+     * @param meterRegistry メトリクスの登録先
+     * @param thresholdMs   記録する固定時間の閾値（ミリ秒）
+     */
+    @Autowired
+    public VirtualThreadPinningMonitor(MeterRegistry meterRegistry,
+                                       @Value("${app.virtual-threads.pinning-threshold-ms:20}") long thresholdMs) {
+        this.meterRegistry = meterRegistry;
+        this.threshold = Duration.ofMillis(thresholdMs);
+    }
+
+    @Override
+    public synchronized void start() {
+        if (stream != null) {
+            return;
+        }
+        RecordingStream recording = new RecordingStream();
+        recording.enable(PINNED_EVENT).withThreshold(threshold).withStackTrace();
+        recording.onEvent(PINNED_EVENT, this::record);
+        recording.startAsync();
+        stream = recording;
+        logger.info("Monitoring virtual thread pinning longer than {} ms", threshold.toMillis());
+    }
+
+    @Override
+    public synchronized void stop() {
+        if (stream != null) {
+            stream.close();
+            stream = null;
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return stream != null;
+    }
+
+    private void record(RecordedEvent event) {
+        List<RecordedFrame> frames = event.getStackTrace() != null
+                ? event.getStackTrace().getFrames() : Collections.emptyList();
+        String site = pinningSite(frames);
+        LongAdder count = pinnedCounts.computeIfAbsent(site, key -> new LongAdder());
+        count.increment();
+        Timer.builder("jvm.threads.virtual.pinned")
+                .description("Time virtual threads stayed pinned to their carrier thread while blocking")
+                .tag("site", site)
+                .register(meterRegistry)
+                .record(event.getDuration());
+
+        if (count.sum() == 1) {
+            logger.warn("Virtual thread pinned for {} ms at {}\n{}", event.getDuration().toMillis(), site,
+                    frames.stream().limit(LOGGED_FRAMES)
+                            .map(frame -> "\tat " + frame.getMethod().getType().getName() + "."
+                                    + frame.getMethod().getName() + ":" + frame.getLineNumber())
+                            .collect(Collectors.joining("\n")));
+        }
+    }
+
+    /**
+     * 固定中にブロックした箇所（JDK内部を除いた最も内側のフレーム）
+     *
+     * @param frames スタックトレース（内側から順）
+     * @return クラス名.メソッド名（特定できない場合はunknown）
+     */
+    static String pinningSite(List<RecordedFrame> frames) {
+        for (RecordedFrame frame : frames) {
+            String type = frame.getMethod().getType().getName();
+            if (!type.startsWith("java.") && !type.startsWith("jdk.") && !type.startsWith("sun.")) {
+                return type + "." + frame.getMethod().getName();
+            }
+        }
+        return "unknown";
+    }
+
+    /**
+     * 検出した箇所ごとの固定回数
+     *
+     * @return 箇所をキーとした固定回数（箇所順）
+     */
+    public Map<String, Long> getPinnedCounts() {
+        Map<String, Long> counts = new TreeMap<>();
+        pinnedCounts.forEach((site, count) -> counts.put(site, count.sum()));
+        return counts;
+    }
+}
@@ -0,0 +1,18 @@
+/**
+ * 並行実行パッケージを提供します
+ *
+ * <p>
+ * 主なクラス:
+ * </p>
+ * <ul>
+ * <li>AsyncConfiguration</li>
+ * <li>FanOutScope</li>
+ * <li>VirtualThreadPinningMonitor</li>
+ * </ul>
+ *
+ * <p>
+ * このパッケージはサービス層の非同期実行、独立した読み取りの構造化された並列実行と、仮想スレッド実行モード（spring.threads.virtual.enabled）での
+ * キャリアスレッド固定の検出に関連するクラスを提供します。
+ * </p>
+ */
+package com.example.mybatislearning.concurrency;
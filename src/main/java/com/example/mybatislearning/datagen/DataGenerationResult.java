@@ -0,0 +1,84 @@
+package com.example.mybatislearning.datagen;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * DataGenerationResult
+ * SyntheticDataGeneratorの実行結果（テーブルごとの先頭ID・件数と所要時間）
+ *
+ * <p>生成された行のIDは各テーブルで先頭IDから連番になるため、
+ * ベンチマークなどは{@code getFirstId(table) + index}で任意の行を参照できる。</p>
+ */
+public class DataGenerationResult {
+
+    private final Map<String, Long> firstIds = new LinkedHashMap<>();
+    private final Map<String, Long> rowCounts = new LinkedHashMap<>();
+    private long elapsedMillis;
+
+    void addTable(String table, long firstId, long rowCount) {
+        firstIds.put(table, firstId);
+        rowCounts.put(table, rowCount);
+    }
+
+    void setElapsedMillis(long elapsedMillis) {
+        this.elapsedMillis = elapsedMillis;
+    }
+
+    /**
+     * 生成した最初の行のIDを取得
+     *
+     * @param table テーブル名
+     * @return 先頭ID
+     * @throws IllegalArgumentException 生成対象外のテーブルの場合
+     */
+    public long getFirstId(String table) {
+        Long firstId = firstIds.get(table);
+        if (firstId == null) {
+            throw new IllegalArgumentException("Unknown table: " + table);
+        }
+        return firstId;
+    }
+
+    /**
+     * 生成した行数を取得
+     *
+     * @param table テーブル名
+     * @return 行数
+     * @throws IllegalArgumentException 生成対象外のテーブルの場合
+     */
+    public long getRowCount(String table) {
+        Long rowCount = rowCounts.get(table);
+        if (rowCount == null) {
+            throw new IllegalArgumentException("Unknown table: " + table);
+        }
+        return rowCount;
+    }
+
+    /**
+     * 全テーブルの生成行数
+     *
+     * @return 生成順のテーブル名をキーとした行数
+     */
+    public Map<String, Long> getRowCounts() {
+        return Collections.unmodifiableMap(rowCounts);
+    }
+
+    public long getTotalRows() {
+        return rowCounts.values().stream().mapToLong(Long::longValue).sum();
+    }
+
+    public long getElapsedMillis() {
+        return elapsedMillis;
+    }
+
+    @Override
+    public String toString() {
+        return "DataGenerationResult{" +
+                "rowCounts=" + rowCounts +
+                ", totalRows=" + getTotalRows() +
+                ", elapsedMillis=" + elapsedMillis +
+                '}';
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.mybatislearning.datagen;
+
+/**
+ * DataGenerationSpec
+ * SyntheticDataGeneratorに渡す生成規模・シード・並列度の設定
+ *
+ * <p>子テーブル（phases/project_members/project_technologies）の件数はプロジェクトあたりの件数で指定する。
+ * 例えばprojects=1,000,000、phasesPerProject=5、membersPerProject=20とすると
+ * phasesは500万行、project_membersは2,000万行になる。</p>
+ */
+public class DataGenerationSpec {
+
+    /** 乱数シード（同じシード・件数なら並列度に関係なく同じデータになる） */
+    private long seed = 42L;
+
+    private int organizations = 10;
+    private int persons = 1_000;
+    private int industries = 20;
+    private int technologies = 50;
+    private int projects = 1_000;
+
+    private int phasesPerProject = 5;
+    private int membersPerProject = 5;
+    private int technologiesPerProject = 3;
+
+    /** 1回のexecuteBatchで送信する行数 */
+    private int batchSize = 1_000;
+
+    /** 1タスク（1接続・1コミット）が担当する行数 */
+    private int chunkSize = 10_000;
+
+    /** 並列に書き込む接続数 */
+    private int parallelism = Math.max(1, Runtime.getRuntime().availableProcessors());
+
+    /**
+     * 設定値を検証
+     *
+     * @throws IllegalArgumentException 不正な設定値の場合
+     */
+    public void validate() {
+        requirePositive("organizations", organizations);
+        requirePositive("persons", persons);
+        requirePositive("industries", industries);
+        requirePositive("technologies", technologies);
+        requireNotNegative("projects", projects);
+        requireNotNegative("phasesPerProject", phasesPerProject);
+        requireNotNegative("membersPerProject", membersPerProject);
+        requireNotNegative("technologiesPerProject", technologiesPerProject);
+        requirePositive("batchSize", batchSize);
+        requirePositive("chunkSize", chunkSize);
+        requirePositive("parallelism", parallelism);
+        if (membersPerProject > persons) {
+            throw new IllegalArgumentException("membersPerProject must not exceed persons");
+        }
+        if (technologiesPerProject > technologies) {
+            throw new IllegalArgumentException("technologiesPerProject must not exceed technologies");
+        }
+    }
+
+    private static void requirePositive(String name, int value) {
+        if (value < 1) {
+            throw new IllegalArgumentException(name + " must be >= 1");
+        }
+    }
+
+    private static void requireNotNegative(String name, int value) {
+        if (value < 0) {
+            throw new IllegalArgumentException(name + " must be >= 0");
+        }
+    }
+
+    public long getSeed() {
+        return seed;
+    }
+
+    public void setSeed(long seed) {
+        this.seed = seed;
+    }
+
+    public int getOrganizations() {
+        return organizations;
+    }
+
+    public void setOrganizations(int organizations) {
+        this.organizations = organizations;
+    }
+
+    public int getPersons() {
+        return persons;
+    }
+
+    public void setPersons(int persons) {
+        this.persons = persons;
+    }
+
+    public int getIndustries() {
+        return industries;
+    }
+
+    public void setIndustries(int industries) {
+        this.industries = industries;
+    }
+
+    public int getTechnologies() {
+        return technologies;
+    }
+
+    public void setTechnologies(int technologies) {
+        this.technologies = technologies;
+    }
+
+    public int getProjects() {
+        return projects;
+    }
+
+    public void setProjects(int projects) {
+        this.projects = projects;
+    }
+
+    public int getPhasesPerProject() {
+        return phasesPerProject;
+    }
+
+    public void setPhasesPerProject(int phasesPerProject) {
+        this.phasesPerProject = phasesPerProject;
+    }
+
+    public int getMembersPerProject() {
+        return membersPerProject;
+    }
+
+    public void setMembersPerProject(int membersPerProject) {
+        this.membersPerProject = membersPerProject;
+    }
+
+    public int getTechnologiesPerProject() {
+        return technologiesPerProject;
+    }
+
+    public void setTechnologiesPerProject(int technologiesPerProject) {
+        this.technologiesPerProject = technologiesPerProject;
+    }
+
+    public int getBatchSize() {
+        return batchSize;
+    }
+
+    public void setBatchSize(int batchSize) {
+        this.batchSize = batchSize;
+    }
+
+    public int getChunkSize() {
+        return chunkSize;
+    }
+
+    public void setChunkSize(int chunkSize) {
+        this.chunkSize = chunkSize;
+    }
+
+    public int getParallelism() {
+        return parallelism;
+    }
+
+    public void setParallelism(int parallelism) {
+        this.parallelism = parallelism;
+    }
+
+    @Override
+    public String toString() {
+        return "DataGenerationSpec{" +
+                "seed=" + seed +
+                ", organizations=" + organizations +
+                ", persons=" + persons +
+                ", industries=" + industries +
+                ", technologies=" + technologies +
+                ", projects=" + projects +
+                ", phasesPerProject=" + phasesPerProject +
+                ", membersPerProject=" + membersPerProject +
+                ", technologiesPerProject=" + technologiesPerProject +
+                ", batchSize=" + batchSize +
+                ", chunkSize=" + chunkSize +
+                ", parallelism=" + parallelism +
+                '}';
+    }
+}
@@ -0,0 +1,44 @@
+package com.example.mybatislearning.datagen;
+
+import org.springframework.boot.ApplicationRunner;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import javax.sql.DataSource;
+
+/**
+ * SyntheticDataConfiguration
+ * app.datagen.enabled=trueの場合に、起動時（schema.sql/data.sql適用後）に合成データを投入する設定
+ *
+ * <p>負荷試験などで、例えば次のように起動する:
+ * {@code --app.datagen.enabled=true --app.datagen.projects=1000000 --app.datagen.members-per-project=20}</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datagen", name = "enabled", havingValue = "true")
+public class SyntheticDataConfiguration {
+
+    /**
+     * app.datagen.*をバインドした生成設定
+     *
+     * @return 生成設定
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "app.datagen")
+    public DataGenerationSpec dataGenerationSpec() {
+        return new DataGenerationSpec();
+    }
+
+    /**
+     * 起動時にデータを投入するApplicationRunner
+     *
+     * @param dataSource 投入先のデータソース
+     * @param spec       生成設定
+     * @return ApplicationRunner
+     */
+    @Bean
+    public ApplicationRunner syntheticDataRunner(DataSource dataSource, DataGenerationSpec spec) {
+        return args -> new SyntheticDataGenerator(dataSource).generate(spec);
+    }
+}
@@ -0,0 +1,401 @@
+package com.example.mybatislearning.datagen;
+
+import com.example.mybatislearning.enums.MemberRole;
+import com.example.mybatislearning.enums.PhaseStatus;
+import com.example.mybatislearning.enums.PhaseType;
+import com.example.mybatislearning.enums.ProjectStatus;
+import com.example.mybatislearning.enums.ProjectType;
+import com.example.mybatislearning.enums.TechnologyCategory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import javax.sql.DataSource;
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SyntheticDataGenerator
+ * schema.sqlの全テーブルへ、外部キーの整合したテストデータを指定規模で投入する生成器
+ *
+ * <p>各行の値は（シード, テーブル, 行番号）から作った乱数だけで決まるため、
+ * 同じシード・件数であればチャンク分割や並列度に関係なく同一のデータになる。
+ * IDは既存の最大ID+1からの連番を明示的に採番し、子テーブルの外部キーも行番号から計算する。</p>
+ *
+ * <p>テーブルは親から子の順に投入し、各テーブル内はchunkSize行ごとのタスクに分割して
+ * 複数接続から並列にバッチINSERTする（タスクごとにコミット）。
+ * 投入後はH2のIDENTITYを最大ID+1から再開させ、アプリからの通常のINSERTと衝突しないようにする。</p>
+ */
+public class SyntheticDataGenerator {
+
+    private static final Logger logger = LoggerFactory.getLogger(SyntheticDataGenerator.class);
+
+    private static final LocalDate BASE_DATE = LocalDate.of(2020, 1, 1);
+    private static final int START_DAY_RANGE = 365 * 5;
+
+    private static final BigDecimal[] ALLOCATION_RATES = {
+            new BigDecimal("0.25"), new BigDecimal("0.50"), new BigDecimal("0.75"), new BigDecimal("1.00")
+    };
+    private static final String[] DEPARTMENTS = {"開発部", "品質保証部", "営業部", "企画部", "インフラ部"};
+    private static final String[] PERSON_ROLES = {"Engineer", "Senior Engineer", "Manager", "Designer", "QA"};
+    private static final String[] PURPOSES = {"バックエンドAPI", "フロントエンド", "データストア", "バッチ処理", "インフラ"};
+    private static final MemberRole[] MEMBER_ROLES = {
+            MemberRole.DEVELOPER, MemberRole.TESTER, MemberRole.DESIGNER, MemberRole.ADVISOR, MemberRole.OTHER
+    };
+
+    // 乱数のソルト（テーブル・用途ごとに系列を分ける）
+    private static final long SALT_PERSONS = 1;
+    private static final long SALT_TECHNOLOGIES = 2;
+    private static final long SALT_PROJECTS = 3;
+    private static final long SALT_PROJECT_SCHEDULE = 4;
+    private static final long SALT_PROJECT_TEAM = 5;
+    private static final long SALT_PROJECT_STACK = 6;
+    private static final long SALT_PHASES = 7;
+    private static final long SALT_MEMBERS = 8;
+    private static final long SALT_PROJECT_TECHNOLOGIES = 9;
+
+    private final DataSource dataSource;
+
+    /**
+     * コンストラクタ
+     *
+     * @param dataSource 投入先のデータソース
+     */
+    public SyntheticDataGenerator(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    /**
+     * 設定に従ってデータを生成・投入
+     *
+     * @param spec 生成規模・シード・並列度
+     * @return テーブルごとの先頭ID・件数と所要時間
+     * @throws IllegalArgumentException 設定が不正な場合
+     * @throws IllegalStateException    投入に失敗した場合
+     */
+    public DataGenerationResult generate(DataGenerationSpec spec) {
+        spec.validate();
+        long start = System.nanoTime();
+        DataGenerationResult result = new DataGenerationResult();
+        ExecutorService executor = Executors.newFixedThreadPool(spec.getParallelism());
+        try {
+            Plan plan = new Plan(spec);
+            loadTable(executor, spec, result, "organizations",
+                    "INSERT INTO organizations (id, name, description) VALUES (?, ?, ?)",
+                    spec.getOrganizations(), plan::bindOrganization);
+            loadTable(executor, spec, result, "persons",
+                    "INSERT INTO persons (id, name, email, role, department) VALUES (?, ?, ?, ?, ?)",
+                    spec.getPersons(), plan::bindPerson);
+            loadTable(executor, spec, result, "industries",
+                    "INSERT INTO industries (id, name, description) VALUES (?, ?, ?)",
+                    spec.getIndustries(), plan::bindIndustry);
+            loadTable(executor, spec, result, "technologies",
+                    "INSERT INTO technologies (id, name, category, description) VALUES (?, ?, ?, ?)",
+                    spec.getTechnologies(), plan::bindTechnology);
+            plan.firstOrganizationId = result.getFirstId("organizations");
+            plan.firstPersonId = result.getFirstId("persons");
+            plan.firstIndustryId = result.getFirstId("industries");
+            plan.firstTechnologyId = result.getFirstId("technologies");
+            loadTable(executor, spec, result, "projects",
+                    "INSERT INTO projects (id, project_name, organization_id, customer_name, industry_id, "
+                            + "project_type, status, budget, person_months, team_size, planned_start_date, "
+                            + "planned_end_date, actual_start_date, actual_end_date, project_manager_id, "
+                            + "technical_lead_id) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                    spec.getProjects(), plan::bindProject);
+            plan.firstProjectId = result.getFirstId("projects");
+            loadTable(executor, spec, result, "phases",
+                    "INSERT INTO phases (id, project_id, phase_type, planned_start_date, planned_end_date, "
+                            + "actual_start_date, actual_end_date, status, deliverables) "
+                            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)",
+                    (long) spec.getProjects() * spec.getPhasesPerProject(), plan::bindPhase);
+            loadTable(executor, spec, result, "project_members",
+                    "INSERT INTO project_members (id, project_id, person_id, role, join_date, leave_date, "
+                            + "allocation_rate, activities) VALUES (?, ?, ?, ?, ?, ?, ?, ?)",
+                    (long) spec.getProjects() * spec.getMembersPerProject(), plan::bindMember);
+            loadTable(executor, spec, result, "project_technologies",
+                    "INSERT INTO project_technologies (id, project_id, technology_id, purpose, version) "
+                            + "VALUES (?, ?, ?, ?, ?)",
+                    (long) spec.getProjects() * spec.getTechnologiesPerProject(), plan::bindProjectTechnology);
+        } catch (SQLException e) {
+            throw new IllegalStateException("Failed to generate synthetic data", e);
+        } finally {
+            executor.shutdownNow();
+        }
+        result.setElapsedMillis(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start));
+        logger.info("Synthetic data generated: {}", result);
+        return result;
+    }
+
+    /**
+     * 1テーブル分をchunkSize行ごとのタスクに分割して並列に投入
+     */
+    private void loadTable(ExecutorService executor, DataGenerationSpec spec, DataGenerationResult result,
+                           String table, String sql, long rowCount, RowBinder binder) throws SQLException {
+        long firstId = maxId(table) + 1;
+        long tableStart = System.nanoTime();
+        List<Future<?>> futures = new ArrayList<>();
+        for (long from = 0; from < rowCount; from += spec.getChunkSize()) {
+            long chunkFrom = from;
+            long chunkTo = Math.min(rowCount, from + spec.getChunkSize());
+            futures.add(executor.submit(() -> {
+                insertChunk(sql, firstId, chunkFrom, chunkTo, spec.getBatchSize(), binder);
+                return null;
+            }));
+        }
+        for (Future<?> future : futures) {
+            try {
+                future.get();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                futures.forEach(f -> f.cancel(true));
+                throw new IllegalStateException("Interrupted while loading " + table, e);
+            } catch (ExecutionException e) {
+                futures.forEach(f -> f.cancel(true));
+                throw new IllegalStateException("Failed to load " + table, e.getCause());
+            }
+        }
+        restartIdentity(table, firstId + rowCount);
+        result.addTable(table, firstId, rowCount);
+        logger.info("Loaded {} rows into {} in {} ms", rowCount, table,
+                TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - tableStart));
+    }
+
+    private void insertChunk(String sql, long firstId, long from, long to, int batchSize, RowBinder binder)
+            throws SQLException {
+        try (Connection connection = dataSource.getConnection()) {
+            boolean autoCommit = connection.getAutoCommit();
+            connection.setAutoCommit(false);
+            try (PreparedStatement statement = connection.prepareStatement(sql)) {
+                int pending = 0;
+                for (long row = from; row < to; row++) {
+                    statement.setLong(1, firstId + row);
+                    binder.bind(statement, row);
+                    statement.addBatch();
+                    if (++pending == batchSize) {
+                        statement.executeBatch();
+                        pending = 0;
+                    }
+                }
+                if (pending > 0) {
+                    statement.executeBatch();
+                }
+                connection.commit();
+            } catch (SQLException e) {
+                connection.rollback();
+                throw e;
+            } finally {
+                connection.setAutoCommit(autoCommit);
+            }
+        }
+    }
+
+    private long maxId(String table) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement();
+             ResultSet resultSet = statement.executeQuery("SELECT COALESCE(MAX(id), 0) FROM " + table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    private void restartIdentity(String table, long nextId) throws SQLException {
+        try (Connection connection = dataSource.getConnection();
+             Statement statement = connection.createStatement()) {
+            statement.execute("ALTER TABLE " + table + " ALTER COLUMN id RESTART WITH " + nextId);
+        }
+    }
+
+    /**
+     * 生成したPersonのメールアドレス（ベンチマーク等から行を特定するために公開）
+     *
+     * @param personIndex 0始まりの行番号
+     * @return メールアドレス
+     */
+    public static String email(long personIndex) {
+        return "person" + personIndex + "@synthetic.example.com";
+    }
+
+    /**
+     * 1行分の2列目以降をバインドする関数（1列目のIDは共通処理で設定）
+     */
+    @FunctionalInterface
+    private interface RowBinder {
+        void bind(PreparedStatement statement, long row) throws SQLException;
+    }
+
+    /**
+     * 行番号から各列の値・外部キーを決定的に計算する
+     * 親テーブルの先頭IDは親テーブルの投入後に設定される
+     */
+    private static final class Plan {
+
+        private final DataGenerationSpec spec;
+        private long firstOrganizationId;
+        private long firstPersonId;
+        private long firstIndustryId;
+        private long firstTechnologyId;
+        private long firstProjectId;
+
+        Plan(DataGenerationSpec spec) {
+            this.spec = spec;
+        }
+
+        private SplittableRandom random(long salt, long row) {
+            return new SplittableRandom(mix(spec.getSeed() ^ mix(salt * 0x9E3779B97F4A7C15L ^ mix(row))));
+        }
+
+        void bindOrganization(PreparedStatement statement, long row) throws SQLException {
+            statement.setString(2, "Organization " + row);
+            statement.setString(3, "Synthetic organization " + row);
+        }
+
+        void bindPerson(PreparedStatement statement, long row) throws SQLException {
+            SplittableRandom random = random(SALT_PERSONS, row);
+            statement.setString(2, "Person " + row);
+            statement.setString(3, email(row));
+            statement.setString(4, PERSON_ROLES[random.nextInt(PERSON_ROLES.length)]);
+            statement.setString(5, DEPARTMENTS[random.nextInt(DEPARTMENTS.length)]);
+        }
+
+        void bindIndustry(PreparedStatement statement, long row) throws SQLException {
+            statement.setString(2, "Industry " + row);
+            statement.setString(3, "Synthetic industry " + row);
+        }
+
+        void bindTechnology(PreparedStatement statement, long row) throws SQLException {
+            TechnologyCategory[] categories = TechnologyCategory.values();
+            SplittableRandom random = random(SALT_TECHNOLOGIES, row);
+            statement.setString(2, "Technology " + row);
+            statement.setShort(3, categories[random.nextInt(categories.length)].getCode());
+            statement.setString(4, "Synthetic technology " + row);
+        }
+
+        void bindProject(PreparedStatement statement, long row) throws SQLException {
+            SplittableRandom random = random(SALT_PROJECTS, row);
+            ProjectStatus status = ProjectStatus.values()[random.nextInt(ProjectStatus.values().length)];
+            int teamSize = Math.max(1, spec.getMembersPerProject());
+            LocalDate start = projectStart(row);
+            LocalDate end = projectEnd(row);
+            statement.setString(2, "Project " + row);
+            statement.setLong(3, firstOrganizationId + random.nextInt(spec.getOrganizations()));
+            statement.setString(4, "Customer " + random.nextInt(10_000));
+            statement.setLong(5, firstIndustryId + random.nextInt(spec.getIndustries()));
+            statement.setShort(6, ProjectType.values()[random.nextInt(ProjectType.values().length)].getCode());
+            statement.setShort(7, status.getCode());
+            statement.setBigDecimal(8, BigDecimal.valueOf(1_000_000L + random.nextInt(500_000_000)));
+            statement.setBigDecimal(9, BigDecimal.valueOf(teamSize * 6L + random.nextInt(60)));
+            statement.setInt(10, teamSize);
+            statement.setDate(11, Date.valueOf(start));
+            statement.setDate(12, Date.valueOf(end));
+            boolean started = status != ProjectStatus.PLANNING;
+            boolean finished = status == ProjectStatus.COMPLETED;
+            setDate(statement, 13, started ? start : null);
+            setDate(statement, 14, finished ? end : null);
+            // PM・技術リードはプロジェクトメンバーの先頭2名と一致させる
+            statement.setLong(15, firstPersonId + teamPerson(row, 0));
+            statement.setLong(16, firstPersonId + teamPerson(row, spec.getMembersPerProject() > 1 ? 1 : 0));
+        }
+
+        void bindPhase(PreparedStatement statement, long row) throws SQLException {
+            long project = row / spec.getPhasesPerProject();
+            int index = (int) (row % spec.getPhasesPerProject());
+            SplittableRandom random = random(SALT_PHASES, row);
+            // プロジェクト期間を工程数で等分する
+            LocalDate projectStart = projectStart(project);
+            long span = Math.max(1, projectEnd(project).toEpochDay() - projectStart.toEpochDay());
+            LocalDate start = projectStart.plusDays(span * index / spec.getPhasesPerProject());
+            LocalDate end = projectStart.plusDays(span * (index + 1) / spec.getPhasesPerProject());
+            PhaseStatus status = PhaseStatus.values()[random.nextInt(PhaseStatus.values().length)];
+            statement.setLong(2, firstProjectId + project);
+            statement.setShort(3, PhaseType.values()[index % PhaseType.values().length].getCode());
+            statement.setDate(4, Date.valueOf(start));
+            statement.setDate(5, Date.valueOf(end));
+            setDate(statement, 6, status != PhaseStatus.NOT_STARTED ? start : null);
+            setDate(statement, 7, status == PhaseStatus.COMPLETED ? end : null);
+            statement.setShort(8, status.getCode());
+            statement.setString(9, "Deliverables " + row);
+        }
+
+        void bindMember(PreparedStatement statement, long row) throws SQLException {
+            long project = row / spec.getMembersPerProject();
+            int index = (int) (row % spec.getMembersPerProject());
+            SplittableRandom random = random(SALT_MEMBERS, row);
+            MemberRole role = switch (index) {
+                case 0 -> MemberRole.PROJECT_MANAGER;
+                case 1 -> MemberRole.TECHNICAL_LEAD;
+                default -> MEMBER_ROLES[random.nextInt(MEMBER_ROLES.length)];
+            };
+            statement.setLong(2, firstProjectId + project);
+            statement.setLong(3, firstPersonId + teamPerson(project, index));
+            statement.setShort(4, role.getCode());
+            statement.setDate(5, Date.valueOf(projectStart(project)));
+            setDate(statement, 6, random.nextInt(4) == 0 ? projectEnd(project) : null);
+            statement.setBigDecimal(7, ALLOCATION_RATES[random.nextInt(ALLOCATION_RATES.length)]);
+            statement.setString(8, role.name().toLowerCase() + " activities");
+        }
+
+        void bindProjectTechnology(PreparedStatement statement, long row) throws SQLException {
+            long project = row / spec.getTechnologiesPerProject();
+            int index = (int) (row % spec.getTechnologiesPerProject());
+            SplittableRandom random = random(SALT_PROJECT_TECHNOLOGIES, row);
+            // 同一プロジェクト内で技術が重複しないよう、開始位置からの連続した技術を割り当てる
+            long technology = (random(SALT_PROJECT_STACK, project).nextInt(spec.getTechnologies()) + index)
+                    % spec.getTechnologies();
+            statement.setLong(2, firstProjectId + project);
+            statement.setLong(3, firstTechnologyId + technology);
+            statement.setString(4, PURPOSES[random.nextInt(PURPOSES.length)]);
+            statement.setString(5, (1 + random.nextInt(5)) + "." + random.nextInt(10));
+        }
+
+        private LocalDate projectStart(long project) {
+            return BASE_DATE.plusDays(random(SALT_PROJECT_SCHEDULE, project).nextInt(START_DAY_RANGE));
+        }
+
+        private LocalDate projectEnd(long project) {
+            SplittableRandom random = random(SALT_PROJECT_SCHEDULE, project);
+            int startDay = random.nextInt(START_DAY_RANGE);
+            return BASE_DATE.plusDays(startDay + 90 + random.nextInt(640));
+        }
+
+        /**
+         * プロジェクトのindex番目のメンバー（Personの行番号）
+         * 同一プロジェクト内で重複しないよう、開始位置からの連続したPersonを割り当てる
+         */
+        private long teamPerson(long project, int index) {
+            return (random(SALT_PROJECT_TEAM, project).nextInt(spec.getPersons()) + (long) index)
+                    % spec.getPersons();
+        }
+    }
+
+    private static void setDate(PreparedStatement statement, int index, LocalDate date) throws SQLException {
+        if (date == null) {
+            statement.setNull(index, Types.DATE);
+        } else {
+            statement.setDate(index, Date.valueOf(date));
+        }
+    }
+
+    /**
+     * 64ビット値の攪拌（SplitMix64の最終化関数）
+     */
+    private static long mix(long value) {
+        long z = value + 0x9E3779B97F4A7C15L;
+        z = (z ^ (z >>> 30)) * 0xBF58476D1CE4E5B9L;
+        z = (z ^ (z >>> 27)) * 0x94D049BB133111EBL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,18 @@
+/**
+ * テストデータ生成パッケージを提供します
+ *
+ * <p>
+ * 主なクラス:
+ * </p>
+ * <ul>
+ * <li>SyntheticDataGenerator</li>
+ * <li>DataGenerationSpec</li>
+ * <li>DataGenerationResult</li>
+ * <li>SyntheticDataConfiguration</li>
+ * </ul>
+ *
+ * <p>
+ * このパッケージはベンチマーク・負荷試験向けの決定的な大規模データ生成に関連するクラスを提供します。
+ * </p>
+ */
+package com.example.mybatislearning.datagen;
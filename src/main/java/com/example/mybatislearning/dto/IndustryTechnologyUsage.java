@@ -0,0 +1,54 @@
+package com.example.mybatislearning.dto;
+
+/**
+ * IndustryTechnologyUsage
+ * 業界内での技術ごとの採用プロジェクト数と順位（業界別上位N件の集計結果）
+ */
+public class IndustryTechnologyUsage extends TechnologyUsage {
+
+    private Long industryId;
+    private String industryName;
+    private int rank;
+
+    public Long getIndustryId() {
+        return industryId;
+    }
+
+    public void setIndustryId(Long industryId) {
+        this.industryId = industryId;
+    }
+
+    public String getIndustryName() {
+        return industryName;
+    }
+
+    public void setIndustryName(String industryName) {
+        this.industryName = industryName;
+    }
+
+    /**
+     * 業界内の順位（1始まり、採用プロジェクト数の降順。同数の場合は技術ID順）
+     *
+     * @return 順位
+     */
+    public int getRank() {
+        return rank;
+    }
+
+    public void setRank(int rank) {
+        this.rank = rank;
+    }
+
+    @Override
+    public String toString() {
+        return "IndustryTechnologyUsage{" +
+                "industryId=" + industryId +
+                ", industryName='" + industryName + '\'' +
+                ", rank=" + rank +
+                ", technologyId=" + getTechnologyId() +
+                ", technologyName='" + getTechnologyName() + '\'' +
+                ", category=" + getCategory() +
+                ", projectCount=" + getProjectCount() +
+                '}';
+    }
+}
@@ -0,0 +1,196 @@
+package com.example.mybatislearning.dto;
+
+import com.example.mybatislearning.enums.ProjectStatus;
+import com.example.mybatislearning.enums.ProjectType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ProjectSearchCriteria
+ * ProjectMapper.searchProjectsに渡す複合検索条件
+ * nullの条件はWHERE句に含めない
+ */
+public class ProjectSearchCriteria {
+
+    /**
+     * ソート項目（ORDER BYに埋め込むカラム名をホワイトリストで限定する）
+     */
+    public enum SortKey {
+        ID("id"),
+        PROJECT_NAME("project_name"),
+        PLANNED_START_DATE("planned_start_date"),
+        PLANNED_END_DATE("planned_end_date"),
+        BUDGET("budget");
+
+        private final String column;
+
+        SortKey(String column) {
+            this.column = column;
+        }
+
+        public String getColumn() {
+            return column;
+        }
+    }
+
+    /**
+     * ソート方向
+     */
+    public enum SortDirection {
+        ASC,
+        DESC
+    }
+
+    private Long organizationId;
+    private Long industryId;
+    private List<ProjectStatus> statuses = new ArrayList<>();
+    private ProjectType projectType;
+    private Long projectManagerId;
+    private Long technicalLeadId;
+
+    // 期間条件（planned_start_dateの範囲）
+    private LocalDate plannedStartFrom;
+    private LocalDate plannedStartTo;
+
+    // 予算条件
+    private BigDecimal budgetMin;
+    private BigDecimal budgetMax;
+
+    private SortKey sortKey = SortKey.ID;
+    private SortDirection sortDirection = SortDirection.ASC;
+    private Integer limit;
+
+    /**
+     * デフォルトコンストラクタ
+     */
+    public ProjectSearchCriteria() {
+    }
+
+    // Getters and Setters
+
+    public Long getOrganizationId() {
+        return organizationId;
+    }
+
+    public void setOrganizationId(Long organizationId) {
+        this.organizationId = organizationId;
+    }
+
+    public Long getIndustryId() {
+        return industryId;
+    }
+
+    public void setIndustryId(Long industryId) {
+        this.industryId = industryId;
+    }
+
+    public List<ProjectStatus> getStatuses() {
+        return statuses;
+    }
+
+    public void setStatuses(List<ProjectStatus> statuses) {
+        this.statuses = statuses != null ? statuses : new ArrayList<>();
+    }
+
+    public ProjectType getProjectType() {
+        return projectType;
+    }
+
+    public void setProjectType(ProjectType projectType) {
+        this.projectType = projectType;
+    }
+
+    public Long getProjectManagerId() {
+        return projectManagerId;
+    }
+
+    public void setProjectManagerId(Long projectManagerId) {
+        this.projectManagerId = projectManagerId;
+    }
+
+    public Long getTechnicalLeadId() {
+        return technicalLeadId;
+    }
+
+    public void setTechnicalLeadId(Long technicalLeadId) {
+        this.technicalLeadId = technicalLeadId;
+    }
+
+    public LocalDate getPlannedStartFrom() {
+        return plannedStartFrom;
+    }
+
+    public void setPlannedStartFrom(LocalDate plannedStartFrom) {
+        this.plannedStartFrom = plannedStartFrom;
+    }
+
+    public LocalDate getPlannedStartTo() {
+        return plannedStartTo;
+    }
+
+    public void setPlannedStartTo(LocalDate plannedStartTo) {
+        this.plannedStartTo = plannedStartTo;
+    }
+
+    public BigDecimal getBudgetMin() {
+        return budgetMin;
+    }
+
+    public void setBudgetMin(BigDecimal budgetMin) {
+        this.budgetMin = budgetMin;
+    }
+
+    public BigDecimal getBudgetMax() {
+        return budgetMax;
+    }
+
+    public void setBudgetMax(BigDecimal budgetMax) {
+        this.budgetMax = budgetMax;
+    }
+
+    public SortKey getSortKey() {
+        return sortKey;
+    }
+
+    public void setSortKey(SortKey sortKey) {
+        this.sortKey = sortKey != null ? sortKey : SortKey.ID;
+    }
+
+    public SortDirection getSortDirection() {
+        return sortDirection;
+    }
+
+    public void setSortDirection(SortDirection sortDirection) {
+        this.sortDirection = sortDirection != null ? sortDirection : SortDirection.ASC;
+    }
+
+    public Integer getLimit() {
+        return limit;
+    }
+
+    public void setLimit(Integer limit) {
+        this.limit = limit;
+    }
+
+    @Override
+    public String toString() {
+        return "ProjectSearchCriteria{" +
+                "organizationId=" + organizationId +
+                ", industryId=" + industryId +
+                ", statuses=" + statuses +
+                ", projectType=" + projectType +
+                ", projectManagerId=" + projectManagerId +
+                ", technicalLeadId=" + technicalLeadId +
+                ", plannedStartFrom=" + plannedStartFrom +
+                ", plannedStartTo=" + plannedStartTo +
+                ", budgetMin=" + budgetMin +
+                ", budgetMax=" + budgetMax +
+                ", sortKey=" + sortKey +
+                ", sortDirection=" + sortDirection +
+                ", limit=" + limit +
+                '}';
+    }
+}
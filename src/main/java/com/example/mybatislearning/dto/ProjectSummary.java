@@ -0,0 +1,22 @@
+package com.example.mybatislearning.dto;
+
+import com.example.mybatislearning.enums.ProjectStatus;
+
+import java.time.LocalDate;
+
+/**
+ * ProjectSummary
+ * 一覧画面向けのProjectの射影（ID・名称・ステータス・計画期間のみ）
+ *
+ * <p>ProjectMapperのselect*Summary/searchProjectsSummaryが&lt;constructor&gt;で直接生成するため、
+ * 全16列を取得してProjectを組み立てる場合に比べて転送する列と1行あたりの生成オブジェクトが少ない。</p>
+ *
+ * @param id               Project ID
+ * @param projectName      プロジェクト名
+ * @param status           ステータス
+ * @param plannedStartDate 計画開始日
+ * @param plannedEndDate   計画終了日
+ */
+public record ProjectSummary(Long id, String projectName, ProjectStatus status,
+                             LocalDate plannedStartDate, LocalDate plannedEndDate) {
+}
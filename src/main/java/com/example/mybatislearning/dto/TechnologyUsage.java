@@ -0,0 +1,57 @@
+package com.example.mybatislearning.dto;
+
+import com.example.mybatislearning.enums.TechnologyCategory;
+
+/**
+ * TechnologyUsage
+ * 技術ごとの採用プロジェクト数（GROUP BYによる集計結果）
+ */
+public class TechnologyUsage {
+
+    private Long technologyId;
+    private String technologyName;
+    private TechnologyCategory category;
+    private long projectCount;
+
+    public Long getTechnologyId() {
+        return technologyId;
+    }
+
+    public void setTechnologyId(Long technologyId) {
+        this.technologyId = technologyId;
+    }
+
+    public String getTechnologyName() {
+        return technologyName;
+    }
+
+    public void setTechnologyName(String technologyName) {
+        this.technologyName = technologyName;
+    }
+
+    public TechnologyCategory getCategory() {
+        return category;
+    }
+
+    public void setCategory(TechnologyCategory category) {
+        this.category = category;
+    }
+
+    public long getProjectCount() {
+        return projectCount;
+    }
+
+    public void setProjectCount(long projectCount) {
+        this.projectCount = projectCount;
+    }
+
+    @Override
+    public String toString() {
+        return "TechnologyUsage{" +
+                "technologyId=" + technologyId +
+                ", technologyName='" + technologyName + '\'' +
+                ", category=" + category +
+                ", projectCount=" + projectCount +
+                '}';
+    }
+}
@@ -0,0 +1,18 @@
+/**
+ * DTOパッケージを提供します
+ *
+ * <p>
+ * 主なクラス:
+ * </p>
+ * <ul>
+ * <li>ProjectSearchCriteria</li>
+ * <li>TechnologyUsage</li>
+ * <li>IndustryTechnologyUsage</li>
+ * <li>ProjectSummary</li>
+ * </ul>
+ *
+ * <p>
+ * このパッケージは検索条件や画面向けの射影など、エンティティ以外のデータ転送用クラスを提供します。
+ * </p>
+ */
+package com.example.mybatislearning.dto;
@@ -0,0 +1,102 @@
+package com.example.mybatislearning.entity;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * ChangeTrackedEntity
+ * setterで変更された列（プロパティ名）を記録するエンティティの基底クラス
+ *
+ * <p>マッパーの{@code updateChanged}は{@link #getChangedProperties()}に含まれる列だけを{@code <set>}で更新する。
+ * DBから読み込んだインスタンスはChangeTrackingInterceptorが{@link #markLoaded()}を呼び出して変更なしの状態にし、
+ * 以降は値が実際に変わったsetter呼び出しだけを記録する。
+ * newで生成したインスタンス（DBの値が不明）は、値に関わらずsetter・コンストラクタで設定した列をすべて記録する。</p>
+ *
+ * <p>IDや作成日時・更新日時、associationは記録の対象外（サブクラスのsetterで{@link #markChanged}を呼び出さない）。</p>
+ */
+public abstract class ChangeTrackedEntity {
+
+    private final Set<String> changedProperties = new LinkedHashSet<>();
+    private boolean loaded;
+
+    /**
+     * setterから呼び出し、変更された列を記録
+     *
+     * @param property プロパティ名
+     * @param oldValue 変更前の値
+     * @param newValue 変更後の値
+     */
+    protected void markChanged(String property, Object oldValue, Object newValue) {
+        if (!loaded || !Objects.equals(oldValue, newValue)) {
+            changedProperties.add(property);
+        }
+    }
+
+    /**
+     * コンストラクタから呼び出し、引数で設定した列を記録
+     * サブクラスの初期化前に呼び出されるため、オーバーライドできないようにしている
+     *
+     * @param properties プロパティ名
+     */
+    protected final void markAssigned(String... properties) {
+        Collections.addAll(changedProperties, properties);
+    }
+
+    /**
+     * 変更された列（プロパティ名、変更順）
+     *
+     * @return 変更された列の読み取り専用ビュー
+     */
+    public Set<String> getChangedProperties() {
+        return Collections.unmodifiableSet(changedProperties);
+    }
+
+    /**
+     * 未反映の変更があるか
+     *
+     * @return 変更された列が1つ以上ある場合true
+     */
+    public boolean hasChanges() {
+        return !changedProperties.isEmpty();
+    }
+
+    /**
+     * DBから読み込んだ値を保持しているか（値の比較で変更を判定するか）
+     *
+     * @return DBから読み込んだインスタンスの場合true
+     */
+    public boolean isLoaded() {
+        return loaded;
+    }
+
+    /**
+     * DBから読み込んだ直後の状態（変更なし）にする
+     */
+    public void markLoaded() {
+        loaded = true;
+        changedProperties.clear();
+    }
+
+    /**
+     * 変更の記録を破棄（DBへの反映後に呼び出す）
+     *
+     * @return 破棄した列（反映がロールバックされた場合に{@link #restoreChanges}で戻す）
+     */
+    public Set<String> clearChanges() {
+        Set<String> cleared = new LinkedHashSet<>(changedProperties);
+        changedProperties.clear();
+        return cleared;
+    }
+
+    /**
+     * 破棄した変更の記録を戻す
+     *
+     * @param properties {@link #clearChanges()}が返した列
+     */
+    public void restoreChanges(Collection<String> properties) {
+        changedProperties.addAll(properties);
+    }
+}
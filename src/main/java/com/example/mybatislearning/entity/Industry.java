@@ -1,5 +1,6 @@
 package com.example.mybatislearning.entity;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 /**
@@ -7,7 +8,9 @@ import java.time.LocalDateTime;
  * データベースのindustriesテーブルに対応するPOJO
  * 顧客業界マスタを表す
  */
-public class Industry {
+public class Industry implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private Long id;
     private String name;
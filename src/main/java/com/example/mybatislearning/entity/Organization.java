@@ -1,10 +1,14 @@
 package com.example.mybatislearning.entity;
 
+import java.io.Serializable;
+
 /**
  * Organization（組織）エンティティクラス
  * データベースのorganizationsテーブルに対応するPOJO
  */
-public class Organization {
+public class Organization implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private Long id;
     private String name;
@@ -7,7 +7,7 @@ import java.time.LocalDateTime;
  * データベースのpersonsテーブルに対応するPOJO
  * プロジェクトメンバーや責任者を表す
  */
-public class Person {
+public class Person extends ChangeTrackedEntity {
 
     private Long id;
     private String name;
@@ -38,6 +38,7 @@ public class Person {
         this.email = email;
         this.role = role;
         this.department = department;
+        markAssigned("name", "email", "role", "department");
     }
 
     // Getters and Setters
@@ -55,6 +56,7 @@ public class Person {
     }
 
     public void setName(String name) {
+        markChanged("name", this.name, name);
         this.name = name;
     }
 
@@ -63,6 +65,7 @@ public class Person {
     }
 
     public void setEmail(String email) {
+        markChanged("email", this.email, email);
         this.email = email;
     }
 
@@ -71,6 +74,7 @@ public class Person {
     }
 
     public void setRole(String role) {
+        markChanged("role", this.role, role);
         this.role = role;
     }
 
@@ -79,6 +83,7 @@ public class Person {
     }
 
     public void setDepartment(String department) {
+        markChanged("department", this.department, department);
         this.department = department;
     }
 
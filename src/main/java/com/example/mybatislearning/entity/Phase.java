@@ -10,7 +10,7 @@ import java.time.LocalDateTime;
  * Phaseエンティティ（工程計画・実績管理）
  * プロジェクトの各工程（要件定義、設計、実装、テスト、リリース）の計画・実績を管理
  */
-public class Phase {
+public class Phase extends ChangeTrackedEntity implements Versioned {
     private Long id;
     private Long projectId;
     private PhaseType phaseType;
@@ -23,6 +23,9 @@ public class Phase {
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
 
+    // 楽観ロック用のバージョン（読み込み時・挿入時に設定され、nullのままでは更新できない）
+    private Integer version;
+
     // Association
     private Project project;
 
@@ -39,6 +42,7 @@ public class Phase {
     }
 
     public void setProjectId(Long projectId) {
+        markChanged("projectId", this.projectId, projectId);
         this.projectId = projectId;
     }
 
@@ -47,6 +51,7 @@ public class Phase {
     }
 
     public void setPhaseType(PhaseType phaseType) {
+        markChanged("phaseType", this.phaseType, phaseType);
         this.phaseType = phaseType;
     }
 
@@ -55,6 +60,7 @@ public class Phase {
     }
 
     public void setPlannedStartDate(LocalDate plannedStartDate) {
+        markChanged("plannedStartDate", this.plannedStartDate, plannedStartDate);
         this.plannedStartDate = plannedStartDate;
     }
 
@@ -63,6 +69,7 @@ public class Phase {
     }
 
     public void setPlannedEndDate(LocalDate plannedEndDate) {
+        markChanged("plannedEndDate", this.plannedEndDate, plannedEndDate);
         this.plannedEndDate = plannedEndDate;
     }
 
@@ -71,6 +78,7 @@ public class Phase {
     }
 
     public void setActualStartDate(LocalDate actualStartDate) {
+        markChanged("actualStartDate", this.actualStartDate, actualStartDate);
         this.actualStartDate = actualStartDate;
     }
 
@@ -79,6 +87,7 @@ public class Phase {
     }
 
     public void setActualEndDate(LocalDate actualEndDate) {
+        markChanged("actualEndDate", this.actualEndDate, actualEndDate);
         this.actualEndDate = actualEndDate;
     }
 
@@ -87,6 +96,7 @@ public class Phase {
     }
 
     public void setStatus(PhaseStatus status) {
+        markChanged("status", this.status, status);
         this.status = status;
     }
 
@@ -95,6 +105,7 @@ public class Phase {
     }
 
     public void setDeliverables(String deliverables) {
+        markChanged("deliverables", this.deliverables, deliverables);
         this.deliverables = deliverables;
     }
 
@@ -114,6 +125,16 @@ public class Phase {
         this.updatedAt = updatedAt;
     }
 
+    @Override
+    public Integer getVersion() {
+        return version;
+    }
+
+    @Override
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
     public Project getProject() {
         return project;
     }
@@ -136,6 +157,7 @@ public class Phase {
                 ", deliverables='" + deliverables + '\'' +
                 ", createdAt=" + createdAt +
                 ", updatedAt=" + updatedAt +
+                ", version=" + version +
                 ", project=" + (project != null ? project.getId() : null) +
                 '}';
     }
@@ -5,13 +5,14 @@ import com.example.mybatislearning.enums.ProjectType;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 /**
  * Project（プロジェクト）エンティティクラス
  * データベースのprojectsテーブルに対応するPOJO
  */
-public class Project {
+public class Project extends ChangeTrackedEntity implements Versioned {
 
     private Long id;
     private String projectName;
@@ -32,6 +33,9 @@ public class Project {
     private Long projectManagerId;
     private Long technicalLeadId;
 
+    // 楽観ロック用のバージョン（読み込み時・挿入時に設定され、nullのままでは更新できない）
+    private Integer version;
+
     /**
      * リレーションシップ用のフィールド
      * MyBatisのassociationマッピングで使用
@@ -41,10 +45,13 @@ public class Project {
     private Person projectManager;
     private Person technicalLead;
 
-    // Phase 4以降で実装予定のコレクション
-    // private List<Phase> phases;
-    // private List<ProjectMember> projectMembers;
-    // private List<ProjectTechnology> projectTechnologies;
+    /**
+     * 関連コレクション
+     * JOINによる直積を避けるため、ProjectServiceでプロジェクトID単位の一括クエリにより設定する
+     */
+    private List<Phase> phases = new ArrayList<>();
+    private List<ProjectMember> projectMembers = new ArrayList<>();
+    private List<ProjectTechnology> projectTechnologies = new ArrayList<>();
 
     /**
      * デフォルトコンストラクタ
@@ -63,6 +70,7 @@ public class Project {
         this.id = id;
         this.projectName = projectName;
         this.organizationId = organizationId;
+        markAssigned("projectName", "organizationId");
     }
 
     /**
@@ -85,6 +93,7 @@ public class Project {
         this.industryId = industryId;
         this.projectType = projectType;
         this.status = status;
+        markAssigned("projectName", "organizationId", "customerName", "industryId", "projectType", "status");
     }
 
     // Getters and Setters
@@ -102,6 +111,7 @@ public class Project {
     }
 
     public void setProjectName(String projectName) {
+        markChanged("projectName", this.projectName, projectName);
         this.projectName = projectName;
     }
 
@@ -110,6 +120,7 @@ public class Project {
     }
 
     public void setOrganizationId(Long organizationId) {
+        markChanged("organizationId", this.organizationId, organizationId);
         this.organizationId = organizationId;
     }
 
@@ -126,6 +137,7 @@ public class Project {
     }
 
     public void setCustomerName(String customerName) {
+        markChanged("customerName", this.customerName, customerName);
         this.customerName = customerName;
     }
 
@@ -134,6 +146,7 @@ public class Project {
     }
 
     public void setIndustryId(Long industryId) {
+        markChanged("industryId", this.industryId, industryId);
         this.industryId = industryId;
     }
 
@@ -150,6 +163,7 @@ public class Project {
     }
 
     public void setProjectType(ProjectType projectType) {
+        markChanged("projectType", this.projectType, projectType);
         this.projectType = projectType;
     }
 
@@ -158,6 +172,7 @@ public class Project {
     }
 
     public void setStatus(ProjectStatus status) {
+        markChanged("status", this.status, status);
         this.status = status;
     }
 
@@ -166,6 +181,7 @@ public class Project {
     }
 
     public void setBudget(BigDecimal budget) {
+        markChanged("budget", this.budget, budget);
         this.budget = budget;
     }
 
@@ -174,6 +190,7 @@ public class Project {
     }
 
     public void setPersonMonths(BigDecimal personMonths) {
+        markChanged("personMonths", this.personMonths, personMonths);
         this.personMonths = personMonths;
     }
 
@@ -182,6 +199,7 @@ public class Project {
     }
 
     public void setTeamSize(Integer teamSize) {
+        markChanged("teamSize", this.teamSize, teamSize);
         this.teamSize = teamSize;
     }
 
@@ -190,6 +208,7 @@ public class Project {
     }
 
     public void setPlannedStartDate(LocalDate plannedStartDate) {
+        markChanged("plannedStartDate", this.plannedStartDate, plannedStartDate);
         this.plannedStartDate = plannedStartDate;
     }
 
@@ -198,6 +217,7 @@ public class Project {
     }
 
     public void setPlannedEndDate(LocalDate plannedEndDate) {
+        markChanged("plannedEndDate", this.plannedEndDate, plannedEndDate);
         this.plannedEndDate = plannedEndDate;
     }
 
@@ -206,6 +226,7 @@ public class Project {
     }
 
     public void setActualStartDate(LocalDate actualStartDate) {
+        markChanged("actualStartDate", this.actualStartDate, actualStartDate);
         this.actualStartDate = actualStartDate;
     }
 
@@ -214,6 +235,7 @@ public class Project {
     }
 
     public void setActualEndDate(LocalDate actualEndDate) {
+        markChanged("actualEndDate", this.actualEndDate, actualEndDate);
         this.actualEndDate = actualEndDate;
     }
 
@@ -222,6 +244,7 @@ public class Project {
     }
 
     public void setProjectManagerId(Long projectManagerId) {
+        markChanged("projectManagerId", this.projectManagerId, projectManagerId);
         this.projectManagerId = projectManagerId;
     }
 
@@ -238,9 +261,20 @@ public class Project {
     }
 
     public void setTechnicalLeadId(Long technicalLeadId) {
+        markChanged("technicalLeadId", this.technicalLeadId, technicalLeadId);
         this.technicalLeadId = technicalLeadId;
     }
 
+    @Override
+    public Integer getVersion() {
+        return version;
+    }
+
+    @Override
+    public void setVersion(Integer version) {
+        this.version = version;
+    }
+
     public Person getTechnicalLead() {
         return technicalLead;
     }
@@ -249,6 +283,30 @@ public class Project {
         this.technicalLead = technicalLead;
     }
 
+    public List<Phase> getPhases() {
+        return phases;
+    }
+
+    public void setPhases(List<Phase> phases) {
+        this.phases = phases;
+    }
+
+    public List<ProjectMember> getProjectMembers() {
+        return projectMembers;
+    }
+
+    public void setProjectMembers(List<ProjectMember> projectMembers) {
+        this.projectMembers = projectMembers;
+    }
+
+    public List<ProjectTechnology> getProjectTechnologies() {
+        return projectTechnologies;
+    }
+
+    public void setProjectTechnologies(List<ProjectTechnology> projectTechnologies) {
+        this.projectTechnologies = projectTechnologies;
+    }
+
     /**
      * データ出力用のtoString()メソッド
      * リレーションシップ情報も含めて出力
@@ -277,7 +335,11 @@ public class Project {
                 ", projectManagerId=" + projectManagerId +
                 ", projectManager=" + (projectManager != null ? projectManager.getName() : "null") +
                 ", technicalLeadId=" + technicalLeadId +
+                ", version=" + version +
                 ", technicalLead=" + (technicalLead != null ? technicalLead.getName() : "null") +
+                ", phases=" + (phases != null ? phases.size() : 0) +
+                ", projectMembers=" + (projectMembers != null ? projectMembers.size() : 0) +
+                ", projectTechnologies=" + (projectTechnologies != null ? projectTechnologies.size() : 0) +
                 '}';
     }
 }
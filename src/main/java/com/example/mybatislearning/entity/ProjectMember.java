@@ -0,0 +1,142 @@
+package com.example.mybatislearning.entity;
+
+import com.example.mybatislearning.enums.MemberRole;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * ProjectMemberエンティティ（メンバー参画履歴）
+ * データベースのproject_membersテーブルに対応するPOJO
+ * Project ↔ Personの多対多中間テーブルで、役割・参画期間・稼働率を保持する
+ */
+public class ProjectMember {
+    private Long id;
+    private Long projectId;
+    private Long personId;
+    private MemberRole role;
+    private LocalDate joinDate;
+    private LocalDate leaveDate;
+    private BigDecimal allocationRate;
+    private String activities;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // Associations
+    private Project project;
+    private Person person;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public Long getPersonId() {
+        return personId;
+    }
+
+    public void setPersonId(Long personId) {
+        this.personId = personId;
+    }
+
+    public MemberRole getRole() {
+        return role;
+    }
+
+    public void setRole(MemberRole role) {
+        this.role = role;
+    }
+
+    public LocalDate getJoinDate() {
+        return joinDate;
+    }
+
+    public void setJoinDate(LocalDate joinDate) {
+        this.joinDate = joinDate;
+    }
+
+    public LocalDate getLeaveDate() {
+        return leaveDate;
+    }
+
+    public void setLeaveDate(LocalDate leaveDate) {
+        this.leaveDate = leaveDate;
+    }
+
+    public BigDecimal getAllocationRate() {
+        return allocationRate;
+    }
+
+    public void setAllocationRate(BigDecimal allocationRate) {
+        this.allocationRate = allocationRate;
+    }
+
+    public String getActivities() {
+        return activities;
+    }
+
+    public void setActivities(String activities) {
+        this.activities = activities;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public Project getProject() {
+        return project;
+    }
+
+    public void setProject(Project project) {
+        this.project = project;
+    }
+
+    public Person getPerson() {
+        return person;
+    }
+
+    public void setPerson(Person person) {
+        this.person = person;
+    }
+
+    @Override
+    public String toString() {
+        return "ProjectMember{" +
+                "id=" + id +
+                ", projectId=" + projectId +
+                ", personId=" + personId +
+                ", person=" + (person != null ? person.getName() : null) +
+                ", role=" + role +
+                ", joinDate=" + joinDate +
+                ", leaveDate=" + leaveDate +
+                ", allocationRate=" + allocationRate +
+                ", activities='" + activities + '\'' +
+                ", createdAt=" + createdAt +
+                ", updatedAt=" + updatedAt +
+                '}';
+    }
+}
@@ -0,0 +1,108 @@
+package com.example.mybatislearning.entity;
+
+import java.time.LocalDateTime;
+
+/**
+ * ProjectTechnologyエンティティ（プロジェクト技術スタック）
+ * データベースのproject_technologiesテーブルに対応するPOJO
+ * Project ↔ Technologyの多対多中間テーブルで、用途とバージョンを保持する
+ */
+public class ProjectTechnology {
+    private Long id;
+    private Long projectId;
+    private Long technologyId;
+    private String purpose;
+    private String version;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+
+    // Associations
+    private Project project;
+    private Technology technology;
+
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public Long getProjectId() {
+        return projectId;
+    }
+
+    public void setProjectId(Long projectId) {
+        this.projectId = projectId;
+    }
+
+    public Long getTechnologyId() {
+        return technologyId;
+    }
+
+    public void setTechnologyId(Long technologyId) {
+        this.technologyId = technologyId;
+    }
+
+    public String getPurpose() {
+        return purpose;
+    }
+
+    public void setPurpose(String purpose) {
+        this.purpose = purpose;
+    }
+
+    public String getVersion() {
+        return version;
+    }
+
+    public void setVersion(String version) {
+        this.version = version;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public void setCreatedAt(LocalDateTime createdAt) {
+        this.createdAt = createdAt;
+    }
+
+    public LocalDateTime getUpdatedAt() {
+        return updatedAt;
+    }
+
+    public void setUpdatedAt(LocalDateTime updatedAt) {
+        this.updatedAt = updatedAt;
+    }
+
+    public Project getProject() {
+        return project;
+    }
+
+    public void setProject(Project project) {
+        this.project = project;
+    }
+
+    public Technology getTechnology() {
+        return technology;
+    }
+
+    public void setTechnology(Technology technology) {
+        this.technology = technology;
+    }
+
+    @Override
+    public String toString() {
+        return "ProjectTechnology{" +
+                "id=" + id +
+                ", projectId=" + projectId +
+                ", technologyId=" + technologyId +
+                ", technology=" + (technology != null ? technology.getName() : null) +
+                ", purpose='" + purpose + '\'' +
+                ", version='" + version + '\'' +
+                ", createdAt=" + createdAt +
+                ", updatedAt=" + updatedAt +
+                '}';
+    }
+}
@@ -2,6 +2,7 @@ package com.example.mybatislearning.entity;
 
 import com.example.mybatislearning.enums.TechnologyCategory;
 
+import java.io.Serializable;
 import java.time.LocalDateTime;
 
 /**
@@ -9,7 +10,9 @@ import java.time.LocalDateTime;
  * データベースのtechnologiesテーブルに対応するPOJO
  * 技術マスタを表す
  */
-public class Technology {
+public class Technology implements Serializable {
+
+    private static final long serialVersionUID = 1L;
 
     private Long id;
     private String name;
@@ -0,0 +1,33 @@
+package com.example.mybatislearning.entity;
+
+/**
+ * 楽観ロック用のversion列を持つエンティティ
+ *
+ * <p>更新SQLは{@code version = version + 1}で値を進め、常に
+ * {@code WHERE id = ? AND version = ?}で読み込み時から他の更新がないことを確認する。
+ * versionが設定されていないエンティティの更新はIllegalArgumentExceptionで拒否する。
+ * 照合に失敗した場合（更新件数0）はサービスがVersionConflictExceptionをスローする。</p>
+ */
+public interface Versioned {
+
+    /**
+     * エンティティのID
+     *
+     * @return ID
+     */
+    Long getId();
+
+    /**
+     * 読み込み時（または直近の更新後）のバージョン
+     *
+     * @return バージョン（DBから読み込んでも挿入してもいない場合はnull）
+     */
+    Integer getVersion();
+
+    /**
+     * バージョンを設定
+     *
+     * @param version バージョン
+     */
+    void setVersion(Integer version);
+}
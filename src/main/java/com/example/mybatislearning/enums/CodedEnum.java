@@ -0,0 +1,21 @@
+package com.example.mybatislearning.enums;
+
+/**
+ * DBに固定のSMALLINTコードで格納するEnum型
+ *
+ * <p>名前（VARCHAR）ではなくコードを格納することで、status/project_type等の列とインデックスを小さくし、
+ * 読み込み時は{@code Enum.valueOf}の文字列照合の代わりにコードを添字とした配列参照で復元する
+ * （{@link com.example.mybatislearning.typehandler.CodedEnumTypeHandler}）。</p>
+ *
+ * <p>コードは永続化済みの値のため、定数の並び替え・削除をしても既存のコードは変更・再利用しないこと。
+ * 配列で引くため、コードは0から始まる小さな連番とする。</p>
+ */
+public interface CodedEnum {
+
+    /**
+     * DBに格納するコード値
+     *
+     * @return 0以上のコード値
+     */
+    short getCode();
+}
@@ -2,13 +2,26 @@ package com.example.mybatislearning.enums;
 
 /**
  * プロジェクトメンバーの役割を表すEnum型（タスク2.4）
+ *
+ * <p>DBには{@link #getCode()}のコード値を格納する（{@link CodedEnum}）。</p>
  */
-public enum MemberRole {
-    PROJECT_MANAGER,    // プロジェクトマネージャー
-    TECHNICAL_LEAD,     // 技術リード
-    DEVELOPER,          // 開発者
-    TESTER,             // テスター
-    DESIGNER,           // デザイナー
-    ADVISOR,            // アドバイザー
-    OTHER               // その他
+public enum MemberRole implements CodedEnum {
+    PROJECT_MANAGER(0),    // プロジェクトマネージャー
+    TECHNICAL_LEAD(1),     // 技術リード
+    DEVELOPER(2),          // 開発者
+    TESTER(3),             // テスター
+    DESIGNER(4),           // デザイナー
+    ADVISOR(5),            // アドバイザー
+    OTHER(6);              // その他
+
+    private final short code;
+
+    MemberRole(int code) {
+        this.code = (short) code;
+    }
+
+    @Override
+    public short getCode() {
+        return code;
+    }
 }
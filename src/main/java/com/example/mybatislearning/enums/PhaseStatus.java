@@ -2,9 +2,22 @@ package com.example.mybatislearning.enums;
 
 /**
  * 工程ステータスを表すEnum型（タスク2.6）
+ *
+ * <p>DBには{@link #getCode()}のコード値を格納する（{@link CodedEnum}）。</p>
  */
-public enum PhaseStatus {
-    NOT_STARTED,    // 未着手
-    IN_PROGRESS,    // 進行中
-    COMPLETED       // 完了
+public enum PhaseStatus implements CodedEnum {
+    NOT_STARTED(0),    // 未着手
+    IN_PROGRESS(1),    // 進行中
+    COMPLETED(2);      // 完了
+
+    private final short code;
+
+    PhaseStatus(int code) {
+        this.code = (short) code;
+    }
+
+    @Override
+    public short getCode() {
+        return code;
+    }
 }
@@ -2,11 +2,24 @@ package com.example.mybatislearning.enums;
 
 /**
  * プロジェクト工程種別を表すEnum型（タスク2.5）
+ *
+ * <p>DBには{@link #getCode()}のコード値を格納する（{@link CodedEnum}）。</p>
  */
-public enum PhaseType {
-    REQUIREMENTS,       // 要件定義
-    DESIGN,             // 設計
-    IMPLEMENTATION,     // 実装
-    TESTING,            // テスト
-    RELEASE             // リリース
+public enum PhaseType implements CodedEnum {
+    REQUIREMENTS(0),      // 要件定義
+    DESIGN(1),            // 設計
+    IMPLEMENTATION(2),    // 実装
+    TESTING(3),           // テスト
+    RELEASE(4);           // リリース
+
+    private final short code;
+
+    PhaseType(int code) {
+        this.code = (short) code;
+    }
+
+    @Override
+    public short getCode() {
+        return code;
+    }
 }
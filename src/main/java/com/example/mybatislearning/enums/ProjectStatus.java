@@ -2,10 +2,23 @@ package com.example.mybatislearning.enums;
 
 /**
  * プロジェクトステータスを表すEnum型（タスク2.3）
+ *
+ * <p>DBには{@link #getCode()}のコード値を格納する（{@link CodedEnum}）。</p>
  */
-public enum ProjectStatus {
-    PLANNING,       // 計画中
-    IN_PROGRESS,    // 進行中
-    COMPLETED,      // 完了
-    CANCELLED       // 中止
+public enum ProjectStatus implements CodedEnum {
+    PLANNING(0),       // 計画中
+    IN_PROGRESS(1),    // 進行中
+    COMPLETED(2),      // 完了
+    CANCELLED(3);      // 中止
+
+    private final short code;
+
+    ProjectStatus(int code) {
+        this.code = (short) code;
+    }
+
+    @Override
+    public short getCode() {
+        return code;
+    }
 }
@@ -2,11 +2,24 @@ package com.example.mybatislearning.enums;
 
 /**
  * プロジェクト種別を表すEnum型（タスク2.2）
+ *
+ * <p>DBには{@link #getCode()}のコード値を格納する（{@link CodedEnum}）。</p>
  */
-public enum ProjectType {
-    NEW_DEVELOPMENT,     // 新規開発
-    MAINTENANCE,         // 保守
-    CONSULTING,          // コンサルティング
-    PACKAGE,             // パッケージ導入
-    IN_HOUSE_SERVICE     // 自社サービス
+public enum ProjectType implements CodedEnum {
+    NEW_DEVELOPMENT(0),     // 新規開発
+    MAINTENANCE(1),         // 保守
+    CONSULTING(2),          // コンサルティング
+    PACKAGE(3),             // パッケージ導入
+    IN_HOUSE_SERVICE(4);    // 自社サービス
+
+    private final short code;
+
+    ProjectType(int code) {
+        this.code = (short) code;
+    }
+
+    @Override
+    public short getCode() {
+        return code;
+    }
 }
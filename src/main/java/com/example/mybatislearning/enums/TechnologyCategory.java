@@ -2,12 +2,25 @@ package com.example.mybatislearning.enums;
 
 /**
  * 技術カテゴリを表すEnum型（タスク2.1）
+ *
+ * <p>DBには{@link #getCode()}のコード値を格納する（{@link CodedEnum}）。</p>
  */
-public enum TechnologyCategory {
-    LANGUAGE,          // プログラミング言語
-    FRAMEWORK,         // フレームワーク
-    DATABASE,          // データベース
-    INFRASTRUCTURE,    // インフラ
-    TOOL,              // ツール
-    OTHER              // その他
+public enum TechnologyCategory implements CodedEnum {
+    LANGUAGE(0),          // プログラミング言語
+    FRAMEWORK(1),         // フレームワーク
+    DATABASE(2),          // データベース
+    INFRASTRUCTURE(3),    // インフラ
+    TOOL(4),              // ツール
+    OTHER(5);             // その他
+
+    private final short code;
+
+    TechnologyCategory(int code) {
+        this.code = (short) code;
+    }
+
+    @Override
+    public short getCode() {
+        return code;
+    }
 }
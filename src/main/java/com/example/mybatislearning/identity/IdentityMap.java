@@ -0,0 +1,133 @@
+package com.example.mybatislearning.identity;
+
+import com.example.mybatislearning.entity.ChangeTrackedEntity;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
+/**
+ * IdentityMap
+ * 1つのスコープ（HTTPリクエスト）内で、同じ型・同じIDのエンティティを1つのインスタンスにまとめる
+ *
+ * <p>インスタンスは「完全」（エンティティ自身のresultMapで取得したもの）と
+ * 「部分」（他のエンティティのassociationとして一部の列のみ取得したもの）を区別する。
+ * 部分インスタンスが登録済みの状態で完全インスタンスを取得した場合は、
+ * 既存インスタンスへ値を補完して完全に昇格させるため、先に返却した参照もそのまま有効となる。</p>
+ *
+ * <p>未反映の変更（{@link ChangeTrackedEntity#hasChanges()}）がある共有インスタンスは、
+ * DBから読み直した値で上書きせず、取得結果としても返却しない（読み直したインスタンスをそのまま返す）。</p>
+ *
+ * <p>スレッドセーフではない（{@link IdentityMapScope}によりスレッドごとに保持する）。</p>
+ */
+public class IdentityMap {
+
+    private final Map<Class<?>, Map<Long, Entry>> entries = new HashMap<>();
+    private long hitCount;
+    private long skippedQueryCount;
+
+    /**
+     * 完全なインスタンスを取得
+     *
+     * @param type エンティティ型
+     * @param id   ID
+     * @return 登録済みの完全なインスタンス（未登録、部分インスタンスのみ、または未反映の変更がある場合はnull）
+     */
+    public <T> T getComplete(Class<T> type, Long id) {
+        Map<Long, Entry> byId = entries.get(type);
+        Entry entry = byId == null ? null : byId.get(id);
+        if (entry == null || !entry.complete || hasPendingChanges(entry.instance)) {
+            return null;
+        }
+        return type.cast(entry.instance);
+    }
+
+    /**
+     * インスタンスを登録し、以降に使用する共有インスタンスを取得
+     *
+     * @param type     エンティティ型
+     * @param id       ID
+     * @param instance 取得したインスタンス
+     * @param complete 全列を取得したインスタンスの場合true
+     * @param fill     部分インスタンスへ完全インスタンスの値を写す関数（既存, 取得値）
+     * @return 共有インスタンス（初出の場合、または共有インスタンスに未反映の変更がある場合はinstance自身）
+     */
+    public <T> T canonicalize(Class<T> type, Long id, T instance, boolean complete, BiConsumer<T, T> fill) {
+        Map<Long, Entry> byId = entries.computeIfAbsent(type, t -> new HashMap<>());
+        Entry entry = byId.get(id);
+        if (entry == null) {
+            byId.put(id, new Entry(instance, complete));
+            return instance;
+        }
+        T existing = type.cast(entry.instance);
+        if (existing == instance) {
+            return existing;
+        }
+        if (hasPendingChanges(existing)) {
+            // 未反映の変更を読み直した値で上書きしない
+            return instance;
+        }
+        if (complete && !entry.complete) {
+            fill.accept(existing, instance);
+            entry.complete = true;
+        }
+        hitCount++;
+        return existing;
+    }
+
+    private static boolean hasPendingChanges(Object instance) {
+        return instance instanceof ChangeTrackedEntity entity && entity.hasChanges();
+    }
+
+    /**
+     * SQLを実行せずに共有インスタンスを返却したことを記録
+     */
+    void recordSkippedQuery() {
+        skippedQueryCount++;
+    }
+
+    /**
+     * 登録済みのインスタンスをすべて破棄
+     * 更新系ステートメントの実行時に呼び出され、以降の取得はDBから読み直す
+     */
+    public void clear() {
+        entries.clear();
+    }
+
+    /**
+     * 登録済みのインスタンス数
+     *
+     * @return インスタンス数
+     */
+    public int size() {
+        return entries.values().stream().mapToInt(Map::size).sum();
+    }
+
+    /**
+     * 既存インスタンスに置き換えた回数（SQLの省略分を含む）
+     *
+     * @return 置き換え回数
+     */
+    public long getHitCount() {
+        return hitCount;
+    }
+
+    /**
+     * 登録済みインスタンスを返却してSQLの実行を省略した回数
+     *
+     * @return 省略回数
+     */
+    public long getSkippedQueryCount() {
+        return skippedQueryCount;
+    }
+
+    private static final class Entry {
+        final Object instance;
+        boolean complete;
+
+        Entry(Object instance, boolean complete) {
+            this.instance = instance;
+            this.complete = complete;
+        }
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.mybatislearning.identity;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * IdentityMapFilter
+ * HTTPリクエストごとに{@link IdentityMapScope}を開始し、レスポンス返却後に破棄するFilter
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.identity-map", name = "enabled", havingValue = "true", matchIfMissing = true)
+public class IdentityMapFilter extends OncePerRequestFilter {
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        try (IdentityMapScope ignored = IdentityMapScope.open()) {
+            chain.doFilter(request, response);
+        }
+    }
+}
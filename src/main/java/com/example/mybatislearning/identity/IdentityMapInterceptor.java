@@ -0,0 +1,204 @@
+package com.example.mybatislearning.identity;
+
+import com.example.mybatislearning.entity.Industry;
+import com.example.mybatislearning.entity.Organization;
+import com.example.mybatislearning.entity.Person;
+import com.example.mybatislearning.entity.Project;
+import com.example.mybatislearning.entity.ProjectMember;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ResultMap;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * IdentityMapInterceptor
+ * Executor.query/updateをフックし、{@link IdentityMapScope}内でPerson・Industry・Organizationを
+ * 型とIDごとに1つのインスタンスへまとめるInterceptor
+ *
+ * <ul>
+ * <li>取得結果（トップレベルおよびProject・ProjectMemberのassociation）を共有インスタンスに置き換える</li>
+ * <li>*.selectById（引数がID）で完全なインスタンスが登録済みの場合はSQLを実行せずに返却する
+ *     （未反映の変更があるインスタンスはSQLを実行し、読み直したインスタンスを返却する）</li>
+ * <li>更新系ステートメントの実行時はIdentityMapを破棄する（MyBatisのローカルキャッシュと同じ扱い）。
+ *     更新を行ったトランザクションがロールバックされた場合も破棄する</li>
+ * </ul>
+ *
+ * <p>スコープ外（IdentityMapScope未開始）では何もしない。
+ * 共有インスタンスを変更すると同じリクエスト内の他の参照にも反映される点に注意。</p>
+ */
+@Component
+@Intercepts({
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class,
+                        CacheKey.class, BoundSql.class})
+})
+public class IdentityMapInterceptor implements Interceptor {
+
+    private static final String SELECT_BY_ID = ".selectById";
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        IdentityMap identityMap = IdentityMapScope.current();
+        if (identityMap == null) {
+            return invocation.proceed();
+        }
+        MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+        if (mappedStatement.getSqlCommandType() != SqlCommandType.SELECT) {
+            identityMap.clear();
+            clearOnRollback(identityMap);
+            return invocation.proceed();
+        }
+        if (invocation.getArgs()[3] != Executor.NO_RESULT_HANDLER) {
+            return invocation.proceed();
+        }
+
+        Object cached = findById(identityMap, mappedStatement, invocation.getArgs()[1], (RowBounds) invocation.getArgs()[2]);
+        if (cached != null) {
+            identityMap.recordSkippedQuery();
+            List<Object> result = new ArrayList<>(1);
+            result.add(cached);
+            return result;
+        }
+        Object result = invocation.proceed();
+        return result instanceof List<?> list ? canonicalizeAll(identityMap, list) : result;
+    }
+
+    /**
+     * selectByIdの対象が完全なインスタンスとして登録済みで、未反映の変更がなければ取得
+     */
+    private static Object findById(IdentityMap identityMap, MappedStatement mappedStatement,
+                                   Object parameter, RowBounds rowBounds) {
+        if (!(parameter instanceof Long id)
+                || !mappedStatement.getId().endsWith(SELECT_BY_ID)
+                || rowBounds != RowBounds.DEFAULT) {
+            return null;
+        }
+        List<ResultMap> resultMaps = mappedStatement.getResultMaps();
+        if (resultMaps.size() != 1) {
+            return null;
+        }
+        Class<?> type = resultMaps.get(0).getType();
+        if (type != Person.class && type != Industry.class && type != Organization.class) {
+            return null;
+        }
+        return identityMap.getComplete(type, id);
+    }
+
+    /**
+     * 結果の各要素と多対一のassociationを共有インスタンスに置き換える
+     * 2次キャッシュ上のリストを書き換えないよう、置き換えが発生した時点でリストをコピーする
+     */
+    private static List<?> canonicalizeAll(IdentityMap identityMap, List<?> rows) {
+        List<Object> result = null;
+        for (int i = 0; i < rows.size(); i++) {
+            Object row = rows.get(i);
+            Object canonical = canonicalizeRow(identityMap, row);
+            if (canonical != row && result == null) {
+                result = new ArrayList<>(rows);
+            }
+            if (result != null) {
+                result.set(i, canonical);
+            }
+        }
+        return result != null ? result : rows;
+    }
+
+    private static Object canonicalizeRow(IdentityMap identityMap, Object row) {
+        if (row instanceof Person person) {
+            return person(identityMap, person, true);
+        }
+        if (row instanceof Industry industry) {
+            return industry(identityMap, industry, true);
+        }
+        if (row instanceof Organization organization) {
+            return organization(identityMap, organization, true);
+        }
+        if (row instanceof Project project) {
+            project.setOrganization(organization(identityMap, project.getOrganization(), false));
+            project.setIndustry(industry(identityMap, project.getIndustry(), false));
+            project.setProjectManager(person(identityMap, project.getProjectManager(), false));
+            project.setTechnicalLead(person(identityMap, project.getTechnicalLead(), false));
+        } else if (row instanceof ProjectMember member) {
+            member.setPerson(person(identityMap, member.getPerson(), false));
+        }
+        return row;
+    }
+
+    private static Person person(IdentityMap identityMap, Person person, boolean complete) {
+        if (person == null || person.getId() == null) {
+            return person;
+        }
+        return identityMap.canonicalize(Person.class, person.getId(), person, complete, (existing, loaded) -> {
+            // IdentityMapは未反映の変更があるインスタンスを補完しない。変更を黙って破棄しないよう、前提が崩れた場合は失敗させる
+            if (existing.hasChanges()) {
+                throw new IllegalStateException("Person " + existing.getId()
+                        + " has unsaved changes " + existing.getChangedProperties() + " and cannot be refreshed");
+            }
+            existing.setName(loaded.getName());
+            existing.setEmail(loaded.getEmail());
+            existing.setRole(loaded.getRole());
+            existing.setDepartment(loaded.getDepartment());
+            existing.setCreatedAt(loaded.getCreatedAt());
+            existing.setUpdatedAt(loaded.getUpdatedAt());
+            // 補完のsetterで記録された変更を破棄し、DBの値を保持した状態にする
+            existing.markLoaded();
+        });
+    }
+
+    private static Industry industry(IdentityMap identityMap, Industry industry, boolean complete) {
+        if (industry == null || industry.getId() == null) {
+            return industry;
+        }
+        return identityMap.canonicalize(Industry.class, industry.getId(), industry, complete, (existing, loaded) -> {
+            existing.setName(loaded.getName());
+            existing.setDescription(loaded.getDescription());
+            existing.setCreatedAt(loaded.getCreatedAt());
+            existing.setUpdatedAt(loaded.getUpdatedAt());
+        });
+    }
+
+    private static Organization organization(IdentityMap identityMap, Organization organization, boolean complete) {
+        if (organization == null || organization.getId() == null) {
+            return organization;
+        }
+        return identityMap.canonicalize(Organization.class, organization.getId(), organization, complete,
+                (existing, loaded) -> {
+                    existing.setName(loaded.getName());
+                    existing.setDescription(loaded.getDescription());
+                });
+    }
+
+    /**
+     * 更新を行ったトランザクションがコミットされなかった場合、その間に読み込んだ未コミットの値を破棄する
+     */
+    private static void clearOnRollback(IdentityMap identityMap) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        identityMap.clear();
+                    }
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.mybatislearning.identity;
+
+/**
+ * IdentityMapScope
+ * 現在のスレッドに{@link IdentityMap}を割り当てるスコープ
+ *
+ * <p>Webリクエストでは{@link IdentityMapFilter}が開始・終了する。
+ * バッチ処理やテストではtry-with-resourcesで明示的に開始できる。
+ * すでにスコープが開始されている場合は既存のIdentityMapを共有し、外側のスコープは閉じない。</p>
+ *
+ * <pre>
+ * try (IdentityMapScope scope = IdentityMapScope.open()) {
+ *     Person person = personMapper.selectById(1L);
+ *     ...
+ * }
+ * </pre>
+ */
+public final class IdentityMapScope implements AutoCloseable {
+
+    private static final ThreadLocal<IdentityMap> CURRENT = new ThreadLocal<>();
+
+    private final IdentityMap identityMap;
+    private final boolean owner;
+
+    private IdentityMapScope(IdentityMap identityMap, boolean owner) {
+        this.identityMap = identityMap;
+        this.owner = owner;
+    }
+
+    /**
+     * スコープを開始（開始済みの場合は参加）
+     *
+     * @return 終了時にcloseするスコープ
+     */
+    public static IdentityMapScope open() {
+        IdentityMap current = CURRENT.get();
+        if (current != null) {
+            return new IdentityMapScope(current, false);
+        }
+        IdentityMap identityMap = new IdentityMap();
+        CURRENT.set(identityMap);
+        return new IdentityMapScope(identityMap, true);
+    }
+
+    /**
+     * 現在のスレッドのIdentityMapを取得
+     *
+     * @return IdentityMap（スコープ外の場合はnull）
+     */
+    public static IdentityMap current() {
+        return CURRENT.get();
+    }
+
+    /**
+     * このスコープのIdentityMapを取得
+     *
+     * @return IdentityMap
+     */
+    public IdentityMap getIdentityMap() {
+        return identityMap;
+    }
+
+    @Override
+    public void close() {
+        if (owner) {
+            CURRENT.remove();
+        }
+    }
+}
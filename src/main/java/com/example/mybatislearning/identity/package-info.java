@@ -0,0 +1,19 @@
+/**
+ * リクエストスコープのアイデンティティマップパッケージを提供します
+ *
+ * <p>
+ * 主なクラス:
+ * </p>
+ * <ul>
+ * <li>IdentityMapInterceptor</li>
+ * <li>IdentityMapScope</li>
+ * <li>IdentityMapFilter</li>
+ * <li>IdentityMap</li>
+ * </ul>
+ *
+ * <p>
+ * このパッケージはMyBatisのローカルセッションキャッシュと並んで、1リクエスト内のPerson・Industry・Organizationを
+ * マッパー呼び出しやresultMapをまたいで同一インスタンスにまとめ、重複したオブジェクト生成とSQL実行を削減します。
+ * </p>
+ */
+package com.example.mybatislearning.identity;
@@ -0,0 +1,57 @@
+package com.example.mybatislearning.locking;
+
+import com.example.mybatislearning.entity.Versioned;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+/**
+ * OptimisticLock
+ * バージョン照合付きの更新結果を検証するユーティリティ
+ */
+public final class OptimisticLock {
+
+    private OptimisticLock() {
+    }
+
+    /**
+     * 照合に使うバージョンが設定されていることを確認
+     * 更新SQLは常に{@code AND version = ?}で照合するため、バージョンなしでは楽観ロックを迂回できない
+     *
+     * @param entity 更新するエンティティ
+     * @throws IllegalArgumentException バージョンが設定されていない場合
+     */
+    public static void requireVersion(Versioned entity) {
+        if (entity.getVersion() == null) {
+            throw new IllegalArgumentException("Version is required for optimistic locking: "
+                    + entity.getClass().getSimpleName() + " id=" + entity.getId());
+        }
+    }
+
+    /**
+     * 更新件数からバージョンの照合結果を判定
+     * 成功した場合はエンティティのバージョンをDBと同じ値に進める（トランザクションがコミットされなかった場合は戻す）
+     *
+     * @param updatedRows update/updateChangedの更新件数
+     * @param entity      更新したエンティティ
+     * @throws IllegalArgumentException バージョンが設定されていない場合
+     * @throws VersionConflictException バージョンを照合して1件も更新されなかった場合
+     */
+    public static void checkUpdated(int updatedRows, Versioned entity) {
+        requireVersion(entity);
+        Integer version = entity.getVersion();
+        if (updatedRows == 0) {
+            throw new VersionConflictException(entity.getClass(), entity.getId(), version);
+        }
+        entity.setVersion(version + 1);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        entity.setVersion(version);
+                    }
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.mybatislearning.locking;
+
+import org.springframework.transaction.support.TransactionOperations;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * OptimisticRetry
+ * バージョンの競合時に最新の行を読み直し、同じ変更を適用し直して更新を再試行するヘルパー
+ *
+ * <p>変更はsetterで適用するため、読み直したエンティティではその変更で値が変わった列だけがupdateChangedの対象になる。
+ * 他のトランザクションが別の列に加えた変更はそのまま残り（マージ）、同じ列を変更していた場合は後の変更で上書きする。
+ * 変更の内容を最新の値から決める場合（加算等）は、changesの中で引数のエンティティの値を参照すること。</p>
+ *
+ * <p>各試行（読み込み・変更・更新）はそれぞれ新しいトランザクションで実行し、競合した試行はロールバックする。
+ * 同一トランザクション内で読み直すと、分離レベル（REPEATABLE READ等）によっては競合した行の古い内容を読み続けるため、
+ * 呼び出し元のトランザクションの外から呼び出すこと（トランザクション内から呼び出した場合はIllegalStateException）。
+ * transactionには{@code PROPAGATION_REQUIRES_NEW}を設定したTransactionTemplateを渡す。</p>
+ */
+public final class OptimisticRetry {
+
+    /** 既定の最大試行回数（初回を含む） */
+    public static final int DEFAULT_MAX_ATTEMPTS = 3;
+
+    private OptimisticRetry() {
+    }
+
+    /**
+     * 読み込み・変更・更新を競合しなくなるまで最大maxAttempts回繰り返す
+     *
+     * @param transaction 1回の試行を実行するトランザクション
+     * @param maxAttempts 最大試行回数（初回を含む、1以上）
+     * @param loader      最新の行を読み込む処理（行が存在しない場合はnullを返す）
+     * @param changes     読み込んだエンティティに適用する変更
+     * @param updater     更新処理（競合時はVersionConflictExceptionをスローすること）
+     * @param <T>         エンティティの型
+     * @return 更新したエンティティ（行が存在しない場合はnull）
+     * @throws VersionConflictException maxAttempts回とも競合した場合（最後の競合）
+     * @throws IllegalStateException    トランザクション内から呼び出した場合
+     */
+    public static <T> T update(TransactionOperations transaction, int maxAttempts, Supplier<T> loader,
+                               Consumer<? super T> changes, Consumer<? super T> updater) {
+        if (maxAttempts < 1) {
+            throw new IllegalArgumentException("maxAttempts must be at least 1: " + maxAttempts);
+        }
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            throw new IllegalStateException("Optimistic retry must be called outside of a transaction");
+        }
+        for (int attempt = 1; ; attempt++) {
+            try {
+                return transaction.execute(status -> {
+                    T entity = loader.get();
+                    if (entity == null) {
+                        return null;
+                    }
+                    changes.accept(entity);
+                    updater.accept(entity);
+                    return entity;
+                });
+            } catch (VersionConflictException e) {
+                if (attempt >= maxAttempts) {
+                    throw e;
+                }
+            }
+        }
+    }
+}
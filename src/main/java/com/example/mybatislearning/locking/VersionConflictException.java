@@ -0,0 +1,46 @@
+package com.example.mybatislearning.locking;
+
+import org.springframework.dao.OptimisticLockingFailureException;
+
+/**
+ * VersionConflictException
+ * 楽観ロックの照合に失敗した（読み込み後に他のトランザクションが更新・削除した）ことを表す例外
+ *
+ * <p>SpringのOptimisticLockingFailureExceptionのサブクラスのため、DataAccessExceptionとして扱う既存の処理でも捕捉できる。
+ * 最新の値を読み直して変更を適用し直す場合は{@link OptimisticRetry}を使用する。</p>
+ */
+public class VersionConflictException extends OptimisticLockingFailureException {
+
+    private static final long serialVersionUID = 1L;
+
+    private final Class<?> entityType;
+    private final Long id;
+    private final Integer expectedVersion;
+
+    /**
+     * コンストラクタ
+     *
+     * @param entityType      更新しようとしたエンティティの型
+     * @param id              エンティティのID
+     * @param expectedVersion 更新時に照合したバージョン
+     */
+    public VersionConflictException(Class<?> entityType, Long id, Integer expectedVersion) {
+        super(entityType.getSimpleName() + " " + id + " was updated or deleted by another transaction"
+                + " (expected version " + expectedVersion + ")");
+        this.entityType = entityType;
+        this.id = id;
+        this.expectedVersion = expectedVersion;
+    }
+
+    public Class<?> getEntityType() {
+        return entityType;
+    }
+
+    public Long getId() {
+        return id;
+    }
+
+    public Integer getExpectedVersion() {
+        return expectedVersion;
+    }
+}
@@ -0,0 +1,17 @@
+/**
+ * 楽観ロックパッケージを提供します
+ *
+ * <p>
+ * 主なクラス:
+ * </p>
+ * <ul>
+ * <li>VersionConflictException</li>
+ * <li>OptimisticLock</li>
+ * <li>OptimisticRetry</li>
+ * </ul>
+ *
+ * <p>
+ * このパッケージはversion列による楽観ロック（競合の検出と、読み直して変更を適用し直す再試行）に関連するクラスを提供します。
+ * </p>
+ */
+package com.example.mybatislearning.locking;
@@ -1,8 +1,11 @@
 package com.example.mybatislearning.mapper;
 
 import com.example.mybatislearning.entity.Industry;
+import com.example.mybatislearning.readmodel.IndustryRecord;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -27,6 +30,24 @@ public interface IndustryMapper {
      */
     Industry selectById(Long id);
 
+    /**
+     * Projectに設定されたIndustryを取得
+     * Projectの行を待たずに取得できるよう、projectsとのJOINでプロジェクトIDから引く
+     *
+     * @param projectId Project ID
+     * @return 該当するIndustry、Projectが存在しないかIndustry未設定の場合はnull
+     */
+    Industry selectByProjectId(Long projectId);
+
+    /**
+     * 複数のIDでIndustryをまとめて取得（IN句による一括取得）
+     * 呼び出し側は空でない重複排除済みのIDを渡すこと
+     *
+     * @param ids 検索するIndustry IDのコレクション
+     * @return 該当するIndustryのリスト（ID順）
+     */
+    List<Industry> selectByIds(@Param("ids") Collection<Long> ids);
+
     /**
      * すべてのIndustryを取得
      *
@@ -34,6 +55,17 @@ public interface IndustryMapper {
      */
     List<Industry> selectAll();
 
+    /**
+     * 指定IDより後ろのIndustryをID順に取得（キーセットページング）
+     * WHERE id > lastId ORDER BY id LIMIT limit で主キーインデックスをシークするため、
+     * 深いページでも先頭ページと同じコストで取得できる
+     *
+     * @param lastId 前ページの最後のID（先頭ページの場合はnull）
+     * @param limit  取得する最大件数
+     * @return Industryのリスト
+     */
+    List<Industry> selectPageAfter(@Param("lastId") Long lastId, @Param("limit") int limit);
+
     /**
      * 業界名でIndustryを検索
      *
@@ -55,4 +87,30 @@ public interface IndustryMapper {
      * @param id 削除するIndustry ID
      */
     void deleteById(Long id);
+
+    // 参照専用の不変record（setterのリフレクション呼び出しなしでコンストラクタから生成）
+
+    /**
+     * IDでIndustryRecordを取得（2次キャッシュ対象）
+     *
+     * @param id 検索するIndustry ID
+     * @return 該当するIndustryRecord、存在しない場合はnull
+     */
+    IndustryRecord selectRecordById(Long id);
+
+    /**
+     * すべてのIndustryRecordを取得
+     *
+     * @return IndustryRecordのリスト
+     */
+    List<IndustryRecord> selectAllRecords();
+
+    /**
+     * 指定IDより後ろのIndustryRecordをID順に取得（キーセットページング）
+     *
+     * @param lastId 前ページの最後のID（先頭ページの場合はnull）
+     * @param limit  取得する最大件数
+     * @return IndustryRecordのリスト
+     */
+    List<IndustryRecord> selectRecordPageAfter(@Param("lastId") Long lastId, @Param("limit") int limit);
 }
@@ -8,8 +8,11 @@ import java.util.List;
 /**
  * OrganizationAnnotationMapper（アノテーション）インターフェース
  * XMLファイル不要のアノテーションベースSQLマッピング
+ * 同じorganizationsテーブルを更新するため、OrganizationMapperの2次キャッシュを共有する
+ * （本マッパーでの更新時にもキャッシュがフラッシュされる）
  */
 @Mapper
+@CacheNamespaceRef(OrganizationMapper.class)
 public interface OrganizationAnnotationMapper {
 
     /**
@@ -33,10 +36,12 @@ public interface OrganizationAnnotationMapper {
 
     /**
      * すべてのOrganizationを取得
+     * 全件のリストは件数に比例してキャッシュを占有するため、XML版のselectAllと同じくキャッシュ対象外とする
      *
      * @return Organizationのリスト
      */
     @Select("SELECT * FROM organizations")
+    @Options(useCache = false)
     List<Organization> selectAll();
 
     /**
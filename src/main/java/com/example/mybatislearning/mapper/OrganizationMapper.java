@@ -1,7 +1,9 @@
 package com.example.mybatislearning.mapper;
 
 import com.example.mybatislearning.entity.Organization;
+import com.example.mybatislearning.readmodel.OrganizationRecord;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
 
@@ -34,6 +36,17 @@ public interface OrganizationMapper {
      */
     List<Organization> selectAll();
 
+    /**
+     * 指定IDより後ろのOrganizationをID順に取得（キーセットページング）
+     * WHERE id > lastId ORDER BY id LIMIT limit で主キーインデックスをシークするため、
+     * 深いページでも先頭ページと同じコストで取得できる
+     *
+     * @param lastId 前ページの最後のID（先頭ページの場合はnull）
+     * @param limit  取得する最大件数
+     * @return Organizationのリスト
+     */
+    List<Organization> selectPageAfter(@Param("lastId") Long lastId, @Param("limit") int limit);
+
     /**
      * Organizationを更新
      *
@@ -47,4 +60,30 @@ public interface OrganizationMapper {
      * @param id 削除するOrganization ID
      */
     void deleteById(Long id);
+
+    // 参照専用の不変record（setterのリフレクション呼び出しなしでコンストラクタから生成）
+
+    /**
+     * IDでOrganizationRecordを取得（2次キャッシュ対象）
+     *
+     * @param id 検索するOrganization ID
+     * @return 該当するOrganizationRecord、存在しない場合はnull
+     */
+    OrganizationRecord selectRecordById(Long id);
+
+    /**
+     * すべてのOrganizationRecordを取得
+     *
+     * @return OrganizationRecordのリスト
+     */
+    List<OrganizationRecord> selectAllRecords();
+
+    /**
+     * 指定IDより後ろのOrganizationRecordをID順に取得（キーセットページング）
+     *
+     * @param lastId 前ページの最後のID（先頭ページの場合はnull）
+     * @param limit  取得する最大件数
+     * @return OrganizationRecordのリスト
+     */
+    List<OrganizationRecord> selectRecordPageAfter(@Param("lastId") Long lastId, @Param("limit") int limit);
 }
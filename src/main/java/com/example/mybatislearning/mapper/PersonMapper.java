@@ -1,8 +1,11 @@
 package com.example.mybatislearning.mapper;
 
 import com.example.mybatislearning.entity.Person;
+import com.example.mybatislearning.readmodel.PersonRecord;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -27,6 +30,31 @@ public interface PersonMapper {
      */
     Person selectById(Long id);
 
+    /**
+     * ProjectのプロジェクトマネージャーをプロジェクトIDから取得
+     *
+     * @param projectId Project ID
+     * @return 該当するPerson、Projectが存在しないか未設定の場合はnull
+     */
+    Person selectProjectManagerByProjectId(Long projectId);
+
+    /**
+     * ProjectのテクニカルリードをプロジェクトIDから取得
+     *
+     * @param projectId Project ID
+     * @return 該当するPerson、Projectが存在しないか未設定の場合はnull
+     */
+    Person selectTechnicalLeadByProjectId(Long projectId);
+
+    /**
+     * 複数のIDでPersonをまとめて取得（IN句による一括取得）
+     * 呼び出し側は空でない重複排除済みのIDを渡すこと
+     *
+     * @param ids 検索するPerson IDのコレクション
+     * @return 該当するPersonのリスト（ID順）
+     */
+    List<Person> selectByIds(@Param("ids") Collection<Long> ids);
+
     /**
      * すべてのPersonを取得
      *
@@ -34,6 +62,17 @@ public interface PersonMapper {
      */
     List<Person> selectAll();
 
+    /**
+     * 指定IDより後ろのPersonをID順に取得（キーセットページング）
+     * WHERE id > lastId ORDER BY id LIMIT limit で主キーインデックスをシークするため、
+     * 深いページでも先頭ページと同じコストで取得できる
+     *
+     * @param lastId 前ページの最後のID（先頭ページの場合はnull）
+     * @param limit  取得する最大件数
+     * @return Personのリスト
+     */
+    List<Person> selectPageAfter(@Param("lastId") Long lastId, @Param("limit") int limit);
+
     /**
      * メールアドレスでPersonを検索
      *
@@ -49,10 +88,52 @@ public interface PersonMapper {
      */
     void update(Person person);
 
+    /**
+     * Personの変更された列（{@link Person#getChangedProperties()}）だけを更新
+     *
+     * @param person 更新するPerson（変更された列が1つ以上あること）
+     * @return 更新件数
+     */
+    int updateChanged(Person person);
+
     /**
      * IDでPersonを削除
      *
      * @param id 削除するPerson ID
      */
     void deleteById(Long id);
+
+    // 参照専用の不変record（setterのリフレクション呼び出しなしでコンストラクタから生成）
+
+    /**
+     * IDでPersonRecordを取得
+     *
+     * @param id 検索するPerson ID
+     * @return 該当するPersonRecord、存在しない場合はnull
+     */
+    PersonRecord selectRecordById(Long id);
+
+    /**
+     * 複数のIDでPersonRecordをまとめて取得
+     *
+     * @param ids 検索するPerson IDのコレクション（空でない重複排除済み）
+     * @return 該当するPersonRecordのリスト（ID順）
+     */
+    List<PersonRecord> selectRecordsByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * すべてのPersonRecordを取得
+     *
+     * @return PersonRecordのリスト
+     */
+    List<PersonRecord> selectAllRecords();
+
+    /**
+     * 指定IDより後ろのPersonRecordをID順に取得（キーセットページング）
+     *
+     * @param lastId 前ページの最後のID（先頭ページの場合はnull）
+     * @param limit  取得する最大件数
+     * @return PersonRecordのリスト
+     */
+    List<PersonRecord> selectRecordPageAfter(@Param("lastId") Long lastId, @Param("limit") int limit);
 }
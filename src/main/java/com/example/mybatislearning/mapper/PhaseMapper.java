@@ -1,8 +1,12 @@
 package com.example.mybatislearning.mapper;
 
 import com.example.mybatislearning.entity.Phase;
+import com.example.mybatislearning.readmodel.PhaseRecord;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -31,6 +35,24 @@ public interface PhaseMapper {
      */
     List<Phase> selectAll();
 
+    /**
+     * 指定IDより後ろのPhaseをID順に取得（キーセットページング）
+     * WHERE id > lastId ORDER BY id LIMIT limit で主キーインデックスをシークするため、
+     * 深いページでも先頭ページと同じコストで取得できる
+     * @param lastId 前ページの最後のID（先頭ページの場合はnull）
+     * @param limit 取得する最大件数
+     * @return Phaseのリスト
+     */
+    List<Phase> selectPageAfter(@Param("lastId") Long lastId, @Param("limit") int limit);
+
+    /**
+     * すべてのPhaseをID順にCursorで取得
+     * 1行ずつフェッチするため、件数に関わらずメモリ使用量が一定になる
+     * Cursorはトランザクション（SqlSession）が開いている間のみ読み取り可能
+     * @return PhaseのCursor（使用後はcloseすること）
+     */
+    Cursor<Phase> selectAllAsCursor();
+
     /**
      * プロジェクトIDでPhaseを検索
      * @param projectId プロジェクトID
@@ -38,15 +60,72 @@ public interface PhaseMapper {
      */
     List<Phase> findByProjectId(Long projectId);
 
+    /**
+     * 複数のプロジェクトIDでPhaseをまとめて検索（IN句による一括取得）
+     * @param projectIds プロジェクトIDのコレクション（空でないこと）
+     * @return 該当するPhaseのリスト（プロジェクトID、ID順）
+     */
+    List<Phase> findByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+
     /**
      * Phaseを更新
      * @param phase 更新するPhaseエンティティ
+     * @return 更新件数（versionが一致しない場合は0）
+     */
+    int update(Phase phase);
+
+    /**
+     * Phaseの変更された列（{@link Phase#getChangedProperties()}）だけを更新
+     *
+     * @param phase 更新するPhase（変更された列が1つ以上あること）
+     * @return 更新件数（versionが一致しない場合は0）
      */
-    void update(Phase phase);
+    int updateChanged(Phase phase);
 
     /**
      * IDでPhaseを削除
      * @param id 削除するPhaseのID
      */
     void deleteById(Long id);
+
+    // 参照専用の不変record（setterのリフレクション呼び出しなしでコンストラクタから生成）
+
+    /**
+     * IDでPhaseRecordを取得
+     *
+     * @param id 検索するPhase ID
+     * @return 該当するPhaseRecord、存在しない場合はnull
+     */
+    PhaseRecord selectRecordById(Long id);
+
+    /**
+     * すべてのPhaseRecordを取得
+     *
+     * @return PhaseRecordのリスト
+     */
+    List<PhaseRecord> selectAllRecords();
+
+    /**
+     * すべてのPhaseRecordをID順にCursorで取得
+     *
+     * @return PhaseRecordのCursor（使用後はcloseすること）
+     */
+    Cursor<PhaseRecord> selectAllRecordsAsCursor();
+
+    /**
+     * プロジェクトIDでPhaseRecordを取得
+     *
+     * @param projectId プロジェクトID
+     * @return 該当するPhaseRecordのリスト
+     */
+    List<PhaseRecord> findRecordsByProjectId(Long projectId);
+
+    /**
+     * 指定IDより後ろのPhaseRecordをID順に取得（キーセットページング）
+     *
+     * @param lastId 前ページの最後のID（先頭ページの場合はnull）
+     * @param limit  取得する最大件数
+     * @return PhaseRecordのリスト
+     */
+    List<PhaseRecord> selectRecordPageAfter(@Param("lastId") Long lastId, @Param("limit") int limit);
 }
@@ -1,10 +1,16 @@
 package com.example.mybatislearning.mapper;
 
+import com.example.mybatislearning.dto.ProjectSearchCriteria;
+import com.example.mybatislearning.dto.ProjectSummary;
 import com.example.mybatislearning.entity.Project;
 import com.example.mybatislearning.enums.ProjectStatus;
 import com.example.mybatislearning.enums.ProjectType;
+import com.example.mybatislearning.readmodel.ProjectRecord;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
 
+import java.util.Collection;
 import java.util.List;
 
 /**
@@ -29,6 +35,15 @@ public interface ProjectMapper {
      */
     Project selectById(Long id);
 
+    /**
+     * 複数のIDでProjectをまとめて取得（IN句による一括取得）
+     * 呼び出し側は空でない重複排除済みのIDを渡すこと
+     *
+     * @param ids 検索するProject IDのコレクション
+     * @return 該当するProjectのリスト（ID順）
+     */
+    List<Project> selectByIds(@Param("ids") Collection<Long> ids);
+
     /**
      * すべてのProjectを取得
      *
@@ -36,6 +51,26 @@ public interface ProjectMapper {
      */
     List<Project> selectAll();
 
+    /**
+     * 指定IDより後ろのProjectをID順に取得（キーセットページング）
+     * WHERE id > lastId ORDER BY id LIMIT limit で主キーインデックスをシークするため、
+     * 深いページでも先頭ページと同じコストで取得できる
+     *
+     * @param lastId 前ページの最後のID（先頭ページの場合はnull）
+     * @param limit  取得する最大件数
+     * @return Projectのリスト
+     */
+    List<Project> selectPageAfter(@Param("lastId") Long lastId, @Param("limit") int limit);
+
+    /**
+     * すべてのProjectをID順にCursorで取得
+     * 1行ずつフェッチするため、件数に関わらずメモリ使用量が一定になる
+     * Cursorはトランザクション（SqlSession）が開いている間のみ読み取り可能
+     *
+     * @return ProjectのCursor（使用後はcloseすること）
+     */
+    Cursor<Project> selectAllAsCursor();
+
     /**
      * 組織IDでProjectを検索
      *
@@ -56,8 +91,17 @@ public interface ProjectMapper {
      * Projectを更新
      *
      * @param project 更新するProject
+     * @return 更新件数（versionが一致しない場合は0）
+     */
+    int update(Project project);
+
+    /**
+     * Projectの変更された列（{@link Project#getChangedProperties()}）だけを更新
+     *
+     * @param project 更新するProject（変更された列が1つ以上あること）
+     * @return 更新件数（versionが一致しない場合は0）
      */
-    void update(Project project);
+    int updateChanged(Project project);
 
     /**
      * IDでProjectを削除
@@ -108,6 +152,16 @@ public interface ProjectMapper {
      */
     List<Project> findByTechnicalLeadId(Long technicalLeadId);
 
+    /**
+     * 複合条件でProjectを検索
+     * 指定された条件のみでWHERE句を動的に組み立て、ソートと件数制限もSQL側で行う
+     * 単一条件の検索（findByStatus等）を組み合わせてJava側で絞り込む必要はない
+     *
+     * @param criteria 検索条件（nullの項目は条件に含めない）
+     * @return 該当するProjectのリスト
+     */
+    List<Project> searchProjects(ProjectSearchCriteria criteria);
+
     /**
      * Projectと全てのリレーションシップを取得
      *
@@ -115,4 +169,128 @@ public interface ProjectMapper {
      * @return Projectとそれに関連する全てのエンティティ、存在しない場合はnull
      */
     Project selectProjectWithAllRelations(Long id);
+
+    // 一覧画面向けの射影（id, project_name, status, planned_start_date, planned_end_dateの5列のみ取得）
+
+    /**
+     * 複数のIDでProjectSummaryをまとめて取得（{@link #selectByIds}の射影版）
+     *
+     * @param ids 検索するProject IDのコレクション（空でない重複排除済み）
+     * @return 該当するProjectSummaryのリスト（ID順）
+     */
+    List<ProjectSummary> selectByIdsSummary(@Param("ids") Collection<Long> ids);
+
+    /**
+     * すべてのProjectSummaryを取得（{@link #selectAll}の射影版）
+     *
+     * @return ProjectSummaryのリスト
+     */
+    List<ProjectSummary> selectAllSummary();
+
+    /**
+     * 指定IDより後ろのProjectSummaryをID順に取得（{@link #selectPageAfter}の射影版）
+     *
+     * @param lastId 前ページの最後のID（先頭ページの場合はnull）
+     * @param limit  取得する最大件数
+     * @return ProjectSummaryのリスト
+     */
+    List<ProjectSummary> selectPageAfterSummary(@Param("lastId") Long lastId, @Param("limit") int limit);
+
+    /**
+     * 組織IDでProjectSummaryを検索（{@link #selectByOrganizationId}の射影版）
+     *
+     * @param organizationId 検索する組織ID
+     * @return 該当するProjectSummaryのリスト
+     */
+    List<ProjectSummary> selectByOrganizationIdSummary(Long organizationId);
+
+    /**
+     * ステータスでProjectSummaryを検索（{@link #findByStatus}の射影版）
+     *
+     * @param status 検索するステータス
+     * @return 該当するProjectSummaryのリスト
+     */
+    List<ProjectSummary> selectByStatusSummary(ProjectStatus status);
+
+    /**
+     * 業界IDでProjectSummaryを検索（{@link #findByIndustryId}の射影版）
+     *
+     * @param industryId 検索する業界ID
+     * @return 該当するProjectSummaryのリスト
+     */
+    List<ProjectSummary> selectByIndustryIdSummary(Long industryId);
+
+    /**
+     * プロジェクト種別でProjectSummaryを検索（{@link #findByProjectType}の射影版）
+     *
+     * @param projectType 検索するプロジェクト種別
+     * @return 該当するProjectSummaryのリスト
+     */
+    List<ProjectSummary> selectByProjectTypeSummary(ProjectType projectType);
+
+    /**
+     * プロジェクトマネージャーIDでProjectSummaryを検索（{@link #findByProjectManagerId}の射影版）
+     *
+     * @param projectManagerId 検索するプロジェクトマネージャーID
+     * @return 該当するProjectSummaryのリスト
+     */
+    List<ProjectSummary> selectByProjectManagerIdSummary(Long projectManagerId);
+
+    /**
+     * 技術リードIDでProjectSummaryを検索（{@link #findByTechnicalLeadId}の射影版）
+     *
+     * @param technicalLeadId 検索する技術リードID
+     * @return 該当するProjectSummaryのリスト
+     */
+    List<ProjectSummary> selectByTechnicalLeadIdSummary(Long technicalLeadId);
+
+    /**
+     * 複合条件でProjectSummaryを検索（{@link #searchProjects}の射影版、条件・ソート・件数制限は共通）
+     *
+     * @param criteria 検索条件（nullの項目は条件に含めない）
+     * @return 該当するProjectSummaryのリスト
+     */
+    List<ProjectSummary> searchProjectsSummary(ProjectSearchCriteria criteria);
+
+    // 参照専用の不変record（setterのリフレクション呼び出しなしでコンストラクタから生成）
+
+    /**
+     * IDでProjectRecordを取得
+     *
+     * @param id 検索するProject ID
+     * @return 該当するProjectRecord、存在しない場合はnull
+     */
+    ProjectRecord selectRecordById(Long id);
+
+    /**
+     * 複数のIDでProjectRecordをまとめて取得
+     *
+     * @param ids 検索するProject IDのコレクション（空でない重複排除済み）
+     * @return 該当するProjectRecordのリスト（ID順）
+     */
+    List<ProjectRecord> selectRecordsByIds(@Param("ids") Collection<Long> ids);
+
+    /**
+     * すべてのProjectRecordを取得
+     *
+     * @return ProjectRecordのリスト
+     */
+    List<ProjectRecord> selectAllRecords();
+
+    /**
+     * 指定IDより後ろのProjectRecordをID順に取得（キーセットページング）
+     *
+     * @param lastId 前ページの最後のID（先頭ページの場合はnull）
+     * @param limit  取得する最大件数
+     * @return ProjectRecordのリスト
+     */
+    List<ProjectRecord> selectRecordPageAfter(@Param("lastId") Long lastId, @Param("limit") int limit);
+
+    /**
+     * 組織IDでProjectRecordを取得
+     *
+     * @param organizationId 検索する組織ID
+     * @return 該当する組織に属するProjectRecordのリスト
+     */
+    List<ProjectRecord> selectRecordsByOrganizationId(Long organizationId);
 }
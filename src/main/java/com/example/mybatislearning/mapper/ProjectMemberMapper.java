@@ -0,0 +1,66 @@
+package com.example.mybatislearning.mapper;
+
+import com.example.mybatislearning.entity.ProjectMember;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+import org.apache.ibatis.cursor.Cursor;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * ProjectMemberMapper
+ * ProjectMember（メンバー参画履歴）の操作を行うMapperインターフェース
+ */
+@Mapper
+public interface ProjectMemberMapper {
+
+    /**
+     * ProjectMemberを新規登録
+     * @param projectMember 登録するProjectMemberエンティティ
+     */
+    void insert(ProjectMember projectMember);
+
+    /**
+     * IDでProjectMemberを取得（Personを含む）
+     * @param id ProjectMember ID
+     * @return 該当するProjectMember、存在しない場合はnull
+     */
+    ProjectMember selectById(Long id);
+
+    /**
+     * 複数のプロジェクトIDでProjectMemberをまとめて検索（IN句による一括取得）
+     * 参画者（Person）はJOINで同時に取得する（1対1のため行数は増えない）
+     * @param projectIds プロジェクトIDのコレクション（空でないこと）
+     * @return 該当するProjectMemberのリスト（プロジェクトID、ID順）
+     */
+    List<ProjectMember> findByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+
+    /**
+     * 複数のPerson IDでProjectMemberをまとめて検索（IN句による一括取得）
+     * idx_project_members_person_joinを使用する
+     * @param personIds Person IDのコレクション（空でないこと）
+     * @return 該当するProjectMemberのリスト（Person ID、参画日、ID順）
+     */
+    List<ProjectMember> findByPersonIds(@Param("personIds") Collection<Long> personIds);
+
+    /**
+     * 全ProjectMemberをPerson ID・参画日順にストリーミングで取得（稼働タイムラインの構築用）
+     * 同じPersonの行が連続して返るため、1人分ずつ処理できる
+     * Cursorはトランザクション（SqlSession）が開いている間のみ読み取り可能
+     * @return ProjectMemberのCursor（Personは含まない。使用後はcloseすること）
+     */
+    Cursor<ProjectMember> selectAllOrderByPersonAsCursor();
+
+    /**
+     * ProjectMemberを更新
+     * @param projectMember 更新するProjectMemberエンティティ
+     */
+    void update(ProjectMember projectMember);
+
+    /**
+     * IDでProjectMemberを削除
+     * @param id 削除するProjectMember ID
+     */
+    void deleteById(Long id);
+}
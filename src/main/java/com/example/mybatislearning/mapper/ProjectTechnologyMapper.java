@@ -0,0 +1,62 @@
+package com.example.mybatislearning.mapper;
+
+import com.example.mybatislearning.dto.IndustryTechnologyUsage;
+import com.example.mybatislearning.dto.TechnologyUsage;
+import com.example.mybatislearning.entity.ProjectTechnology;
+import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
+
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * ProjectTechnologyMapper
+ * ProjectTechnology（プロジェクト技術スタック）の操作を行うMapperインターフェース
+ */
+@Mapper
+public interface ProjectTechnologyMapper {
+
+    /**
+     * ProjectTechnologyを新規登録
+     * @param projectTechnology 登録するProjectTechnologyエンティティ
+     */
+    void insert(ProjectTechnology projectTechnology);
+
+    /**
+     * 複数のプロジェクトIDでProjectTechnologyをまとめて検索（IN句による一括取得）
+     * 技術（Technology）はJOINで同時に取得する（1対1のため行数は増えない）
+     * @param projectIds プロジェクトIDのコレクション（空でないこと）
+     * @return 該当するProjectTechnologyのリスト（プロジェクトID、ID順）
+     */
+    List<ProjectTechnology> findByProjectIds(@Param("projectIds") Collection<Long> projectIds);
+
+    /**
+     * IDでProjectTechnologyを削除
+     * @param id 削除するProjectTechnology ID
+     */
+    void deleteById(Long id);
+
+    /**
+     * 技術ごとの採用プロジェクト数を集計（1回のGROUP BY）
+     * 採用実績のない技術は0件として含める
+     * @return 技術ごとの集計結果（採用数の降順、同数は技術ID順）
+     */
+    List<TechnologyUsage> countProjectsByTechnology();
+
+    /**
+     * 技術カテゴリごとの採用プロジェクト数を集計（1回のGROUP BY）
+     * 同じカテゴリの技術を複数採用したプロジェクトは1件として数える
+     * @return カテゴリごとの集計結果（採用実績のあるカテゴリのみ、採用数の降順）
+     */
+    List<TechnologyUsage> countProjectsByCategory();
+
+    /**
+     * 業界ごとに採用プロジェクト数の多い技術の上位N件を集計
+     * GROUP BYとウィンドウ関数（ROW_NUMBER）による1回のクエリで全業界分を取得する
+     * @param industryId 対象業界ID（nullの場合は全業界）
+     * @param limit      業界あたりの件数
+     * @return 業界ID・順位順の集計結果
+     */
+    List<IndustryTechnologyUsage> findTopTechnologiesByIndustry(@Param("industryId") Long industryId,
+                                                                @Param("limit") int limit);
+}
@@ -3,6 +3,7 @@ package com.example.mybatislearning.mapper;
 import com.example.mybatislearning.entity.Technology;
 import com.example.mybatislearning.enums.TechnologyCategory;
 import org.apache.ibatis.annotations.Mapper;
+import org.apache.ibatis.annotations.Param;
 
 import java.util.List;
 
@@ -35,6 +36,17 @@ public interface TechnologyMapper {
      */
     List<Technology> selectAll();
 
+    /**
+     * 指定IDより後ろのTechnologyをID順に取得（キーセットページング）
+     * WHERE id > lastId ORDER BY id LIMIT limit で主キーインデックスをシークするため、
+     * 深いページでも先頭ページと同じコストで取得できる
+     *
+     * @param lastId 前ページの最後のID（先頭ページの場合はnull）
+     * @param limit  取得する最大件数
+     * @return Technologyのリスト
+     */
+    List<Technology> selectPageAfter(@Param("lastId") Long lastId, @Param("limit") int limit);
+
     /**
      * カテゴリでTechnologyを検索
      *
@@ -0,0 +1,179 @@
+package com.example.mybatislearning.metrics;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.BatchExecutor;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.mapping.ParameterMapping;
+import org.apache.ibatis.mapping.SqlCommandType;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.reflection.ExceptionUtil;
+import org.apache.ibatis.reflection.MetaObject;
+import org.apache.ibatis.scripting.defaults.DefaultParameterHandler;
+import org.apache.ibatis.session.Configuration;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * SlowQueryInterceptor
+ * 閾値を超えたステートメントだけをSQL・バインドパラメータ・件数付きでWARN出力するInterceptor
+ *
+ * <p>app.slow-query.enabled=trueの場合のみ登録される。閾値未満のステートメントは時間計測のみで、
+ * SQL文字列やパラメータの組み立ては行わない。例外で終了したステートメント（クエリタイムアウトなど）も
+ * 閾値を超えた場合は例外付きで出力する。</p>
+ *
+ * <p>app.slow-query.explain=trueの場合、SELECTに限り同じ接続・同じパラメータでEXPLAIN ANALYZEを実行し、
+ * 実行計画（インデックス使用有無・走査行数）も出力する。EXPLAIN ANALYZEはクエリを再実行するため、
+ * 更新系ステートメントと例外で終了したステートメントには適用しない。</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.slow-query", name = "enabled", havingValue = "true")
+@Intercepts({
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class,
+                        CacheKey.class, BoundSql.class})
+})
+public class SlowQueryInterceptor implements Interceptor {
+
+    private static final Logger logger = LoggerFactory.getLogger(SlowQueryInterceptor.class);
+
+    private final SlowQueryProperties properties;
+
+    /**
+     * コンストラクタインジェクション
+     *
+     * @param properties スロークエリログの設定
+     */
+    @Autowired
+    public SlowQueryInterceptor(SlowQueryProperties properties) {
+        this.properties = properties;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        long start = System.nanoTime();
+        Object result = null;
+        Throwable failure = null;
+        try {
+            result = invocation.proceed();
+            return result;
+        } catch (Throwable e) {
+            failure = e;
+            throw e;
+        } finally {
+            long elapsedMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+            MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+            if (elapsedMs >= properties.thresholdFor(mappedStatement.getId())) {
+                try {
+                    logSlowQuery(invocation, mappedStatement, elapsedMs, result, failure);
+                } catch (RuntimeException e) {
+                    // ログ出力の失敗でステートメントの結果（例外）を置き換えない
+                    logger.warn("Failed to log slow query {}: {}", mappedStatement.getId(), e.toString());
+                }
+            }
+        }
+    }
+
+    private void logSlowQuery(Invocation invocation, MappedStatement mappedStatement, long elapsedMs,
+                              Object result, Throwable failure) {
+        Object[] args = invocation.getArgs();
+        Object parameterObject = args[1];
+        BoundSql boundSql = args.length == 6 ? (BoundSql) args[5] : mappedStatement.getBoundSql(parameterObject);
+        String sql = boundSql.getSql().replaceAll("\\s+", " ").trim();
+        List<Object> parameters = boundParameters(mappedStatement.getConfiguration(), boundSql, parameterObject);
+        if (failure != null) {
+            // proceed()はInvocationTargetExceptionでラップしてスローするため、元の例外（SQLException等）を出力する
+            logger.warn("Slow query: {} failed after {} ms, sql=[{}], params={}, error={}",
+                    mappedStatement.getId(), elapsedMs, sql, parameters,
+                    ExceptionUtil.unwrapThrowable(failure).toString());
+            return;
+        }
+        logger.warn("Slow query: {} took {} ms, rows={}, sql=[{}], params={}",
+                mappedStatement.getId(), elapsedMs, describeRows(result), sql, parameters);
+
+        if (properties.isExplain() && mappedStatement.getSqlCommandType() == SqlCommandType.SELECT) {
+            Executor executor = (Executor) invocation.getTarget();
+            try {
+                logger.warn("Explain for {}:\n{}", mappedStatement.getId(),
+                        explainAnalyze(executor.getTransaction().getConnection(), mappedStatement, boundSql,
+                                parameterObject));
+            } catch (SQLException e) {
+                logger.warn("EXPLAIN ANALYZE failed for {}: {}", mappedStatement.getId(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 同じ接続・パラメータでEXPLAIN ANALYZEを実行し、実行計画を返す
+     */
+    String explainAnalyze(Connection connection, MappedStatement mappedStatement, BoundSql boundSql,
+                          Object parameterObject) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("EXPLAIN ANALYZE " + boundSql.getSql())) {
+            new DefaultParameterHandler(mappedStatement, parameterObject, boundSql).setParameters(statement);
+            StringBuilder plan = new StringBuilder();
+            try (ResultSet resultSet = statement.executeQuery()) {
+                while (resultSet.next()) {
+                    plan.append(resultSet.getString(1));
+                }
+            }
+            return plan.toString();
+        }
+    }
+
+    /**
+     * BoundSqlのパラメータマッピングから実際にバインドされた値を取り出す
+     * DefaultParameterHandler#setParametersと同じ規則で値を解決する
+     */
+    static List<Object> boundParameters(Configuration configuration, BoundSql boundSql, Object parameterObject) {
+        List<Object> values = new ArrayList<>();
+        MetaObject metaObject = null;
+        for (ParameterMapping parameterMapping : boundSql.getParameterMappings()) {
+            String property = parameterMapping.getProperty();
+            if (boundSql.hasAdditionalParameter(property)) {
+                values.add(boundSql.getAdditionalParameter(property));
+            } else if (parameterObject == null) {
+                values.add(null);
+            } else if (configuration.getTypeHandlerRegistry().hasTypeHandler(parameterObject.getClass())) {
+                values.add(parameterObject);
+            } else {
+                if (metaObject == null) {
+                    metaObject = configuration.newMetaObject(parameterObject);
+                }
+                values.add(metaObject.getValue(property));
+            }
+        }
+        return values;
+    }
+
+    private static String describeRows(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return String.valueOf(collection.size());
+        }
+        if (result instanceof Integer count && count != BatchExecutor.BATCH_UPDATE_RETURN_VALUE) {
+            return String.valueOf(count);
+        }
+        return "n/a";
+    }
+}
@@ -0,0 +1,70 @@
+package com.example.mybatislearning.metrics;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * SlowQueryProperties
+ * スロークエリログの設定（app.slow-query.*）
+ */
+@Component
+@ConfigurationProperties(prefix = "app.slow-query")
+public class SlowQueryProperties {
+
+    /** スロークエリログを有効にするか（既定は無効） */
+    private boolean enabled = false;
+
+    /** 既定の閾値（ミリ秒）。この時間以上かかったステートメントを記録する */
+    private long thresholdMs = 200;
+
+    /** ステートメントIDごとの閾値（ミリ秒）。既定の閾値より優先される */
+    private Map<String, Long> thresholds = new HashMap<>();
+
+    /** SELECTの記録時にEXPLAIN ANALYZEの結果も出力するか */
+    private boolean explain = false;
+
+    /**
+     * ステートメントに適用する閾値を取得
+     *
+     * @param statementId マップドステートメントID
+     * @return 閾値（ミリ秒）
+     */
+    public long thresholdFor(String statementId) {
+        return thresholds.getOrDefault(statementId, thresholdMs);
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getThresholdMs() {
+        return thresholdMs;
+    }
+
+    public void setThresholdMs(long thresholdMs) {
+        this.thresholdMs = thresholdMs;
+    }
+
+    public Map<String, Long> getThresholds() {
+        return thresholds;
+    }
+
+    public void setThresholds(Map<String, Long> thresholds) {
+        this.thresholds = thresholds;
+    }
+
+    public boolean isExplain() {
+        return explain;
+    }
+
+    public void setExplain(boolean explain) {
+        this.explain = explain;
+    }
+}
@@ -0,0 +1,62 @@
+package com.example.mybatislearning.metrics;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.boot.actuate.endpoint.annotation.Selector;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * StatementMetricsEndpoint
+ * マッパーメソッドごとのp50/p99・件数・エラー数を一覧で返すActuatorエンドポイント（/actuator/sqlstats）
+ *
+ * <p>個々のメーターは/actuator/metrics/mybatis.statement?tag=statement:...でも参照できるが、
+ * 全ステートメントを横断して比較できるようにまとめて返す。</p>
+ */
+@Component
+@Endpoint(id = "sqlstats")
+public class StatementMetricsEndpoint {
+
+    private final StatementMetricsInterceptor interceptor;
+
+    /**
+     * コンストラクタインジェクション
+     *
+     * @param interceptor メトリクスを収集しているInterceptor
+     */
+    @Autowired
+    public StatementMetricsEndpoint(StatementMetricsInterceptor interceptor) {
+        this.interceptor = interceptor;
+    }
+
+    /**
+     * 全ステートメントの統計情報を取得
+     *
+     * @return ステートメントIDをキーとした統計情報（ID順）
+     */
+    @ReadOperation
+    public Map<String, StatementStatistics> statements() {
+        Map<String, StatementStatistics> result = new TreeMap<>();
+        for (String statementId : interceptor.getStatementIds()) {
+            StatementStatistics statistics = interceptor.getStatistics(statementId);
+            if (statistics != null) {
+                result.put(statementId, statistics);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * 指定ステートメントの統計情報を取得
+     *
+     * @param statementId マップドステートメントID
+     * @return 統計情報（未実行の場合はnull）
+     */
+    @ReadOperation
+    public StatementStatistics statement(@Selector String statementId) {
+        return interceptor.getStatistics(statementId);
+    }
+}
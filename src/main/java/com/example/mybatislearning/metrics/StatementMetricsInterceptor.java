@@ -0,0 +1,157 @@
+package com.example.mybatislearning.metrics;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.BatchExecutor;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.lang.reflect.InvocationTargetException;
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StatementMetricsInterceptor
+ * Executor.query/updateをフックし、マップドステートメントID単位でSQLメトリクスを記録するInterceptor
+ *
+ * <p>記録するメーター（いずれもタグstatement=ステートメントID）:</p>
+ * <ul>
+ * <li>mybatis.statement: 実行時間のTimer（p50/p95/p99とヒストグラムを公開）</li>
+ * <li>mybatis.statement.rows: 取得件数・更新件数のDistributionSummary</li>
+ * <li>mybatis.statement.errors: 例外発生回数のCounter（タグexception=例外クラス名）</li>
+ * </ul>
+ *
+ * <p>Interceptor型のBeanはMyBatisの自動設定によりSqlSessionFactoryへ登録される。
+ * 2次キャッシュヒットもマッパーメソッドの呼び出しとして計測される。
+ * queryCursorは件数が呼び出し元の走査に依存するため対象外とする。</p>
+ */
+@Component
+@Intercepts({
+        @Signature(type = Executor.class, method = "update",
+                args = {MappedStatement.class, Object.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class,
+                        CacheKey.class, BoundSql.class})
+})
+public class StatementMetricsInterceptor implements Interceptor {
+
+    public static final String TIMER_NAME = "mybatis.statement";
+    public static final String ROWS_NAME = "mybatis.statement.rows";
+    public static final String ERRORS_NAME = "mybatis.statement.errors";
+    public static final String STATEMENT_TAG = "statement";
+
+    private final MeterRegistry meterRegistry;
+
+    /** ステートメントIDごとのメーター（毎回のレジストリ検索を避けるためキャッシュ） */
+    private final Map<String, StatementMeters> meters = new ConcurrentHashMap<>();
+
+    /**
+     * コンストラクタインジェクション
+     *
+     * @param meterRegistry メーターの登録先
+     */
+    @Autowired
+    public StatementMetricsInterceptor(MeterRegistry meterRegistry) {
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+        StatementMeters statementMeters = meters.computeIfAbsent(mappedStatement.getId(), this::register);
+        long start = System.nanoTime();
+        try {
+            Object result = invocation.proceed();
+            statementMeters.timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            long rows = countRows(result);
+            if (rows >= 0) {
+                statementMeters.rows.record(rows);
+            }
+            return result;
+        } catch (Throwable e) {
+            statementMeters.timer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+            Throwable cause = e instanceof InvocationTargetException && e.getCause() != null ? e.getCause() : e;
+            Counter.builder(ERRORS_NAME)
+                    .description("MyBatisマップドステートメントの例外発生回数")
+                    .tag(STATEMENT_TAG, mappedStatement.getId())
+                    .tag("exception", cause.getClass().getSimpleName())
+                    .register(meterRegistry)
+                    .increment();
+            throw e;
+        }
+    }
+
+    /**
+     * 指定ステートメントの統計情報を取得
+     *
+     * @param statementId マップドステートメントID
+     * @return 統計情報（未実行の場合はnull）
+     */
+    public StatementStatistics getStatistics(String statementId) {
+        StatementMeters statementMeters = meters.get(statementId);
+        if (statementMeters == null) {
+            return null;
+        }
+        double errors = meterRegistry.find(ERRORS_NAME).tag(STATEMENT_TAG, statementId).counters().stream()
+                .mapToDouble(Counter::count)
+                .sum();
+        return StatementStatistics.of(statementId, statementMeters.timer, statementMeters.rows, (long) errors);
+    }
+
+    /**
+     * 実行済みのステートメントIDを取得
+     *
+     * @return ステートメントIDの一覧
+     */
+    public Collection<String> getStatementIds() {
+        return meters.keySet();
+    }
+
+    private StatementMeters register(String statementId) {
+        Timer timer = Timer.builder(TIMER_NAME)
+                .description("MyBatisマップドステートメントの実行時間")
+                .tag(STATEMENT_TAG, statementId)
+                .publishPercentiles(0.5, 0.95, 0.99)
+                .publishPercentileHistogram()
+                .register(meterRegistry);
+        DistributionSummary rows = DistributionSummary.builder(ROWS_NAME)
+                .description("MyBatisマップドステートメントの取得・更新件数")
+                .baseUnit("rows")
+                .tag(STATEMENT_TAG, statementId)
+                .register(meterRegistry);
+        return new StatementMeters(timer, rows);
+    }
+
+    /**
+     * 結果から件数を求める
+     * BATCH実行のupdateは実行時まで件数が確定しないため記録しない（-1）
+     */
+    private static long countRows(Object result) {
+        if (result instanceof Collection<?> collection) {
+            return collection.size();
+        }
+        if (result instanceof Integer count) {
+            return count == BatchExecutor.BATCH_UPDATE_RETURN_VALUE ? -1 : count;
+        }
+        return -1;
+    }
+
+    private record StatementMeters(Timer timer, DistributionSummary rows) {
+    }
+}
@@ -0,0 +1,119 @@
+package com.example.mybatislearning.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.Timer;
+import io.micrometer.core.instrument.distribution.HistogramSnapshot;
+import io.micrometer.core.instrument.distribution.ValueAtPercentile;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * StatementStatistics
+ * マップドステートメント1件分の実行統計のスナップショット
+ */
+public class StatementStatistics {
+
+    private final String statementId;
+    private final long count;
+    private final double meanMillis;
+    private final double maxMillis;
+    private final double p50Millis;
+    private final double p99Millis;
+    private final double totalRows;
+    private final long errors;
+
+    /**
+     * フィールド初期化コンストラクタ
+     *
+     * @param statementId マップドステートメントID
+     * @param count       実行回数
+     * @param meanMillis  平均実行時間（ミリ秒）
+     * @param maxMillis   最大実行時間（ミリ秒）
+     * @param p50Millis   50パーセンタイル（ミリ秒）
+     * @param p99Millis   99パーセンタイル（ミリ秒）
+     * @param totalRows   取得・更新件数の合計
+     * @param errors      例外発生回数
+     */
+    public StatementStatistics(String statementId, long count, double meanMillis, double maxMillis,
+                               double p50Millis, double p99Millis, double totalRows, long errors) {
+        this.statementId = statementId;
+        this.count = count;
+        this.meanMillis = meanMillis;
+        this.maxMillis = maxMillis;
+        this.p50Millis = p50Millis;
+        this.p99Millis = p99Millis;
+        this.totalRows = totalRows;
+        this.errors = errors;
+    }
+
+    /**
+     * メーターから統計情報を作成
+     *
+     * @param statementId マップドステートメントID
+     * @param timer       実行時間のTimer
+     * @param rows        件数のDistributionSummary
+     * @param errors      例外発生回数
+     * @return 統計情報
+     */
+    static StatementStatistics of(String statementId, Timer timer, DistributionSummary rows, long errors) {
+        HistogramSnapshot snapshot = timer.takeSnapshot();
+        double p50 = 0;
+        double p99 = 0;
+        for (ValueAtPercentile value : snapshot.percentileValues()) {
+            if (value.percentile() == 0.5) {
+                p50 = value.value(TimeUnit.MILLISECONDS);
+            } else if (value.percentile() == 0.99) {
+                p99 = value.value(TimeUnit.MILLISECONDS);
+            }
+        }
+        return new StatementStatistics(statementId, snapshot.count(),
+                snapshot.mean(TimeUnit.MILLISECONDS), snapshot.max(TimeUnit.MILLISECONDS),
+                p50, p99, rows.totalAmount(), errors);
+    }
+
+    public String getStatementId() {
+        return statementId;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public double getMeanMillis() {
+        return meanMillis;
+    }
+
+    public double getMaxMillis() {
+        return maxMillis;
+    }
+
+    public double getP50Millis() {
+        return p50Millis;
+    }
+
+    public double getP99Millis() {
+        return p99Millis;
+    }
+
+    public double getTotalRows() {
+        return totalRows;
+    }
+
+    public long getErrors() {
+        return errors;
+    }
+
+    @Override
+    public String toString() {
+        return "StatementStatistics{" +
+                "statementId='" + statementId + '\'' +
+                ", count=" + count +
+                ", meanMillis=" + meanMillis +
+                ", maxMillis=" + maxMillis +
+                ", p50Millis=" + p50Millis +
+                ", p99Millis=" + p99Millis +
+                ", totalRows=" + totalRows +
+                ", errors=" + errors +
+                '}';
+    }
+}
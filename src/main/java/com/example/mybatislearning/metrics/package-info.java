@@ -0,0 +1,19 @@
+/**
+ * メトリクスパッケージを提供します
+ *
+ * <p>
+ * 主なクラス:
+ * </p>
+ * <ul>
+ * <li>StatementMetricsInterceptor</li>
+ * <li>StatementMetricsEndpoint</li>
+ * <li>StatementStatistics</li>
+ * <li>SlowQueryInterceptor</li>
+ * <li>SlowQueryProperties</li>
+ * </ul>
+ *
+ * <p>
+ * このパッケージはMyBatisのSQL実行メトリクスの収集・公開、スロークエリログに関連するクラスを提供します。
+ * </p>
+ */
+package com.example.mybatislearning.metrics;
@@ -0,0 +1,89 @@
+package com.example.mybatislearning.pagination;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * KeysetPage
+ * キーセットページングの1ページ分の結果と次ページの継続トークンを保持する
+ *
+ * @param <T> 要素の型
+ */
+public class KeysetPage<T> {
+
+    /**
+     * 1ページあたりの最大件数
+     */
+    public static final int MAX_LIMIT = 1000;
+
+    private final List<T> items;
+    private final String nextPageToken;
+
+    /**
+     * フィールド初期化コンストラクタ
+     *
+     * @param items         ページの要素
+     * @param nextPageToken 次ページの継続トークン（最終ページの場合はnull）
+     */
+    public KeysetPage(List<T> items, String nextPageToken) {
+        this.items = Collections.unmodifiableList(items);
+        this.nextPageToken = nextPageToken;
+    }
+
+    /**
+     * limit + 1件で取得した結果からページを組み立てる
+     * 余分な1件が存在する場合のみ次ページありと判定する
+     *
+     * @param rows        limit + 1件を上限に取得した行
+     * @param limit       ページサイズ
+     * @param idExtractor 要素からIDを取り出す関数
+     * @param <T>         要素の型
+     * @return ページ
+     */
+    public static <T> KeysetPage<T> of(List<T> rows, int limit, Function<T, Long> idExtractor) {
+        if (rows.size() <= limit) {
+            return new KeysetPage<>(rows, null);
+        }
+        List<T> items = rows.subList(0, limit);
+        Long lastId = idExtractor.apply(items.get(limit - 1));
+        return new KeysetPage<>(items, PageToken.encode(lastId));
+    }
+
+    /**
+     * ページサイズを検証
+     *
+     * @param limit ページサイズ
+     * @throws IllegalArgumentException limitが1未満またはMAX_LIMITを超える場合
+     */
+    public static void validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_LIMIT);
+        }
+    }
+
+    public List<T> getItems() {
+        return items;
+    }
+
+    public String getNextPageToken() {
+        return nextPageToken;
+    }
+
+    /**
+     * 次ページが存在するかを判定
+     *
+     * @return 次ページが存在する場合true
+     */
+    public boolean hasNext() {
+        return nextPageToken != null;
+    }
+
+    @Override
+    public String toString() {
+        return "KeysetPage{" +
+                "items=" + items.size() +
+                ", nextPageToken='" + nextPageToken + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,53 @@
+package com.example.mybatislearning.pagination;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+/**
+ * PageToken
+ * キーセットページングの継続トークンをエンコード・デコードするユーティリティ
+ * クライアントには最終IDを直接見せず、不透明な文字列として受け渡す
+ */
+public final class PageToken {
+
+    // トークン形式のバージョン（形式変更時の互換性判定用）
+    private static final String PREFIX = "k1:";
+
+    private PageToken() {
+    }
+
+    /**
+     * 最終IDから継続トークンを生成
+     *
+     * @param lastId ページの最後の行のID
+     * @return 継続トークン
+     */
+    public static String encode(long lastId) {
+        byte[] raw = (PREFIX + lastId).getBytes(StandardCharsets.UTF_8);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw);
+    }
+
+    /**
+     * 継続トークンから最終IDを復元
+     * nullまたは空文字の場合は先頭ページを表すnullを返す
+     *
+     * @param token 継続トークン
+     * @return 最終ID、先頭ページの場合はnull
+     * @throws IllegalArgumentException トークンの形式が不正な場合
+     */
+    public static Long decode(String token) {
+        if (token == null || token.isEmpty()) {
+            return null;
+        }
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.UTF_8);
+            if (!raw.startsWith(PREFIX)) {
+                throw new IllegalArgumentException("無効なページトークンです: " + token);
+            }
+            return Long.parseLong(raw.substring(PREFIX.length()));
+        } catch (IllegalArgumentException e) {
+            // Base64/数値の解析エラー（NumberFormatExceptionを含む）
+            throw new IllegalArgumentException("無効なページトークンです: " + token, e);
+        }
+    }
+}
@@ -0,0 +1,16 @@
+/**
+ * ページングパッケージを提供します
+ *
+ * <p>
+ * 主なクラス:
+ * </p>
+ * <ul>
+ * <li>KeysetPage</li>
+ * <li>PageToken</li>
+ * </ul>
+ *
+ * <p>
+ * このパッケージはキーセット（シーク）方式のページングに関連するクラスを提供します。
+ * </p>
+ */
+package com.example.mybatislearning.pagination;
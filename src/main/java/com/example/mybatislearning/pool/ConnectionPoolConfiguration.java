@@ -0,0 +1,87 @@
+package com.example.mybatislearning.pool;
+
+import com.zaxxer.hikari.metrics.micrometer.MicrometerMetricsTrackerFactory;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.SmartInitializingSingleton;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * ConnectionPoolConfiguration
+ * コネクションプールのチューニング（app.pool.*）とメトリクス公開の設定
+ *
+ * <p>プールのメトリクスはHikariCPのMicrometer連携により
+ * hikaricp.connections.active / idle / pending / acquire などとして、poolタグ付きで公開される。
+ * Spring Bootの自動設定はBean定義されたプールしか計測しないため、
+ * Bean定義されないプール（レプリカ振り分け用のプールなど）もここで計測対象にする。</p>
+ */
+@Configuration
+public class ConnectionPoolConfiguration {
+
+    /**
+     * app.pool.*をバインドした設定
+     *
+     * @return プールの設定
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "app.pool")
+    public ConnectionPoolProperties connectionPoolProperties() {
+        return new ConnectionPoolProperties();
+    }
+
+    /**
+     * プールへの設定適用とウォームアップを行うTuner
+     *
+     * @param properties プールの設定
+     * @return Tuner
+     */
+    @Bean
+    public ConnectionPoolTuner connectionPoolTuner(ConnectionPoolProperties properties) {
+        return new ConnectionPoolTuner(properties, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Bean定義されたHikariDataSourceに設定を適用するBeanPostProcessor
+     *
+     * @param tuner Tuner（DataSourceの生成時に遅延取得する）
+     * @return BeanPostProcessor
+     */
+    @Bean
+    public static BeanPostProcessor connectionPoolTuningPostProcessor(ObjectProvider<ConnectionPoolTuner> tuner) {
+        return new ConnectionPoolTuningPostProcessor(tuner);
+    }
+
+    /**
+     * 全Beanの生成後（Webサーバーの起動前）に各プールを最小アイドル接続数までウォームアップ
+     *
+     * @param tuner      Tuner
+     * @param properties プールの設定
+     * @return SmartInitializingSingleton
+     */
+    @Bean
+    public SmartInitializingSingleton connectionPoolWarmUp(ConnectionPoolTuner tuner, ConnectionPoolProperties properties) {
+        return () -> {
+            if (properties.isWarmUp()) {
+                tuner.warmUpAll();
+            }
+        };
+    }
+
+    /**
+     * まだ計測されていないプールをMicrometerに登録するMeterBinder
+     *
+     * @param tuner Tuner
+     * @return MeterBinder
+     */
+    @Bean
+    public MeterBinder connectionPoolMetrics(ConnectionPoolTuner tuner) {
+        return registry -> tuner.getPools().forEach(pool -> {
+            if (pool.getMetricRegistry() == null && pool.getMetricsTrackerFactory() == null) {
+                pool.setMetricsTrackerFactory(new MicrometerMetricsTrackerFactory(registry));
+            }
+        });
+    }
+}
@@ -0,0 +1,69 @@
+package com.example.mybatislearning.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.actuate.endpoint.annotation.Endpoint;
+import org.springframework.boot.actuate.endpoint.annotation.ReadOperation;
+import org.springframework.stereotype.Component;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ConnectionPoolEndpoint
+ * プールごとの設定と使用状況（使用中・アイドル・待ちスレッド・接続取得時間）を一覧で返すActuatorエンドポイント（/actuator/pools）
+ *
+ * <p>/actuator/sqlstatsのステートメント実行時間と並べて、マッパーの同時実行数に対してプールが不足していないかを確認する。</p>
+ */
+@Component
+@Endpoint(id = "pools")
+public class ConnectionPoolEndpoint {
+
+    private final ConnectionPoolTuner tuner;
+    private final MeterRegistry meterRegistry;
+
+    /**
+     * コンストラクタインジェクション
+     *
+     * @param tuner         プールを管理しているTuner
+     * @param meterRegistry 接続取得時間を参照するMeterRegistry
+     */
+    @Autowired
+    public ConnectionPoolEndpoint(ConnectionPoolTuner tuner, MeterRegistry meterRegistry) {
+        this.tuner = tuner;
+        this.meterRegistry = meterRegistry;
+    }
+
+    /**
+     * 全プールの設定と使用状況を取得
+     *
+     * @return プール名をキーとしたスナップショット（登録順。未開始のプールは含まない）
+     */
+    @ReadOperation
+    public Map<String, ConnectionPoolStatistics> pools() {
+        Map<String, ConnectionPoolStatistics> result = new LinkedHashMap<>();
+        for (HikariDataSource pool : tuner.getPools()) {
+            HikariPoolMXBean mxBean = pool.getHikariPoolMXBean();
+            if (mxBean == null) {
+                continue;
+            }
+            Timer acquire = meterRegistry.find("hikaricp.connections.acquire").tag("pool", pool.getPoolName()).timer();
+            result.put(pool.getPoolName(), new ConnectionPoolStatistics(
+                    pool.getPoolName(),
+                    pool.getMaximumPoolSize(),
+                    pool.getMinimumIdle(),
+                    mxBean.getActiveConnections(),
+                    mxBean.getIdleConnections(),
+                    mxBean.getTotalConnections(),
+                    mxBean.getThreadsAwaitingConnection(),
+                    acquire != null ? acquire.count() : 0,
+                    acquire != null ? acquire.mean(TimeUnit.MILLISECONDS) : 0,
+                    acquire != null ? acquire.max(TimeUnit.MILLISECONDS) : 0));
+        }
+        return result;
+    }
+}
@@ -0,0 +1,122 @@
+package com.example.mybatislearning.pool;
+
+/**
+ * ConnectionPoolProperties
+ * コネクションプールのチューニング設定（app.pool.*）
+ *
+ * <p>spring.datasource.hikari.*で個別に指定した値より、ここでの設定が優先される。</p>
+ */
+public class ConnectionPoolProperties {
+
+    /** CPUコアあたりの接続数（最大接続数を自動算出する場合に使用） */
+    private int connectionsPerCore = 2;
+
+    /** 実効スピンドル数（最大接続数の自動算出に加算する。SSD・インメモリDBでは1程度） */
+    private int effectiveSpindleCount = 1;
+
+    /** 最大接続数（0以下の場合はコア数から算出する） */
+    private int maximumPoolSize = 0;
+
+    /** 最小アイドル接続数（負の場合は最大接続数と同じ固定サイズのプールにする） */
+    private int minimumIdle = -1;
+
+    /** ドライバのステートメントキャッシュに保持する件数（0でドライバの既定値のまま） */
+    private int statementCacheSize = 256;
+
+    /** ステートメントキャッシュに保持するSQLの最大長（MySQL/MariaDBのみ） */
+    private int statementCacheSqlLimit = 2048;
+
+    /** 接続の作成直後に1回実行するSQL（未指定の場合は実行しない） */
+    private String connectionInitSql;
+
+    /** 起動時に最小アイドル接続数まで接続を確立しておくか */
+    private boolean warmUp = true;
+
+    /**
+     * 適用する最大接続数を算出
+     * 既定では「コア数 × connectionsPerCore + effectiveSpindleCount」とする
+     *
+     * @param availableProcessors 利用可能なCPUコア数
+     * @return 最大接続数
+     */
+    public int resolveMaximumPoolSize(int availableProcessors) {
+        if (maximumPoolSize > 0) {
+            return maximumPoolSize;
+        }
+        return Math.max(1, availableProcessors * connectionsPerCore + effectiveSpindleCount);
+    }
+
+    /**
+     * 適用する最小アイドル接続数を算出
+     *
+     * @param maximumPoolSize 適用する最大接続数
+     * @return 最小アイドル接続数（最大接続数を超えない）
+     */
+    public int resolveMinimumIdle(int maximumPoolSize) {
+        return minimumIdle < 0 ? maximumPoolSize : Math.min(minimumIdle, maximumPoolSize);
+    }
+
+    public int getConnectionsPerCore() {
+        return connectionsPerCore;
+    }
+
+    public void setConnectionsPerCore(int connectionsPerCore) {
+        this.connectionsPerCore = connectionsPerCore;
+    }
+
+    public int getEffectiveSpindleCount() {
+        return effectiveSpindleCount;
+    }
+
+    public void setEffectiveSpindleCount(int effectiveSpindleCount) {
+        this.effectiveSpindleCount = effectiveSpindleCount;
+    }
+
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    public void setMaximumPoolSize(int maximumPoolSize) {
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    public int getMinimumIdle() {
+        return minimumIdle;
+    }
+
+    public void setMinimumIdle(int minimumIdle) {
+        this.minimumIdle = minimumIdle;
+    }
+
+    public int getStatementCacheSize() {
+        return statementCacheSize;
+    }
+
+    public void setStatementCacheSize(int statementCacheSize) {
+        this.statementCacheSize = statementCacheSize;
+    }
+
+    public int getStatementCacheSqlLimit() {
+        return statementCacheSqlLimit;
+    }
+
+    public void setStatementCacheSqlLimit(int statementCacheSqlLimit) {
+        this.statementCacheSqlLimit = statementCacheSqlLimit;
+    }
+
+    public String getConnectionInitSql() {
+        return connectionInitSql;
+    }
+
+    public void setConnectionInitSql(String connectionInitSql) {
+        this.connectionInitSql = connectionInitSql;
+    }
+
+    public boolean isWarmUp() {
+        return warmUp;
+    }
+
+    public void setWarmUp(boolean warmUp) {
+        this.warmUp = warmUp;
+    }
+}
@@ -0,0 +1,29 @@
+package com.example.mybatislearning.pool;
+
+/**
+ * ConnectionPoolStatistics
+ * コネクションプール1件分の設定と使用状況のスナップショット
+ *
+ * @param poolName            プール名
+ * @param maximumPoolSize     最大接続数
+ * @param minimumIdle         最小アイドル接続数
+ * @param active              使用中の接続数
+ * @param idle                アイドル接続数
+ * @param total               接続数の合計
+ * @param pending             接続の取得を待っているスレッド数
+ * @param acquireCount        接続の取得回数（メトリクス未登録の場合は0）
+ * @param acquireMeanMillis   接続取得の平均待ち時間（ミリ秒）
+ * @param acquireMaxMillis    接続取得の最大待ち時間（ミリ秒）
+ */
+public record ConnectionPoolStatistics(
+        String poolName,
+        int maximumPoolSize,
+        int minimumIdle,
+        int active,
+        int idle,
+        int total,
+        int pending,
+        long acquireCount,
+        double acquireMeanMillis,
+        double acquireMaxMillis) {
+}
@@ -0,0 +1,138 @@
+package com.example.mybatislearning.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * ConnectionPoolTuner
+ * HikariCPのプールにapp.pool.*の設定（接続数・ステートメントキャッシュ・初期化SQL）を適用し、起動時のウォームアップを行う
+ *
+ * <p>設定を適用したプールは{@link #getPools()}で参照でき、ウォームアップやエンドポイントの対象になる。
+ * 設定はプールの開始（最初の接続取得）前に適用する必要がある。</p>
+ */
+public class ConnectionPoolTuner {
+
+    private static final Logger logger = LoggerFactory.getLogger(ConnectionPoolTuner.class);
+
+    private final ConnectionPoolProperties properties;
+    private final int availableProcessors;
+    private final List<HikariDataSource> pools = new CopyOnWriteArrayList<>();
+
+    /**
+     * コンストラクタ
+     *
+     * @param properties          プールの設定
+     * @param availableProcessors 最大接続数の算出に使うCPUコア数
+     */
+    public ConnectionPoolTuner(ConnectionPoolProperties properties, int availableProcessors) {
+        this.properties = properties;
+        this.availableProcessors = availableProcessors;
+    }
+
+    /**
+     * プールに設定を適用し、管理対象として登録
+     *
+     * @param dataSource 開始前のプール
+     * @throws IllegalStateException プールが開始済みの場合
+     */
+    public void tune(HikariDataSource dataSource) {
+        if (dataSource.isRunning()) {
+            throw new IllegalStateException("Pool " + dataSource.getPoolName() + " is already running");
+        }
+        int maximumPoolSize = properties.resolveMaximumPoolSize(availableProcessors);
+        dataSource.setMaximumPoolSize(maximumPoolSize);
+        dataSource.setMinimumIdle(properties.resolveMinimumIdle(maximumPoolSize));
+        if (properties.getConnectionInitSql() != null && !properties.getConnectionInitSql().isBlank()) {
+            dataSource.setConnectionInitSql(properties.getConnectionInitSql());
+        }
+        statementCacheProperties(dataSource.getJdbcUrl()).forEach(dataSource::addDataSourceProperty);
+        pools.add(dataSource);
+
+        logger.info("Pool {}: maximumPoolSize={}, minimumIdle={}, statementCacheSize={}, connectionInitSql={}",
+                dataSource.getPoolName(), dataSource.getMaximumPoolSize(), dataSource.getMinimumIdle(),
+                properties.getStatementCacheSize(), dataSource.getConnectionInitSql());
+    }
+
+    /**
+     * ステートメントキャッシュを有効にするドライバプロパティ
+     * ドライバごとにプロパティ名が異なるため、JDBC URLから判別する（未対応のドライバは空）
+     *
+     * @param jdbcUrl JDBC URL
+     * @return ドライバプロパティ
+     */
+    Map<String, Object> statementCacheProperties(String jdbcUrl) {
+        int size = properties.getStatementCacheSize();
+        if (size <= 0 || jdbcUrl == null) {
+            return Collections.emptyMap();
+        }
+        Map<String, Object> driverProperties = new LinkedHashMap<>();
+        if (jdbcUrl.startsWith("jdbc:h2:")) {
+            // セッションごとにパース済みのコマンドを保持する件数
+            driverProperties.put("QUERY_CACHE_SIZE", size);
+        } else if (jdbcUrl.startsWith("jdbc:mysql:") || jdbcUrl.startsWith("jdbc:mariadb:")) {
+            driverProperties.put("cachePrepStmts", true);
+            driverProperties.put("prepStmtCacheSize", size);
+            driverProperties.put("prepStmtCacheSqlLimit", properties.getStatementCacheSqlLimit());
+            driverProperties.put("useServerPrepStmts", true);
+        } else if (jdbcUrl.startsWith("jdbc:postgresql:")) {
+            driverProperties.put("preparedStatementCacheQueries", size);
+        }
+        return driverProperties;
+    }
+
+    /**
+     * 管理対象の全プールをウォームアップ
+     * 起動に失敗したプール（DB停止中のレプリカなど）はログに記録して次のプールに進む
+     */
+    public void warmUpAll() {
+        for (HikariDataSource pool : pools) {
+            try {
+                int opened = warmUp(pool);
+                logger.info("Pool {} warmed up with {} connections", pool.getPoolName(), opened);
+            } catch (SQLException e) {
+                logger.warn("Pool {} could not be warmed up: {}", pool.getPoolName(), e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * 最小アイドル接続数の接続を同時に取得して返却し、初回リクエストで接続確立を待たないようにする
+     *
+     * @param dataSource プール
+     * @return 取得した接続数
+     * @throws SQLException 接続を取得できなかった場合
+     */
+    public int warmUp(HikariDataSource dataSource) throws SQLException {
+        int target = dataSource.getMinimumIdle();
+        List<Connection> connections = new ArrayList<>(target);
+        try {
+            for (int i = 0; i < target; i++) {
+                connections.add(dataSource.getConnection());
+            }
+            return connections.size();
+        } finally {
+            for (Connection connection : connections) {
+                connection.close();
+            }
+        }
+    }
+
+    /**
+     * 設定を適用したプールの一覧（登録順）
+     *
+     * @return プール
+     */
+    public List<HikariDataSource> getPools() {
+        return Collections.unmodifiableList(pools);
+    }
+}
@@ -0,0 +1,28 @@
+package com.example.mybatislearning.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+
+/**
+ * ConnectionPoolTuningPostProcessor
+ * Bean定義されたHikariDataSource（Spring Bootの自動設定によるものなど）にapp.pool.*の設定を適用する
+ *
+ * <p>spring.datasource.hikari.*のバインド後（初期化後）に適用するため、app.pool.*の値が優先される。</p>
+ */
+class ConnectionPoolTuningPostProcessor implements BeanPostProcessor {
+
+    private final ObjectProvider<ConnectionPoolTuner> tuner;
+
+    ConnectionPoolTuningPostProcessor(ObjectProvider<ConnectionPoolTuner> tuner) {
+        this.tuner = tuner;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (bean instanceof HikariDataSource dataSource && !dataSource.isRunning()) {
+            tuner.getObject().tune(dataSource);
+        }
+        return bean;
+    }
+}
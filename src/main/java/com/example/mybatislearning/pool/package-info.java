@@ -0,0 +1,20 @@
+/**
+ * コネクションプールパッケージを提供します
+ *
+ * <p>
+ * 主なクラス:
+ * </p>
+ * <ul>
+ * <li>ConnectionPoolConfiguration</li>
+ * <li>ConnectionPoolProperties</li>
+ * <li>ConnectionPoolTuner</li>
+ * <li>ConnectionPoolEndpoint</li>
+ * <li>ConnectionPoolStatistics</li>
+ * </ul>
+ *
+ * <p>
+ * このパッケージはHikariCPのプールサイズ・ステートメントキャッシュ・初期化SQLの設定、起動時のウォームアップ、
+ * プールのメトリクス公開に関連するクラスを提供します。
+ * </p>
+ */
+package com.example.mybatislearning.pool;
@@ -0,0 +1,15 @@
+package com.example.mybatislearning.readmodel;
+
+import java.io.Serializable;
+import java.time.LocalDateTime;
+
+/**
+ * IndustryRecord
+ * industriesテーブルの1行を表す不変のrecord（参照専用）
+ *
+ * <p>IndustryMapperのindustryRecordResultMapが&lt;constructor&gt;で生成する。
+ * 2次キャッシュに格納されるためSerializableとする。</p>
+ */
+public record IndustryRecord(Long id, String name, String description,
+                             LocalDateTime createdAt, LocalDateTime updatedAt) implements Serializable {
+}
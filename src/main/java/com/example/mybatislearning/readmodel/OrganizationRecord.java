@@ -0,0 +1,13 @@
+package com.example.mybatislearning.readmodel;
+
+import java.io.Serializable;
+
+/**
+ * OrganizationRecord
+ * organizationsテーブルの1行を表す不変のrecord（参照専用）
+ *
+ * <p>OrganizationMapperのorganizationRecordResultMapが&lt;constructor&gt;で生成する。
+ * 2次キャッシュに格納されるためSerializableとする。</p>
+ */
+public record OrganizationRecord(Long id, String name, String description) implements Serializable {
+}
@@ -0,0 +1,13 @@
+package com.example.mybatislearning.readmodel;
+
+import java.time.LocalDateTime;
+
+/**
+ * PersonRecord
+ * personsテーブルの1行を表す不変のrecord（参照専用）
+ *
+ * <p>PersonMapperのpersonRecordResultMapが&lt;constructor&gt;で生成する。</p>
+ */
+public record PersonRecord(Long id, String name, String email, String role, String department,
+                           LocalDateTime createdAt, LocalDateTime updatedAt) {
+}
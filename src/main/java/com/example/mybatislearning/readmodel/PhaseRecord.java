@@ -0,0 +1,34 @@
+package com.example.mybatislearning.readmodel;
+
+import com.example.mybatislearning.entity.Phase;
+import com.example.mybatislearning.enums.PhaseStatus;
+import com.example.mybatislearning.enums.PhaseType;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * PhaseRecord
+ * phasesテーブルの1行を表す不変のrecord（参照専用）
+ *
+ * <p>PhaseMapperのphaseRecordResultMapが&lt;constructor&gt;で生成する。</p>
+ */
+public record PhaseRecord(Long id, Long projectId, PhaseType phaseType,
+                          LocalDate plannedStartDate, LocalDate plannedEndDate,
+                          LocalDate actualStartDate, LocalDate actualEndDate,
+                          PhaseStatus status, String deliverables,
+                          LocalDateTime createdAt, LocalDateTime updatedAt) {
+
+    /**
+     * Phaseエンティティの現在の値からPhaseRecordを生成
+     *
+     * @param phase 変換元のPhase
+     * @return PhaseRecord
+     */
+    public static PhaseRecord of(Phase phase) {
+        return new PhaseRecord(phase.getId(), phase.getProjectId(), phase.getPhaseType(),
+                phase.getPlannedStartDate(), phase.getPlannedEndDate(),
+                phase.getActualStartDate(), phase.getActualEndDate(),
+                phase.getStatus(), phase.getDeliverables(), phase.getCreatedAt(), phase.getUpdatedAt());
+    }
+}
@@ -0,0 +1,22 @@
+package com.example.mybatislearning.readmodel;
+
+import com.example.mybatislearning.enums.ProjectStatus;
+import com.example.mybatislearning.enums.ProjectType;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * ProjectRecord
+ * projectsテーブルの1行を表す不変のrecord（参照専用）
+ *
+ * <p>ProjectMapperのprojectRecordResultMapが&lt;constructor&gt;で生成する。
+ * 関連エンティティは持たないため、関連込みの参照や更新にはProjectエンティティを使う。</p>
+ */
+public record ProjectRecord(Long id, String projectName, Long organizationId, String customerName,
+                            Long industryId, ProjectType projectType, ProjectStatus status,
+                            BigDecimal budget, BigDecimal personMonths, Integer teamSize,
+                            LocalDate plannedStartDate, LocalDate plannedEndDate,
+                            LocalDate actualStartDate, LocalDate actualEndDate,
+                            Long projectManagerId, Long technicalLeadId) {
+}
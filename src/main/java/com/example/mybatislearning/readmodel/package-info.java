@@ -0,0 +1,21 @@
+/**
+ * 参照専用の不変recordパッケージを提供します
+ *
+ * <p>
+ * 主なクラス:
+ * </p>
+ * <ul>
+ * <li>ProjectRecord</li>
+ * <li>PhaseRecord</li>
+ * <li>PersonRecord</li>
+ * <li>IndustryRecord</li>
+ * <li>OrganizationRecord</li>
+ * </ul>
+ *
+ * <p>
+ * このパッケージはentityパッケージのPOJOに対応する不変のrecordを提供します。
+ * MyBatisはsetterを1列ずつリフレクションで呼び出す代わりにコンストラクタを1回呼び出して生成するため、
+ * 参照専用のサービスメソッドはこちらを返します。更新にはentityパッケージのPOJOを使います。
+ * </p>
+ */
+package com.example.mybatislearning.readmodel;
@@ -0,0 +1,97 @@
+package com.example.mybatislearning.routing;
+
+import org.apache.ibatis.cache.CacheKey;
+import org.apache.ibatis.executor.Executor;
+import org.apache.ibatis.mapping.BoundSql;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.apache.ibatis.session.ResultHandler;
+import org.apache.ibatis.session.RowBounds;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * CachedStatementRoutingInterceptor
+ * 2次キャッシュを使用するSELECTをプライマリから読み込ませるInterceptor
+ *
+ * <p>2次キャッシュの内容は全リクエストで共有されるため、レプリケーション遅延で古い行がキャッシュされると
+ * TTLまで古い内容を返し続ける。そこでキャッシュ対象のSELECTはプライマリのヒントを設定して実行する
+ * （キャッシュにヒットした場合は接続を取得しない）。</p>
+ *
+ * <p>接続はトランザクションの最初のSQL実行時に取得されるため、同じトランザクションで既にレプリカの接続を
+ * 取得している場合は振り分けを変更できない。その場合はキャッシュを使用しない（読み込んだ内容をキャッシュに登録しない）
+ * ステートメントに置き換えて実行する。</p>
+ *
+ * <p>app.read-replicas.enabled=trueの場合のみ登録される。</p>
+ */
+@Component
+@ConditionalOnProperty(prefix = "app.read-replicas", name = "enabled", havingValue = "true")
+@Intercepts({
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class}),
+        @Signature(type = Executor.class, method = "query",
+                args = {MappedStatement.class, Object.class, RowBounds.class, ResultHandler.class,
+                        CacheKey.class, BoundSql.class})
+})
+public class CachedStatementRoutingInterceptor implements Interceptor {
+
+    // ステートメントIDごとのキャッシュを使用しない複製
+    private final Map<String, MappedStatement> uncachedStatements = new ConcurrentHashMap<>();
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        MappedStatement mappedStatement = (MappedStatement) invocation.getArgs()[0];
+        if (mappedStatement.getCache() == null || !mappedStatement.isUseCache()) {
+            return invocation.proceed();
+        }
+        if (ReplicaRoutingDataSource.isReplicaConnectionBound()) {
+            invocation.getArgs()[0] = uncachedStatements.computeIfAbsent(
+                    mappedStatement.getId(), id -> withoutCache(mappedStatement));
+            return invocation.proceed();
+        }
+        boolean previous = ReplicaRoutingDataSource.hintPrimary();
+        try {
+            return invocation.proceed();
+        } finally {
+            ReplicaRoutingDataSource.restorePrimaryHint(previous);
+        }
+    }
+
+    /**
+     * キャッシュを使用しない以外は同じ設定のMappedStatementを作成
+     */
+    static MappedStatement withoutCache(MappedStatement source) {
+        MappedStatement.Builder builder = new MappedStatement.Builder(source.getConfiguration(), source.getId(),
+                source.getSqlSource(), source.getSqlCommandType())
+                .resource(source.getResource())
+                .parameterMap(source.getParameterMap())
+                .resultMaps(source.getResultMaps())
+                .fetchSize(source.getFetchSize())
+                .timeout(source.getTimeout())
+                .statementType(source.getStatementType())
+                .resultSetType(source.getResultSetType())
+                .flushCacheRequired(source.isFlushCacheRequired())
+                .useCache(false)
+                .resultOrdered(source.isResultOrdered())
+                .keyGenerator(source.getKeyGenerator())
+                .databaseId(source.getDatabaseId())
+                .lang(source.getLang())
+                .dirtySelect(source.isDirtySelect());
+        if (source.getKeyProperties() != null) {
+            builder.keyProperty(String.join(",", source.getKeyProperties()));
+        }
+        if (source.getKeyColumns() != null) {
+            builder.keyColumn(String.join(",", source.getKeyColumns()));
+        }
+        if (source.getResultSets() != null) {
+            builder.resultSets(String.join(",", source.getResultSets()));
+        }
+        return builder.build();
+    }
+}
@@ -0,0 +1,112 @@
+package com.example.mybatislearning.routing;
+
+import com.example.mybatislearning.pool.ConnectionPoolTuner;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.context.properties.bind.Bindable;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.env.Environment;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * ReplicaRoutingConfiguration
+ * app.read-replicas.enabled=trueの場合に、アプリケーションのDataSourceを
+ * プライマリ（spring.datasource）とレプリカ（app.read-replicas.replicas）の振り分けに置き換える設定
+ *
+ * <p>MyBatis・トランザクションマネージャ・SQL初期化は{@code @Primary}のDataSource
+ * （LazyConnectionDataSourceProxyで包んだReplicaRoutingDataSource）を使用する。
+ * schema.sql/data.sqlはトランザクション外で実行されるためプライマリにのみ適用される。
+ * レプリカへの反映はDBのレプリケーションで行う前提とする。</p>
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.read-replicas", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfiguration {
+
+    private static final String HIKARI_PREFIX = "spring.datasource.hikari";
+
+    /**
+     * app.read-replicas.*をバインドした設定
+     *
+     * @return レプリカの設定
+     */
+    @Bean
+    @ConfigurationProperties(prefix = "app.read-replicas")
+    public ReplicaRoutingProperties replicaRoutingProperties() {
+        return new ReplicaRoutingProperties();
+    }
+
+    /**
+     * プライマリとレプリカのコネクションプールを持つ振り分けDataSource
+     *
+     * @param dataSourceProperties spring.datasource.*の設定（プライマリ）
+     * @param properties           レプリカの設定
+     * @param environment          spring.datasource.hikari.*のバインドに使用する環境
+     * @param tuner                app.pool.*の設定を適用するTuner
+     * @return 振り分けDataSource（ヘルスチェック開始済み）
+     */
+    @Bean(destroyMethod = "close")
+    public ReplicaRoutingDataSource replicaRoutingDataSource(DataSourceProperties dataSourceProperties,
+                                                            ReplicaRoutingProperties properties,
+                                                            Environment environment,
+                                                            ConnectionPoolTuner tuner) {
+        properties.validate();
+        Binder binder = Binder.get(environment);
+
+        HikariDataSource primary = dataSourceProperties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        binder.bind(HIKARI_PREFIX, Bindable.ofInstance(primary));
+        primary.setPoolName(ReplicaRoutingDataSource.PRIMARY);
+        tuner.tune(primary);
+
+        Map<String, DataSource> replicas = new LinkedHashMap<>();
+        for (ReplicaRoutingProperties.Replica replica : properties.getReplicas()) {
+            HikariDataSource dataSource = DataSourceBuilder.create()
+                    .type(HikariDataSource.class)
+                    .url(replica.getUrl())
+                    .username(replica.getUsername())
+                    .password(replica.getPassword())
+                    .build();
+            // プールの設定はプライマリと共通（app.pool.*も適用）とし、接続数・タイムアウトのみレプリカの設定で上書きする
+            binder.bind(HIKARI_PREFIX, Bindable.ofInstance(dataSource));
+            dataSource.setPoolName(replica.getName());
+            tuner.tune(dataSource);
+            dataSource.setMaximumPoolSize(properties.getMaximumPoolSize());
+            dataSource.setMinimumIdle(Math.min(dataSource.getMinimumIdle(), properties.getMaximumPoolSize()));
+            dataSource.setConnectionTimeout(properties.getConnectionTimeoutMs());
+            // 起動時にレプリカが停止していてもアプリケーションは起動し、ヘルスチェックで復旧を待つ
+            dataSource.setInitializationFailTimeout(-1);
+            replicas.put(replica.getName(), dataSource);
+        }
+
+        ReplicaRoutingDataSource routing = new ReplicaRoutingDataSource(
+                primary, replicas, Duration.ofMillis(properties.getConnectionTimeoutMs()));
+        routing.checkHealth();
+        routing.startHealthCheck(Duration.ofMillis(properties.getHealthCheckIntervalMs()));
+        return routing;
+    }
+
+    /**
+     * アプリケーションが使用するDataSource
+     * トランザクション開始時ではなく最初のSQL実行時に接続を取得し、読み取り専用フラグに応じて振り分ける
+     *
+     * @param routing 振り分けDataSource
+     * @return 遅延取得のプロキシ
+     */
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource routing) {
+        return new LazyConnectionDataSourceProxy(routing);
+    }
+}
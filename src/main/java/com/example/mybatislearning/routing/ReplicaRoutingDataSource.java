@@ -0,0 +1,313 @@
+package com.example.mybatislearning.routing;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ReplicaRoutingDataSource
+ * 読み取り専用トランザクション（{@code @Transactional(readOnly = true)}）の接続をレプリカに、
+ * それ以外の接続をプライマリに振り分けるDataSource
+ *
+ * <ul>
+ * <li>レプリカはラウンドロビンで選択し、ヘルスチェックで停止と判定したレプリカは飛ばす</li>
+ * <li>接続の取得に失敗したレプリカはその時点で停止と判定し、次のレプリカを試す</li>
+ * <li>利用できるレプリカがない場合はプライマリに振り分ける</li>
+ * <li>{@link #hintPrimary()}でヒントを設定したスレッドは、読み取り専用トランザクションでもプライマリに振り分ける</li>
+ * </ul>
+ *
+ * <p>レプリカはレプリケーション遅延の分だけ古い内容を返す可能性がある（直前にコミットした書き込みが見えるとは限らない）。
+ * 共有のインデックスや2次キャッシュのように、読んだ内容が他のリクエストにも使われる読み込みは
+ * 読み取り専用でないトランザクションかプライマリのヒントでプライマリから読むこと。</p>
+ *
+ * <p>トランザクションの読み取り専用フラグはDataSourceTransactionManagerが接続の取得後に設定するため、
+ * 本クラスはLazyConnectionDataSourceProxyで包み、最初のSQL実行時に接続を取得させること
+ * （ReplicaRoutingConfigurationで設定）。</p>
+ */
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+    /** プライマリの名前（統計の参照用） */
+    public static final String PRIMARY = "primary";
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaRoutingDataSource.class);
+
+    // プライマリへの振り分けを指定するヒント（スレッド単位）
+    private static final ThreadLocal<Boolean> PRIMARY_HINT = new ThreadLocal<>();
+
+    // レプリカの接続を取得したトランザクションに登録するリソースのキー
+    private static final Object REPLICA_BOUND = new Object();
+
+    private final DataSource primary;
+    private final List<Replica> replicas;
+    private final int validationTimeoutSeconds;
+    private final AtomicInteger nextReplica = new AtomicInteger();
+    private final LongAdder primaryConnections = new LongAdder();
+
+    private ScheduledExecutorService healthChecker;
+
+    /**
+     * コンストラクタ
+     *
+     * @param primary           書き込み先（読み取り専用以外の接続、およびレプリカが利用できない場合の接続先）
+     * @param replicas          レプリカ名とDataSource（登録順にラウンドロビンする）
+     * @param validationTimeout ヘルスチェックで接続の有効性を確認するタイムアウト
+     */
+    public ReplicaRoutingDataSource(DataSource primary, Map<String, DataSource> replicas, Duration validationTimeout) {
+        this.primary = primary;
+        List<Replica> list = new ArrayList<>(replicas.size());
+        replicas.forEach((name, dataSource) -> list.add(new Replica(name, dataSource)));
+        this.replicas = List.copyOf(list);
+        this.validationTimeoutSeconds = (int) Math.max(1, validationTimeout.toSeconds());
+    }
+
+    /**
+     * 現在のスレッドで以降に取得する接続をプライマリに振り分ける
+     * 戻り値を{@link #restorePrimaryHint(boolean)}にfinallyで渡して元に戻すこと
+     *
+     * @return 呼び出し前にヒントが設定されていた場合true
+     */
+    public static boolean hintPrimary() {
+        boolean previous = PRIMARY_HINT.get() != null;
+        PRIMARY_HINT.set(Boolean.TRUE);
+        return previous;
+    }
+
+    /**
+     * {@link #hintPrimary()}の前の状態に戻す
+     *
+     * @param previous {@link #hintPrimary()}の戻り値
+     */
+    public static void restorePrimaryHint(boolean previous) {
+        if (!previous) {
+            PRIMARY_HINT.remove();
+        }
+    }
+
+    /**
+     * 現在のトランザクションがレプリカの接続を取得済みか
+     *
+     * @return 取得済みの場合true（トランザクション外の場合はfalse）
+     */
+    public static boolean isReplicaConnectionBound() {
+        return TransactionSynchronizationManager.hasResource(REPLICA_BOUND);
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        if (routesToReplica()) {
+            Connection connection = replicaConnection(null, null);
+            if (connection != null) {
+                return connection;
+            }
+        }
+        primaryConnections.increment();
+        return primary.getConnection();
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        if (routesToReplica()) {
+            Connection connection = replicaConnection(username, password);
+            if (connection != null) {
+                return connection;
+            }
+        }
+        primaryConnections.increment();
+        return primary.getConnection(username, password);
+    }
+
+    private static boolean routesToReplica() {
+        return TransactionSynchronizationManager.isCurrentTransactionReadOnly() && PRIMARY_HINT.get() == null;
+    }
+
+    /**
+     * ラウンドロビンで稼働中のレプリカから接続を取得
+     *
+     * @return 接続（稼働中のレプリカがない場合はnull）
+     */
+    private Connection replicaConnection(String username, String password) {
+        int size = replicas.size();
+        if (size == 0) {
+            return null;
+        }
+        int start = Math.floorMod(nextReplica.getAndIncrement(), size);
+        for (int i = 0; i < size; i++) {
+            Replica replica = replicas.get((start + i) % size);
+            if (!replica.healthy) {
+                continue;
+            }
+            try {
+                Connection connection = username == null
+                        ? replica.dataSource.getConnection()
+                        : replica.dataSource.getConnection(username, password);
+                replica.connections.increment();
+                bindReplicaConnection();
+                return connection;
+            } catch (SQLException e) {
+                markHealth(replica, false, e);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * トランザクション内でレプリカの接続を取得したことを記録（トランザクション完了時に解除）
+     */
+    private static void bindReplicaConnection() {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(REPLICA_BOUND)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(REPLICA_BOUND, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(REPLICA_BOUND);
+            }
+        });
+    }
+
+    /**
+     * 全レプリカのヘルスチェックを実行（停止中のレプリカも確認し、復旧していれば振り分けを再開する）
+     */
+    public void checkHealth() {
+        for (Replica replica : replicas) {
+            try (Connection connection = replica.dataSource.getConnection()) {
+                boolean valid = connection.isValid(validationTimeoutSeconds);
+                if (!valid && replica.dataSource instanceof HikariDataSource hikari) {
+                    hikari.evictConnection(connection);
+                }
+                markHealth(replica, valid, null);
+            } catch (SQLException e) {
+                markHealth(replica, false, e);
+            }
+        }
+    }
+
+    private static void markHealth(Replica replica, boolean healthy, SQLException cause) {
+        if (replica.healthy == healthy) {
+            return;
+        }
+        replica.healthy = healthy;
+        if (healthy) {
+            logger.info("Replica {} is back in rotation", replica.name);
+        } else {
+            logger.warn("Replica {} is removed from rotation: {}", replica.name,
+                    cause != null ? cause.getMessage() : "connection is not valid");
+            // プール内の接続は切断済みの可能性が高いため、復旧後は新しい接続から使う
+            if (replica.dataSource instanceof HikariDataSource hikari && hikari.getHikariPoolMXBean() != null) {
+                hikari.getHikariPoolMXBean().softEvictConnections();
+            }
+        }
+    }
+
+    /**
+     * 定期的なヘルスチェックを開始
+     *
+     * @param interval 実行間隔
+     */
+    public synchronized void startHealthCheck(Duration interval) {
+        if (healthChecker != null || replicas.isEmpty()) {
+            return;
+        }
+        healthChecker = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "replica-health-check");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long millis = interval.toMillis();
+        healthChecker.scheduleWithFixedDelay(this::checkHealth, millis, millis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * レプリカ名の一覧（登録順）
+     *
+     * @return レプリカ名
+     */
+    public List<String> getReplicaNames() {
+        return replicas.stream().map(replica -> replica.name).toList();
+    }
+
+    /**
+     * レプリカが振り分け対象（稼働中）か
+     *
+     * @param name レプリカ名
+     * @return 稼働中の場合true
+     * @throws IllegalArgumentException 未登録の名前の場合
+     */
+    public boolean isHealthy(String name) {
+        return replica(name).healthy;
+    }
+
+    /**
+     * 振り分け先ごとの接続取得回数（キーはプライマリが{@link #PRIMARY}、レプリカがレプリカ名）
+     *
+     * @return 振り分け先ごとの接続取得回数
+     */
+    public Map<String, Long> getConnectionCounts() {
+        Map<String, Long> counts = new LinkedHashMap<>();
+        counts.put(PRIMARY, primaryConnections.sum());
+        replicas.forEach(replica -> counts.put(replica.name, replica.connections.sum()));
+        return Collections.unmodifiableMap(counts);
+    }
+
+    private Replica replica(String name) {
+        return replicas.stream()
+                .filter(replica -> replica.name.equals(name))
+                .findFirst()
+                .orElseThrow(() -> new IllegalArgumentException("Unknown replica: " + name));
+    }
+
+    /**
+     * ヘルスチェックを停止し、プライマリ・レプリカのDataSourceを閉じる
+     */
+    @Override
+    public synchronized void close() throws Exception {
+        if (healthChecker != null) {
+            healthChecker.shutdownNow();
+            healthChecker = null;
+        }
+        for (Replica replica : replicas) {
+            if (replica.dataSource instanceof AutoCloseable closeable) {
+                closeable.close();
+            }
+        }
+        if (primary instanceof AutoCloseable closeable) {
+            closeable.close();
+        }
+    }
+
+    /**
+     * レプリカ1台分の状態
+     */
+    private static final class Replica {
+
+        final String name;
+        final DataSource dataSource;
+        final LongAdder connections = new LongAdder();
+        volatile boolean healthy = true;
+
+        Replica(String name, DataSource dataSource) {
+            this.name = name;
+            this.dataSource = dataSource;
+        }
+    }
+}
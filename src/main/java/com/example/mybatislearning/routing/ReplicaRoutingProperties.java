@@ -0,0 +1,135 @@
+package com.example.mybatislearning.routing;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * ReplicaRoutingProperties
+ * 読み取り専用トランザクションの振り分け先（リードレプリカ）の設定（app.read-replicas.*）
+ *
+ * <p>プライマリ（書き込み先）はspring.datasource.*の設定を使用する。</p>
+ */
+public class ReplicaRoutingProperties {
+
+    /** レプリカへの振り分けを有効にするか（既定は無効で、spring.datasourceのみを使用する） */
+    private boolean enabled = false;
+
+    /** ヘルスチェックの間隔（ミリ秒） */
+    private long healthCheckIntervalMs = 5_000;
+
+    /** ヘルスチェック・接続取得のタイムアウト（ミリ秒、HikariCPの下限は250） */
+    private long connectionTimeoutMs = 1_000;
+
+    /** レプリカごとのコネクションプールの最大接続数 */
+    private int maximumPoolSize = 10;
+
+    /** レプリカの接続設定 */
+    private List<Replica> replicas = new ArrayList<>();
+
+    /**
+     * 設定値を検証
+     *
+     * @throws IllegalArgumentException 不正な設定値の場合
+     */
+    public void validate() {
+        if (healthCheckIntervalMs <= 0) {
+            throw new IllegalArgumentException("healthCheckIntervalMs must be positive: " + healthCheckIntervalMs);
+        }
+        if (connectionTimeoutMs < 250) {
+            throw new IllegalArgumentException("connectionTimeoutMs must be at least 250: " + connectionTimeoutMs);
+        }
+        for (int i = 0; i < replicas.size(); i++) {
+            Replica replica = replicas.get(i);
+            if (replica.getUrl() == null || replica.getUrl().isBlank()) {
+                throw new IllegalArgumentException("replicas[" + i + "].url is required");
+            }
+            if (replica.getName() == null || replica.getName().isBlank()) {
+                replica.setName("replica" + (i + 1));
+            }
+        }
+    }
+
+    public boolean isEnabled() {
+        return enabled;
+    }
+
+    public void setEnabled(boolean enabled) {
+        this.enabled = enabled;
+    }
+
+    public long getHealthCheckIntervalMs() {
+        return healthCheckIntervalMs;
+    }
+
+    public void setHealthCheckIntervalMs(long healthCheckIntervalMs) {
+        this.healthCheckIntervalMs = healthCheckIntervalMs;
+    }
+
+    public long getConnectionTimeoutMs() {
+        return connectionTimeoutMs;
+    }
+
+    public void setConnectionTimeoutMs(long connectionTimeoutMs) {
+        this.connectionTimeoutMs = connectionTimeoutMs;
+    }
+
+    public int getMaximumPoolSize() {
+        return maximumPoolSize;
+    }
+
+    public void setMaximumPoolSize(int maximumPoolSize) {
+        this.maximumPoolSize = maximumPoolSize;
+    }
+
+    public List<Replica> getReplicas() {
+        return replicas;
+    }
+
+    public void setReplicas(List<Replica> replicas) {
+        this.replicas = replicas;
+    }
+
+    /**
+     * レプリカ1台分の接続設定
+     */
+    public static class Replica {
+
+        /** ログ・統計で使用する名前（省略時はreplica1, replica2, ...） */
+        private String name;
+        private String url;
+        private String username;
+        private String password;
+
+        public String getName() {
+            return name;
+        }
+
+        public void setName(String name) {
+            this.name = name;
+        }
+
+        public String getUrl() {
+            return url;
+        }
+
+        public void setUrl(String url) {
+            this.url = url;
+        }
+
+        public String getUsername() {
+            return username;
+        }
+
+        public void setUsername(String username) {
+            this.username = username;
+        }
+
+        public String getPassword() {
+            return password;
+        }
+
+        public void setPassword(String password) {
+            this.password = password;
+        }
+    }
+}
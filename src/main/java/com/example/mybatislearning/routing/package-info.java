@@ -0,0 +1,18 @@
+/**
+ * データソース振り分けパッケージを提供します
+ *
+ * <p>
+ * 主なクラス:
+ * </p>
+ * <ul>
+ * <li>ReplicaRoutingDataSource</li>
+ * <li>ReplicaRoutingConfiguration</li>
+ * <li>ReplicaRoutingProperties</li>
+ * <li>CachedStatementRoutingInterceptor</li>
+ * </ul>
+ *
+ * <p>
+ * このパッケージは読み取り専用トランザクションをリードレプリカに、書き込みをプライマリに振り分けるDataSourceに関連するクラスを提供します。
+ * </p>
+ */
+package com.example.mybatislearning.routing;
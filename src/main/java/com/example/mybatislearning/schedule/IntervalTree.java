@@ -0,0 +1,210 @@
+package com.example.mybatislearning.schedule;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+/**
+ * IntervalTree
+ * 閉区間[start, end]を値と共に保持し、追加・削除・重なり検索を行う動的な区間木
+ *
+ * <p>(start, id)をキーとするTreap（ランダム優先度の平衡二分探索木）で、各ノードに部分木内の最大endを保持する。
+ * 追加・削除は期待O(log n)、重なり検索は該当件数kに対して期待O(log n + k)となる。
+ * 同期化はしないため、呼び出し側でロックすること。</p>
+ *
+ * @param <T> 値の型
+ */
+public class IntervalTree<T> {
+
+    private static final class Node<T> {
+        final long start;
+        final long end;
+        final long id;
+        final T value;
+        final int priority;
+        long maxEnd;
+        Node<T> left;
+        Node<T> right;
+
+        Node(long start, long end, long id, T value, int priority) {
+            this.start = start;
+            this.end = end;
+            this.id = id;
+            this.value = value;
+            this.priority = priority;
+            this.maxEnd = end;
+        }
+    }
+
+    /**
+     * {@link #split}の結果（キー未満の木と以上の木。空の場合はnull）
+     */
+    private record Split<T>(Node<T> lower, Node<T> upper) {
+    }
+
+    // 優先度は固定シードで生成し、同じ操作列なら同じ木の形になるようにする
+    private final SplittableRandom random = new SplittableRandom(0x5EEDL);
+    private Node<T> root;
+    private int size;
+
+    /**
+     * 区間を追加
+     *
+     * @param start 開始（含む）
+     * @param end   終了（含む）
+     * @param id    区間の識別子（同じstart内で一意であること）
+     * @param value 値
+     * @throws IllegalArgumentException startがendより大きい場合
+     */
+    public void insert(long start, long end, long id, T value) {
+        if (start > end) {
+            throw new IllegalArgumentException("start must not be after end");
+        }
+        Split<T> parts = split(root, start, id);
+        root = merge(merge(parts.lower(), new Node<>(start, end, id, value, random.nextInt())), parts.upper());
+        size++;
+    }
+
+    /**
+     * 区間を削除
+     *
+     * @param start 追加時の開始
+     * @param id    追加時の識別子
+     * @return 削除した場合true
+     */
+    public boolean remove(long start, long id) {
+        Split<T> parts = split(root, start, id);
+        // 削除対象は右側の先頭（最小キー）に位置する
+        Split<T> target = id == Long.MAX_VALUE
+                ? split(parts.upper(), start + 1, Long.MIN_VALUE)
+                : split(parts.upper(), start, id + 1);
+        boolean removed = target.lower() != null;
+        if (removed) {
+            size--;
+        }
+        root = merge(parts.lower(), target.upper());
+        return removed;
+    }
+
+    /**
+     * 指定位置を含む区間の値を取得
+     *
+     * @param point 位置
+     * @return 該当する値（開始位置順）
+     */
+    public List<T> findContaining(long point) {
+        return findOverlapping(point, point);
+    }
+
+    /**
+     * 閉区間[from, to]と重なる区間の値を取得
+     *
+     * @param from 開始（含む）
+     * @param to   終了（含む）
+     * @return 該当する値（開始位置順）
+     */
+    public List<T> findOverlapping(long from, long to) {
+        List<T> result = new ArrayList<>();
+        collect(root, from, to, result);
+        return result;
+    }
+
+    /**
+     * すべての値を開始位置順に取得
+     *
+     * @return 値のリスト
+     */
+    public List<T> values() {
+        List<T> result = new ArrayList<>(size);
+        inOrder(root, result);
+        return result;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * すべての区間を削除
+     */
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    private static <T> void collect(Node<T> node, long from, long to, List<T> result) {
+        if (node == null || node.maxEnd < from) {
+            return; // 部分木内のどの区間もfrom以前に終わっている
+        }
+        collect(node.left, from, to, result);
+        if (node.start > to) {
+            return; // このノード以降（右部分木）はto以降に始まる
+        }
+        if (node.end >= from) {
+            result.add(node.value);
+        }
+        collect(node.right, from, to, result);
+    }
+
+    private static <T> void inOrder(Node<T> node, List<T> result) {
+        if (node != null) {
+            inOrder(node.left, result);
+            result.add(node.value);
+            inOrder(node.right, result);
+        }
+    }
+
+    /**
+     * キー(start, id)未満の木と以上の木に分割
+     */
+    private static <T> Split<T> split(Node<T> node, long start, long id) {
+        if (node == null) {
+            return new Split<>(null, null);
+        }
+        if (node.start < start || (node.start == start && node.id < id)) {
+            Split<T> parts = split(node.right, start, id);
+            node.right = parts.lower();
+            update(node);
+            return new Split<>(node, parts.upper());
+        }
+        Split<T> parts = split(node.left, start, id);
+        node.left = parts.upper();
+        update(node);
+        return new Split<>(parts.lower(), node);
+    }
+
+    /**
+     * leftのすべてのキーがrightより小さい2つの木を結合
+     */
+    private static <T> Node<T> merge(Node<T> left, Node<T> right) {
+        if (left == null) {
+            return right;
+        }
+        if (right == null) {
+            return left;
+        }
+        if (left.priority > right.priority) {
+            left.right = merge(left.right, right);
+            update(left);
+            return left;
+        }
+        right.left = merge(left, right.left);
+        update(right);
+        return right;
+    }
+
+    private static <T> void update(Node<T> node) {
+        long maxEnd = node.end;
+        if (node.left != null) {
+            maxEnd = Math.max(maxEnd, node.left.maxEnd);
+        }
+        if (node.right != null) {
+            maxEnd = Math.max(maxEnd, node.right.maxEnd);
+        }
+        node.maxEnd = maxEnd;
+    }
+}
@@ -0,0 +1,68 @@
+package com.example.mybatislearning.schedule;
+
+import com.example.mybatislearning.readmodel.PhaseRecord;
+
+import java.time.LocalDate;
+
+/**
+ * PhaseOverlap
+ * 同一プロジェクト内で計画期間が重なっている2つの工程
+ */
+public class PhaseOverlap {
+
+    private final PhaseRecord first;
+    private final PhaseRecord second;
+    private final LocalDate overlapStart;
+    private final LocalDate overlapEnd;
+
+    /**
+     * フィールド初期化コンストラクタ
+     *
+     * @param first  計画開始日が早い方の工程
+     * @param second 計画開始日が遅い方の工程
+     */
+    public PhaseOverlap(PhaseRecord first, PhaseRecord second) {
+        this.first = first;
+        this.second = second;
+        this.overlapStart = second.plannedStartDate();
+        this.overlapEnd = first.plannedEndDate().isBefore(second.plannedEndDate())
+                ? first.plannedEndDate()
+                : second.plannedEndDate();
+    }
+
+    public PhaseRecord getFirst() {
+        return first;
+    }
+
+    public PhaseRecord getSecond() {
+        return second;
+    }
+
+    /**
+     * 重なっている期間の開始日
+     *
+     * @return 開始日（含む）
+     */
+    public LocalDate getOverlapStart() {
+        return overlapStart;
+    }
+
+    /**
+     * 重なっている期間の終了日
+     *
+     * @return 終了日（含む）
+     */
+    public LocalDate getOverlapEnd() {
+        return overlapEnd;
+    }
+
+    @Override
+    public String toString() {
+        return "PhaseOverlap{" +
+                "first=" + first.id() + "(" + first.phaseType() + ")" +
+                ", second=" + second.id() + "(" + second.phaseType() + ")" +
+                ", overlapStart=" + overlapStart +
+                ", overlapEnd=" + overlapEnd +
+                '}';
+    }
+}
@@ -0,0 +1,457 @@
+package com.example.mybatislearning.schedule;
+
+import com.example.mybatislearning.entity.Phase;
+import com.example.mybatislearning.enums.PhaseStatus;
+import com.example.mybatislearning.mapper.PhaseMapper;
+import com.example.mybatislearning.readmodel.PhaseRecord;
+import org.apache.ibatis.cursor.Cursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+/**
+ * PhaseScheduleIndex
+ * 全工程の日程をメモリ上の区間木で保持し、稼働中・重複・遅延の工程を全件走査なしで検索するインデックス
+ *
+ * <p>保持する構造:</p>
+ * <ul>
+ * <li>実績（未着手の場合は計画）期間の区間木（全工程）: 指定日に稼働中の工程</li>
+ * <li>計画期間の区間木（プロジェクトごと）: プロジェクト内で計画期間が重なる工程</li>
+ * <li>未完了工程の計画終了日順の集合: 指定日時点で計画終了日を過ぎた工程</li>
+ * </ul>
+ *
+ * <p>初回の検索時にPhaseMapperのCursorで構築し、以降はPhaseServiceの作成・更新・削除から増分更新する。
+ * 増分更新は書き込んだトランザクションのコミット後に反映するため、未コミットの工程は（書き込み中のトランザクション自身を含め）
+ * 検索結果に現れず、ロールバックされた変更は反映されない。
+ * 構築はロックの外で、呼び出し元とは別の新しいトランザクションで行う。構築中にコミットされた書き込みがあった場合は、
+ * 読み込んだ内容に含まれているか判別できないため構築結果を破棄して読み込み直す。
+ * 工程は不変の{@link PhaseRecord}で保持・返却するため、防御的コピーは不要。</p>
+ */
+@Component
+public class PhaseScheduleIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(PhaseScheduleIndex.class);
+
+    /** 実績終了日のない着手済み工程の終了（無期限） */
+    private static final long OPEN_END = Long.MAX_VALUE;
+
+    /** 構築中の書き込みで読み込み直す回数の上限（超えた場合は未構築のまま、次回の検索で再度構築する） */
+    private static final int MAX_LOAD_ATTEMPTS = 3;
+
+    private static final Comparator<Entry> BY_PLANNED_END =
+            Comparator.comparingLong((Entry e) -> e.plannedEnd).thenComparingLong(e -> e.id);
+
+    private final PhaseMapper phaseMapper;
+    private final TransactionTemplate loadTransaction;
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    /** 構築を1スレッドに限定するロック（書き込みの反映はブロックしない） */
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    /** コミット済みの書き込みの通番（構築中に書き込みがあったかの判定に使用） */
+    private final AtomicLong generation = new AtomicLong();
+
+    // lockで保護する（未構築の場合はnull）
+    private Snapshot snapshot;
+
+    /**
+     * コンストラクタインジェクション
+     *
+     * @param phaseMapper        PhaseMapper（初回構築・再構築に使用）
+     * @param transactionManager 構築用のトランザクションに使用するトランザクションマネージャ
+     */
+    @Autowired
+    public PhaseScheduleIndex(PhaseMapper phaseMapper, PlatformTransactionManager transactionManager) {
+        this.phaseMapper = phaseMapper;
+        // 呼び出し元のスナップショットに依存しないよう新しいトランザクションで読み込む
+        // （読み取り専用にしないため、リードレプリカが有効でもレプリケーション遅延のないプライマリから読み込む）
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * 指定日に稼働中の工程を取得
+     * 着手済みの工程は実績開始日〜実績終了日（未完了の場合は無期限）、未着手の工程は計画期間で判定する
+     *
+     * @param date 対象日
+     * @return 稼働中の工程（開始日順）
+     */
+    public List<PhaseRecord> findActiveOn(LocalDate date) {
+        lock.readLock().lock();
+        try {
+            return phases(ensureBuilt().activeTree.findContaining(date.toEpochDay()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * プロジェクト内で計画期間が指定期間と重なる工程を取得
+     *
+     * @param projectId プロジェクトID
+     * @param from      開始日（含む）
+     * @param to        終了日（含む）
+     * @return 該当する工程（計画開始日順）
+     */
+    public List<PhaseRecord> findPlannedBetween(Long projectId, LocalDate from, LocalDate to) {
+        lock.readLock().lock();
+        try {
+            IntervalTree<Entry> tree = ensureBuilt().plannedByProject.get(projectId);
+            return tree == null ? new ArrayList<>() : phases(tree.findOverlapping(from.toEpochDay(), to.toEpochDay()));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * プロジェクト内で計画期間が重なっている工程の組を取得
+     *
+     * @param projectId プロジェクトID
+     * @return 重なっている工程の組（先の工程の計画開始日順）
+     */
+    public List<PhaseOverlap> findOverlapsInProject(Long projectId) {
+        lock.readLock().lock();
+        try {
+            List<PhaseOverlap> result = new ArrayList<>();
+            IntervalTree<Entry> tree = ensureBuilt().plannedByProject.get(projectId);
+            if (tree == null) {
+                return result;
+            }
+            for (Entry entry : tree.values()) {
+                for (Entry other : tree.findOverlapping(entry.plannedStart, entry.plannedEnd)) {
+                    // 各組を1回だけ数えるため、キー(計画開始日, ID)が後ろの工程とのみ組にする
+                    if (other.plannedStart > entry.plannedStart
+                            || (other.plannedStart == entry.plannedStart && other.id > entry.id)) {
+                        result.add(new PhaseOverlap(entry.phase, other.phase));
+                    }
+                }
+            }
+            return result;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 指定日時点で計画終了日を過ぎても完了していない工程を取得
+     *
+     * @param asOf 基準日
+     * @return 遅延している工程（計画終了日順）
+     */
+    public List<PhaseRecord> findOverdue(LocalDate asOf) {
+        lock.readLock().lock();
+        try {
+            return phases(ensureBuilt().openByPlannedEnd.headSet(Entry.probe(asOf.toEpochDay()), false));
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 本日時点で遅延している工程を取得
+     *
+     * @return 遅延している工程（計画終了日順）
+     */
+    public List<PhaseRecord> findOverdue() {
+        return findOverdue(LocalDate.now());
+    }
+
+    /**
+     * 工程の追加・更新を反映（トランザクション内の場合はコミット後。未構築の場合は何もしない）
+     * 呼び出し時点の値をPhaseRecordとして保持するため、以降のPhaseの変更は反映されない
+     *
+     * @param phase 登録・更新後のPhase（IDが設定されていること）
+     */
+    public void put(Phase phase) {
+        put(PhaseRecord.of(phase));
+    }
+
+    /**
+     * 工程の追加・更新を反映（トランザクション内の場合はコミット後。未構築の場合、またはrecordがnullの場合は何もしない）
+     *
+     * @param record 登録・更新後の工程
+     */
+    public void put(PhaseRecord record) {
+        if (record == null) {
+            return;
+        }
+        afterCommit(current -> {
+            current.remove(record.id());
+            current.add(record);
+        });
+    }
+
+    /**
+     * 工程の削除を反映（トランザクション内の場合はコミット後。未構築の場合は何もしない）
+     *
+     * @param phaseId 削除したPhase ID
+     */
+    public void remove(Long phaseId) {
+        afterCommit(current -> current.remove(phaseId));
+    }
+
+    /**
+     * プロジェクトの全工程の削除を反映（プロジェクト削除時のON DELETE CASCADEに対応。トランザクション内の場合はコミット後）
+     *
+     * @param projectId 削除したプロジェクトID
+     */
+    public void removeProject(Long projectId) {
+        afterCommit(current -> {
+            IntervalTree<Entry> tree = current.plannedByProject.get(projectId);
+            if (tree != null) {
+                for (Entry entry : tree.values()) {
+                    current.remove(entry.id);
+                }
+            }
+        });
+    }
+
+    /**
+     * インデックスを破棄（次回の検索時に再構築される）
+     */
+    public void invalidate() {
+        generation.incrementAndGet();
+        lock.writeLock().lock();
+        try {
+            snapshot = null;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * PhaseMapperから全工程を読み込み直してインデックスを再構築
+     *
+     * @return 登録した工程数
+     */
+    public int rebuild() {
+        invalidate();
+        lock.readLock().lock();
+        try {
+            return ensureBuilt().entries.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * 構築済みのインデックスを取得（未構築の場合は構築する）
+     * 読み取りロックを保持した状態で呼び出すこと。構築中は一時的に読み取りロックを解放する
+     */
+    private Snapshot ensureBuilt() {
+        Snapshot current = snapshot;
+        if (current != null) {
+            return current;
+        }
+        lock.readLock().unlock();
+        try {
+            return load();
+        } finally {
+            lock.readLock().lock();
+        }
+    }
+
+    private Snapshot load() {
+        loadLock.lock();
+        try {
+            long start = System.nanoTime();
+            Snapshot loaded = null;
+            for (int attempt = 1; attempt <= MAX_LOAD_ATTEMPTS; attempt++) {
+                lock.readLock().lock();
+                try {
+                    if (snapshot != null) {
+                        return snapshot; // 待っている間に他のスレッドが構築した
+                    }
+                } finally {
+                    lock.readLock().unlock();
+                }
+                long startGeneration = generation.get();
+                loaded = read();
+                lock.writeLock().lock();
+                try {
+                    // 読み込み中にコミットされた書き込みは、読み込んだ内容に含まれているか判別できないため破棄して読み込み直す
+                    if (generation.get() == startGeneration) {
+                        snapshot = loaded;
+                        logger.info("Phase schedule index built: {} phases in {} ms",
+                                loaded.entries.size(), (System.nanoTime() - start) / 1_000_000);
+                        return loaded;
+                    }
+                } finally {
+                    lock.writeLock().unlock();
+                }
+            }
+            // 書き込みが続いている場合は今回の検索にのみ使い、保持はしない
+            logger.warn("Phase schedule index was modified during {} builds; it will be rebuilt on the next query",
+                    MAX_LOAD_ATTEMPTS);
+            return loaded;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private Snapshot read() {
+        return loadTransaction.execute(status -> {
+            Snapshot loaded = new Snapshot();
+            try (Cursor<PhaseRecord> cursor = phaseMapper.selectAllRecordsAsCursor()) {
+                for (PhaseRecord phase : cursor) {
+                    loaded.add(phase);
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException("Cursorのクローズに失敗しました", e);
+            }
+            return loaded;
+        });
+    }
+
+    /**
+     * 増分更新をコミット後に反映する（トランザクション外の場合はすぐに反映する）
+     * ロールバックされた場合は何も反映しない
+     */
+    private void afterCommit(Consumer<Snapshot> change) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    apply(change);
+                }
+            });
+        } else {
+            apply(change);
+        }
+    }
+
+    private void apply(Consumer<Snapshot> change) {
+        // 構築中の場合は構築側に読み込み直させる
+        generation.incrementAndGet();
+        lock.writeLock().lock();
+        try {
+            if (snapshot != null) {
+                change.accept(snapshot);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    private static List<PhaseRecord> phases(Iterable<Entry> entries) {
+        List<PhaseRecord> result = new ArrayList<>();
+        for (Entry entry : entries) {
+            result.add(entry.phase);
+        }
+        return result;
+    }
+
+    /**
+     * 構築済みのインデックス本体
+     */
+    private static final class Snapshot {
+        final Map<Long, Entry> entries = new HashMap<>();
+        final IntervalTree<Entry> activeTree = new IntervalTree<>();
+        final Map<Long, IntervalTree<Entry>> plannedByProject = new HashMap<>();
+        final NavigableSet<Entry> openByPlannedEnd = new TreeSet<>(BY_PLANNED_END);
+
+        void add(PhaseRecord phase) {
+            if (phase.id() == null || phase.plannedStartDate() == null || phase.plannedEndDate() == null) {
+                return; // 計画期間のない工程は索引対象外
+            }
+            if (phase.plannedStartDate().isAfter(phase.plannedEndDate())) {
+                // 計画期間が逆転した行で構築・増分更新全体を失敗させない
+                logger.warn("Phase {} is not indexed: planned start {} is after planned end {}",
+                        phase.id(), phase.plannedStartDate(), phase.plannedEndDate());
+                return;
+            }
+            Entry entry = new Entry(phase);
+            entries.put(entry.id, entry);
+            activeTree.insert(entry.activeStart, entry.activeEnd, entry.id, entry);
+            plannedByProject.computeIfAbsent(phase.projectId(), id -> new IntervalTree<>())
+                    .insert(entry.plannedStart, entry.plannedEnd, entry.id, entry);
+            if (entry.open) {
+                openByPlannedEnd.add(entry);
+            }
+        }
+
+        void remove(Long phaseId) {
+            Entry entry = entries.remove(phaseId);
+            if (entry == null) {
+                return;
+            }
+            activeTree.remove(entry.activeStart, entry.id);
+            IntervalTree<Entry> tree = plannedByProject.get(entry.projectId);
+            if (tree != null) {
+                tree.remove(entry.plannedStart, entry.id);
+                if (tree.isEmpty()) {
+                    plannedByProject.remove(entry.projectId);
+                }
+            }
+            openByPlannedEnd.remove(entry);
+        }
+    }
+
+    /**
+     * インデックス内の1工程（区間の計算結果を保持）
+     */
+    private static final class Entry {
+        final long id;
+        final Long projectId;
+        final PhaseRecord phase;
+        final long plannedStart;
+        final long plannedEnd;
+        final long activeStart;
+        final long activeEnd;
+        final boolean open;
+
+        Entry(PhaseRecord phase) {
+            this.id = phase.id();
+            this.projectId = phase.projectId();
+            this.phase = phase;
+            this.plannedStart = phase.plannedStartDate().toEpochDay();
+            this.plannedEnd = phase.plannedEndDate().toEpochDay();
+            boolean started = phase.actualStartDate() != null;
+            this.activeStart = started ? phase.actualStartDate().toEpochDay() : plannedStart;
+            if (phase.actualEndDate() != null) {
+                this.activeEnd = Math.max(activeStart, phase.actualEndDate().toEpochDay());
+            } else {
+                this.activeEnd = started ? OPEN_END : Math.max(activeStart, plannedEnd);
+            }
+            this.open = phase.actualEndDate() == null && phase.status() != PhaseStatus.COMPLETED;
+        }
+
+        private Entry(long plannedEnd) {
+            this.id = Long.MIN_VALUE;
+            this.projectId = null;
+            this.phase = null;
+            this.plannedStart = 0;
+            this.plannedEnd = plannedEnd;
+            this.activeStart = 0;
+            this.activeEnd = 0;
+            this.open = false;
+        }
+
+        /**
+         * 計画終了日での範囲検索に使う比較用のエントリ
+         */
+        static Entry probe(long plannedEnd) {
+            return new Entry(plannedEnd);
+        }
+    }
+}
@@ -0,0 +1,17 @@
+/**
+ * 工程日程インデックスパッケージを提供します
+ *
+ * <p>
+ * 主なクラス:
+ * </p>
+ * <ul>
+ * <li>PhaseScheduleIndex</li>
+ * <li>IntervalTree</li>
+ * <li>PhaseOverlap</li>
+ * </ul>
+ *
+ * <p>
+ * このパッケージはphasesの計画・実績期間をメモリ上の区間木で保持し、稼働中・重複・遅延の工程検索を提供します。
+ * </p>
+ */
+package com.example.mybatislearning.schedule;
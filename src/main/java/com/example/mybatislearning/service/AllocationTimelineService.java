@@ -0,0 +1,242 @@
+package com.example.mybatislearning.service;
+
+import com.example.mybatislearning.allocation.AllocationSegment;
+import com.example.mybatislearning.allocation.AllocationTimelineBuilder;
+import com.example.mybatislearning.allocation.PersonAllocationTimeline;
+import com.example.mybatislearning.entity.ProjectMember;
+import com.example.mybatislearning.mapper.ProjectMemberMapper;
+import org.apache.ibatis.cursor.Cursor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * AllocationTimelineService
+ * 人ごとの稼働タイムライン（日ごとの稼働率合計）を管理するサービス
+ *
+ * <p>project_membersをPerson ID順に1回だけストリーミングで走査し、区間スイープで人ごとのタイムラインを構築する。
+ * 構築したタイムラインはメモリ上のインデックスとして保持し、日付・期間の検索は二分探索で応答する。
+ * 参画情報が変更された場合は{@link #invalidate()}で破棄し、次回の検索時に再構築する。
+ * 破棄のたびに世代番号を進め、構築開始時から世代番号が変わっていない場合のみ構築結果を公開するため、
+ * 構築中に破棄された（古い内容を読んだ可能性のある）構築結果は公開されない。
+ * 構築は同時に1スレッドのみが行い、待っていたスレッドは構築結果を再確認して使用する（破棄のたびに全員が走査しない）。</p>
+ *
+ * <p>共有のインデックスは呼び出し元とは別の新しいトランザクション（読み取り専用にしないため、リードレプリカが有効でも
+ * レプリケーション遅延のないプライマリ）で構築する。参画を変更したトランザクション内の検索は、
+ * 自身の未コミットの変更が見えるよう現在のトランザクションで構築し、そのトランザクション内でのみ使用する。</p>
+ */
+@Service
+public class AllocationTimelineService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AllocationTimelineService.class);
+
+    private final ProjectMemberMapper projectMemberMapper;
+    private final TransactionTemplate loadTransaction;
+
+    // 参画を変更したトランザクションに登録する、そのトランザクション専用のインデックスのキー
+    private final Object localIndexKey = new Object();
+
+    // 構築済みのインデックス（再構築時は丸ごと差し替える。更新はgenerationとあわせてthisで同期する）
+    private volatile Map<Long, PersonAllocationTimeline> timelines;
+
+    // invalidate()のたびに進める世代番号（thisで保護する）
+    private long generation;
+
+    // 共有のインデックスの構築を1スレッドに限定するロック
+    private final ReentrantLock loadLock = new ReentrantLock();
+
+    /**
+     * コンストラクタインジェクション
+     *
+     * @param projectMemberMapper ProjectMemberMapper
+     * @param transactionManager  共有のインデックスの構築に使用するトランザクションマネージャ
+     */
+    @Autowired
+    public AllocationTimelineService(ProjectMemberMapper projectMemberMapper,
+                                     PlatformTransactionManager transactionManager) {
+        this.projectMemberMapper = projectMemberMapper;
+        this.loadTransaction = new TransactionTemplate(transactionManager);
+        this.loadTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * project_membersを1回走査してタイムラインを再構築
+     *
+     * @return タイムラインを構築した人数
+     */
+    public int rebuild() {
+        discard();
+        return load().size();
+    }
+
+    private Map<Long, PersonAllocationTimeline> load() {
+        loadLock.lock();
+        try {
+            Map<Long, PersonAllocationTimeline> current = timelines;
+            if (current != null) {
+                return current; // 待っている間に他のスレッドが構築した
+            }
+            long startGeneration;
+            synchronized (this) {
+                startGeneration = generation;
+            }
+            Map<Long, PersonAllocationTimeline> built = loadTransaction.execute(status -> read());
+            boolean published = publish(built, startGeneration);
+            if (!published) {
+                logger.info("Allocation timelines were invalidated during the build; the result is not published");
+            }
+            return built;
+        } finally {
+            loadLock.unlock();
+        }
+    }
+
+    private Map<Long, PersonAllocationTimeline> read() {
+        long start = System.nanoTime();
+        Map<Long, PersonAllocationTimeline> built = new HashMap<>();
+        AllocationTimelineBuilder builder = new AllocationTimelineBuilder(
+                timeline -> built.put(timeline.getPersonId(), timeline));
+        try (Cursor<ProjectMember> cursor = projectMemberMapper.selectAllOrderByPersonAsCursor()) {
+            cursor.forEach(builder);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cursorのクローズに失敗しました", e);
+        }
+        builder.finish();
+        logger.info("Allocation timelines rebuilt: {} persons from {} assignments in {} ms",
+                built.size(), builder.getRowCount(), (System.nanoTime() - start) / 1_000_000);
+        return built;
+    }
+
+    /**
+     * 構築開始時から破棄されていない場合のみ構築結果を公開
+     */
+    private synchronized boolean publish(Map<Long, PersonAllocationTimeline> built, long startGeneration) {
+        if (generation != startGeneration) {
+            return false;
+        }
+        timelines = built;
+        return true;
+    }
+
+    /**
+     * 構築済みのタイムラインを破棄（次回の検索時に再構築される）
+     * トランザクション内で呼ばれた場合は、コミット前の内容で構築されたインデックスが残らないよう
+     * トランザクション完了時（コミット・ロールバック）にも破棄し、それまでの検索は現在のトランザクションで構築する
+     */
+    public void invalidate() {
+        discard();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        if (TransactionSynchronizationManager.getResource(localIndexKey) instanceof LocalIndex local) {
+            local.timelines = null;
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(localIndexKey, new LocalIndex());
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(localIndexKey);
+                discard();
+            }
+        });
+    }
+
+    private synchronized void discard() {
+        generation++;
+        timelines = null;
+    }
+
+    /**
+     * 人のタイムラインを取得
+     *
+     * @param personId Person ID
+     * @return タイムライン（参画がない場合は区間なし）
+     */
+    public PersonAllocationTimeline getTimeline(Long personId) {
+        PersonAllocationTimeline timeline = index().get(personId);
+        return timeline != null ? timeline : AllocationTimelineBuilder.build(personId, List.of());
+    }
+
+    /**
+     * 指定日の稼働率合計を取得（O(log n)）
+     *
+     * @param personId Person ID
+     * @param date     対象日
+     * @return 稼働率合計（参画がない日は0）
+     */
+    public BigDecimal getAllocationOn(Long personId, LocalDate date) {
+        return getTimeline(personId).allocationOn(date);
+    }
+
+    /**
+     * 指定期間の稼働区間を取得（O(log n + k)）
+     *
+     * @param personId Person ID
+     * @param from     開始日（含む）
+     * @param to       終了日（含む）
+     * @return 期間と重なる区間（開始日順）
+     * @throws IllegalArgumentException fromがtoより後の場合
+     */
+    public List<AllocationSegment> getAllocations(Long personId, LocalDate from, LocalDate to) {
+        return getTimeline(personId).segmentsBetween(from, to);
+    }
+
+    /**
+     * 稼働率合計が1.0を超えている区間を全員分取得
+     *
+     * @return 過剰アサインの区間（Person ID、開始日順）
+     */
+    public List<AllocationSegment> findOverAllocations() {
+        List<PersonAllocationTimeline> overAllocated = new ArrayList<>();
+        for (PersonAllocationTimeline timeline : index().values()) {
+            if (timeline.isOverAllocated()) {
+                overAllocated.add(timeline);
+            }
+        }
+        overAllocated.sort((a, b) -> Long.compare(a.getPersonId(), b.getPersonId()));
+        List<AllocationSegment> result = new ArrayList<>();
+        for (PersonAllocationTimeline timeline : overAllocated) {
+            result.addAll(timeline.getOverAllocatedSegments());
+        }
+        return Collections.unmodifiableList(result);
+    }
+
+    private Map<Long, PersonAllocationTimeline> index() {
+        if (TransactionSynchronizationManager.getResource(localIndexKey) instanceof LocalIndex local) {
+            if (local.timelines == null) {
+                local.timelines = read();
+            }
+            return local.timelines;
+        }
+        Map<Long, PersonAllocationTimeline> current = timelines;
+        if (current == null) {
+            current = load();
+        }
+        return current;
+    }
+
+    /**
+     * 参画を変更したトランザクション専用のインデックス
+     */
+    private static final class LocalIndex {
+        Map<Long, PersonAllocationTimeline> timelines;
+    }
+}
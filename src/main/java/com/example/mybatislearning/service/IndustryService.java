@@ -2,6 +2,9 @@ package com.example.mybatislearning.service;
 
 import com.example.mybatislearning.entity.Industry;
 import com.example.mybatislearning.mapper.IndustryMapper;
+import com.example.mybatislearning.pagination.KeysetPage;
+import com.example.mybatislearning.pagination.PageToken;
+import com.example.mybatislearning.readmodel.IndustryRecord;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -49,13 +52,43 @@ public class IndustryService {
     }
 
     /**
-     * すべてのIndustryを取得
+     * すべてのIndustryを参照専用のIndustryRecordで取得
      *
-     * @return Industryのリスト
+     * @return IndustryRecordのリスト
      */
     @Transactional(readOnly = true)
-    public List<Industry> findAll() {
-        return industryMapper.selectAll();
+    public List<IndustryRecord> findAll() {
+        return industryMapper.selectAllRecords();
+    }
+
+    /**
+     * IDでIndustryRecord（参照専用の不変record）を取得
+     * 更新しない参照ではsetterのリフレクション呼び出しがないこちらを使う
+     *
+     * @param id Industry ID
+     * @return 該当するIndustryRecord、存在しない場合はnull
+     */
+    @Transactional(readOnly = true)
+    public IndustryRecord findRecordById(Long id) {
+        return industryMapper.selectRecordById(id);
+    }
+
+    /**
+     * IndustryをID順にページ単位で取得（キーセットページング）
+     * 小さなテーブルではfindAll()を使用し、大量データでは本メソッドで分割取得する
+     *
+     * @param pageToken 前ページで返された継続トークン（先頭ページの場合はnull）
+     * @param limit     1ページあたりの件数（1〜{@link KeysetPage#MAX_LIMIT}）
+     * @return IndustryRecordのページと次ページの継続トークン
+     * @throws IllegalArgumentException トークンの形式またはlimitが不正な場合
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<IndustryRecord> findPage(String pageToken, int limit) {
+        KeysetPage.validateLimit(limit);
+        Long lastId = PageToken.decode(pageToken);
+        // 1件多く取得して次ページの有無を判定
+        List<IndustryRecord> rows = industryMapper.selectRecordPageAfter(lastId, limit + 1);
+        return KeysetPage.of(rows, limit, IndustryRecord::id);
     }
 
     /**
@@ -2,6 +2,9 @@ package com.example.mybatislearning.service;
 
 import com.example.mybatislearning.entity.Organization;
 import com.example.mybatislearning.mapper.OrganizationMapper;
+import com.example.mybatislearning.pagination.KeysetPage;
+import com.example.mybatislearning.pagination.PageToken;
+import com.example.mybatislearning.readmodel.OrganizationRecord;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -49,13 +52,43 @@ public class OrganizationService {
     }
 
     /**
-     * すべてのOrganizationを取得
+     * すべてのOrganizationを参照専用のOrganizationRecordで取得
      *
-     * @return Organizationのリスト
+     * @return OrganizationRecordのリスト
      */
     @Transactional(readOnly = true)
-    public List<Organization> getAllOrganizations() {
-        return organizationMapper.selectAll();
+    public List<OrganizationRecord> getAllOrganizations() {
+        return organizationMapper.selectAllRecords();
+    }
+
+    /**
+     * IDでOrganizationRecord（参照専用の不変record）を取得
+     * 更新しない参照ではsetterのリフレクション呼び出しがないこちらを使う
+     *
+     * @param id Organization ID
+     * @return 該当するOrganizationRecord、存在しない場合はnull
+     */
+    @Transactional(readOnly = true)
+    public OrganizationRecord findRecordById(Long id) {
+        return organizationMapper.selectRecordById(id);
+    }
+
+    /**
+     * OrganizationをID順にページ単位で取得（キーセットページング）
+     * 小さなテーブルではgetAllOrganizations()を使用し、大量データでは本メソッドで分割取得する
+     *
+     * @param pageToken 前ページで返された継続トークン（先頭ページの場合はnull）
+     * @param limit     1ページあたりの件数（1〜{@link KeysetPage#MAX_LIMIT}）
+     * @return OrganizationRecordのページと次ページの継続トークン
+     * @throws IllegalArgumentException トークンの形式またはlimitが不正な場合
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<OrganizationRecord> getOrganizationPage(String pageToken, int limit) {
+        KeysetPage.validateLimit(limit);
+        Long lastId = PageToken.decode(pageToken);
+        // 1件多く取得して次ページの有無を判定
+        List<OrganizationRecord> rows = organizationMapper.selectRecordPageAfter(lastId, limit + 1);
+        return KeysetPage.of(rows, limit, OrganizationRecord::id);
     }
 
     /**
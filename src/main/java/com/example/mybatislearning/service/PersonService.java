@@ -1,7 +1,12 @@
 package com.example.mybatislearning.service;
 
+import com.example.mybatislearning.batch.BatchInsertTemplate;
 import com.example.mybatislearning.entity.Person;
 import com.example.mybatislearning.mapper.PersonMapper;
+import com.example.mybatislearning.pagination.KeysetPage;
+import com.example.mybatislearning.pagination.PageToken;
+import com.example.mybatislearning.readmodel.PersonRecord;
+import com.example.mybatislearning.tracking.ChangeTracking;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -17,6 +22,7 @@ import java.util.regex.Pattern;
 public class PersonService {
 
     private final PersonMapper personMapper;
+    private final BatchInsertTemplate batchInsertTemplate;
 
     // メールアドレスの形式検証用パターン
     private static final Pattern EMAIL_PATTERN = Pattern.compile(
@@ -27,10 +33,12 @@ public class PersonService {
      * コンストラクタインジェクション
      *
      * @param personMapper PersonMapper
+     * @param batchInsertTemplate バッチ書き込み用ヘルパー
      */
     @Autowired
-    public PersonService(PersonMapper personMapper) {
+    public PersonService(PersonMapper personMapper, BatchInsertTemplate batchInsertTemplate) {
         this.personMapper = personMapper;
+        this.batchInsertTemplate = batchInsertTemplate;
     }
 
     /**
@@ -46,6 +54,22 @@ public class PersonService {
         personMapper.insert(person);
     }
 
+    /**
+     * 複数のPersonを一括作成
+     * 全件のメールアドレス形式を書き込み前に検証し、ExecutorType.BATCHでまとめて挿入する
+     * 生成されたIDは各Personに設定される
+     *
+     * @param persons 作成するPersonのリスト
+     * @throws IllegalArgumentException いずれかのメールアドレスの形式が不正な場合（1件も書き込まれない）
+     */
+    @Transactional
+    public void createPersons(List<Person> persons) {
+        for (Person person : persons) {
+            validateEmail(person.getEmail());
+        }
+        batchInsertTemplate.execute(PersonMapper.class, persons, PersonMapper::insert);
+    }
+
     /**
      * IDでPersonを取得
      *
@@ -58,13 +82,43 @@ public class PersonService {
     }
 
     /**
-     * すべてのPersonを取得
+     * すべてのPersonを参照専用のPersonRecordで取得
+     *
+     * @return PersonRecordのリスト
+     */
+    @Transactional(readOnly = true)
+    public List<PersonRecord> findAll() {
+        return personMapper.selectAllRecords();
+    }
+
+    /**
+     * PersonをID順にページ単位で取得（キーセットページング）
+     * 小さなテーブルではfindAll()を使用し、大量データでは本メソッドで分割取得する
+     *
+     * @param pageToken 前ページで返された継続トークン（先頭ページの場合はnull）
+     * @param limit     1ページあたりの件数（1〜{@link KeysetPage#MAX_LIMIT}）
+     * @return PersonRecordのページと次ページの継続トークン
+     * @throws IllegalArgumentException トークンの形式またはlimitが不正な場合
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<PersonRecord> findPage(String pageToken, int limit) {
+        KeysetPage.validateLimit(limit);
+        Long lastId = PageToken.decode(pageToken);
+        // 1件多く取得して次ページの有無を判定
+        List<PersonRecord> rows = personMapper.selectRecordPageAfter(lastId, limit + 1);
+        return KeysetPage.of(rows, limit, PersonRecord::id);
+    }
+
+    /**
+     * IDでPersonRecord（参照専用の不変record）を取得
+     * 更新しない参照ではsetterのリフレクション呼び出しがないこちらを使う
      *
-     * @return Personのリスト
+     * @param id Person ID
+     * @return 該当するPersonRecord、存在しない場合はnull
      */
     @Transactional(readOnly = true)
-    public List<Person> findAll() {
-        return personMapper.selectAll();
+    public PersonRecord findRecordById(Long id) {
+        return personMapper.selectRecordById(id);
     }
 
     /**
@@ -80,15 +134,22 @@ public class PersonService {
 
     /**
      * Personを更新
-     * メールアドレスの形式検証を行う
+     * メールアドレスの形式検証を行う（メールアドレスを変更した場合）
+     * setterで変更された列だけを更新する（変更がない場合はSQLを発行しない）
      *
      * @param person 更新するPerson
      * @throws IllegalArgumentException メールアドレスの形式が不正な場合
      */
     @Transactional
     public void updatePerson(Person person) {
-        validateEmail(person.getEmail());
-        personMapper.update(person);
+        if (!person.hasChanges()) {
+            return;
+        }
+        if (person.getChangedProperties().contains("email")) {
+            validateEmail(person.getEmail());
+        }
+        personMapper.updateChanged(person);
+        ChangeTracking.written(person);
     }
 
     /**
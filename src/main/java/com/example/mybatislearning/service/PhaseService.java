@@ -1,14 +1,32 @@
 package com.example.mybatislearning.service;
 
+import com.example.mybatislearning.batch.BatchInsertTemplate;
 import com.example.mybatislearning.entity.Phase;
+import com.example.mybatislearning.locking.OptimisticLock;
+import com.example.mybatislearning.locking.OptimisticRetry;
+import com.example.mybatislearning.locking.VersionConflictException;
 import com.example.mybatislearning.mapper.PhaseMapper;
+import com.example.mybatislearning.pagination.KeysetPage;
+import com.example.mybatislearning.pagination.PageToken;
+import com.example.mybatislearning.readmodel.PhaseRecord;
+import com.example.mybatislearning.schedule.PhaseOverlap;
+import com.example.mybatislearning.schedule.PhaseScheduleIndex;
+import com.example.mybatislearning.tracking.ChangeTracking;
+import org.apache.ibatis.cursor.Cursor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.function.Consumer;
 
 /**
  * PhaseService
@@ -20,25 +38,56 @@ public class PhaseService {
     private static final Logger logger = LoggerFactory.getLogger(PhaseService.class);
 
     private final PhaseMapper phaseMapper;
+    private final BatchInsertTemplate batchInsertTemplate;
+    private final PhaseScheduleIndex phaseScheduleIndex;
+    private final TransactionTemplate retryTransaction;
 
     /**
      * コンストラクタインジェクション
      *
      * @param phaseMapper PhaseMapper
+     * @param batchInsertTemplate バッチ書き込み用ヘルパー
+     * @param phaseScheduleIndex 工程日程インデックス（書き込み時に増分更新する）
+     * @param transactionManager 楽観ロックの再試行を1回ずつ新しいトランザクションで実行するため
      */
     @Autowired
-    public PhaseService(PhaseMapper phaseMapper) {
+    public PhaseService(PhaseMapper phaseMapper, BatchInsertTemplate batchInsertTemplate,
+                        PhaseScheduleIndex phaseScheduleIndex,
+                        PlatformTransactionManager transactionManager) {
         this.phaseMapper = phaseMapper;
+        this.batchInsertTemplate = batchInsertTemplate;
+        this.phaseScheduleIndex = phaseScheduleIndex;
+        this.retryTransaction = new TransactionTemplate(transactionManager);
+        this.retryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
     /**
      * 新しいPhaseを作成
      *
      * @param phase 作成するPhase
+     * @throws IllegalArgumentException 計画開始日が計画終了日より後の場合
      */
     @Transactional
     public void createPhase(Phase phase) {
+        validatePlannedDates(phase);
         phaseMapper.insert(phase);
+        phaseScheduleIndex.put(phase);
+    }
+
+    /**
+     * 複数のPhaseを一括作成
+     * ExecutorType.BATCHでまとめて挿入し、生成されたIDは各Phaseに設定される
+     *
+     * @param phases 作成するPhaseのリスト
+     * @throws IllegalArgumentException 計画開始日が計画終了日より後のPhaseが含まれる場合
+     */
+    @Transactional
+    public void createPhases(List<Phase> phases) {
+        phases.forEach(this::validatePlannedDates);
+        batchInsertTemplate.execute(PhaseMapper.class, phases, PhaseMapper::insert);
+        for (Phase phase : phases) {
+            phaseScheduleIndex.put(phase);
+        }
     }
 
     /**
@@ -53,34 +102,121 @@ public class PhaseService {
     }
 
     /**
-     * すべてのPhaseを取得
+     * すべてのPhaseを参照専用のPhaseRecordで取得
      *
-     * @return Phaseのリスト
+     * @return PhaseRecordのリスト
      */
     @Transactional(readOnly = true)
-    public List<Phase> findAll() {
-        return phaseMapper.selectAll();
+    public List<PhaseRecord> findAll() {
+        return phaseMapper.selectAllRecords();
+    }
+
+    /**
+     * PhaseをID順にページ単位で取得（キーセットページング）
+     * 小さなテーブルではfindAll()を使用し、大量データでは本メソッドで分割取得する
+     *
+     * @param pageToken 前ページで返された継続トークン（先頭ページの場合はnull）
+     * @param limit     1ページあたりの件数（1〜{@link KeysetPage#MAX_LIMIT}）
+     * @return PhaseRecordのページと次ページの継続トークン
+     * @throws IllegalArgumentException トークンの形式またはlimitが不正な場合
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<PhaseRecord> findPage(String pageToken, int limit) {
+        KeysetPage.validateLimit(limit);
+        Long lastId = PageToken.decode(pageToken);
+        // 1件多く取得して次ページの有無を判定
+        List<PhaseRecord> rows = phaseMapper.selectRecordPageAfter(lastId, limit + 1);
+        return KeysetPage.of(rows, limit, PhaseRecord::id);
+    }
+
+    /**
+     * IDでPhaseRecord（参照専用の不変record）を取得
+     * 更新しない参照ではsetterのリフレクション呼び出しがないこちらを使う
+     *
+     * @param id Phase ID
+     * @return 該当するPhaseRecord、存在しない場合はnull
+     */
+    @Transactional(readOnly = true)
+    public PhaseRecord findRecordById(Long id) {
+        return phaseMapper.selectRecordById(id);
+    }
+
+    /**
+     * すべてのPhaseをID順に1件ずつconsumerへ渡す（ストリーミング読み取り）
+     * Cursorの読み取り中はトランザクションとSqlSessionを開いたままにするため、
+     * テーブルの件数に関わらずメモリ使用量は一定となる
+     *
+     * @param consumer 各Phaseを処理する関数
+     * @return 処理した件数
+     */
+    @Transactional(readOnly = true)
+    public long streamAll(Consumer<Phase> consumer) {
+        long count = 0;
+        try (Cursor<Phase> cursor = phaseMapper.selectAllAsCursor()) {
+            for (Phase phase : cursor) {
+                consumer.accept(phase);
+                count++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cursorのクローズに失敗しました", e);
+        }
+        return count;
+    }
+
+    /**
+     * 指定日に稼働中のPhaseを取得（{@link PhaseScheduleIndex}を使用）
+     *
+     * @param date 対象日
+     * @return 稼働中のPhaseのリスト
+     */
+    public List<PhaseRecord> findActiveOn(LocalDate date) {
+        return phaseScheduleIndex.findActiveOn(date);
+    }
+
+    /**
+     * プロジェクト内で計画期間が重なっているPhaseの組を取得（{@link PhaseScheduleIndex}を使用）
+     *
+     * @param projectId プロジェクトID
+     * @return 重なっているPhaseの組のリスト
+     */
+    public List<PhaseOverlap> findOverlapsInProject(Long projectId) {
+        return phaseScheduleIndex.findOverlapsInProject(projectId);
+    }
+
+    /**
+     * 本日時点で計画終了日を過ぎても完了していないPhaseを取得（{@link PhaseScheduleIndex}を使用）
+     *
+     * @return 遅延しているPhaseのリスト
+     */
+    public List<PhaseRecord> findOverdue() {
+        return phaseScheduleIndex.findOverdue();
     }
 
     /**
-     * プロジェクトIDでPhaseを検索
+     * プロジェクトIDでPhaseを参照専用のPhaseRecordで検索
      *
      * @param projectId プロジェクトID
-     * @return 該当するPhaseのリスト
+     * @return 該当するPhaseRecordのリスト
      */
     @Transactional(readOnly = true)
-    public List<Phase> findByProjectId(Long projectId) {
-        return phaseMapper.findByProjectId(projectId);
+    public List<PhaseRecord> findByProjectId(Long projectId) {
+        return phaseMapper.findRecordsByProjectId(projectId);
     }
 
     /**
      * Phaseを更新
      * actualEndDate < plannedEndDateの場合、警告ログを出力
+     * setterで変更された列だけを更新する（変更がない場合はSQLを発行しない）
+     * versionを照合し、読み込み後に他のトランザクションが更新していた場合は更新しない
      *
-     * @param phase 更新するPhase
+     * @param phase 更新するPhase（DBから読み込むか作成してversionが設定されていること）
+     * @throws IllegalArgumentException 計画開始日が計画終了日より後の場合、またはversionが設定されていない場合
+     * @throws VersionConflictException 読み込み後に他のトランザクションが更新・削除していた場合
      */
-    @Transactional
+    @Transactional(noRollbackFor = VersionConflictException.class)
     public void updatePhase(Phase phase) {
+        validatePlannedDates(phase);
+        OptimisticLock.requireVersion(phase);
         // actualEndDateがplannedEndDateより早い場合、警告ログを出力
         if (phase.getActualEndDate() != null && phase.getPlannedEndDate() != null) {
             if (phase.getActualEndDate().isBefore(phase.getPlannedEndDate())) {
@@ -91,7 +227,33 @@ public class PhaseService {
             }
         }
 
-        phaseMapper.update(phase);
+        if (!phase.hasChanges()) {
+            return;
+        }
+        OptimisticLock.checkUpdated(phaseMapper.updateChanged(phase), phase);
+        ChangeTracking.written(phase);
+        if (phase.isLoaded()) {
+            phaseScheduleIndex.put(phase);
+        } else {
+            // newで生成したPhaseは未設定の列がDBの値と異なるため、更新後の行を読み直して反映する
+            phaseScheduleIndex.put(phaseMapper.selectRecordById(phase.getId()));
+        }
+    }
+
+    /**
+     * 最新のPhaseを読み込んで変更を適用し、更新
+     * 他のトランザクションと競合した場合は読み直して変更を適用し直す（最大{@link OptimisticRetry#DEFAULT_MAX_ATTEMPTS}回）
+     * 各試行は新しいトランザクションで実行するため、トランザクションの外から呼び出すこと
+     *
+     * @param id      更新するPhase ID
+     * @param changes 読み込んだPhaseに適用する変更（setterで設定した列だけが更新される）
+     * @return 更新したPhase、存在しない場合はnull
+     * @throws VersionConflictException 最大回数まで競合した場合
+     * @throws IllegalStateException    トランザクション内から呼び出した場合
+     */
+    public Phase updatePhase(Long id, Consumer<Phase> changes) {
+        return OptimisticRetry.update(retryTransaction, OptimisticRetry.DEFAULT_MAX_ATTEMPTS,
+                () -> phaseMapper.selectById(id), changes, this::updatePhase);
     }
 
     /**
@@ -102,5 +264,19 @@ public class PhaseService {
     @Transactional
     public void deletePhase(Long id) {
         phaseMapper.deleteById(id);
+        phaseScheduleIndex.remove(id);
+    }
+
+    /**
+     * 計画期間を検証（片方が未設定の場合はDBのCHECK制約で検証される）
+     *
+     * @param phase 検証するPhase
+     * @throws IllegalArgumentException 計画開始日が計画終了日より後の場合
+     */
+    private void validatePlannedDates(Phase phase) {
+        if (phase.getPlannedStartDate() != null && phase.getPlannedEndDate() != null
+                && phase.getPlannedStartDate().isAfter(phase.getPlannedEndDate())) {
+            throw new IllegalArgumentException("Planned start date must not be after planned end date");
+        }
     }
 }
@@ -0,0 +1,49 @@
+package com.example.mybatislearning.service;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * ProjectAggregateProperties
+ * Project詳細の並列取得の設定（app.project-aggregate.*）
+ */
+@Component
+@ConfigurationProperties(prefix = "app.project-aggregate")
+public class ProjectAggregateProperties {
+
+    /** サブタスクの既定のタイムアウト（ミリ秒） */
+    private long timeoutMs = 2000;
+
+    /** サブタスク名（project、industry、projectManager、technicalLead、phases、projectMembers、projectTechnologies）ごとのタイムアウト（ミリ秒）。既定より優先される */
+    private Map<String, Long> timeouts = new HashMap<>();
+
+    /**
+     * サブタスクに適用するタイムアウトを取得
+     *
+     * @param subtask サブタスク名
+     * @return タイムアウト
+     */
+    public Duration timeoutFor(String subtask) {
+        return Duration.ofMillis(timeouts.getOrDefault(subtask, timeoutMs));
+    }
+
+    public long getTimeoutMs() {
+        return timeoutMs;
+    }
+
+    public void setTimeoutMs(long timeoutMs) {
+        this.timeoutMs = timeoutMs;
+    }
+
+    public Map<String, Long> getTimeouts() {
+        return timeouts;
+    }
+
+    public void setTimeouts(Map<String, Long> timeouts) {
+        this.timeouts = timeouts;
+    }
+}
@@ -0,0 +1,148 @@
+package com.example.mybatislearning.service;
+
+import com.example.mybatislearning.concurrency.FanOutScope;
+import com.example.mybatislearning.concurrency.FanOutScope.Subtask;
+import com.example.mybatislearning.entity.Industry;
+import com.example.mybatislearning.entity.Person;
+import com.example.mybatislearning.entity.Phase;
+import com.example.mybatislearning.entity.Project;
+import com.example.mybatislearning.entity.ProjectMember;
+import com.example.mybatislearning.entity.ProjectTechnology;
+import com.example.mybatislearning.mapper.IndustryMapper;
+import com.example.mybatislearning.mapper.PersonMapper;
+import com.example.mybatislearning.mapper.PhaseMapper;
+import com.example.mybatislearning.mapper.ProjectMapper;
+import com.example.mybatislearning.mapper.ProjectMemberMapper;
+import com.example.mybatislearning.mapper.ProjectTechnologyMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.core.task.AsyncTaskExecutor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Supplier;
+
+/**
+ * ProjectAggregateService
+ * Project詳細（Project・Industry・ProjectManager・TechnicalLead・Phase・ProjectMember・ProjectTechnology）を
+ * 独立した7つの読み取りに分けて並列に取得し、1つのProjectに組み立てるサービス
+ *
+ * <p>{@link ProjectService#findProjectWithAllRelations}は読み取りを順に実行するため応答時間は各クエリの合計になるが、
+ * ここでは{@link FanOutScope}で同時に実行するため最も遅いクエリの時間になる。
+ * Industry・人物もProjectの行を待たずにプロジェクトIDから引くため、読み取り間に依存関係はない。</p>
+ *
+ * <p>各読み取りは別スレッドの読み取り専用トランザクション（接続も別）で実行されるため、
+ * 1回の組み立てでコネクションプールの接続を最大7本使い、読み取り間で同一スナップショットにはならない。
+ * いずれかの読み取りが失敗またはタイムアウトすると残りをキャンセルし、その例外を送出する。</p>
+ */
+@Service
+public class ProjectAggregateService {
+
+    /** サブタスク名（app.project-aggregate.timeoutsのキー） */
+    public static final String PROJECT = "project";
+    public static final String INDUSTRY = "industry";
+    public static final String PROJECT_MANAGER = "projectManager";
+    public static final String TECHNICAL_LEAD = "technicalLead";
+    public static final String PHASES = "phases";
+    public static final String PROJECT_MEMBERS = "projectMembers";
+    public static final String PROJECT_TECHNOLOGIES = "projectTechnologies";
+
+    private final ProjectMapper projectMapper;
+    private final IndustryMapper industryMapper;
+    private final PersonMapper personMapper;
+    private final PhaseMapper phaseMapper;
+    private final ProjectMemberMapper projectMemberMapper;
+    private final ProjectTechnologyMapper projectTechnologyMapper;
+    private final AsyncTaskExecutor taskExecutor;
+    private final TransactionTemplate readOnlyTransaction;
+    private final ProjectAggregateProperties properties;
+
+    /**
+     * コンストラクタインジェクション
+     *
+     * @param projectMapper           ProjectMapper
+     * @param industryMapper          IndustryMapper
+     * @param personMapper            PersonMapper
+     * @param phaseMapper             PhaseMapper
+     * @param projectMemberMapper     ProjectMemberMapper
+     * @param projectTechnologyMapper ProjectTechnologyMapper
+     * @param taskExecutor            読み取りを実行するExecutor（仮想スレッドモードでは1読み取り1仮想スレッド）
+     * @param transactionManager      各読み取りの読み取り専用トランザクションに使用するトランザクションマネージャ
+     * @param properties              サブタスクのタイムアウト設定
+     */
+    @Autowired
+    public ProjectAggregateService(ProjectMapper projectMapper,
+                                   IndustryMapper industryMapper,
+                                   PersonMapper personMapper,
+                                   PhaseMapper phaseMapper,
+                                   ProjectMemberMapper projectMemberMapper,
+                                   ProjectTechnologyMapper projectTechnologyMapper,
+                                   @Qualifier("applicationTaskExecutor") AsyncTaskExecutor taskExecutor,
+                                   PlatformTransactionManager transactionManager,
+                                   ProjectAggregateProperties properties) {
+        this.projectMapper = projectMapper;
+        this.industryMapper = industryMapper;
+        this.personMapper = personMapper;
+        this.phaseMapper = phaseMapper;
+        this.projectMemberMapper = projectMemberMapper;
+        this.projectTechnologyMapper = projectTechnologyMapper;
+        this.taskExecutor = taskExecutor;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.properties = properties;
+    }
+
+    /**
+     * Projectと全てのリレーションシップを並列に取得して組み立てる
+     *
+     * @param id 検索するProject ID
+     * @return Projectとそれに関連する全てのエンティティ、存在しない場合はnull
+     * @throws org.springframework.dao.QueryTimeoutException いずれかの読み取りがタイムアウトした場合
+     * @throws IllegalStateException                         待機中に割り込まれた場合
+     */
+    public Project findProjectAggregate(Long id) {
+        Set<Long> projectIds = Set.of(id);
+        try (FanOutScope scope = new FanOutScope(taskExecutor)) {
+            Subtask<Project> project = fork(scope, PROJECT, () -> projectMapper.selectById(id));
+            Subtask<Industry> industry = fork(scope, INDUSTRY, () -> industryMapper.selectByProjectId(id));
+            Subtask<Person> projectManager = fork(scope, PROJECT_MANAGER,
+                    () -> personMapper.selectProjectManagerByProjectId(id));
+            Subtask<Person> technicalLead = fork(scope, TECHNICAL_LEAD,
+                    () -> personMapper.selectTechnicalLeadByProjectId(id));
+            Subtask<List<Phase>> phases = fork(scope, PHASES, () -> phaseMapper.findByProjectIds(projectIds));
+            Subtask<List<ProjectMember>> members = fork(scope, PROJECT_MEMBERS,
+                    () -> projectMemberMapper.findByProjectIds(projectIds));
+            Subtask<List<ProjectTechnology>> technologies = fork(scope, PROJECT_TECHNOLOGIES,
+                    () -> projectTechnologyMapper.findByProjectIds(projectIds));
+
+            scope.join();
+
+            Project result = project.get();
+            if (result == null) {
+                return null;
+            }
+            result.setIndustry(industry.get());
+            result.setProjectManager(projectManager.get());
+            result.setTechnicalLead(technicalLead.get());
+            result.setPhases(new ArrayList<>(phases.get()));
+            result.setProjectMembers(new ArrayList<>(members.get()));
+            result.setProjectTechnologies(new ArrayList<>(technologies.get()));
+            return result;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while loading project " + id, e);
+        }
+    }
+
+    /**
+     * 読み取りを読み取り専用トランザクション内で実行するサブタスクとして開始
+     * （リードレプリカが有効な場合はレプリカに振り分けられる）
+     */
+    private <T> Subtask<T> fork(FanOutScope scope, String name, Supplier<T> query) {
+        return scope.fork(name, properties.timeoutFor(name), () -> readOnlyTransaction.execute(status -> query.get()));
+    }
+}
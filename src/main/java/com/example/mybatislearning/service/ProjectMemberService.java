@@ -0,0 +1,181 @@
+package com.example.mybatislearning.service;
+
+import com.example.mybatislearning.batch.BatchInsertTemplate;
+import com.example.mybatislearning.entity.ProjectMember;
+import com.example.mybatislearning.mapper.ProjectMemberMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * ProjectMemberService
+ * ProjectMember（メンバー参画履歴）管理のビジネスロジックとトランザクション管理
+ *
+ * <p>要員配置画面では数百プロジェクト・数百人分の参画情報を同時に扱うため、
+ * 検索はIN句による一括取得（1回のクエリ）、登録はExecutorType.BATCHによる一括挿入を基本とする。</p>
+ */
+@Service
+public class ProjectMemberService {
+
+    private final ProjectMemberMapper projectMemberMapper;
+    private final BatchInsertTemplate batchInsertTemplate;
+    private final AllocationTimelineService allocationTimelineService;
+
+    /**
+     * コンストラクタインジェクション
+     *
+     * @param projectMemberMapper       ProjectMemberMapper
+     * @param batchInsertTemplate       バッチ書き込み用ヘルパー
+     * @param allocationTimelineService 参画変更時に破棄する稼働タイムライン
+     */
+    @Autowired
+    public ProjectMemberService(ProjectMemberMapper projectMemberMapper, BatchInsertTemplate batchInsertTemplate,
+                                AllocationTimelineService allocationTimelineService) {
+        this.projectMemberMapper = projectMemberMapper;
+        this.batchInsertTemplate = batchInsertTemplate;
+        this.allocationTimelineService = allocationTimelineService;
+    }
+
+    /**
+     * メンバーを追加
+     *
+     * @param member 追加するProjectMember
+     * @throws IllegalArgumentException 入力値が不正な場合
+     */
+    @Transactional
+    public void addMember(ProjectMember member) {
+        validateMember(member);
+        projectMemberMapper.insert(member);
+        allocationTimelineService.invalidate();
+    }
+
+    /**
+     * 複数のメンバーを一括追加
+     * 全件を検証してからExecutorType.BATCHでまとめて挿入し、生成されたIDは各ProjectMemberに設定される
+     *
+     * @param members 追加するProjectMemberのリスト
+     * @throws IllegalArgumentException いずれかの入力値が不正な場合（1件も挿入しない）
+     */
+    @Transactional
+    public void addMembers(List<ProjectMember> members) {
+        members.forEach(this::validateMember);
+        batchInsertTemplate.execute(ProjectMemberMapper.class, members, ProjectMemberMapper::insert);
+        allocationTimelineService.invalidate();
+    }
+
+    /**
+     * IDでProjectMemberを取得
+     *
+     * @param id ProjectMember ID
+     * @return 該当するProjectMember（Personを含む）、存在しない場合はnull
+     */
+    @Transactional(readOnly = true)
+    public ProjectMember findById(Long id) {
+        return projectMemberMapper.selectById(id);
+    }
+
+    /**
+     * 複数プロジェクトのメンバーを1回のクエリで取得し、プロジェクトIDごとにまとめる
+     *
+     * @param projectIds プロジェクトIDのコレクション（重複は除外される）
+     * @return プロジェクトIDをキーとしたメンバー一覧（入力順。メンバーがいないプロジェクトは空リスト）
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<ProjectMember>> findByProjectIds(Collection<Long> projectIds) {
+        Set<Long> ids = new LinkedHashSet<>(projectIds);
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return groupBy(ids, projectMemberMapper.findByProjectIds(ids), ProjectMember::getProjectId);
+    }
+
+    /**
+     * 複数人の参画履歴を1回のクエリで取得し、Person IDごとにまとめる
+     *
+     * @param personIds Person IDのコレクション（重複は除外される）
+     * @return Person IDをキーとした参画履歴（入力順。参画がない人は空リスト、各リストは参画日順）
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<ProjectMember>> findByPersonIds(Collection<Long> personIds) {
+        Set<Long> ids = new LinkedHashSet<>(personIds);
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        return groupBy(ids, projectMemberMapper.findByPersonIds(ids), ProjectMember::getPersonId);
+    }
+
+    /**
+     * ProjectMemberを更新
+     *
+     * @param member 更新するProjectMember
+     * @throws IllegalArgumentException 入力値が不正な場合
+     */
+    @Transactional
+    public void updateMember(ProjectMember member) {
+        validateMember(member);
+        projectMemberMapper.update(member);
+        allocationTimelineService.invalidate();
+    }
+
+    /**
+     * ProjectMemberを削除
+     *
+     * @param id 削除するProjectMember ID
+     */
+    @Transactional
+    public void removeMember(Long id) {
+        projectMemberMapper.deleteById(id);
+        allocationTimelineService.invalidate();
+    }
+
+    /**
+     * 取得結果をキーごとにまとめる（入力IDの順序を保持し、該当なしのIDは空リスト）
+     */
+    private static Map<Long, List<ProjectMember>> groupBy(Set<Long> ids, List<ProjectMember> members,
+                                                          Function<ProjectMember, Long> key) {
+        Map<Long, List<ProjectMember>> result = new LinkedHashMap<>();
+        for (Long id : ids) {
+            result.put(id, new ArrayList<>());
+        }
+        for (ProjectMember member : members) {
+            result.get(key.apply(member)).add(member);
+        }
+        return result;
+    }
+
+    /**
+     * 必須項目・稼働率・参画期間を検証
+     *
+     * @param member 検証するProjectMember
+     * @throws IllegalArgumentException 必須項目が未設定、稼働率が0.00〜1.00の範囲外、または離任日が参画日より前の場合
+     */
+    private void validateMember(ProjectMember member) {
+        if (member.getProjectId() == null || member.getPersonId() == null) {
+            throw new IllegalArgumentException("projectId and personId are required");
+        }
+        if (member.getRole() == null) {
+            throw new IllegalArgumentException("role is required");
+        }
+        if (member.getJoinDate() == null) {
+            throw new IllegalArgumentException("joinDate is required");
+        }
+        if (member.getLeaveDate() != null && member.getLeaveDate().isBefore(member.getJoinDate())) {
+            throw new IllegalArgumentException("leaveDate must not be before joinDate");
+        }
+        BigDecimal rate = member.getAllocationRate();
+        if (rate == null || rate.compareTo(BigDecimal.ZERO) < 0 || rate.compareTo(BigDecimal.ONE) > 0) {
+            throw new IllegalArgumentException("allocationRate must be between 0.00 and 1.00");
+        }
+    }
+}
@@ -1,15 +1,52 @@
 package com.example.mybatislearning.service;
 
+import com.example.mybatislearning.batch.BatchInsertTemplate;
+import com.example.mybatislearning.dto.ProjectSearchCriteria;
+import com.example.mybatislearning.dto.ProjectSummary;
+import com.example.mybatislearning.entity.Industry;
+import com.example.mybatislearning.entity.Person;
+import com.example.mybatislearning.entity.Phase;
 import com.example.mybatislearning.entity.Project;
+import com.example.mybatislearning.entity.ProjectMember;
+import com.example.mybatislearning.entity.ProjectTechnology;
 import com.example.mybatislearning.enums.ProjectStatus;
 import com.example.mybatislearning.enums.ProjectType;
+import com.example.mybatislearning.locking.OptimisticLock;
+import com.example.mybatislearning.locking.OptimisticRetry;
+import com.example.mybatislearning.locking.VersionConflictException;
+import com.example.mybatislearning.mapper.IndustryMapper;
+import com.example.mybatislearning.mapper.PersonMapper;
+import com.example.mybatislearning.mapper.PhaseMapper;
 import com.example.mybatislearning.mapper.ProjectMapper;
+import com.example.mybatislearning.mapper.ProjectMemberMapper;
+import com.example.mybatislearning.mapper.ProjectTechnologyMapper;
+import com.example.mybatislearning.pagination.KeysetPage;
+import com.example.mybatislearning.pagination.PageToken;
+import com.example.mybatislearning.readmodel.ProjectRecord;
+import com.example.mybatislearning.schedule.PhaseScheduleIndex;
+import com.example.mybatislearning.tracking.ChangeTracking;
+import org.apache.ibatis.cursor.Cursor;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.scheduling.annotation.Async;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 
 /**
  * ProjectService（Phase 3拡張版）
@@ -19,15 +56,50 @@ import java.util.List;
 public class ProjectService {
 
     private final ProjectMapper projectMapper;
+    private final IndustryMapper industryMapper;
+    private final PersonMapper personMapper;
+    private final PhaseMapper phaseMapper;
+    private final ProjectMemberMapper projectMemberMapper;
+    private final ProjectTechnologyMapper projectTechnologyMapper;
+    private final BatchInsertTemplate batchInsertTemplate;
+    private final PhaseScheduleIndex phaseScheduleIndex;
+    private final AllocationTimelineService allocationTimelineService;
+    private final TransactionTemplate retryTransaction;
 
     /**
      * コンストラクタインジェクション
      *
-     * @param projectMapper ProjectMapper
+     * @param projectMapper             ProjectMapper
+     * @param industryMapper            IndustryMapper（リレーションの一括取得用）
+     * @param personMapper              PersonMapper（リレーションの一括取得用）
+     * @param phaseMapper               PhaseMapper（コレクションの一括取得用）
+     * @param projectMemberMapper       ProjectMemberMapper（コレクションの一括取得用）
+     * @param projectTechnologyMapper   ProjectTechnologyMapper（コレクションの一括取得用）
+     * @param batchInsertTemplate       バッチ書き込み用ヘルパー
+     * @param phaseScheduleIndex        工程日程インデックス（プロジェクト削除時に工程を除外する）
+     * @param allocationTimelineService 稼働タイムライン（プロジェクト削除時に破棄する）
+     * @param transactionManager        楽観ロックの再試行を1回ずつ新しいトランザクションで実行するため
      */
     @Autowired
-    public ProjectService(ProjectMapper projectMapper) {
+    public ProjectService(ProjectMapper projectMapper, IndustryMapper industryMapper,
+                          PersonMapper personMapper, PhaseMapper phaseMapper,
+                          ProjectMemberMapper projectMemberMapper,
+                          ProjectTechnologyMapper projectTechnologyMapper,
+                          BatchInsertTemplate batchInsertTemplate,
+                          PhaseScheduleIndex phaseScheduleIndex,
+                          AllocationTimelineService allocationTimelineService,
+                          PlatformTransactionManager transactionManager) {
         this.projectMapper = projectMapper;
+        this.industryMapper = industryMapper;
+        this.personMapper = personMapper;
+        this.phaseMapper = phaseMapper;
+        this.projectMemberMapper = projectMemberMapper;
+        this.projectTechnologyMapper = projectTechnologyMapper;
+        this.batchInsertTemplate = batchInsertTemplate;
+        this.phaseScheduleIndex = phaseScheduleIndex;
+        this.allocationTimelineService = allocationTimelineService;
+        this.retryTransaction = new TransactionTemplate(transactionManager);
+        this.retryTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
     }
 
     /**
@@ -39,13 +111,26 @@ public class ProjectService {
      */
     @Transactional
     public void createProject(Project project) {
-        // Budget検証
-        if (project.getBudget() != null && project.getBudget().compareTo(BigDecimal.ZERO) < 0) {
-            throw new IllegalArgumentException("Budget must be >= 0");
-        }
+        validateBudget(project);
         projectMapper.insert(project);
     }
 
+    /**
+     * 複数のProjectを一括作成
+     * 全件のbudget >= 0を書き込み前に検証し、ExecutorType.BATCHでまとめて挿入する
+     * 生成されたIDは各Projectに設定される
+     *
+     * @param projects 作成するProjectのリスト
+     * @throws IllegalArgumentException いずれかのbudgetが負の値の場合（1件も書き込まれない）
+     */
+    @Transactional
+    public void createProjects(List<Project> projects) {
+        for (Project project : projects) {
+            validateBudget(project);
+        }
+        batchInsertTemplate.execute(ProjectMapper.class, projects, ProjectMapper::insert);
+    }
+
     /**
      * IDでProjectを取得
      *
@@ -69,40 +154,127 @@ public class ProjectService {
     }
 
     /**
-     * 組織IDでProjectを取得
+     * 組織IDでProjectを参照専用のProjectRecordで取得
      *
      * @param organizationId 組織ID
-     * @return 該当する組織に属するProjectのリスト
+     * @return 該当する組織に属するProjectRecordのリスト
+     */
+    @Transactional(readOnly = true)
+    public List<ProjectRecord> getProjectsByOrganization(Long organizationId) {
+        return projectMapper.selectRecordsByOrganizationId(organizationId);
+    }
+
+    /**
+     * すべてのProjectを参照専用のProjectRecordで取得
+     *
+     * @return ProjectRecordのリスト
+     */
+    @Transactional(readOnly = true)
+    public List<ProjectRecord> getAllProjects() {
+        return projectMapper.selectAllRecords();
+    }
+
+    /**
+     * ProjectをID順にページ単位で取得（キーセットページング）
+     * 小さなテーブルではgetAllProjects()を使用し、大量データでは本メソッドで分割取得する
+     *
+     * @param pageToken 前ページで返された継続トークン（先頭ページの場合はnull）
+     * @param limit     1ページあたりの件数（1〜{@link KeysetPage#MAX_LIMIT}）
+     * @return ProjectRecordのページと次ページの継続トークン
+     * @throws IllegalArgumentException トークンの形式またはlimitが不正な場合
      */
     @Transactional(readOnly = true)
-    public List<Project> getProjectsByOrganization(Long organizationId) {
-        return projectMapper.selectByOrganizationId(organizationId);
+    public KeysetPage<ProjectRecord> getProjectPage(String pageToken, int limit) {
+        KeysetPage.validateLimit(limit);
+        Long lastId = PageToken.decode(pageToken);
+        // 1件多く取得して次ページの有無を判定
+        List<ProjectRecord> rows = projectMapper.selectRecordPageAfter(lastId, limit + 1);
+        return KeysetPage.of(rows, limit, ProjectRecord::id);
     }
 
     /**
-     * すべてのProjectを取得
+     * IDでProjectRecord（参照専用の不変record）を取得
+     * 更新しない参照ではsetterのリフレクション呼び出しがないこちらを使う
      *
-     * @return Projectのリスト
+     * @param id Project ID
+     * @return 該当するProjectRecord、存在しない場合はnull
      */
     @Transactional(readOnly = true)
-    public List<Project> getAllProjects() {
-        return projectMapper.selectAll();
+    public ProjectRecord getProjectRecord(Long id) {
+        return projectMapper.selectRecordById(id);
+    }
+
+    /**
+     * 複数のIDでProjectRecordをまとめて取得
+     *
+     * @param ids Project IDのコレクション
+     * @return 該当するProjectRecordのリスト（ID順）
+     */
+    @Transactional(readOnly = true)
+    public List<ProjectRecord> getProjectRecords(Collection<Long> ids) {
+        if (ids == null || ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+        return projectMapper.selectRecordsByIds(new LinkedHashSet<>(ids));
+    }
+
+    /**
+     * すべてのProjectをID順に1件ずつconsumerへ渡す（ストリーミング読み取り）
+     * Cursorの読み取り中はトランザクションとSqlSessionを開いたままにするため、
+     * テーブルの件数に関わらずメモリ使用量は一定となる
+     *
+     * @param consumer 各Projectを処理する関数
+     * @return 処理した件数
+     */
+    @Transactional(readOnly = true)
+    public long streamAll(Consumer<Project> consumer) {
+        long count = 0;
+        try (Cursor<Project> cursor = projectMapper.selectAllAsCursor()) {
+            for (Project project : cursor) {
+                consumer.accept(project);
+                count++;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cursorのクローズに失敗しました", e);
+        }
+        return count;
     }
 
     /**
      * Projectを更新
      * Phase 3拡張: budget >= 0の検証を追加
+     * setterで変更された列だけを更新する（変更がない場合はSQLを発行しない）
+     * versionを照合し、読み込み後に他のトランザクションが更新していた場合は更新しない
      *
-     * @param project 更新するProject
-     * @throws IllegalArgumentException budgetが負の値の場合
+     * @param project 更新するProject（DBから読み込むか作成してversionが設定されていること）
+     * @throws IllegalArgumentException budgetが負の値の場合、またはversionが設定されていない場合
+     * @throws VersionConflictException 読み込み後に他のトランザクションが更新・削除していた場合
      */
-    @Transactional
+    @Transactional(noRollbackFor = VersionConflictException.class)
     public void updateProject(Project project) {
-        // Budget検証
-        if (project.getBudget() != null && project.getBudget().compareTo(BigDecimal.ZERO) < 0) {
-            throw new IllegalArgumentException("Budget must be >= 0");
+        validateBudget(project);
+        OptimisticLock.requireVersion(project);
+        if (!project.hasChanges()) {
+            return;
         }
-        projectMapper.update(project);
+        OptimisticLock.checkUpdated(projectMapper.updateChanged(project), project);
+        ChangeTracking.written(project);
+    }
+
+    /**
+     * 最新のProjectを読み込んで変更を適用し、更新
+     * 他のトランザクションと競合した場合は読み直して変更を適用し直す（最大{@link OptimisticRetry#DEFAULT_MAX_ATTEMPTS}回）
+     * 各試行は新しいトランザクションで実行するため、トランザクションの外から呼び出すこと
+     *
+     * @param id      更新するProject ID
+     * @param changes 読み込んだProjectに適用する変更（setterで設定した列だけが更新される）
+     * @return 更新したProject、存在しない場合はnull
+     * @throws VersionConflictException 最大回数まで競合した場合
+     * @throws IllegalStateException    トランザクション内から呼び出した場合
+     */
+    public Project updateProject(Long id, Consumer<Project> changes) {
+        return OptimisticRetry.update(retryTransaction, OptimisticRetry.DEFAULT_MAX_ATTEMPTS,
+                () -> projectMapper.selectById(id), changes, this::updateProject);
     }
 
     /**
@@ -115,6 +287,10 @@ public class ProjectService {
     public void deleteProject(Long id) {
         // Phase 4でPhase、ProjectMember、ProjectTechnologyを先に削除するロジックを追加予定
         projectMapper.deleteById(id);
+        // phasesはON DELETE CASCADEで削除されるため、工程日程インデックスからも除外する
+        phaseScheduleIndex.removeProject(id);
+        // project_membersも同様にカスケード削除されるため、稼働タイムラインを破棄する
+        allocationTimelineService.invalidate();
     }
 
     // ========== Phase 3拡張メソッド ==========
@@ -174,16 +350,283 @@ public class ProjectService {
         return projectMapper.findByTechnicalLeadId(technicalLeadId);
     }
 
+    /**
+     * 複合条件でProjectを検索
+     *
+     * @param criteria 検索条件
+     * @return 該当するProjectのリスト
+     * @throws IllegalArgumentException 範囲条件の下限が上限を超える場合、またはlimitが不正な場合
+     */
+    @Transactional(readOnly = true)
+    public List<Project> searchProjects(ProjectSearchCriteria criteria) {
+        validateCriteria(criteria);
+        return projectMapper.searchProjects(criteria);
+    }
+
+    // ========== 一覧画面向けの射影 ==========
+
+    /**
+     * すべてのProjectSummaryを取得
+     *
+     * @return ProjectSummaryのリスト
+     */
+    @Transactional(readOnly = true)
+    public List<ProjectSummary> getAllProjectSummaries() {
+        return projectMapper.selectAllSummary();
+    }
+
+    /**
+     * ProjectSummaryをID順にページ単位で取得（キーセットページング）
+     *
+     * @param pageToken 前ページで返された継続トークン（先頭ページの場合はnull）
+     * @param limit     1ページあたりの件数（1〜{@link KeysetPage#MAX_LIMIT}）
+     * @return ProjectSummaryのページと次ページの継続トークン
+     * @throws IllegalArgumentException トークンの形式またはlimitが不正な場合
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<ProjectSummary> getProjectSummaryPage(String pageToken, int limit) {
+        KeysetPage.validateLimit(limit);
+        Long lastId = PageToken.decode(pageToken);
+        List<ProjectSummary> rows = projectMapper.selectPageAfterSummary(lastId, limit + 1);
+        return KeysetPage.of(rows, limit, ProjectSummary::id);
+    }
+
+    /**
+     * 組織IDでProjectSummaryを取得
+     *
+     * @param organizationId 組織ID
+     * @return 該当する組織に属するProjectSummaryのリスト
+     */
+    @Transactional(readOnly = true)
+    public List<ProjectSummary> getProjectSummariesByOrganization(Long organizationId) {
+        return projectMapper.selectByOrganizationIdSummary(organizationId);
+    }
+
+    /**
+     * ステータスでProjectSummaryを検索
+     *
+     * @param status 検索するステータス
+     * @return 該当するProjectSummaryのリスト
+     */
+    @Transactional(readOnly = true)
+    public List<ProjectSummary> findSummariesByStatus(ProjectStatus status) {
+        return projectMapper.selectByStatusSummary(status);
+    }
+
+    /**
+     * 業界IDでProjectSummaryを検索
+     *
+     * @param industryId 検索する業界ID
+     * @return 該当するProjectSummaryのリスト
+     */
+    @Transactional(readOnly = true)
+    public List<ProjectSummary> findSummariesByIndustryId(Long industryId) {
+        return projectMapper.selectByIndustryIdSummary(industryId);
+    }
+
+    /**
+     * プロジェクト種別でProjectSummaryを検索
+     *
+     * @param projectType 検索するプロジェクト種別
+     * @return 該当するProjectSummaryのリスト
+     */
+    @Transactional(readOnly = true)
+    public List<ProjectSummary> findSummariesByProjectType(ProjectType projectType) {
+        return projectMapper.selectByProjectTypeSummary(projectType);
+    }
+
+    /**
+     * プロジェクトマネージャーIDでProjectSummaryを検索
+     *
+     * @param projectManagerId 検索するプロジェクトマネージャーID
+     * @return 該当するProjectSummaryのリスト
+     */
+    @Transactional(readOnly = true)
+    public List<ProjectSummary> findSummariesByProjectManagerId(Long projectManagerId) {
+        return projectMapper.selectByProjectManagerIdSummary(projectManagerId);
+    }
+
+    /**
+     * 技術リードIDでProjectSummaryを検索
+     *
+     * @param technicalLeadId 検索する技術リードID
+     * @return 該当するProjectSummaryのリスト
+     */
+    @Transactional(readOnly = true)
+    public List<ProjectSummary> findSummariesByTechnicalLeadId(Long technicalLeadId) {
+        return projectMapper.selectByTechnicalLeadIdSummary(technicalLeadId);
+    }
+
+    /**
+     * 複合条件でProjectSummaryを検索
+     *
+     * @param criteria 検索条件
+     * @return 該当するProjectSummaryのリスト
+     * @throws IllegalArgumentException 範囲条件の下限が上限を超える場合、またはlimitが不正な場合
+     */
+    @Transactional(readOnly = true)
+    public List<ProjectSummary> searchProjectSummaries(ProjectSearchCriteria criteria) {
+        validateCriteria(criteria);
+        return projectMapper.searchProjectsSummary(criteria);
+    }
+
     /**
      * Projectと全てのリレーションシップを取得
-     * Industry、ProjectManager、TechnicalLeadを含む
-     * Phase 4でPhase、ProjectMember、ProjectTechnologyも含める予定
+     * Industry、ProjectManager、TechnicalLeadはJOINで取得し、
+     * Phase、ProjectMember、ProjectTechnologyは子テーブルごとの個別クエリで取得する
      *
      * @param id 検索するProject ID
      * @return Projectとそれに関連する全てのエンティティ、存在しない場合はnull
      */
     @Transactional(readOnly = true)
     public Project findProjectWithAllRelations(Long id) {
-        return projectMapper.selectProjectWithAllRelations(id);
+        Project project = projectMapper.selectProjectWithAllRelations(id);
+        if (project != null) {
+            attachCollections(List.of(project));
+        }
+        return project;
+    }
+
+    /**
+     * Projectと全てのリレーションシップを非同期に取得
+     * applicationTaskExecutorのスレッド（仮想スレッドモードでは仮想スレッド）で{@link #findProjectWithAllRelations}を実行する
+     *
+     * @param id 検索するProject ID
+     * @return Projectとそれに関連する全てのエンティティ（存在しない場合はnull）で完了するFuture
+     */
+    @Async
+    @Transactional(readOnly = true)
+    public CompletableFuture<Project> findProjectWithAllRelationsAsync(Long id) {
+        return CompletableFuture.completedFuture(findProjectWithAllRelations(id));
+    }
+
+    /**
+     * 複数のProjectと全てのリレーションシップを一括取得
+     * Projectを1回のクエリで取得し、Industryと人物（ProjectManager・TechnicalLead）を
+     * それぞれ重複排除したIN句の1クエリで取得して各Projectに設定する
+     * Phase、ProjectMember、ProjectTechnologyもプロジェクトIDのIN句で子テーブルごとに1クエリで取得する
+     * ID数に関わらずクエリ数は最大6回となる（N+1問題と直積による行数増加の回避）
+     *
+     * @param ids 検索するProject IDのコレクション
+     * @return Projectのリスト（引数の順序、存在しないIDは含まない）
+     */
+    @Transactional(readOnly = true)
+    public List<Project> findProjectsWithAllRelations(Collection<Long> ids) {
+        Set<Long> projectIds = new LinkedHashSet<>(ids);
+        projectIds.remove(null);
+        if (projectIds.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        List<Project> projects = projectMapper.selectByIds(projectIds);
+
+        // 参照先IDを重複排除して収集
+        Set<Long> industryIds = new HashSet<>();
+        Set<Long> personIds = new HashSet<>();
+        for (Project project : projects) {
+            if (project.getIndustryId() != null) {
+                industryIds.add(project.getIndustryId());
+            }
+            if (project.getProjectManagerId() != null) {
+                personIds.add(project.getProjectManagerId());
+            }
+            if (project.getTechnicalLeadId() != null) {
+                personIds.add(project.getTechnicalLeadId());
+            }
+        }
+
+        Map<Long, Industry> industries = new HashMap<>();
+        if (!industryIds.isEmpty()) {
+            for (Industry industry : industryMapper.selectByIds(industryIds)) {
+                industries.put(industry.getId(), industry);
+            }
+        }
+        Map<Long, Person> persons = new HashMap<>();
+        if (!personIds.isEmpty()) {
+            for (Person person : personMapper.selectByIds(personIds)) {
+                persons.put(person.getId(), person);
+            }
+        }
+
+        // リレーションを設定し、引数の順序に並べ替え
+        Map<Long, Project> projectsById = new HashMap<>();
+        for (Project project : projects) {
+            project.setIndustry(industries.get(project.getIndustryId()));
+            project.setProjectManager(persons.get(project.getProjectManagerId()));
+            project.setTechnicalLead(persons.get(project.getTechnicalLeadId()));
+            projectsById.put(project.getId(), project);
+        }
+        attachCollections(projects);
+        List<Project> result = new ArrayList<>(projectsById.size());
+        for (Long id : projectIds) {
+            Project project = projectsById.get(id);
+            if (project != null) {
+                result.add(project);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Phase、ProjectMember、ProjectTechnologyのコレクションを一括取得して設定
+     * 子テーブルを1つのJOINでまとめると行数が（工程数 × メンバー数 × 技術数）に膨らむため、
+     * 子テーブルごとにプロジェクトIDのIN句で1クエリずつ取得し、Java側でプロジェクトに振り分ける
+     *
+     * @param projects コレクションを設定するProjectのリスト
+     */
+    private void attachCollections(List<Project> projects) {
+        if (projects.isEmpty()) {
+            return;
+        }
+        Map<Long, Project> projectsById = new HashMap<>();
+        for (Project project : projects) {
+            project.setPhases(new ArrayList<>());
+            project.setProjectMembers(new ArrayList<>());
+            project.setProjectTechnologies(new ArrayList<>());
+            projectsById.put(project.getId(), project);
+        }
+        Set<Long> projectIds = projectsById.keySet();
+
+        for (Phase phase : phaseMapper.findByProjectIds(projectIds)) {
+            projectsById.get(phase.getProjectId()).getPhases().add(phase);
+        }
+        for (ProjectMember member : projectMemberMapper.findByProjectIds(projectIds)) {
+            projectsById.get(member.getProjectId()).getProjectMembers().add(member);
+        }
+        for (ProjectTechnology technology : projectTechnologyMapper.findByProjectIds(projectIds)) {
+            projectsById.get(technology.getProjectId()).getProjectTechnologies().add(technology);
+        }
+    }
+
+    /**
+     * Budgetを検証
+     *
+     * @param project 検証するProject
+     * @throws IllegalArgumentException budgetが負の値の場合
+     */
+    private void validateBudget(Project project) {
+        if (project.getBudget() != null && project.getBudget().compareTo(BigDecimal.ZERO) < 0) {
+            throw new IllegalArgumentException("Budget must be >= 0");
+        }
+    }
+
+    /**
+     * 検索条件を検証
+     *
+     * @param criteria 検証する検索条件
+     * @throws IllegalArgumentException 範囲条件の下限が上限を超える場合、またはlimitが不正な場合
+     */
+    private void validateCriteria(ProjectSearchCriteria criteria) {
+        if (criteria.getPlannedStartFrom() != null && criteria.getPlannedStartTo() != null
+                && criteria.getPlannedStartFrom().isAfter(criteria.getPlannedStartTo())) {
+            throw new IllegalArgumentException("plannedStartFrom must be <= plannedStartTo");
+        }
+        if (criteria.getBudgetMin() != null && criteria.getBudgetMax() != null
+                && criteria.getBudgetMin().compareTo(criteria.getBudgetMax()) > 0) {
+            throw new IllegalArgumentException("budgetMin must be <= budgetMax");
+        }
+        if (criteria.getLimit() != null) {
+            KeysetPage.validateLimit(criteria.getLimit());
+        }
     }
 }
@@ -0,0 +1,187 @@
+package com.example.mybatislearning.service;
+
+import com.example.mybatislearning.batch.BatchInsertTemplate;
+import com.example.mybatislearning.dto.IndustryTechnologyUsage;
+import com.example.mybatislearning.dto.TechnologyUsage;
+import com.example.mybatislearning.entity.ProjectTechnology;
+import com.example.mybatislearning.enums.TechnologyCategory;
+import com.example.mybatislearning.mapper.ProjectTechnologyMapper;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * ProjectTechnologyService
+ * ProjectTechnology（プロジェクト技術スタック）管理のビジネスロジックとトランザクション管理
+ *
+ * <p>技術の採用状況の集計はJavaで全件を数えず、SQLのGROUP BYで1回のクエリとして実行する。</p>
+ */
+@Service
+public class ProjectTechnologyService {
+
+    /** 業界別上位N件の最大値 */
+    public static final int MAX_TOP_LIMIT = 100;
+
+    private final ProjectTechnologyMapper projectTechnologyMapper;
+    private final BatchInsertTemplate batchInsertTemplate;
+
+    /**
+     * コンストラクタインジェクション
+     *
+     * @param projectTechnologyMapper ProjectTechnologyMapper
+     * @param batchInsertTemplate     バッチ書き込み用ヘルパー
+     */
+    @Autowired
+    public ProjectTechnologyService(ProjectTechnologyMapper projectTechnologyMapper,
+                                    BatchInsertTemplate batchInsertTemplate) {
+        this.projectTechnologyMapper = projectTechnologyMapper;
+        this.batchInsertTemplate = batchInsertTemplate;
+    }
+
+    /**
+     * プロジェクトに技術を追加
+     *
+     * @param projectTechnology 追加するProjectTechnology
+     * @throws IllegalArgumentException 必須項目が未設定の場合
+     */
+    @Transactional
+    public void addTechnology(ProjectTechnology projectTechnology) {
+        validate(projectTechnology);
+        projectTechnologyMapper.insert(projectTechnology);
+    }
+
+    /**
+     * 複数の技術を一括追加
+     * 全件を検証してからExecutorType.BATCHでまとめて挿入する
+     *
+     * @param projectTechnologies 追加するProjectTechnologyのリスト
+     * @throws IllegalArgumentException いずれかの必須項目が未設定の場合（1件も挿入しない）
+     */
+    @Transactional
+    public void addTechnologies(List<ProjectTechnology> projectTechnologies) {
+        projectTechnologies.forEach(this::validate);
+        batchInsertTemplate.execute(ProjectTechnologyMapper.class, projectTechnologies,
+                ProjectTechnologyMapper::insert);
+    }
+
+    /**
+     * 複数プロジェクトの技術スタックを1回のクエリで取得し、プロジェクトIDごとにまとめる
+     *
+     * @param projectIds プロジェクトIDのコレクション（重複は除外される）
+     * @return プロジェクトIDをキーとした技術スタック（入力順。該当なしは空リスト）
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<ProjectTechnology>> findByProjectIds(Collection<Long> projectIds) {
+        Set<Long> ids = new LinkedHashSet<>(projectIds);
+        if (ids.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        Map<Long, List<ProjectTechnology>> result = new LinkedHashMap<>();
+        for (Long id : ids) {
+            result.put(id, new ArrayList<>());
+        }
+        for (ProjectTechnology projectTechnology : projectTechnologyMapper.findByProjectIds(ids)) {
+            result.get(projectTechnology.getProjectId()).add(projectTechnology);
+        }
+        return result;
+    }
+
+    /**
+     * プロジェクトから技術を削除
+     *
+     * @param id 削除するProjectTechnology ID
+     */
+    @Transactional
+    public void removeTechnology(Long id) {
+        projectTechnologyMapper.deleteById(id);
+    }
+
+    /**
+     * 技術ごとの採用プロジェクト数を取得
+     *
+     * @return 技術ごとの集計結果（採用数の降順。採用実績のない技術は0件）
+     */
+    @Transactional(readOnly = true)
+    public List<TechnologyUsage> getProjectCountsByTechnology() {
+        return projectTechnologyMapper.countProjectsByTechnology();
+    }
+
+    /**
+     * 技術カテゴリごとの採用プロジェクト数を取得
+     *
+     * @return 全カテゴリをキーとした採用プロジェクト数（採用実績のないカテゴリは0）
+     */
+    @Transactional(readOnly = true)
+    public Map<TechnologyCategory, Long> getProjectCountsByCategory() {
+        Map<TechnologyCategory, Long> result = new EnumMap<>(TechnologyCategory.class);
+        for (TechnologyCategory category : TechnologyCategory.values()) {
+            result.put(category, 0L);
+        }
+        for (TechnologyUsage usage : projectTechnologyMapper.countProjectsByCategory()) {
+            result.put(usage.getCategory(), usage.getProjectCount());
+        }
+        return result;
+    }
+
+    /**
+     * 業界ごとに採用プロジェクト数の多い技術の上位N件を取得
+     *
+     * @param limit 業界あたりの件数（1〜{@link #MAX_TOP_LIMIT}）
+     * @return 業界IDをキーとした順位順の集計結果（業界ID順）
+     * @throws IllegalArgumentException limitが範囲外の場合
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, List<IndustryTechnologyUsage>> getTopTechnologiesByIndustry(int limit) {
+        validateLimit(limit);
+        Map<Long, List<IndustryTechnologyUsage>> result = new LinkedHashMap<>();
+        for (IndustryTechnologyUsage usage : projectTechnologyMapper.findTopTechnologiesByIndustry(null, limit)) {
+            result.computeIfAbsent(usage.getIndustryId(), id -> new ArrayList<>()).add(usage);
+        }
+        return result;
+    }
+
+    /**
+     * 指定業界で採用プロジェクト数の多い技術の上位N件を取得
+     *
+     * @param industryId 業界ID
+     * @param limit      取得件数（1〜{@link #MAX_TOP_LIMIT}）
+     * @return 順位順の集計結果
+     * @throws IllegalArgumentException limitが範囲外の場合
+     */
+    @Transactional(readOnly = true)
+    public List<IndustryTechnologyUsage> getTopTechnologies(Long industryId, int limit) {
+        validateLimit(limit);
+        return projectTechnologyMapper.findTopTechnologiesByIndustry(industryId, limit);
+    }
+
+    private static void validateLimit(int limit) {
+        if (limit < 1 || limit > MAX_TOP_LIMIT) {
+            throw new IllegalArgumentException("limit must be between 1 and " + MAX_TOP_LIMIT);
+        }
+    }
+
+    /**
+     * 必須項目を検証
+     *
+     * @param projectTechnology 検証するProjectTechnology
+     * @throws IllegalArgumentException projectId・technologyId・purposeのいずれかが未設定の場合
+     */
+    private void validate(ProjectTechnology projectTechnology) {
+        if (projectTechnology.getProjectId() == null || projectTechnology.getTechnologyId() == null) {
+            throw new IllegalArgumentException("projectId and technologyId are required");
+        }
+        if (projectTechnology.getPurpose() == null || projectTechnology.getPurpose().isBlank()) {
+            throw new IllegalArgumentException("purpose is required");
+        }
+    }
+}
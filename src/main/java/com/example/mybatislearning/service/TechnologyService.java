@@ -3,6 +3,8 @@ package com.example.mybatislearning.service;
 import com.example.mybatislearning.entity.Technology;
 import com.example.mybatislearning.enums.TechnologyCategory;
 import com.example.mybatislearning.mapper.TechnologyMapper;
+import com.example.mybatislearning.pagination.KeysetPage;
+import com.example.mybatislearning.pagination.PageToken;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -59,6 +61,24 @@ public class TechnologyService {
         return technologyMapper.selectAll();
     }
 
+    /**
+     * TechnologyをID順にページ単位で取得（キーセットページング）
+     * 小さなテーブルではfindAll()を使用し、大量データでは本メソッドで分割取得する
+     *
+     * @param pageToken 前ページで返された継続トークン（先頭ページの場合はnull）
+     * @param limit     1ページあたりの件数（1〜{@link KeysetPage#MAX_LIMIT}）
+     * @return Technologyのページと次ページの継続トークン
+     * @throws IllegalArgumentException トークンの形式またはlimitが不正な場合
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<Technology> findPage(String pageToken, int limit) {
+        KeysetPage.validateLimit(limit);
+        Long lastId = PageToken.decode(pageToken);
+        // 1件多く取得して次ページの有無を判定
+        List<Technology> rows = technologyMapper.selectPageAfter(lastId, limit + 1);
+        return KeysetPage.of(rows, limit, Technology::getId);
+    }
+
     /**
      * カテゴリでTechnologyを検索
      *
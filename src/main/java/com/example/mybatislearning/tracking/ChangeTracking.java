@@ -0,0 +1,37 @@
+package com.example.mybatislearning.tracking;
+
+import com.example.mybatislearning.entity.ChangeTrackedEntity;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Set;
+
+/**
+ * ChangeTracking
+ * {@code updateChanged}で反映したエンティティの変更記録を扱うユーティリティ
+ */
+public final class ChangeTracking {
+
+    private ChangeTracking() {
+    }
+
+    /**
+     * 反映済みとして変更の記録を破棄
+     * 反映したトランザクションがコミットされなかった場合は記録を戻し、次回の更新で再度書き込む
+     *
+     * @param entity updateChangedで更新したエンティティ
+     */
+    public static void written(ChangeTrackedEntity entity) {
+        Set<String> written = entity.clearChanges();
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        entity.restoreChanges(written);
+                    }
+                }
+            });
+        }
+    }
+}
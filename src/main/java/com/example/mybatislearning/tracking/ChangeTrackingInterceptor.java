@@ -0,0 +1,127 @@
+package com.example.mybatislearning.tracking;
+
+import com.example.mybatislearning.entity.ChangeTrackedEntity;
+import com.example.mybatislearning.entity.Phase;
+import com.example.mybatislearning.entity.Project;
+import com.example.mybatislearning.entity.ProjectMember;
+import org.apache.ibatis.cursor.Cursor;
+import org.apache.ibatis.executor.resultset.ResultSetHandler;
+import org.apache.ibatis.plugin.Interceptor;
+import org.apache.ibatis.plugin.Intercepts;
+import org.apache.ibatis.plugin.Invocation;
+import org.apache.ibatis.plugin.Signature;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.sql.Statement;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * ChangeTrackingInterceptor
+ * ResultSetHandler.handleResultSets・handleCursorResultSetsをフックし、DBから生成したエンティティを変更なしの状態にするInterceptor
+ *
+ * <p>MyBatisは結果のマッピングでsetterを呼び出すため、そのままでは全列が変更済みとして記録される。
+ * 生成直後に{@link ChangeTrackedEntity#markLoaded()}を呼び出し、以降のsetter呼び出しだけを
+ * {@code updateChanged}の対象にする。トップレベルの結果に加え、Project・Phase・ProjectMemberの
+ * associationとcollection（JOINで同時に生成されたもの）も対象とする。
+ * Cursorで取得した場合は、Cursorをラップして1行ずつ読み出した時点で変更なしの状態にする。</p>
+ *
+ * <p>ResultSetから新たに生成した結果だけが対象のため、ローカルキャッシュ・2次キャッシュから返された
+ * インスタンス（呼び出し側が変更中の可能性がある）の記録は消さない。</p>
+ */
+@Component
+@Intercepts({
+        @Signature(type = ResultSetHandler.class, method = "handleResultSets", args = {Statement.class}),
+        @Signature(type = ResultSetHandler.class, method = "handleCursorResultSets", args = {Statement.class})
+})
+public class ChangeTrackingInterceptor implements Interceptor {
+
+    @Override
+    public Object intercept(Invocation invocation) throws Throwable {
+        Object result = invocation.proceed();
+        if (result instanceof Cursor<?> cursor) {
+            return new LoadedCursor<>(cursor);
+        }
+        if (result instanceof List<?> rows && !rows.isEmpty()) {
+            Set<Object> visited = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Object row : rows) {
+                markLoaded(row, visited);
+            }
+        }
+        return result;
+    }
+
+    private static void markLoaded(Object value, Set<Object> visited) {
+        if (value == null || !visited.add(value)) {
+            return;
+        }
+        if (value instanceof ChangeTrackedEntity entity) {
+            entity.markLoaded();
+        }
+        if (value instanceof Project project) {
+            markLoaded(project.getProjectManager(), visited);
+            markLoaded(project.getTechnicalLead(), visited);
+            project.getPhases().forEach(phase -> markLoaded(phase, visited));
+            project.getProjectMembers().forEach(member -> markLoaded(member, visited));
+        } else if (value instanceof Phase phase) {
+            markLoaded(phase.getProject(), visited);
+        } else if (value instanceof ProjectMember member) {
+            markLoaded(member.getPerson(), visited);
+            markLoaded(member.getProject(), visited);
+        }
+    }
+
+    /**
+     * 読み出した行を変更なしの状態にしてから返すCursor
+     */
+    private static final class LoadedCursor<T> implements Cursor<T> {
+
+        private final Cursor<T> delegate;
+
+        LoadedCursor(Cursor<T> delegate) {
+            this.delegate = delegate;
+        }
+
+        @Override
+        public boolean isOpen() {
+            return delegate.isOpen();
+        }
+
+        @Override
+        public boolean isConsumed() {
+            return delegate.isConsumed();
+        }
+
+        @Override
+        public int getCurrentIndex() {
+            return delegate.getCurrentIndex();
+        }
+
+        @Override
+        public void close() throws IOException {
+            delegate.close();
+        }
+
+        @Override
+        public Iterator<T> iterator() {
+            Iterator<T> rows = delegate.iterator();
+            return new Iterator<>() {
+                @Override
+                public boolean hasNext() {
+                    return rows.hasNext();
+                }
+
+                @Override
+                public T next() {
+                    T row = rows.next();
+                    markLoaded(row, Collections.newSetFromMap(new IdentityHashMap<>()));
+                    return row;
+                }
+            };
+        }
+    }
+}
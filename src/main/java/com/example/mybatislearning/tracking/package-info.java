@@ -0,0 +1,17 @@
+/**
+ * 変更追跡パッケージを提供します
+ *
+ * <p>
+ * 主なクラス:
+ * </p>
+ * <ul>
+ * <li>ChangeTrackingInterceptor</li>
+ * <li>ChangeTracking</li>
+ * </ul>
+ *
+ * <p>
+ * このパッケージはエンティティの変更列の記録（ChangeTrackedEntity）と、変更列だけを更新する
+ * updateChangedに関連するクラスを提供します。
+ * </p>
+ */
+package com.example.mybatislearning.tracking;
@@ -0,0 +1,122 @@
+package com.example.mybatislearning.typehandler;
+
+import com.example.mybatislearning.enums.CodedEnum;
+import org.apache.ibatis.type.BaseTypeHandler;
+import org.apache.ibatis.type.JdbcType;
+
+import java.lang.reflect.Array;
+import java.sql.CallableStatement;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+
+/**
+ * CodedEnumTypeHandler
+ * {@link CodedEnum}を実装したEnumをSMALLINTのコード値で読み書きするTypeHandler
+ *
+ * <p>application.ymlの{@code mybatis.configuration.default-enum-type-handler}で全Enumの既定ハンドラとして登録する。
+ * MyBatisはEnum型ごとに本クラスのインスタンスを1つ生成し、resultMapの{@code javaType}指定・
+ * constructorの{@code arg}・{@code #{...}}パラメータのいずれにも適用する。</p>
+ *
+ * <p>読み込み時は既定のEnumTypeHandlerのような行ごとの{@code Enum.valueOf}（名前の文字列照合）を行わず、
+ * コードを添字とした配列から定数を取り出す。配列はEnum型ごとに{@link ClassValue}で一度だけ作成し、
+ * 同じEnum型のハンドラが複数生成されても共有する。</p>
+ *
+ * @param <E> CodedEnumを実装したEnum型
+ */
+public class CodedEnumTypeHandler<E extends Enum<E> & CodedEnum> extends BaseTypeHandler<E> {
+
+    // Enum型ごとのデコード表（添字 = コード、未使用のコードはnull。配列の実行時型は対象のEnum型）
+    private static final ClassValue<Object[]> DECODE_TABLES = new ClassValue<>() {
+        @Override
+        protected Object[] computeValue(Class<?> type) {
+            return buildDecodeTable(type);
+        }
+    };
+
+    private final Class<E> type;
+    private final E[] decodeTable;
+
+    /**
+     * MyBatisから呼び出されるコンストラクタ
+     *
+     * @param type 対象のEnum型
+     * @throws IllegalArgumentException CodedEnumを実装していない場合、またはコードが不正な場合
+     */
+    @SuppressWarnings("unchecked")
+    public CodedEnumTypeHandler(Class<E> type) {
+        if (type == null) {
+            throw new IllegalArgumentException("Type argument cannot be null");
+        }
+        this.type = type;
+        this.decodeTable = (E[]) DECODE_TABLES.get(type);
+    }
+
+    @Override
+    public void setNonNullParameter(PreparedStatement ps, int i, E parameter, JdbcType jdbcType) throws SQLException {
+        ps.setShort(i, parameter.getCode());
+    }
+
+    @Override
+    public E getNullableResult(ResultSet rs, String columnName) throws SQLException {
+        short code = rs.getShort(columnName);
+        return code == 0 && rs.wasNull() ? null : decode(code);
+    }
+
+    @Override
+    public E getNullableResult(ResultSet rs, int columnIndex) throws SQLException {
+        short code = rs.getShort(columnIndex);
+        return code == 0 && rs.wasNull() ? null : decode(code);
+    }
+
+    @Override
+    public E getNullableResult(CallableStatement cs, int columnIndex) throws SQLException {
+        short code = cs.getShort(columnIndex);
+        return code == 0 && cs.wasNull() ? null : decode(code);
+    }
+
+    /**
+     * コード値をEnum定数に変換
+     *
+     * @param code DBに格納されたコード値
+     * @return 対応するEnum定数
+     * @throws IllegalArgumentException 未定義のコードの場合
+     */
+    public E decode(int code) {
+        E value = code >= 0 && code < decodeTable.length ? decodeTable[code] : null;
+        if (value == null) {
+            throw new IllegalArgumentException(
+                    "Unknown code " + code + " for " + type.getSimpleName());
+        }
+        return value;
+    }
+
+    /**
+     * コードを添字としたデコード表を作成（コードの重複・負値・過大な値は定義ミスとして拒否する）
+     */
+    private static Object[] buildDecodeTable(Class<?> type) {
+        if (!type.isEnum() || !CodedEnum.class.isAssignableFrom(type)) {
+            throw new IllegalArgumentException(
+                    type.getName() + " must be an enum implementing " + CodedEnum.class.getSimpleName());
+        }
+        Object[] constants = type.getEnumConstants();
+        int maxCode = -1;
+        for (Object constant : constants) {
+            int code = ((CodedEnum) constant).getCode();
+            if (code < 0 || code > Byte.MAX_VALUE) {
+                throw new IllegalArgumentException("Code out of range for " + constant + ": " + code);
+            }
+            maxCode = Math.max(maxCode, code);
+        }
+        Object[] table = (Object[]) Array.newInstance(type, maxCode + 1);
+        for (Object constant : constants) {
+            int code = ((CodedEnum) constant).getCode();
+            if (table[code] != null) {
+                throw new IllegalArgumentException(
+                        "Duplicate code " + code + " in " + type.getSimpleName() + ": " + table[code] + ", " + constant);
+            }
+            table[code] = constant;
+        }
+        return table;
+    }
+}
@@ -0,0 +1,15 @@
+/**
+ * TypeHandlerパッケージを提供します
+ *
+ * <p>
+ * 主なクラス:
+ * </p>
+ * <ul>
+ * <li>CodedEnumTypeHandler</li>
+ * </ul>
+ *
+ * <p>
+ * このパッケージはEnum等のJava型とDB列の値を変換するMyBatisのTypeHandlerを提供します。
+ * </p>
+ */
+package com.example.mybatislearning.typehandler;
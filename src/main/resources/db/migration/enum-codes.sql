@@ -0,0 +1,102 @@
+-- Enum列をVARCHAR（Enum名）からSMALLINT（CodedEnumのコード値）へ移行するスクリプト
+--
+-- schema.sqlの変更前（Enum名をVARCHARで格納）に作成したDBに適用する。
+-- 各列は「Enum名をコード値の文字列に置き換え → 列型をSMALLINTに変更」の順にその場で変換し、
+-- 旧列を含むインデックスは削除してから再作成する。NOT NULL制約は列型の変更後もそのまま残る。
+-- 対応表はenumsパッケージの各Enumのコード値と一致させること。
+--
+-- 各手順は再実行しても結果が変わらない。
+-- - 置き換えは現在の値がEnum名の行だけを対象とし、変換済み（SMALLINT）の列では対象行がない。
+--   比較は列型に関わらず文字列で行う。
+-- - 列型の変更は変換済みの列では何もしない。
+-- - インデックスはIF EXISTS/IF NOT EXISTSで削除・作成する。
+-- 対応表にない名前が残っている場合は、その列の型変更が変換エラーで失敗する（列と値はVARCHARのまま残る）。
+-- 失敗した場合は該当行の値を修正し、スクリプト全体をそのまま再実行する。
+
+-- 旧列を含むインデックスを削除
+DROP INDEX IF EXISTS idx_technologies_category;
+DROP INDEX IF EXISTS idx_projects_status;
+DROP INDEX IF EXISTS idx_projects_project_type;
+DROP INDEX IF EXISTS idx_projects_status_planned_start;
+DROP INDEX IF EXISTS idx_projects_organization_status;
+DROP INDEX IF EXISTS idx_projects_industry_status;
+DROP INDEX IF EXISTS idx_projects_manager_status;
+
+-- 複合インデックスの先頭列と重複する単一列インデックスを削除（再作成しない）
+DROP INDEX IF EXISTS idx_projects_industry_id;
+DROP INDEX IF EXISTS idx_projects_project_manager_id;
+
+-- technologies.category（TechnologyCategory）
+UPDATE technologies SET category = CASE CAST(category AS VARCHAR(50))
+        WHEN 'LANGUAGE' THEN '0'
+        WHEN 'FRAMEWORK' THEN '1'
+        WHEN 'DATABASE' THEN '2'
+        WHEN 'INFRASTRUCTURE' THEN '3'
+        WHEN 'TOOL' THEN '4'
+        WHEN 'OTHER' THEN '5'
+    END
+WHERE CAST(category AS VARCHAR(50)) IN ('LANGUAGE', 'FRAMEWORK', 'DATABASE', 'INFRASTRUCTURE', 'TOOL', 'OTHER');
+ALTER TABLE technologies ALTER COLUMN category SET DATA TYPE SMALLINT;
+
+-- projects.project_type（ProjectType）
+UPDATE projects SET project_type = CASE CAST(project_type AS VARCHAR(50))
+        WHEN 'NEW_DEVELOPMENT' THEN '0'
+        WHEN 'MAINTENANCE' THEN '1'
+        WHEN 'CONSULTING' THEN '2'
+        WHEN 'PACKAGE' THEN '3'
+        WHEN 'IN_HOUSE_SERVICE' THEN '4'
+    END
+WHERE CAST(project_type AS VARCHAR(50)) IN ('NEW_DEVELOPMENT', 'MAINTENANCE', 'CONSULTING', 'PACKAGE', 'IN_HOUSE_SERVICE');
+ALTER TABLE projects ALTER COLUMN project_type SET DATA TYPE SMALLINT;
+
+-- projects.status（ProjectStatus）
+UPDATE projects SET status = CASE CAST(status AS VARCHAR(50))
+        WHEN 'PLANNING' THEN '0'
+        WHEN 'IN_PROGRESS' THEN '1'
+        WHEN 'COMPLETED' THEN '2'
+        WHEN 'CANCELLED' THEN '3'
+    END
+WHERE CAST(status AS VARCHAR(50)) IN ('PLANNING', 'IN_PROGRESS', 'COMPLETED', 'CANCELLED');
+ALTER TABLE projects ALTER COLUMN status SET DATA TYPE SMALLINT;
+
+-- phases.phase_type（PhaseType）
+UPDATE phases SET phase_type = CASE CAST(phase_type AS VARCHAR(50))
+        WHEN 'REQUIREMENTS' THEN '0'
+        WHEN 'DESIGN' THEN '1'
+        WHEN 'IMPLEMENTATION' THEN '2'
+        WHEN 'TESTING' THEN '3'
+        WHEN 'RELEASE' THEN '4'
+    END
+WHERE CAST(phase_type AS VARCHAR(50)) IN ('REQUIREMENTS', 'DESIGN', 'IMPLEMENTATION', 'TESTING', 'RELEASE');
+ALTER TABLE phases ALTER COLUMN phase_type SET DATA TYPE SMALLINT;
+
+-- phases.status（PhaseStatus）
+UPDATE phases SET status = CASE CAST(status AS VARCHAR(50))
+        WHEN 'NOT_STARTED' THEN '0'
+        WHEN 'IN_PROGRESS' THEN '1'
+        WHEN 'COMPLETED' THEN '2'
+    END
+WHERE CAST(status AS VARCHAR(50)) IN ('NOT_STARTED', 'IN_PROGRESS', 'COMPLETED');
+ALTER TABLE phases ALTER COLUMN status SET DEFAULT 0;
+ALTER TABLE phases ALTER COLUMN status SET DATA TYPE SMALLINT;
+
+-- project_members.role（MemberRole）
+UPDATE project_members SET role = CASE CAST(role AS VARCHAR(50))
+        WHEN 'PROJECT_MANAGER' THEN '0'
+        WHEN 'TECHNICAL_LEAD' THEN '1'
+        WHEN 'DEVELOPER' THEN '2'
+        WHEN 'TESTER' THEN '3'
+        WHEN 'DESIGNER' THEN '4'
+        WHEN 'ADVISOR' THEN '5'
+        WHEN 'OTHER' THEN '6'
+    END
+WHERE CAST(role AS VARCHAR(50)) IN ('PROJECT_MANAGER', 'TECHNICAL_LEAD', 'DEVELOPER', 'TESTER', 'DESIGNER', 'ADVISOR', 'OTHER');
+ALTER TABLE project_members ALTER COLUMN role SET DATA TYPE SMALLINT;
+
+-- インデックスを再作成（schema.sqlと同じ定義）
+CREATE INDEX IF NOT EXISTS idx_technologies_category ON technologies(category);
+CREATE INDEX IF NOT EXISTS idx_projects_project_type ON projects(project_type);
+CREATE INDEX IF NOT EXISTS idx_projects_status_planned_start ON projects(status, planned_start_date);
+CREATE INDEX IF NOT EXISTS idx_projects_organization_status ON projects(organization_id, status);
+CREATE INDEX IF NOT EXISTS idx_projects_industry_status ON projects(industry_id, status);
+CREATE INDEX IF NOT EXISTS idx_projects_manager_status ON projects(project_manager_id, status);
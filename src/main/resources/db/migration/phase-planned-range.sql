@@ -0,0 +1,9 @@
+-- 工程の計画期間の逆転を禁止するCHECK制約を追加するスクリプト
+--
+-- schema.sqlの変更前（制約なし）に作成したDBに適用する。計画開始日が計画終了日より後の行が残っている場合は
+-- 制約の追加が失敗するため、次のSELECTで該当行を確認し、日付を修正してから適用する。
+--   SELECT id, project_id, planned_start_date, planned_end_date FROM phases
+--   WHERE planned_start_date > planned_end_date;
+
+ALTER TABLE phases ADD CONSTRAINT IF NOT EXISTS chk_phases_planned_range
+    CHECK (planned_start_date <= planned_end_date);
@@ -0,0 +1,6 @@
+-- 楽観ロック用のversion列を追加するスクリプト
+--
+-- schema.sqlの変更前（version列なし）に作成したDBに適用する。既存行のバージョンは0から始まる。
+
+ALTER TABLE projects ADD COLUMN IF NOT EXISTS version INTEGER DEFAULT 0 NOT NULL;
+ALTER TABLE phases ADD COLUMN IF NOT EXISTS version INTEGER DEFAULT 0 NOT NULL;
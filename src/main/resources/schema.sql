@@ -1,3 +1,6 @@
+-- Enum型の列（category/project_type/status/phase_type/role）はCodedEnumのコード値をSMALLINTで格納する
+-- VARCHAR（Enum名）で作成済みのDBはdb/migration/enum-codes.sqlで移行する
+
 -- organizationsテーブルの作成
 CREATE TABLE IF NOT EXISTS organizations (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
@@ -35,7 +38,7 @@ CREATE INDEX IF NOT EXISTS idx_industries_name ON industries(name);
 CREATE TABLE IF NOT EXISTS technologies (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     name VARCHAR(255) NOT NULL,
-    category VARCHAR(50) NOT NULL,
+    category SMALLINT NOT NULL,
     description TEXT,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP
@@ -56,8 +59,8 @@ CREATE TABLE IF NOT EXISTS projects (
     industry_id BIGINT,
 
     -- 新規フィールド（プロジェクト特性）
-    project_type VARCHAR(50),
-    status VARCHAR(50),
+    project_type SMALLINT,
+    status SMALLINT,
 
     -- 新規フィールド（規模）
     budget DECIMAL(15, 2) CHECK (budget >= 0),
@@ -74,6 +77,9 @@ CREATE TABLE IF NOT EXISTS projects (
     project_manager_id BIGINT,
     technical_lead_id BIGINT,
 
+    -- 楽観ロック用のバージョン（更新のたびに1増える）
+    version INTEGER DEFAULT 0 NOT NULL,
+
     -- 外部キー制約
     FOREIGN KEY (organization_id) REFERENCES organizations(id),
     FOREIGN KEY (industry_id) REFERENCES industries(id),
@@ -82,25 +88,33 @@ CREATE TABLE IF NOT EXISTS projects (
 );
 
 -- projectsテーブルの拡張インデックス（タスク1.2）
-CREATE INDEX IF NOT EXISTS idx_projects_industry_id ON projects(industry_id);
-CREATE INDEX IF NOT EXISTS idx_projects_status ON projects(status);
+-- industry_id、status、project_manager_idの単一列インデックスは、同じ列を先頭に持つ下の複合インデックスで代用する
 CREATE INDEX IF NOT EXISTS idx_projects_project_type ON projects(project_type);
-CREATE INDEX IF NOT EXISTS idx_projects_project_manager_id ON projects(project_manager_id);
 CREATE INDEX IF NOT EXISTS idx_projects_technical_lead_id ON projects(technical_lead_id);
 
+-- projectsテーブルの複合インデックス（searchProjectsの典型的な条件の組み合わせ、先頭列だけの検索にも使用される）
+CREATE INDEX IF NOT EXISTS idx_projects_status_planned_start ON projects(status, planned_start_date);
+CREATE INDEX IF NOT EXISTS idx_projects_organization_status ON projects(organization_id, status);
+CREATE INDEX IF NOT EXISTS idx_projects_industry_status ON projects(industry_id, status);
+CREATE INDEX IF NOT EXISTS idx_projects_manager_status ON projects(project_manager_id, status);
+
 -- phasesテーブルの作成（タスク1.1）
 CREATE TABLE IF NOT EXISTS phases (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     project_id BIGINT NOT NULL,
-    phase_type VARCHAR(50) NOT NULL,
+    phase_type SMALLINT NOT NULL,
     planned_start_date DATE NOT NULL,
     planned_end_date DATE NOT NULL,
     actual_start_date DATE,
     actual_end_date DATE,
-    status VARCHAR(50) DEFAULT 'NOT_STARTED',
+    status SMALLINT DEFAULT 0,
     deliverables TEXT,
     created_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP,
     updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    -- 楽観ロック用のバージョン（更新のたびに1増える）
+    version INTEGER DEFAULT 0 NOT NULL,
+    -- 計画期間の逆転を禁止（工程日程インデックスは開始<=終了の区間を前提とする。既存DBはdb/migration/phase-planned-range.sqlで追加）
+    CONSTRAINT chk_phases_planned_range CHECK (planned_start_date <= planned_end_date),
     FOREIGN KEY (project_id) REFERENCES projects(id) ON DELETE CASCADE
 );
 
@@ -112,7 +126,7 @@ CREATE TABLE IF NOT EXISTS project_members (
     id BIGINT AUTO_INCREMENT PRIMARY KEY,
     project_id BIGINT NOT NULL,
     person_id BIGINT NOT NULL,
-    role VARCHAR(50) NOT NULL,
+    role SMALLINT NOT NULL,
     join_date DATE NOT NULL,
     leave_date DATE,
     allocation_rate DECIMAL(3, 2) NOT NULL CHECK (allocation_rate >= 0.0 AND allocation_rate <= 1.0),
@@ -125,7 +139,10 @@ CREATE TABLE IF NOT EXISTS project_members (
 
 -- project_membersテーブルのインデックス
 CREATE INDEX IF NOT EXISTS idx_project_members_project_id ON project_members(project_id);
-CREATE INDEX IF NOT EXISTS idx_project_members_person_id ON project_members(person_id);
+
+-- project_membersテーブルの複合インデックス（Person単位の稼働タイムラインをPerson・参画日順に走査する。
+-- person_idのみの検索・外部キーもこのインデックスの先頭列で処理する）
+CREATE INDEX IF NOT EXISTS idx_project_members_person_join ON project_members(person_id, join_date);
 
 -- project_technologiesテーブルの作成（タスク1.1）
 CREATE TABLE IF NOT EXISTS project_technologies (
@@ -140,6 +157,7 @@ CREATE TABLE IF NOT EXISTS project_technologies (
     FOREIGN KEY (technology_id) REFERENCES technologies(id)
 );
 
--- project_technologiesテーブルのインデックス
-CREATE INDEX IF NOT EXISTS idx_project_technologies_project_id ON project_technologies(project_id);
-CREATE INDEX IF NOT EXISTS idx_project_technologies_technology_id ON project_technologies(technology_id);
+-- project_technologiesテーブルの複合インデックス（技術別・業界別の採用数集計をインデックスのみで処理する。
+-- project_id・technology_idのみの検索・外部キーもそれぞれの先頭列で処理する）
+CREATE INDEX IF NOT EXISTS idx_project_technologies_technology_project ON project_technologies(technology_id, project_id);
+CREATE INDEX IF NOT EXISTS idx_project_technologies_project_technology ON project_technologies(project_id, technology_id);
@@ -52,7 +52,9 @@ class ApplicationConfigurationTest {
         // MyBatis設定を確認
         assertEquals("classpath:mappers/*.xml", environment.getProperty("mybatis.mapper-locations"));
         assertEquals("true", environment.getProperty("mybatis.configuration.map-underscore-to-camel-case"));
-        assertEquals("org.apache.ibatis.logging.stdout.StdOutImpl", environment.getProperty("mybatis.configuration.log-impl"));
+        // 全SQLの標準出力ログは無効で、スロークエリログは明示的に有効化する
+        assertNull(environment.getProperty("mybatis.configuration.log-impl"));
+        assertEquals("false", environment.getProperty("app.slow-query.enabled"));
 
         // SqlSessionFactoryが正しく設定されていることを確認
         org.apache.ibatis.session.Configuration configuration = sqlSessionFactory.getConfiguration();
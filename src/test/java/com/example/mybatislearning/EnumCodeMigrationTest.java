@@ -0,0 +1,150 @@
+package com.example.mybatislearning;
+
+import com.example.mybatislearning.enums.MemberRole;
+import com.example.mybatislearning.enums.PhaseStatus;
+import com.example.mybatislearning.enums.PhaseType;
+import com.example.mybatislearning.enums.ProjectStatus;
+import com.example.mybatislearning.enums.ProjectType;
+import com.example.mybatislearning.enums.TechnologyCategory;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.NestedExceptionUtils;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * db/migration/enum-codes.sql（Enum列のVARCHAR→SMALLINT移行）を検証するテスト
+ *
+ * <p>アプリケーションのDBとは別のインメモリDBに、移行前と同じVARCHAR列の表を作成して適用する。</p>
+ */
+class EnumCodeMigrationTest {
+
+    private DriverManagerDataSource dataSource;
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void createLegacySchema() {
+        dataSource = new DriverManagerDataSource("jdbc:h2:mem:enum_migration;DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE technologies (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "name VARCHAR(255) NOT NULL, category VARCHAR(50) NOT NULL)");
+        jdbcTemplate.execute("CREATE INDEX idx_technologies_category ON technologies(category)");
+        jdbcTemplate.execute("CREATE TABLE projects (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "organization_id BIGINT NOT NULL, industry_id BIGINT, project_type VARCHAR(50), "
+                + "status VARCHAR(50), planned_start_date DATE, project_manager_id BIGINT)");
+        jdbcTemplate.execute("CREATE INDEX idx_projects_industry_id ON projects(industry_id)");
+        jdbcTemplate.execute("CREATE INDEX idx_projects_status ON projects(status)");
+        jdbcTemplate.execute("CREATE INDEX idx_projects_project_manager_id ON projects(project_manager_id)");
+        jdbcTemplate.execute("CREATE INDEX idx_projects_project_type ON projects(project_type)");
+        jdbcTemplate.execute("CREATE INDEX idx_projects_status_planned_start ON projects(status, planned_start_date)");
+        jdbcTemplate.execute("CREATE INDEX idx_projects_organization_status ON projects(organization_id, status)");
+        jdbcTemplate.execute("CREATE INDEX idx_projects_industry_status ON projects(industry_id, status)");
+        jdbcTemplate.execute("CREATE INDEX idx_projects_manager_status ON projects(project_manager_id, status)");
+        jdbcTemplate.execute("CREATE TABLE phases (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "phase_type VARCHAR(50) NOT NULL, status VARCHAR(50) DEFAULT 'NOT_STARTED')");
+        jdbcTemplate.execute("CREATE TABLE project_members (id BIGINT AUTO_INCREMENT PRIMARY KEY, "
+                + "role VARCHAR(50) NOT NULL)");
+    }
+
+    @AfterEach
+    void dropDatabase() {
+        jdbcTemplate.execute("DROP ALL OBJECTS");
+    }
+
+    private void migrate() {
+        new ResourceDatabasePopulator(new ClassPathResource("db/migration/enum-codes.sql")).execute(dataSource);
+    }
+
+    private int code(String sql) {
+        return jdbcTemplate.queryForObject(sql, Integer.class);
+    }
+
+    @Test
+    void enumNamesAreConvertedToCodes() {
+        jdbcTemplate.update("INSERT INTO technologies (name, category) VALUES ('H2', 'DATABASE')");
+        jdbcTemplate.update("INSERT INTO projects (organization_id, project_type, status) "
+                + "VALUES (1, 'IN_HOUSE_SERVICE', 'COMPLETED'), (1, NULL, NULL)");
+        jdbcTemplate.update("INSERT INTO phases (phase_type, status) VALUES ('TESTING', 'IN_PROGRESS')");
+        jdbcTemplate.update("INSERT INTO project_members (role) VALUES ('ADVISOR')");
+
+        migrate();
+
+        assertEquals(TechnologyCategory.DATABASE.getCode(), code("SELECT category FROM technologies"));
+        assertEquals(ProjectType.IN_HOUSE_SERVICE.getCode(), code("SELECT project_type FROM projects WHERE id = 1"));
+        assertEquals(ProjectStatus.COMPLETED.getCode(), code("SELECT status FROM projects WHERE id = 1"));
+        assertNull(jdbcTemplate.queryForObject("SELECT status FROM projects WHERE id = 2", Integer.class));
+        assertEquals(PhaseType.TESTING.getCode(), code("SELECT phase_type FROM phases"));
+        assertEquals(PhaseStatus.IN_PROGRESS.getCode(), code("SELECT status FROM phases"));
+        assertEquals(MemberRole.ADVISOR.getCode(), code("SELECT role FROM project_members"));
+
+        // 列型がSMALLINTになり、インデックスが再作成されている
+        assertEquals(6, code("SELECT COUNT(*) FROM INFORMATION_SCHEMA.COLUMNS WHERE DATA_TYPE = 'SMALLINT' "
+                + "AND COLUMN_NAME IN ('CATEGORY', 'PROJECT_TYPE', 'STATUS', 'PHASE_TYPE', 'ROLE')"));
+        assertEquals(6, code("SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES WHERE INDEX_NAME IN ("
+                + "'IDX_TECHNOLOGIES_CATEGORY', 'IDX_PROJECTS_PROJECT_TYPE', "
+                + "'IDX_PROJECTS_STATUS_PLANNED_START', 'IDX_PROJECTS_ORGANIZATION_STATUS', "
+                + "'IDX_PROJECTS_INDUSTRY_STATUS', 'IDX_PROJECTS_MANAGER_STATUS')"));
+        // 複合インデックスの先頭列と重複する単一列インデックスは削除される
+        assertEquals(0, code("SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES WHERE INDEX_NAME IN ("
+                + "'IDX_PROJECTS_INDUSTRY_ID', 'IDX_PROJECTS_STATUS', 'IDX_PROJECTS_PROJECT_MANAGER_ID')"));
+
+        // NOT NULL制約とphases.statusの既定値が引き継がれる
+        jdbcTemplate.update("INSERT INTO phases (phase_type) VALUES (0)");
+        assertEquals(PhaseStatus.NOT_STARTED.getCode(), code("SELECT status FROM phases WHERE phase_type = 0"));
+        assertThrows(Exception.class, () -> jdbcTemplate.update("INSERT INTO project_members (role) VALUES (NULL)"));
+    }
+
+    @Test
+    void unknownNameInNotNullColumnFailsMigration() {
+        jdbcTemplate.update("INSERT INTO project_members (role) VALUES ('SPONSOR')");
+
+        assertThrows(Exception.class, this::migrate);
+        // 旧列は削除されずに残る
+        assertEquals("SPONSOR", jdbcTemplate.queryForObject("SELECT role FROM project_members", String.class));
+    }
+
+    @Test
+    void unknownNameFailsAndMigrationResumesAfterFix() {
+        jdbcTemplate.update("INSERT INTO projects (organization_id, project_type, status) "
+                + "VALUES (1, 'NEW_DEVELOPMENT', 'ON_HOLD')");
+
+        Exception e = assertThrows(Exception.class, this::migrate);
+        String cause = NestedExceptionUtils.getMostSpecificCause(e).getMessage();
+        assertTrue(cause.contains("ON_HOLD"), cause);
+        // 変換できない値はVARCHARの列にそのまま残り、NULLに置き換わっていない
+        assertEquals("ON_HOLD", jdbcTemplate.queryForObject("SELECT status FROM projects", String.class));
+
+        // 値を修正して再実行すると、途中まで変換済みの列も含めて移行が完了する
+        jdbcTemplate.update("UPDATE projects SET status = 'CANCELLED' WHERE status = 'ON_HOLD'");
+        migrate();
+        assertEquals(ProjectType.NEW_DEVELOPMENT.getCode(), code("SELECT project_type FROM projects"));
+        assertEquals(ProjectStatus.CANCELLED.getCode(), code("SELECT status FROM projects"));
+    }
+
+    @Test
+    void migrationCanBeRerun() {
+        jdbcTemplate.update("INSERT INTO technologies (name, category) VALUES ('Java', 'LANGUAGE')");
+        jdbcTemplate.update("INSERT INTO projects (organization_id, project_type, status) "
+                + "VALUES (1, 'MAINTENANCE', 'IN_PROGRESS')");
+        jdbcTemplate.update("INSERT INTO phases (phase_type, status) VALUES ('RELEASE', 'COMPLETED')");
+        jdbcTemplate.update("INSERT INTO project_members (role) VALUES ('TESTER')");
+
+        migrate();
+        migrate();
+
+        // 変換済みの列は再実行で変わらない
+        assertEquals(TechnologyCategory.LANGUAGE.getCode(), code("SELECT category FROM technologies"));
+        assertEquals(ProjectType.MAINTENANCE.getCode(), code("SELECT project_type FROM projects"));
+        assertEquals(ProjectStatus.IN_PROGRESS.getCode(), code("SELECT status FROM projects"));
+        assertEquals(PhaseType.RELEASE.getCode(), code("SELECT phase_type FROM phases"));
+        assertEquals(PhaseStatus.COMPLETED.getCode(), code("SELECT status FROM phases"));
+        assertEquals(MemberRole.TESTER.getCode(), code("SELECT role FROM project_members"));
+        assertEquals(1, code("SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES "
+                + "WHERE INDEX_NAME = 'IDX_PROJECTS_STATUS_PLANNED_START'"));
+    }
+}
@@ -3,6 +3,8 @@ package com.example.mybatislearning;
 import com.example.mybatislearning.entity.Organization;
 import com.example.mybatislearning.entity.Project;
 import com.example.mybatislearning.mapper.OrganizationAnnotationMapper;
+import com.example.mybatislearning.readmodel.OrganizationRecord;
+import com.example.mybatislearning.readmodel.ProjectRecord;
 import com.example.mybatislearning.service.OrganizationService;
 import com.example.mybatislearning.service.ProjectService;
 import org.junit.jupiter.api.Test;
@@ -131,17 +133,17 @@ class MyBatisApplicationTests {
         System.out.println("\n=== Projects by Organization Test ===");
 
         // 組織ID=1のProjectを取得
-        List<Project> projects = projectService.getProjectsByOrganization(1L);
+        List<ProjectRecord> projects = projectService.getProjectsByOrganization(1L);
         System.out.println("Projects for Organization 1:");
-        for (Project p : projects) {
+        for (ProjectRecord p : projects) {
             System.out.println("  - " + p);
         }
 
         // 検証
         assertNotNull(projects);
         assertFalse(projects.isEmpty());
-        for (Project p : projects) {
-            assertEquals(1L, p.getOrganizationId());
+        for (ProjectRecord p : projects) {
+            assertEquals(1L, p.organizationId());
         }
 
         System.out.println("=== Projects by Organization Test Completed ===\n");
@@ -196,15 +198,15 @@ class MyBatisApplicationTests {
         System.out.println("\n=== Database and SQL Logging Test ===");
 
         // 初期データの確認（data.sqlで投入されたデータ）
-        List<Organization> organizations = organizationService.getAllOrganizations();
+        List<OrganizationRecord> organizations = organizationService.getAllOrganizations();
         System.out.println("Initial Organizations:");
-        for (Organization org : organizations) {
+        for (OrganizationRecord org : organizations) {
             System.out.println("  - " + org);
         }
 
-        List<Project> projects = projectService.getAllProjects();
+        List<ProjectRecord> projects = projectService.getAllProjects();
         System.out.println("Initial Projects:");
-        for (Project p : projects) {
+        for (ProjectRecord p : projects) {
             System.out.println("  - " + p);
         }
 
@@ -0,0 +1,112 @@
+package com.example.mybatislearning.allocation;
+
+import com.example.mybatislearning.entity.ProjectMember;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AllocationTimelineBuilderTest
+ * 区間スイープによるタイムライン構築と二分探索による検索をテスト
+ */
+class AllocationTimelineBuilderTest {
+
+    private static ProjectMember member(long personId, String join, String leave, String rate) {
+        ProjectMember member = new ProjectMember();
+        member.setPersonId(personId);
+        member.setJoinDate(LocalDate.parse(join));
+        member.setLeaveDate(leave == null ? null : LocalDate.parse(leave));
+        member.setAllocationRate(new BigDecimal(rate));
+        return member;
+    }
+
+    private static void assertAllocation(String expected, BigDecimal actual) {
+        assertEquals(0, new BigDecimal(expected).compareTo(actual), "expected " + expected + " but was " + actual);
+    }
+
+    /**
+     * 重なる参画の稼働率が合算され、1.0超の区間が検出されることをテスト
+     */
+    @Test
+    void testOverlappingAssignmentsAreSummed() {
+        // A: 4/1〜6/30 0.5、B: 5/1〜無期限 0.75、C: 7/1〜7/31 0.25
+        PersonAllocationTimeline timeline = AllocationTimelineBuilder.build(1L, List.of(
+                member(1, "2024-04-01", "2024-06-30", "0.50"),
+                member(1, "2024-05-01", null, "0.75"),
+                member(1, "2024-07-01", "2024-07-31", "0.25")));
+        timeline.getSegments().forEach(s -> System.out.println("  - " + s));
+
+        List<AllocationSegment> segments = timeline.getSegments();
+        assertEquals(4, segments.size());
+        assertEquals(LocalDate.of(2024, 4, 30), segments.get(0).getEndDate());
+        assertAllocation("1.25", segments.get(1).getAllocation());
+        assertEquals(2, segments.get(1).getAssignmentCount());
+        assertEquals(LocalDate.of(2024, 6, 30), segments.get(1).getEndDate());
+        assertAllocation("1.00", segments.get(2).getAllocation());
+        assertNull(segments.get(3).getEndDate());
+        assertAllocation("0.75", segments.get(3).getAllocation());
+
+        assertTrue(timeline.isOverAllocated());
+        assertAllocation("1.25", timeline.getPeakAllocation());
+        assertEquals(1, timeline.getOverAllocatedSegments().size());
+
+        // 日付検索（区間の境界を含む）
+        assertAllocation("0", timeline.allocationOn(LocalDate.of(2024, 3, 31)));
+        assertAllocation("0.50", timeline.allocationOn(LocalDate.of(2024, 4, 30)));
+        assertAllocation("1.25", timeline.allocationOn(LocalDate.of(2024, 5, 1)));
+        assertAllocation("1.25", timeline.allocationOn(LocalDate.of(2024, 6, 30)));
+        assertAllocation("1.00", timeline.allocationOn(LocalDate.of(2024, 7, 1)));
+        assertAllocation("0.75", timeline.allocationOn(LocalDate.of(2030, 1, 1)));
+
+        // 期間検索
+        assertEquals(2, timeline.segmentsBetween(LocalDate.of(2024, 6, 30), LocalDate.of(2024, 7, 1)).size());
+        assertAllocation("1.00", timeline.peakAllocationBetween(LocalDate.of(2024, 7, 1), LocalDate.of(2024, 12, 31)));
+        assertTrue(timeline.segmentsBetween(LocalDate.of(2023, 1, 1), LocalDate.of(2024, 3, 31)).isEmpty());
+        assertThrows(IllegalArgumentException.class,
+                () -> timeline.segmentsBetween(LocalDate.of(2024, 2, 1), LocalDate.of(2024, 1, 1)));
+    }
+
+    /**
+     * 同日に離任・参画が入れ替わっても稼働率が変わらない場合は区間を分けないことをテスト
+     */
+    @Test
+    void testHandOverOnSameDayKeepsSingleSegment() {
+        PersonAllocationTimeline timeline = AllocationTimelineBuilder.build(1L, List.of(
+                member(1, "2024-01-01", "2024-03-31", "1.00"),
+                member(1, "2024-04-01", "2024-06-30", "1.00")));
+
+        assertEquals(1, timeline.getSegments().size());
+        assertEquals(LocalDate.of(2024, 6, 30), timeline.getSegments().get(0).getEndDate());
+        assertFalse(timeline.isOverAllocated());
+    }
+
+    /**
+     * Person ID順のストリームから1人分ずつタイムラインが確定することをテスト
+     */
+    @Test
+    void testStreamingBuildsOneTimelinePerPerson() {
+        List<PersonAllocationTimeline> timelines = new ArrayList<>();
+        AllocationTimelineBuilder builder = new AllocationTimelineBuilder(timelines::add);
+        builder.accept(member(1, "2024-01-01", "2024-01-31", "0.50"));
+        builder.accept(member(1, "2024-01-15", "2024-02-15", "0.75"));
+        builder.accept(member(2, "2024-01-01", null, "0.25"));
+        builder.accept(member(3, "2024-02-01", "2024-01-01", "0.50"));
+        builder.finish();
+
+        assertEquals(3, timelines.size());
+        assertEquals(4, builder.getRowCount());
+        assertTrue(timelines.get(0).isOverAllocated());
+        assertFalse(timelines.get(1).isOverAllocated());
+        // 離任日が参画日より前の行は期間なしとして扱う
+        assertTrue(timelines.get(2).getSegments().isEmpty());
+
+        AllocationTimelineBuilder unordered = new AllocationTimelineBuilder(timelines::add);
+        unordered.accept(member(2, "2024-01-01", null, "0.25"));
+        assertThrows(IllegalArgumentException.class, () -> unordered.accept(member(1, "2024-01-01", null, "0.25")));
+    }
+}
@@ -0,0 +1,109 @@
+package com.example.mybatislearning.cache;
+
+import com.example.mybatislearning.entity.Industry;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * BoundedTtlCacheのテスト
+ */
+class BoundedTtlCacheTest {
+
+    @Test
+    void hitAndMissAreCounted() {
+        BoundedTtlCache cache = new BoundedTtlCache("test.hitAndMiss");
+        cache.putObject("k1", "v1");
+
+        assertEquals("v1", cache.getObject("k1"));
+        assertNull(cache.getObject("k2"));
+
+        CacheStatistics stats = cache.getStatistics();
+        assertEquals(1, stats.getHits());
+        assertEquals(1, stats.getMisses());
+        assertEquals(0.5, stats.getHitRatio());
+    }
+
+    @Test
+    void leastRecentlyUsedEntryIsEvictedWhenFull() {
+        BoundedTtlCache cache = new BoundedTtlCache("test.lru");
+        cache.setMaxSize(2);
+        cache.putObject("k1", "v1");
+        cache.putObject("k2", "v2");
+
+        // k1を参照してk2を最も古いエントリにする
+        cache.getObject("k1");
+        cache.putObject("k3", "v3");
+
+        assertEquals(2, cache.getSize());
+        assertNotNull(cache.getObject("k1"));
+        assertNull(cache.getObject("k2"));
+        assertNotNull(cache.getObject("k3"));
+        assertEquals(1, cache.getStatistics().getEvictions());
+    }
+
+    @Test
+    void entryExpiresAfterTtl() {
+        AtomicLong now = new AtomicLong(0);
+        BoundedTtlCache cache = new BoundedTtlCache("test.ttl", now::get);
+        cache.setTtlSeconds(60);
+        cache.putObject("k1", "v1");
+
+        now.set(TimeUnit.SECONDS.toNanos(59));
+        assertEquals("v1", cache.getObject("k1"));
+
+        now.set(TimeUnit.SECONDS.toNanos(60));
+        assertNull(cache.getObject("k1"));
+        assertEquals(0, cache.getSize());
+        assertEquals(1, cache.getStatistics().getExpirations());
+    }
+
+    @Test
+    void copyOnReadIsolatesCachedValue() {
+        BoundedTtlCache cache = new BoundedTtlCache("test.copyOnRead");
+        List<Industry> value = new ArrayList<>(List.of(new Industry(1L, "金融", "金融業界")));
+        cache.putObject("k1", value);
+
+        // 取得したオブジェクトを変更してもキャッシュ内の値は変わらないことを確認
+        @SuppressWarnings("unchecked")
+        List<Industry> first = (List<Industry>) cache.getObject("k1");
+        first.get(0).setName("変更済み");
+
+        @SuppressWarnings("unchecked")
+        List<Industry> second = (List<Industry>) cache.getObject("k1");
+        assertEquals("金融", second.get(0).getName());
+        assertNotSame(first.get(0), second.get(0));
+    }
+
+    @Test
+    void clearRemovesAllEntriesAndStatisticsAreRegistered() {
+        BoundedTtlCache cache = new BoundedTtlCache("test.clear");
+        cache.putObject("k1", "v1");
+        cache.clear();
+
+        assertEquals(0, cache.getSize());
+        assertNotNull(BoundedTtlCache.getStatistics("test.clear"));
+        assertTrue(BoundedTtlCache.getAllStatistics().containsKey("test.clear"));
+    }
+
+    @Test
+    void unreachableInstancesAreNotKeptInStatistics() throws InterruptedException {
+        BoundedTtlCache cache = new BoundedTtlCache("test.weak");
+        cache.putObject("k1", "v1");
+        assertEquals(1, BoundedTtlCache.getStatistics("test.weak").getSize());
+
+        // 参照がなくなったインスタンスは回収され、統計情報の対象から外れる
+        cache = null;
+        for (int i = 0; i < 50 && BoundedTtlCache.getStatistics("test.weak") != null; i++) {
+            System.gc();
+            Thread.sleep(10);
+        }
+        assertNull(BoundedTtlCache.getStatistics("test.weak"));
+        assertFalse(BoundedTtlCache.getAllStatistics().containsKey("test.weak"));
+    }
+}
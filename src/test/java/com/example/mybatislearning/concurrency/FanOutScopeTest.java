@@ -0,0 +1,169 @@
+package com.example.mybatislearning.concurrency;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.time.Duration;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * FanOutScopeTest
+ * サブタスクの並列実行・失敗時のキャンセル・サブタスクごとのタイムアウト・終了待ちをテスト
+ */
+class FanOutScopeTest {
+
+    private static final Duration LONG = Duration.ofSeconds(10);
+
+    private final ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+
+    {
+        executor.setCorePoolSize(8);
+        executor.initialize();
+    }
+
+    @AfterEach
+    void shutdown() {
+        executor.shutdown();
+    }
+
+    private static String sleepThenReturn(long millis, String value) throws InterruptedException {
+        Thread.sleep(millis);
+        return value;
+    }
+
+    @Test
+    void subtasksRunInParallel() throws Exception {
+        System.out.println("\n=== Fan-out Parallel Test ===");
+
+        long start = System.nanoTime();
+        try (FanOutScope scope = new FanOutScope(executor)) {
+            FanOutScope.Subtask<String> a = scope.fork("a", LONG, () -> sleepThenReturn(300, "A"));
+            FanOutScope.Subtask<String> b = scope.fork("b", LONG, () -> sleepThenReturn(300, "B"));
+            FanOutScope.Subtask<String> c = scope.fork("c", LONG, () -> sleepThenReturn(300, "C"));
+            scope.join();
+
+            assertEquals("ABC", a.get() + b.get() + c.get());
+        }
+        long elapsedMillis = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start);
+        System.out.println("Elapsed: " + elapsedMillis + " ms (sequential would be 900 ms)");
+        // 合計（900ms）ではなく最も遅いサブタスク（300ms）程度で完了する
+        assertTrue(elapsedMillis < 800, "elapsed " + elapsedMillis + " ms");
+
+        System.out.println("=== Test Completed ===\n");
+    }
+
+    @Test
+    void failureCancelsRemainingSubtasks() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        long start = System.nanoTime();
+        try (FanOutScope scope = new FanOutScope(executor)) {
+            FanOutScope.Subtask<String> slow = scope.fork("slow", LONG, () -> {
+                started.countDown();
+                try {
+                    return sleepThenReturn(5_000, "slow");
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw e;
+                }
+            });
+            scope.fork("failing", LONG, () -> {
+                throw new IllegalArgumentException("boom");
+            });
+
+            IllegalArgumentException e = assertThrows(IllegalArgumentException.class, scope::join);
+            assertEquals("boom", e.getMessage());
+            assertThrows(IllegalStateException.class, slow::get);
+        }
+        // 開始前にキャンセルされた場合は実行されない。開始していた場合は割り込まれ、closeはその終了を待っている
+        if (started.getCount() == 0) {
+            assertEquals(0, interrupted.getCount(), "slow subtask should be interrupted");
+        }
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 4_000);
+    }
+
+    @Test
+    void subtaskTimeoutFailsScope() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch interrupted = new CountDownLatch(1);
+        try (FanOutScope scope = new FanOutScope(executor)) {
+            FanOutScope.Subtask<String> fast = scope.fork("fast", LONG, () -> "fast");
+            scope.fork("stuck", Duration.ofMillis(100), () -> {
+                started.countDown();
+                try {
+                    return sleepThenReturn(5_000, "stuck");
+                } catch (InterruptedException e) {
+                    interrupted.countDown();
+                    throw e;
+                }
+            });
+
+            QueryTimeoutException e = assertThrows(QueryTimeoutException.class, scope::join);
+            assertTrue(e.getMessage().contains("'stuck'"));
+            assertEquals("fast", fast.get());
+        }
+        if (started.getCount() == 0) {
+            assertEquals(0, interrupted.getCount(), "timed out subtask should be interrupted");
+        }
+    }
+
+    @Test
+    void resultsAreOnlyAvailableAfterSuccessfulJoin() throws Exception {
+        try (FanOutScope scope = new FanOutScope(executor)) {
+            FanOutScope.Subtask<String> subtask = scope.fork("slow", LONG, () -> sleepThenReturn(200, "value"));
+            assertThrows(IllegalStateException.class, subtask::get);
+
+            scope.join();
+            assertEquals("value", subtask.get());
+            assertThrows(IllegalStateException.class, () -> scope.fork("late", LONG, () -> "late"));
+        }
+
+        // サブタスクがない場合はすぐに完了する
+        try (FanOutScope scope = new FanOutScope(executor)) {
+            scope.join();
+        }
+    }
+
+    @Test
+    void closeWaitsForSubtasksToTerminate() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        AtomicBoolean finished = new AtomicBoolean();
+        try (FanOutScope scope = new FanOutScope(executor)) {
+            scope.fork("uninterruptible", LONG, () -> {
+                started.countDown();
+                // 割り込みを無視して300ミリ秒実行を続ける
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(300);
+                long remaining;
+                while ((remaining = deadline - System.nanoTime()) > 0) {
+                    try {
+                        TimeUnit.NANOSECONDS.sleep(remaining);
+                    } catch (InterruptedException e) {
+                        // 無視する
+                    }
+                }
+                finished.set(true);
+                return null;
+            });
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            // joinせずにスコープを抜ける
+        }
+        assertTrue(finished.get(), "close should wait for the running subtask");
+    }
+
+    @Test
+    void nonPositiveTimeoutFailsWithoutRunning() {
+        AtomicBoolean ran = new AtomicBoolean();
+        try (FanOutScope scope = new FanOutScope(executor)) {
+            scope.fork("expired", Duration.ZERO, () -> ran.getAndSet(true));
+            QueryTimeoutException e = assertThrows(QueryTimeoutException.class, scope::join);
+            assertTrue(e.getMessage().contains("'expired'"));
+        }
+        assertFalse(ran.get());
+    }
+}
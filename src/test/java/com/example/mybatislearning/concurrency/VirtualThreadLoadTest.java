@@ -0,0 +1,115 @@
+package com.example.mybatislearning.concurrency;
+
+import com.example.mybatislearning.MyBatisLearningApplication;
+import com.example.mybatislearning.entity.Project;
+import com.example.mybatislearning.service.ProjectService;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledForJreRange;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+import org.junit.jupiter.api.condition.JRE;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * VirtualThreadLoadTest
+ * ProjectService.findProjectWithAllRelationsを5,000件同時に呼び出し、仮想スレッドモードのオン・オフでスループットを比較する負荷試験
+ *
+ * <p>時間がかかるため通常のテストでは実行しない。Java 21で次のように実行する:
+ * {@code mvn test -Dtest=VirtualThreadLoadTest -Dloadtest=true}</p>
+ *
+ * <p>オフの場合はTomcatの既定のワーカースレッド数と同じ200スレッドのプラットフォームスレッドプール、
+ * オンの場合は呼び出しごとの仮想スレッドで実行する。どちらもコネクションプールのサイズは同じにする。</p>
+ */
+@EnabledForJreRange(min = JRE.JAVA_21)
+@EnabledIfSystemProperty(named = "loadtest", matches = "true")
+class VirtualThreadLoadTest {
+
+    private static final int CONCURRENT_REQUESTS = 5_000;
+    private static final int ROUNDS = 3;
+
+    @Test
+    void compareThroughputWithVirtualThreadsOnAndOff() {
+        System.out.println("\n=== Virtual Thread Load Test ===");
+
+        LoadResult platform = run(false);
+        LoadResult virtual = run(true);
+        System.out.println("Platform threads: " + platform);
+        System.out.println("Virtual threads : " + virtual);
+        System.out.printf("Throughput ratio (virtual / platform): %.2f%n",
+                virtual.throughput() / platform.throughput());
+
+        System.out.println("=== Test Completed ===\n");
+    }
+
+    private LoadResult run(boolean virtualThreads) {
+        try (ConfigurableApplicationContext context = new SpringApplicationBuilder(MyBatisLearningApplication.class)
+                .web(WebApplicationType.NONE)
+                // application.ymlより優先させるためコマンドライン引数として渡す
+                .run("--spring.datasource.url=jdbc:h2:mem:load_" + virtualThreads + ";DB_CLOSE_DELAY=-1",
+                        "--spring.threads.virtual.enabled=" + virtualThreads,
+                        "--spring.task.execution.pool.core-size=200",
+                        // 前のモードのワーカースレッドが終了してから次のモードを計測する
+                        "--spring.task.execution.shutdown.await-termination=true",
+                        "--app.pool.maximum-pool-size=20",
+                        "--app.datagen.enabled=true",
+                        "--app.datagen.projects=500")) {
+            ProjectService projectService = context.getBean(ProjectService.class);
+            List<Long> ids = context.getBean(JdbcTemplate.class).queryForList("SELECT id FROM projects", Long.class);
+
+            // JITとプールのウォームアップ
+            fire(projectService, ids);
+
+            double[] throughputs = new double[ROUNDS];
+            ManagementFactory.getThreadMXBean().resetPeakThreadCount();
+            for (int round = 0; round < ROUNDS; round++) {
+                long start = System.nanoTime();
+                fire(projectService, ids);
+                throughputs[round] = CONCURRENT_REQUESTS / ((System.nanoTime() - start) / 1e9);
+            }
+            int peakThreads = ManagementFactory.getThreadMXBean().getPeakThreadCount();
+
+            Map<String, Long> pinned = context.getBeanProvider(VirtualThreadPinningMonitor.class)
+                    .stream().findFirst().map(VirtualThreadPinningMonitor::getPinnedCounts).orElse(Map.of());
+            return new LoadResult(virtualThreads, Arrays.stream(throughputs).max().orElse(0), peakThreads, pinned);
+        }
+    }
+
+    private void fire(ProjectService projectService, List<Long> ids) {
+        List<CompletableFuture<Project>> futures = new ArrayList<>(CONCURRENT_REQUESTS);
+        for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+            futures.add(projectService.findProjectWithAllRelationsAsync(ids.get(i % ids.size())));
+        }
+        CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new)).orTimeout(5, TimeUnit.MINUTES).join();
+        for (CompletableFuture<Project> future : futures) {
+            assertNotNull(future.join());
+        }
+    }
+
+    /**
+     * 1モード分の結果
+     *
+     * @param virtualThreads 仮想スレッドモードか
+     * @param throughput     最良ラウンドのスループット（件/秒）
+     * @param peakThreads    計測中のプラットフォームスレッド数のピーク
+     * @param pinned         検出したキャリアスレッド固定（仮想スレッドモードのみ）
+     */
+    private record LoadResult(boolean virtualThreads, double throughput, int peakThreads, Map<String, Long> pinned) {
+
+        @Override
+        public String toString() {
+            return String.format("%.0f req/s, peak platform threads=%d, pinned=%s", throughput, peakThreads, pinned);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.example.mybatislearning.datagen;
+
+import com.example.mybatislearning.enums.MemberRole;
+import org.h2.jdbcx.JdbcDataSource;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SyntheticDataGeneratorTest
+ * 合成データの件数・外部キーの整合性・シードによる再現性をテスト
+ * 生成器は独自にコミットするため、テストごとに独立したH2データベースを使用する
+ */
+class SyntheticDataGeneratorTest {
+
+    private static final AtomicInteger DATABASE_SEQUENCE = new AtomicInteger();
+
+    /**
+     * schema.sql/data.sqlを適用した独立したデータベースを作成
+     */
+    private DataSource createDatabase() {
+        JdbcDataSource dataSource = new JdbcDataSource();
+        dataSource.setURL("jdbc:h2:mem:datagen" + DATABASE_SEQUENCE.incrementAndGet() + ";DB_CLOSE_DELAY=-1");
+        dataSource.setUser("sa");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql"), new ClassPathResource("data.sql"))
+                .execute(dataSource);
+        return dataSource;
+    }
+
+    private DataGenerationSpec smallSpec(long seed, int parallelism) {
+        DataGenerationSpec spec = new DataGenerationSpec();
+        spec.setSeed(seed);
+        spec.setOrganizations(3);
+        spec.setPersons(50);
+        spec.setIndustries(5);
+        spec.setTechnologies(10);
+        spec.setProjects(200);
+        spec.setPhasesPerProject(4);
+        spec.setMembersPerProject(6);
+        spec.setTechnologiesPerProject(3);
+        spec.setBatchSize(64);
+        spec.setChunkSize(100);
+        spec.setParallelism(parallelism);
+        return spec;
+    }
+
+    /**
+     * 指定件数が投入され、外部キーが整合していることをテスト
+     */
+    @Test
+    void testGenerateFillsAllTablesWithConsistentForeignKeys() {
+        System.out.println("\n=== Synthetic Data Generate Test ===");
+
+        DataSource dataSource = createDatabase();
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        DataGenerationResult result = new SyntheticDataGenerator(dataSource).generate(smallSpec(7L, 4));
+        System.out.println("Result: " + result);
+
+        // 検証: 件数（data.sqlの既存行の後ろに追加される）
+        assertEquals(200, result.getRowCount("projects"));
+        assertEquals(800, result.getRowCount("phases"));
+        assertEquals(1200, result.getRowCount("project_members"));
+        assertEquals(600, result.getRowCount("project_technologies"));
+        assertEquals(4, result.getFirstId("projects"));
+        assertEquals(203, jdbcTemplate.queryForObject("SELECT COUNT(*) FROM projects", Integer.class));
+
+        // 検証: 子テーブルの外部キーがすべて生成済みの親を指すこと
+        assertEquals(1200, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM project_members m JOIN persons p ON m.person_id = p.id "
+                        + "JOIN projects pr ON m.project_id = pr.id", Integer.class));
+        // 検証: 同一プロジェクト内でメンバー・技術が重複しないこと
+        assertEquals(1200, jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT (project_id, person_id)) FROM project_members", Integer.class));
+        assertEquals(600, jdbcTemplate.queryForObject(
+                "SELECT COUNT(DISTINCT (project_id, technology_id)) FROM project_technologies", Integer.class));
+        // 検証: PMはプロジェクトメンバー（PROJECT_MANAGER）と一致すること
+        assertEquals(200, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM projects p JOIN project_members m ON m.project_id = p.id "
+                        + "AND m.person_id = p.project_manager_id AND m.role = " + MemberRole.PROJECT_MANAGER.getCode(),
+                Integer.class));
+        // 検証: 工程はプロジェクト期間内に収まること
+        assertEquals(0, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM phases ph JOIN projects p ON ph.project_id = p.id "
+                        + "WHERE ph.planned_start_date < p.planned_start_date "
+                        + "OR ph.planned_end_date > p.planned_end_date", Integer.class));
+
+        // 検証: 生成後もIDの自動採番が衝突しないこと
+        jdbcTemplate.update("INSERT INTO projects (project_name, organization_id) VALUES ('after', 1)");
+        assertEquals(204L, jdbcTemplate.queryForObject(
+                "SELECT id FROM projects WHERE project_name = 'after'", Long.class));
+
+        System.out.println("=== Synthetic Data Generate Test Completed ===\n");
+    }
+
+    /**
+     * 同じシードなら並列度・チャンク分割が異なっても同じデータになることをテスト
+     */
+    @Test
+    void testSameSeedProducesSameDataRegardlessOfParallelism() {
+        DataSource first = createDatabase();
+        DataSource second = createDatabase();
+        DataSource other = createDatabase();
+        DataGenerationSpec parallel = smallSpec(99L, 4);
+        DataGenerationSpec serial = smallSpec(99L, 1);
+        serial.setChunkSize(1_000);
+        new SyntheticDataGenerator(first).generate(parallel);
+        new SyntheticDataGenerator(second).generate(serial);
+        new SyntheticDataGenerator(other).generate(smallSpec(100L, 4));
+
+        for (String sql : List.of(
+                "SELECT * FROM projects ORDER BY id",
+                "SELECT id, project_id, phase_type, planned_start_date, status FROM phases ORDER BY id",
+                "SELECT id, project_id, person_id, role, allocation_rate FROM project_members ORDER BY id",
+                "SELECT id, project_id, technology_id, purpose FROM project_technologies ORDER BY id")) {
+            List<Map<String, Object>> expected = new JdbcTemplate(first).queryForList(sql);
+            assertEquals(expected, new JdbcTemplate(second).queryForList(sql), sql);
+            assertNotEquals(expected, new JdbcTemplate(other).queryForList(sql), sql);
+        }
+    }
+
+    /**
+     * 不正な設定が拒否されることをテスト
+     */
+    @Test
+    void testInvalidSpecIsRejected() {
+        SyntheticDataGenerator generator = new SyntheticDataGenerator(createDatabase());
+
+        DataGenerationSpec noPersons = smallSpec(1L, 1);
+        noPersons.setPersons(0);
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(noPersons));
+
+        DataGenerationSpec tooManyMembers = smallSpec(1L, 1);
+        tooManyMembers.setMembersPerProject(51);
+        assertThrows(IllegalArgumentException.class, () -> generator.generate(tooManyMembers));
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.mybatislearning.identity;
+
+import com.example.mybatislearning.entity.Industry;
+import com.example.mybatislearning.entity.Person;
+import com.example.mybatislearning.entity.Project;
+import com.example.mybatislearning.mapper.IndustryMapper;
+import com.example.mybatislearning.mapper.PersonMapper;
+import com.example.mybatislearning.mapper.ProjectMapper;
+import org.junit.jupiter.api.Test;
+import org.mybatis.spring.SqlSessionTemplate;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * IdentityMapInterceptorTest
+ * リクエストスコープ内でのPerson/Industryの同一インスタンス化とSQL省略をテスト
+ */
+@SpringBootTest
+@Transactional
+class IdentityMapInterceptorTest {
+
+    @Autowired
+    private PersonMapper personMapper;
+
+    @Autowired
+    private ProjectMapper projectMapper;
+
+    @Autowired
+    private IndustryMapper industryMapper;
+
+    @Autowired
+    private IdentityMapFilter identityMapFilter;
+
+    @Autowired
+    private SqlSessionTemplate sqlSessionTemplate;
+
+    private Project insertProject(Person manager, Person lead) {
+        Industry industry = new Industry();
+        industry.setName("同一性テスト業種");
+        industryMapper.insert(industry);
+        Project project = new Project(null, "同一性テストプロジェクト", 1L);
+        project.setIndustryId(industry.getId());
+        project.setProjectManagerId(manager.getId());
+        project.setTechnicalLeadId(lead.getId());
+        projectMapper.insert(project);
+        return project;
+    }
+
+    /**
+     * associationとselectByIdで同じPersonが同一インスタンスになることをテスト
+     */
+    @Test
+    void testSamePersonIsSharedAcrossStatements() {
+        System.out.println("\n=== Identity Map Test ===");
+
+        Person person = new Person(null, "兼任太郎", "dual-role@example.com", "エンジニア", "開発部");
+        personMapper.insert(person);
+        Project project = insertProject(person, person);
+
+        try (IdentityMapScope scope = IdentityMapScope.open()) {
+            Project loaded = projectMapper.selectProjectWithAllRelations(project.getId());
+            // PMと技術リードが同一人物の場合、JOINの結果も1つのインスタンスにまとめる
+            assertSame(loaded.getProjectManager(), loaded.getTechnicalLead());
+            assertNull(loaded.getProjectManager().getCreatedAt());
+
+            // associationは一部の列のみのため、selectByIdはSQLを実行して既存インスタンスを補完する
+            Person byId = personMapper.selectById(person.getId());
+            assertSame(loaded.getProjectManager(), byId);
+            assertNotNull(byId.getCreatedAt());
+            assertEquals(0, scope.getIdentityMap().getSkippedQueryCount());
+
+            // 以降のselectByIdはSQLを実行しない
+            assertSame(byId, personMapper.selectById(person.getId()));
+            assertEquals(1, scope.getIdentityMap().getSkippedQueryCount());
+
+            System.out.println("Hits: " + scope.getIdentityMap().getHitCount()
+                    + ", skipped queries: " + scope.getIdentityMap().getSkippedQueryCount());
+        }
+        System.out.println("✓ Person/Industry instances are shared within the scope");
+    }
+
+    /**
+     * 未反映の変更がある共有インスタンスが上書きも返却もされないことをテスト
+     */
+    @Test
+    void testPendingChangesAreNotOverwrittenOrReturned() {
+        System.out.println("\n=== Identity Map Pending Changes Test ===");
+
+        Person person = new Person(null, "未保存次郎", "identity-pending@example.com", "エンジニア", "開発部");
+        personMapper.insert(person);
+        Project project = insertProject(person, person);
+
+        try (IdentityMapScope scope = IdentityMapScope.open()) {
+            // 部分インスタンスの変更は、selectByIdで読み直した値で補完（上書き）されない
+            Person manager = projectMapper.selectProjectWithAllRelations(project.getId()).getProjectManager();
+            manager.setDepartment("未保存の部署");
+            Person byId = personMapper.selectById(person.getId());
+            assertNotSame(manager, byId);
+            assertEquals("開発部", byId.getDepartment());
+            assertEquals("未保存の部署", manager.getDepartment());
+            assertEquals(Set.of("department"), manager.getChangedProperties());
+        }
+
+        try (IdentityMapScope scope = IdentityMapScope.open()) {
+            // 完全インスタンスも、変更がある間はSQLを省略して返却しない
+            Person complete = personMapper.selectById(person.getId());
+            assertSame(complete, personMapper.selectById(person.getId()));
+            assertEquals(1, scope.getIdentityMap().getSkippedQueryCount());
+
+            complete.setRole("リーダー");
+            // MyBatisのローカルキャッシュ（同一トランザクション内）は同じインスタンスを返すため、クリアしてから確認する
+            sqlSessionTemplate.clearCache();
+            Person reloaded = personMapper.selectById(person.getId());
+            assertNotSame(complete, reloaded);
+            assertEquals("エンジニア", reloaded.getRole());
+            assertEquals("リーダー", complete.getRole());
+            assertEquals(1, scope.getIdentityMap().getSkippedQueryCount());
+        }
+        System.out.println("✓ Pending changes are kept");
+    }
+
+    /**
+     * 更新後およびスコープ外では共有されないことをテスト
+     */
+    @Test
+    void testUpdateClearsMapAndNoSharingOutsideScope() {
+        System.out.println("\n=== Identity Map Invalidation Test ===");
+
+        Person person = new Person(null, "更新花子", "identity-update@example.com", "エンジニア", "開発部");
+        personMapper.insert(person);
+
+        // スコープ外では何も登録しない
+        personMapper.selectById(person.getId());
+        assertNull(IdentityMapScope.current());
+
+        try (IdentityMapScope scope = IdentityMapScope.open()) {
+            Person first = personMapper.selectById(person.getId());
+            person.setDepartment("営業部");
+            personMapper.update(person);
+            assertEquals(0, scope.getIdentityMap().size());
+
+            Person second = personMapper.selectById(person.getId());
+            assertNotSame(first, second);
+            assertEquals("営業部", second.getDepartment());
+
+            // ネストしたスコープは外側のIdentityMapを共有し、閉じても外側は維持される
+            try (IdentityMapScope nested = IdentityMapScope.open()) {
+                assertSame(scope.getIdentityMap(), nested.getIdentityMap());
+            }
+            assertSame(scope.getIdentityMap(), IdentityMapScope.current());
+        }
+        assertNull(IdentityMapScope.current());
+        System.out.println("✓ Update clears the identity map");
+    }
+
+    /**
+     * Filterがリクエストの間だけスコープを開始することをテスト
+     */
+    @Test
+    void testFilterOpensScopePerRequest() throws Exception {
+        System.out.println("\n=== Identity Map Filter Test ===");
+
+        AtomicReference<IdentityMap> seen = new AtomicReference<>();
+        MockFilterChain chain = new MockFilterChain() {
+            @Override
+            public void doFilter(jakarta.servlet.ServletRequest request, jakarta.servlet.ServletResponse response) {
+                seen.set(IdentityMapScope.current());
+            }
+        };
+        identityMapFilter.doFilter(new MockHttpServletRequest(), new MockHttpServletResponse(), chain);
+
+        assertNotNull(seen.get());
+        assertNull(IdentityMapScope.current());
+        System.out.println("✓ Scope is bound to the request");
+    }
+}
@@ -0,0 +1,260 @@
+package com.example.mybatislearning.locking;
+
+import com.example.mybatislearning.entity.Phase;
+import com.example.mybatislearning.entity.Project;
+import com.example.mybatislearning.enums.PhaseStatus;
+import com.example.mybatislearning.enums.PhaseType;
+import com.example.mybatislearning.enums.ProjectStatus;
+import com.example.mybatislearning.mapper.PhaseMapper;
+import com.example.mybatislearning.mapper.ProjectMapper;
+import com.example.mybatislearning.service.PhaseService;
+import com.example.mybatislearning.service.ProjectService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * OptimisticLockTest
+ * version列による競合の検出と、読み直して変更を適用し直す再試行をテスト
+ *
+ * <p>他のトランザクションによる更新は、テストのトランザクション内でJdbcTemplateからversionを進めて再現する。
+ * 再試行は各試行を新しいトランザクションで実行するため、再試行のテストはトランザクションの外で実行し、
+ * 他のトランザクションによる更新も別のトランザクションでコミットする（作成した行はテストの最後に削除する）。</p>
+ */
+@SpringBootTest
+@Transactional
+class OptimisticLockTest {
+
+    @Autowired
+    private ProjectMapper projectMapper;
+
+    @Autowired
+    private PhaseMapper phaseMapper;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private PhaseService phaseService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Long insertProject() {
+        Project project = new Project(null, "Locking Project", 1L);
+        project.setStatus(ProjectStatus.PLANNING);
+        projectMapper.insert(project);
+        return project.getId();
+    }
+
+    private void concurrentProjectUpdate(Long id, String customerName) {
+        jdbcTemplate.update("UPDATE projects SET customer_name = ?, version = version + 1 WHERE id = ?",
+                customerName, id);
+    }
+
+    private void committedProjectUpdate(Long id, String customerName) {
+        TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+        transaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        transaction.executeWithoutResult(status -> concurrentProjectUpdate(id, customerName));
+    }
+
+    private int projectVersion(Long id) {
+        return jdbcTemplate.queryForObject("SELECT version FROM projects WHERE id = ?", Integer.class, id);
+    }
+
+    @Test
+    void versionIsIncrementedOnEachUpdate() {
+        Long id = insertProject();
+        Project project = projectMapper.selectById(id);
+        assertEquals(0, project.getVersion());
+
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        projectService.updateProject(project);
+        assertEquals(1, project.getVersion());
+
+        // 同じインスタンスで続けて更新できる（versionがDBと同じ値に進んでいる）
+        project.setStatus(ProjectStatus.COMPLETED);
+        projectService.updateProject(project);
+        assertEquals(2, project.getVersion());
+        assertEquals(2, projectVersion(id));
+    }
+
+    @Test
+    void staleProjectUpdateIsRejected() {
+        System.out.println("\n=== Version Conflict Test ===");
+
+        Long id = insertProject();
+        Project project = projectMapper.selectById(id);
+        concurrentProjectUpdate(id, "Other PM");
+
+        project.setStatus(ProjectStatus.CANCELLED);
+        VersionConflictException e = assertThrows(VersionConflictException.class,
+                () -> projectService.updateProject(project));
+        System.out.println("Conflict: " + e.getMessage());
+        assertEquals(Project.class, e.getEntityType());
+        assertEquals(id, e.getId());
+        assertEquals(0, e.getExpectedVersion());
+
+        // 競合した更新は反映されず、変更の記録とversionは保持される
+        assertEquals((int) ProjectStatus.PLANNING.getCode(), jdbcTemplate.queryForObject(
+                "SELECT status FROM projects WHERE id = ?", Integer.class, id));
+        assertTrue(project.hasChanges());
+        assertEquals(0, project.getVersion());
+
+        System.out.println("=== Test Completed ===\n");
+    }
+
+    @Test
+    void insertedEntityCarriesVersionAndUpdateWithoutVersionIsRejected() {
+        System.out.println("\n=== Version Required Test ===");
+
+        // 挿入したエンティティには列デフォルトのversionが設定され、そのまま更新できる
+        Project project = new Project(null, "Created Project", 1L);
+        project.setStatus(ProjectStatus.PLANNING);
+        projectService.createProject(project);
+        assertEquals(0, project.getVersion());
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        projectService.updateProject(project);
+        assertEquals(1, project.getVersion());
+
+        // versionを持たないエンティティは照合を迂回せず拒否され、行は変更されない
+        Project detached = new Project();
+        detached.setId(project.getId());
+        detached.setStatus(ProjectStatus.CANCELLED);
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> projectService.updateProject(detached));
+        System.out.println("Rejected: " + e.getMessage());
+        assertEquals((int) ProjectStatus.IN_PROGRESS.getCode(), jdbcTemplate.queryForObject(
+                "SELECT status FROM projects WHERE id = ?", Integer.class, project.getId()));
+        assertEquals(1, projectVersion(project.getId()));
+
+        // マッパーを直接呼んでもversionなしでは1件も更新されない
+        detached.setProjectName("Unchecked");
+        assertEquals(0, projectMapper.update(detached));
+
+        System.out.println("=== Test Completed ===\n");
+    }
+
+    @Test
+    void fullRowUpdateChecksVersion() {
+        Long id = insertProject();
+        Project project = projectMapper.selectById(id);
+        concurrentProjectUpdate(id, "Other PM");
+
+        project.setProjectName("Overwritten");
+        assertEquals(0, projectMapper.update(project));
+
+        Project latest = projectMapper.selectById(id);
+        latest.setProjectName("Renamed");
+        assertEquals(1, projectMapper.update(latest));
+        assertEquals(2, projectVersion(id));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void retryMergesWithConcurrentUpdate() {
+        System.out.println("\n=== Retry With Merge Test ===");
+
+        Long id = insertProject();
+        try {
+            AtomicInteger attempts = new AtomicInteger();
+
+            Project updated = projectService.updateProject(id, project -> {
+                if (attempts.incrementAndGet() == 1) {
+                    // 読み込みと更新の間に他のPMが顧客名を変更する
+                    committedProjectUpdate(id, "Other PM");
+                }
+                project.setBudget(new BigDecimal("5000000"));
+            });
+
+            assertEquals(2, attempts.get());
+            assertEquals(2, updated.getVersion());
+            // 他のPMの変更（customer_name）と再試行した変更（budget）の両方が残る
+            assertEquals("Other PM", jdbcTemplate.queryForObject(
+                    "SELECT customer_name FROM projects WHERE id = ?", String.class, id));
+            assertEquals(0, new BigDecimal("5000000").compareTo(jdbcTemplate.queryForObject(
+                    "SELECT budget FROM projects WHERE id = ?", BigDecimal.class, id)));
+        } finally {
+            projectService.deleteProject(id);
+        }
+
+        System.out.println("=== Test Completed ===\n");
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void retryGivesUpAfterMaxAttempts() {
+        Long id = insertProject();
+        try {
+            AtomicInteger attempts = new AtomicInteger();
+
+            assertThrows(VersionConflictException.class, () -> projectService.updateProject(id, project -> {
+                attempts.incrementAndGet();
+                committedProjectUpdate(id, "Other PM " + attempts.get());
+                project.setStatus(ProjectStatus.IN_PROGRESS);
+            }));
+            assertEquals(OptimisticRetry.DEFAULT_MAX_ATTEMPTS, attempts.get());
+            // 競合した試行はロールバックされ、他のトランザクションの更新だけが残る
+            assertEquals(OptimisticRetry.DEFAULT_MAX_ATTEMPTS, projectVersion(id));
+            assertEquals((int) ProjectStatus.PLANNING.getCode(), jdbcTemplate.queryForObject(
+                    "SELECT status FROM projects WHERE id = ?", Integer.class, id));
+
+            assertNull(projectService.updateProject(-1L, project -> project.setStatus(ProjectStatus.COMPLETED)));
+        } finally {
+            projectService.deleteProject(id);
+        }
+    }
+
+    @Test
+    void retryInsideTransactionIsRejected() {
+        Long id = insertProject();
+
+        // 呼び出し元のトランザクション内では再試行しない
+        assertThrows(IllegalStateException.class,
+                () -> projectService.updateProject(id, project -> project.setStatus(ProjectStatus.IN_PROGRESS)));
+        assertEquals(0, projectVersion(id));
+    }
+
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void stalePhaseUpdateIsRejectedAndRetried() {
+        Long projectId = insertProject();
+        try {
+            Phase phase = new Phase();
+            phase.setProjectId(projectId);
+            phase.setPhaseType(PhaseType.DESIGN);
+            phase.setPlannedStartDate(LocalDate.of(2032, 1, 1));
+            phase.setPlannedEndDate(LocalDate.of(2032, 1, 31));
+            phase.setStatus(PhaseStatus.NOT_STARTED);
+            phaseService.createPhase(phase);
+
+            Phase loaded = phaseMapper.selectById(phase.getId());
+            jdbcTemplate.update("UPDATE phases SET deliverables = '設計書', version = version + 1 WHERE id = ?",
+                    phase.getId());
+            loaded.setStatus(PhaseStatus.IN_PROGRESS);
+            assertThrows(VersionConflictException.class, () -> phaseService.updatePhase(loaded));
+
+            Phase updated = phaseService.updatePhase(phase.getId(), p -> p.setStatus(PhaseStatus.IN_PROGRESS));
+            assertEquals(2, updated.getVersion());
+            assertEquals("設計書", updated.getDeliverables());
+            assertEquals(PhaseStatus.IN_PROGRESS, phaseMapper.selectRecordById(phase.getId()).status());
+        } finally {
+            projectService.deleteProject(projectId);
+        }
+    }
+}
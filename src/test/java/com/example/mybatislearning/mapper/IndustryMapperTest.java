@@ -1,6 +1,8 @@
 package com.example.mybatislearning.mapper;
 
 import com.example.mybatislearning.entity.Industry;
+import com.example.mybatislearning.entity.Project;
+import com.example.mybatislearning.readmodel.IndustryRecord;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -21,6 +23,9 @@ class IndustryMapperTest {
     @Autowired
     private IndustryMapper industryMapper;
 
+    @Autowired
+    private ProjectMapper projectMapper;
+
     /**
      * Industryの作成をテスト
      */
@@ -176,4 +181,41 @@ class IndustryMapperTest {
 
         System.out.println("=== Industry Delete Test Completed ===\n");
     }
+
+    /**
+     * IndustryRecord（constructorマッピング）が2次キャッシュ経由でも取得できることをテスト
+     */
+    @Test
+    void testSelectIndustryRecords() {
+        System.out.println("\n=== IndustryRecord Test ===");
+
+        Industry industry = new Industry(null, "レコード業界", "不変recordの検証用");
+        industryMapper.insert(industry);
+
+        IndustryRecord record = industryMapper.selectRecordById(industry.getId());
+        System.out.println("Record: " + record);
+        assertEquals("レコード業界", record.name());
+        assertEquals("不変recordの検証用", record.description());
+        // 2回目はキャッシュ（シリアライズ済みのコピー）またはローカルキャッシュから取得される
+        assertEquals(record, industryMapper.selectRecordById(industry.getId()));
+        assertTrue(industryMapper.selectAllRecords().contains(record));
+        assertEquals(List.of(record), industryMapper.selectRecordPageAfter(industry.getId() - 1, 1));
+
+        System.out.println("=== IndustryRecord Test Completed ===\n");
+    }
+
+    /**
+     * プロジェクトIDからのIndustryの取得をテスト
+     */
+    @Test
+    void testSelectIndustryByProjectId() {
+        Industry industry = new Industry(null, "物流", "倉庫・配送などの物流業界");
+        industryMapper.insert(industry);
+        Project project = new Project(null, "Logistics Project", 1L);
+        project.setIndustryId(industry.getId());
+        projectMapper.insert(project);
+
+        assertEquals("物流", industryMapper.selectByProjectId(project.getId()).getName());
+        assertNull(industryMapper.selectByProjectId(-1L));
+    }
 }
@@ -1,6 +1,8 @@
 package com.example.mybatislearning.mapper;
 
 import com.example.mybatislearning.entity.Organization;
+import org.apache.ibatis.mapping.MappedStatement;
+import org.apache.ibatis.session.SqlSessionFactory;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -19,6 +21,9 @@ class OrganizationAnnotationMapperTest {
     @Autowired
     private OrganizationAnnotationMapper organizationAnnotationMapper;
 
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
     @Test
     void testInsert() {
         // 新しいOrganizationを作成
@@ -57,6 +62,12 @@ class OrganizationAnnotationMapperTest {
         assertNotNull(organizations);
         assertFalse(organizations.isEmpty());
         System.out.println("All Organizations (Annotation): " + organizations);
+
+        // XML版と同じく全件取得は2次キャッシュの対象外であることを確認
+        MappedStatement statement = sqlSessionFactory.getConfiguration()
+                .getMappedStatement(OrganizationAnnotationMapper.class.getName() + ".selectAll");
+        assertNotNull(statement.getCache());
+        assertFalse(statement.isUseCache());
     }
 
     @Test
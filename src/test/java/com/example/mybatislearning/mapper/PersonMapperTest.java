@@ -1,6 +1,8 @@
 package com.example.mybatislearning.mapper;
 
 import com.example.mybatislearning.entity.Person;
+import com.example.mybatislearning.entity.Project;
+import com.example.mybatislearning.readmodel.PersonRecord;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -21,6 +23,9 @@ class PersonMapperTest {
     @Autowired
     private PersonMapper personMapper;
 
+    @Autowired
+    private ProjectMapper projectMapper;
+
     /**
      * Personの作成をテスト
      */
@@ -182,4 +187,56 @@ class PersonMapperTest {
 
         System.out.println("=== Person Delete Test Completed ===\n");
     }
+
+    /**
+     * PersonRecord（constructorマッピング）の取得をテスト
+     */
+    @Test
+    void testSelectPersonRecords() {
+        System.out.println("\n=== PersonRecord Test ===");
+
+        Person person = new Person(null, "記録一郎", "record@example.com", "アーキテクト", "技術部");
+        personMapper.insert(person);
+
+        PersonRecord record = personMapper.selectRecordById(person.getId());
+        System.out.println("Record: " + record);
+        assertEquals(person.getId(), record.id());
+        assertEquals("記録一郎", record.name());
+        assertEquals("record@example.com", record.email());
+        assertEquals("アーキテクト", record.role());
+        assertEquals("技術部", record.department());
+        assertNotNull(record.createdAt());
+
+        assertEquals(List.of(record), personMapper.selectRecordsByIds(List.of(person.getId())));
+        assertEquals(personMapper.selectAll().size(), personMapper.selectAllRecords().size());
+        List<PersonRecord> page = personMapper.selectRecordPageAfter(person.getId() - 1, 1);
+        assertEquals(List.of(record), page);
+        assertNull(personMapper.selectRecordById(-1L));
+
+        System.out.println("=== PersonRecord Test Completed ===\n");
+    }
+
+    /**
+     * プロジェクトIDからのプロジェクトマネージャー・テクニカルリードの取得をテスト
+     */
+    @Test
+    void testSelectPersonsByProjectId() {
+        Person manager = new Person(null, "管理太郎", "pm-lookup@example.com", "PM", "開発部");
+        Person lead = new Person(null, "技術花子", "tl-lookup@example.com", "TL", "開発部");
+        personMapper.insert(manager);
+        personMapper.insert(lead);
+        Project project = new Project(null, "Lookup Project", 1L);
+        project.setProjectManagerId(manager.getId());
+        project.setTechnicalLeadId(lead.getId());
+        projectMapper.insert(project);
+
+        assertEquals("管理太郎", personMapper.selectProjectManagerByProjectId(project.getId()).getName());
+        assertEquals("技術花子", personMapper.selectTechnicalLeadByProjectId(project.getId()).getName());
+
+        // 未設定・存在しないProjectの場合はnull
+        Project unassigned = new Project(null, "Unassigned Project", 1L);
+        projectMapper.insert(unassigned);
+        assertNull(personMapper.selectProjectManagerByProjectId(unassigned.getId()));
+        assertNull(personMapper.selectTechnicalLeadByProjectId(-1L));
+    }
 }
@@ -4,6 +4,7 @@ import com.example.mybatislearning.entity.Phase;
 import com.example.mybatislearning.entity.Project;
 import com.example.mybatislearning.enums.PhaseStatus;
 import com.example.mybatislearning.enums.PhaseType;
+import com.example.mybatislearning.readmodel.PhaseRecord;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -281,4 +282,38 @@ class PhaseMapperTest {
 
         System.out.println("=== Phase Delete Test Completed ===\n");
     }
+
+    /**
+     * PhaseRecord（constructorマッピング）がPhaseと同じ値を持つことをテスト
+     */
+    @Test
+    void testSelectPhaseRecords() {
+        System.out.println("\n=== PhaseRecord Test ===");
+
+        Project project = createTestProject("レコードテストプロジェクト");
+        Phase phase = new Phase();
+        phase.setProjectId(project.getId());
+        phase.setPhaseType(PhaseType.DESIGN);
+        phase.setPlannedStartDate(LocalDate.of(2024, 2, 1));
+        phase.setPlannedEndDate(LocalDate.of(2024, 2, 29));
+        phase.setActualStartDate(LocalDate.of(2024, 2, 5));
+        phase.setStatus(PhaseStatus.IN_PROGRESS);
+        phase.setDeliverables("基本設計書");
+        phaseMapper.insert(phase);
+
+        Phase entity = phaseMapper.selectById(phase.getId());
+        PhaseRecord record = phaseMapper.selectRecordById(phase.getId());
+        System.out.println("Record: " + record);
+        assertEquals(PhaseRecord.of(entity), record);
+        assertEquals(PhaseType.DESIGN, record.phaseType());
+        assertEquals(PhaseStatus.IN_PROGRESS, record.status());
+        assertNull(record.actualEndDate());
+        assertNotNull(record.createdAt());
+
+        assertEquals(List.of(record), phaseMapper.findRecordsByProjectId(project.getId()));
+        assertEquals(phaseMapper.selectAll().size(), phaseMapper.selectAllRecords().size());
+        assertEquals(List.of(record), phaseMapper.selectRecordPageAfter(phase.getId() - 1, 1));
+
+        System.out.println("=== PhaseRecord Test Completed ===\n");
+    }
 }
@@ -1,10 +1,13 @@
 package com.example.mybatislearning.mapper;
 
+import com.example.mybatislearning.dto.ProjectSearchCriteria;
+import com.example.mybatislearning.dto.ProjectSummary;
 import com.example.mybatislearning.entity.Industry;
 import com.example.mybatislearning.entity.Person;
 import com.example.mybatislearning.entity.Project;
 import com.example.mybatislearning.enums.ProjectStatus;
 import com.example.mybatislearning.enums.ProjectType;
+import com.example.mybatislearning.readmodel.ProjectRecord;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -371,4 +374,163 @@ class ProjectMapperTest {
         System.out.println("Full Project Details: " + retrieved);
         System.out.println("=== Test Completed ===\n");
     }
+
+    @Test
+    void testSelectPageAfter() {
+        // テストデータを投入
+        Project p1 = new Project(null, "Page Test Project 1", 1L);
+        Project p2 = new Project(null, "Page Test Project 2", 1L);
+        Project p3 = new Project(null, "Page Test Project 3", 1L);
+        projectMapper.insert(p1);
+        projectMapper.insert(p2);
+        projectMapper.insert(p3);
+
+        // p1より後ろを2件取得
+        List<Project> page = projectMapper.selectPageAfter(p1.getId(), 2);
+
+        // ID順に2件取得されることを確認
+        assertEquals(2, page.size());
+        assertEquals(p2.getId(), page.get(0).getId());
+        assertEquals(p3.getId(), page.get(1).getId());
+
+        // lastId=nullの場合は先頭から取得されることを確認
+        List<Project> firstPage = projectMapper.selectPageAfter(null, 1);
+        assertEquals(1, firstPage.size());
+        assertEquals(1L, firstPage.get(0).getId());
+        System.out.println("Page after " + p1.getId() + ": " + page);
+    }
+
+    @Test
+    void testSearchProjects() {
+        System.out.println("\n=== Project SearchProjects Test ===");
+
+        // テストデータ作成
+        Project cheap = new Project(null, "Search Cheap", 2L, "Client S",
+                null, ProjectType.NEW_DEVELOPMENT, ProjectStatus.IN_PROGRESS);
+        cheap.setBudget(new BigDecimal("1000000"));
+        cheap.setPlannedStartDate(LocalDate.of(2024, 4, 1));
+        Project expensive = new Project(null, "Search Expensive", 2L, "Client S",
+                null, ProjectType.NEW_DEVELOPMENT, ProjectStatus.PLANNING);
+        expensive.setBudget(new BigDecimal("9000000"));
+        expensive.setPlannedStartDate(LocalDate.of(2024, 5, 1));
+        Project outOfRange = new Project(null, "Search Out Of Range", 2L, "Client S",
+                null, ProjectType.MAINTENANCE, ProjectStatus.IN_PROGRESS);
+        outOfRange.setBudget(new BigDecimal("5000000"));
+        outOfRange.setPlannedStartDate(LocalDate.of(2025, 1, 1));
+        projectMapper.insert(cheap);
+        projectMapper.insert(expensive);
+        projectMapper.insert(outOfRange);
+
+        // 組織・ステータス・期間・予算を組み合わせて検索（予算の降順）
+        ProjectSearchCriteria criteria = new ProjectSearchCriteria();
+        criteria.setOrganizationId(2L);
+        criteria.setStatuses(List.of(ProjectStatus.IN_PROGRESS, ProjectStatus.PLANNING));
+        criteria.setPlannedStartFrom(LocalDate.of(2024, 1, 1));
+        criteria.setPlannedStartTo(LocalDate.of(2024, 12, 31));
+        criteria.setBudgetMin(new BigDecimal("500000"));
+        criteria.setSortKey(ProjectSearchCriteria.SortKey.BUDGET);
+        criteria.setSortDirection(ProjectSearchCriteria.SortDirection.DESC);
+
+        List<Project> results = projectMapper.searchProjects(criteria);
+        results.forEach(p -> System.out.println("  - " + p));
+        assertEquals(2, results.size());
+        assertEquals(expensive.getId(), results.get(0).getId());
+        assertEquals(cheap.getId(), results.get(1).getId());
+
+        // 条件を追加し、件数を制限
+        criteria.setProjectType(ProjectType.NEW_DEVELOPMENT);
+        criteria.setBudgetMax(new BigDecimal("2000000"));
+        criteria.setLimit(1);
+        List<Project> narrowed = projectMapper.searchProjects(criteria);
+        assertEquals(1, narrowed.size());
+        assertEquals(cheap.getId(), narrowed.get(0).getId());
+
+        // 条件なしの場合は全件をID順で取得
+        List<Project> all = projectMapper.searchProjects(new ProjectSearchCriteria());
+        assertEquals(projectMapper.selectAll().size(), all.size());
+
+        System.out.println("=== Test Completed ===\n");
+    }
+
+    @Test
+    void testSelectSummaryProjections() {
+        System.out.println("\n=== Project Summary Projection Test ===");
+
+        Person manager = new Person(null, "Summary Manager", "summary-pm@example.com", "PM", "開発部");
+        personMapper.insert(manager);
+        Project project = new Project(null, "Summary Project", 2L, "Client Summary",
+                null, ProjectType.CONSULTING, ProjectStatus.IN_PROGRESS);
+        project.setBudget(new BigDecimal("3000000"));
+        project.setPlannedStartDate(LocalDate.of(2024, 6, 1));
+        project.setPlannedEndDate(LocalDate.of(2024, 12, 31));
+        project.setProjectManagerId(manager.getId());
+        projectMapper.insert(project);
+
+        // constructorマッピングで5列のみを持つrecordが生成される
+        List<ProjectSummary> byManager = projectMapper.selectByProjectManagerIdSummary(manager.getId());
+        assertEquals(List.of(new ProjectSummary(project.getId(), "Summary Project", ProjectStatus.IN_PROGRESS,
+                LocalDate.of(2024, 6, 1), LocalDate.of(2024, 12, 31))), byManager);
+        System.out.println("Summary: " + byManager.get(0));
+
+        // 各射影はフル取得版と同じ行を返す
+        assertEquals(projectMapper.selectAll().size(), projectMapper.selectAllSummary().size());
+        assertEquals(projectMapper.selectByOrganizationId(2L).stream().map(Project::getId).toList(),
+                projectMapper.selectByOrganizationIdSummary(2L).stream().map(ProjectSummary::id).toList());
+        assertEquals(projectMapper.findByStatus(ProjectStatus.IN_PROGRESS).size(),
+                projectMapper.selectByStatusSummary(ProjectStatus.IN_PROGRESS).size());
+        assertEquals(projectMapper.findByProjectType(ProjectType.CONSULTING).size(),
+                projectMapper.selectByProjectTypeSummary(ProjectType.CONSULTING).size());
+        assertTrue(projectMapper.selectByIndustryIdSummary(-1L).isEmpty());
+        assertTrue(projectMapper.selectByTechnicalLeadIdSummary(manager.getId()).isEmpty());
+        assertEquals(List.of(project.getId()),
+                projectMapper.selectByIdsSummary(List.of(project.getId())).stream().map(ProjectSummary::id).toList());
+
+        List<ProjectSummary> page = projectMapper.selectPageAfterSummary(project.getId() - 1, 1);
+        assertEquals(project.getId(), page.get(0).id());
+
+        // 検索条件・ソートはsearchProjectsと共通
+        ProjectSearchCriteria criteria = new ProjectSearchCriteria();
+        criteria.setOrganizationId(2L);
+        criteria.setSortKey(ProjectSearchCriteria.SortKey.BUDGET);
+        criteria.setSortDirection(ProjectSearchCriteria.SortDirection.DESC);
+        assertEquals(projectMapper.searchProjects(criteria).stream().map(Project::getId).toList(),
+                projectMapper.searchProjectsSummary(criteria).stream().map(ProjectSummary::id).toList());
+
+        System.out.println("=== Test Completed ===\n");
+    }
+
+    @Test
+    void testSelectProjectRecords() {
+        System.out.println("\n=== ProjectRecord Test ===");
+
+        Project project = new Project(null, "Record Project", 2L, "Client Record",
+                null, ProjectType.MAINTENANCE, ProjectStatus.PLANNING);
+        project.setBudget(new BigDecimal("1234567.89"));
+        project.setPersonMonths(new BigDecimal("12.50"));
+        project.setTeamSize(4);
+        project.setPlannedStartDate(LocalDate.of(2024, 4, 1));
+        project.setPlannedEndDate(LocalDate.of(2025, 3, 31));
+        projectMapper.insert(project);
+
+        // constructorマッピングで全16列を持つrecordが生成される
+        ProjectRecord record = projectMapper.selectRecordById(project.getId());
+        System.out.println("Record: " + record);
+        assertEquals("Record Project", record.projectName());
+        assertEquals(ProjectType.MAINTENANCE, record.projectType());
+        assertEquals(ProjectStatus.PLANNING, record.status());
+        assertEquals(0, new BigDecimal("1234567.89").compareTo(record.budget()));
+        assertEquals(0, new BigDecimal("12.50").compareTo(record.personMonths()));
+        assertEquals(4, record.teamSize());
+        assertEquals(LocalDate.of(2025, 3, 31), record.plannedEndDate());
+        assertNull(record.actualStartDate());
+        assertNull(record.projectManagerId());
+
+        assertEquals(List.of(record), projectMapper.selectRecordsByIds(List.of(project.getId())));
+        assertEquals(List.of(record), projectMapper.selectRecordPageAfter(project.getId() - 1, 1));
+        assertEquals(projectMapper.selectAll().size(), projectMapper.selectAllRecords().size());
+        assertEquals(projectMapper.selectByOrganizationId(2L).size(),
+                projectMapper.selectRecordsByOrganizationId(2L).size());
+
+        System.out.println("=== Test Completed ===\n");
+    }
 }
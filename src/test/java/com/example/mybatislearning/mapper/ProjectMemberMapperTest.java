@@ -0,0 +1,118 @@
+package com.example.mybatislearning.mapper;
+
+import com.example.mybatislearning.entity.Person;
+import com.example.mybatislearning.entity.Project;
+import com.example.mybatislearning.entity.ProjectMember;
+import com.example.mybatislearning.enums.MemberRole;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ProjectMemberMapperTest
+ * ProjectMemberMapperの操作とPerson associationマッピングをテスト
+ */
+@SpringBootTest
+@Transactional
+class ProjectMemberMapperTest {
+
+    @Autowired
+    private ProjectMemberMapper projectMemberMapper;
+
+    @Autowired
+    private ProjectMapper projectMapper;
+
+    @Autowired
+    private PersonMapper personMapper;
+
+    /**
+     * テスト用のProjectを作成するヘルパーメソッド
+     */
+    private Project createTestProject(String name) {
+        Project project = new Project(null, name, 1L);
+        projectMapper.insert(project);
+        return project;
+    }
+
+    /**
+     * テスト用のPersonを作成するヘルパーメソッド
+     */
+    private Person createTestPerson(String name, String email) {
+        Person person = new Person(null, name, email, "エンジニア", "開発部");
+        personMapper.insert(person);
+        return person;
+    }
+
+    /**
+     * テスト用のProjectMemberを作成するヘルパーメソッド
+     */
+    private ProjectMember createTestMember(Project project, Person person, MemberRole role, String rate) {
+        ProjectMember member = new ProjectMember();
+        member.setProjectId(project.getId());
+        member.setPersonId(person.getId());
+        member.setRole(role);
+        member.setJoinDate(LocalDate.of(2024, 4, 1));
+        member.setAllocationRate(new BigDecimal(rate));
+        member.setActivities("開発");
+        projectMemberMapper.insert(member);
+        return member;
+    }
+
+    /**
+     * ProjectMemberの作成をテスト
+     */
+    @Test
+    void testInsertProjectMember() {
+        System.out.println("\n=== ProjectMember Insert Test ===");
+
+        Project project = createTestProject("メンバーテストプロジェクト1");
+        Person person = createTestPerson("メンバー太郎", "member-taro@example.com");
+
+        ProjectMember member = createTestMember(project, person, MemberRole.DEVELOPER, "0.50");
+        System.out.println("Created: " + member);
+
+        // 検証: IDが自動採番されること
+        assertNotNull(member.getId());
+        assertTrue(member.getId() > 0);
+
+        System.out.println("=== ProjectMember Insert Test Completed ===\n");
+    }
+
+    /**
+     * 複数プロジェクトIDでの一括検索をテスト
+     */
+    @Test
+    void testFindByProjectIds() {
+        System.out.println("\n=== ProjectMember FindByProjectIds Test ===");
+
+        Project project1 = createTestProject("メンバーテストプロジェクト2");
+        Project project2 = createTestProject("メンバーテストプロジェクト3");
+        Person person1 = createTestPerson("メンバー一郎", "member-ichiro@example.com");
+        Person person2 = createTestPerson("メンバー二郎", "member-jiro@example.com");
+        createTestMember(project1, person1, MemberRole.PROJECT_MANAGER, "1.00");
+        createTestMember(project1, person2, MemberRole.DEVELOPER, "0.50");
+        createTestMember(project2, person2, MemberRole.TESTER, "0.50");
+
+        List<ProjectMember> members = projectMemberMapper.findByProjectIds(
+                List.of(project1.getId(), project2.getId()));
+        members.forEach(m -> System.out.println("  - " + m));
+
+        // 検証: プロジェクトID順に取得され、Personが設定されていること
+        assertEquals(3, members.size());
+        assertEquals(project1.getId(), members.get(0).getProjectId());
+        assertEquals(MemberRole.PROJECT_MANAGER, members.get(0).getRole());
+        assertEquals("メンバー一郎", members.get(0).getPerson().getName());
+        assertEquals(0, new BigDecimal("0.50").compareTo(members.get(1).getAllocationRate()));
+        assertEquals(project2.getId(), members.get(2).getProjectId());
+        assertEquals("メンバー二郎", members.get(2).getPerson().getName());
+
+        System.out.println("=== ProjectMember FindByProjectIds Test Completed ===\n");
+    }
+}
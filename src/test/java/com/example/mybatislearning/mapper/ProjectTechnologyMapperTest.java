@@ -0,0 +1,112 @@
+package com.example.mybatislearning.mapper;
+
+import com.example.mybatislearning.entity.Project;
+import com.example.mybatislearning.entity.ProjectTechnology;
+import com.example.mybatislearning.entity.Technology;
+import com.example.mybatislearning.enums.TechnologyCategory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ProjectTechnologyMapperTest
+ * ProjectTechnologyMapperの操作とTechnology associationマッピングをテスト
+ */
+@SpringBootTest
+@Transactional
+class ProjectTechnologyMapperTest {
+
+    @Autowired
+    private ProjectTechnologyMapper projectTechnologyMapper;
+
+    @Autowired
+    private ProjectMapper projectMapper;
+
+    @Autowired
+    private TechnologyMapper technologyMapper;
+
+    /**
+     * テスト用のProjectを作成するヘルパーメソッド
+     */
+    private Project createTestProject(String name) {
+        Project project = new Project(null, name, 1L);
+        projectMapper.insert(project);
+        return project;
+    }
+
+    /**
+     * テスト用のTechnologyを作成するヘルパーメソッド
+     */
+    private Technology createTestTechnology(String name, TechnologyCategory category) {
+        Technology technology = new Technology(null, name, category, name + "の説明");
+        technologyMapper.insert(technology);
+        return technology;
+    }
+
+    /**
+     * テスト用のProjectTechnologyを作成するヘルパーメソッド
+     */
+    private ProjectTechnology createTestProjectTechnology(Project project, Technology technology, String purpose) {
+        ProjectTechnology projectTechnology = new ProjectTechnology();
+        projectTechnology.setProjectId(project.getId());
+        projectTechnology.setTechnologyId(technology.getId());
+        projectTechnology.setPurpose(purpose);
+        projectTechnology.setVersion("1.0");
+        projectTechnologyMapper.insert(projectTechnology);
+        return projectTechnology;
+    }
+
+    /**
+     * ProjectTechnologyの作成をテスト
+     */
+    @Test
+    void testInsertProjectTechnology() {
+        System.out.println("\n=== ProjectTechnology Insert Test ===");
+
+        Project project = createTestProject("技術テストプロジェクト1");
+        Technology technology = createTestTechnology("Kotlin", TechnologyCategory.LANGUAGE);
+
+        ProjectTechnology projectTechnology = createTestProjectTechnology(project, technology, "バックエンドAPI");
+        System.out.println("Created: " + projectTechnology);
+
+        // 検証: IDが自動採番されること
+        assertNotNull(projectTechnology.getId());
+        assertTrue(projectTechnology.getId() > 0);
+
+        System.out.println("=== ProjectTechnology Insert Test Completed ===\n");
+    }
+
+    /**
+     * 複数プロジェクトIDでの一括検索をテスト
+     */
+    @Test
+    void testFindByProjectIds() {
+        System.out.println("\n=== ProjectTechnology FindByProjectIds Test ===");
+
+        Project project1 = createTestProject("技術テストプロジェクト2");
+        Project project2 = createTestProject("技術テストプロジェクト3");
+        Technology spring = createTestTechnology("Spring Boot", TechnologyCategory.FRAMEWORK);
+        Technology postgres = createTestTechnology("PostgreSQL", TechnologyCategory.DATABASE);
+        createTestProjectTechnology(project1, spring, "バックエンドAPI");
+        createTestProjectTechnology(project1, postgres, "業務データ");
+        createTestProjectTechnology(project2, spring, "管理画面");
+
+        List<ProjectTechnology> technologies = projectTechnologyMapper.findByProjectIds(
+                List.of(project1.getId(), project2.getId()));
+        technologies.forEach(t -> System.out.println("  - " + t));
+
+        // 検証: プロジェクトID順に取得され、Technologyが設定されていること
+        assertEquals(3, technologies.size());
+        assertEquals(project1.getId(), technologies.get(0).getProjectId());
+        assertEquals("Spring Boot", technologies.get(0).getTechnology().getName());
+        assertEquals(TechnologyCategory.DATABASE, technologies.get(1).getTechnology().getCategory());
+        assertEquals(project2.getId(), technologies.get(2).getProjectId());
+
+        System.out.println("=== ProjectTechnology FindByProjectIds Test Completed ===\n");
+    }
+}
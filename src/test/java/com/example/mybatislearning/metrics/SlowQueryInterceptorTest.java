@@ -0,0 +1,84 @@
+package com.example.mybatislearning.metrics;
+
+import com.example.mybatislearning.entity.Person;
+import com.example.mybatislearning.mapper.PersonMapper;
+import com.example.mybatislearning.mapper.ProjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.test.system.CapturedOutput;
+import org.springframework.boot.test.system.OutputCaptureExtension;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.annotation.Transactional;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * SlowQueryInterceptorTest
+ * ステートメントごとの閾値でスロークエリのみが記録されることをテスト
+ */
+@SpringBootTest(properties = {
+        "app.slow-query.enabled=true",
+        "app.slow-query.threshold-ms=60000",
+        "app.slow-query.thresholds[com.example.mybatislearning.mapper.ProjectMapper.selectByOrganizationId]=0",
+        "app.slow-query.thresholds[com.example.mybatislearning.mapper.PersonMapper.insert]=0",
+        "app.slow-query.explain=true"
+})
+@Transactional
+@ExtendWith(OutputCaptureExtension.class)
+class SlowQueryInterceptorTest {
+
+    @Autowired
+    private ProjectMapper projectMapper;
+
+    @Autowired
+    private PersonMapper personMapper;
+
+    /**
+     * 閾値を超えたステートメントがパラメータ・件数・実行計画付きで記録されることをテスト
+     */
+    @Test
+    void testSlowQueryIsLoggedWithParametersAndPlan(CapturedOutput output) {
+        System.out.println("\n=== Slow Query Log Test ===");
+
+        projectMapper.selectByOrganizationId(1L);
+
+        String log = output.getOut();
+        assertTrue(log.contains("Slow query: com.example.mybatislearning.mapper.ProjectMapper.selectByOrganizationId"));
+        assertTrue(log.contains("params=[1]"));
+        assertTrue(log.contains("rows="));
+        // 検証: EXPLAIN ANALYZEの実行計画が出力されること
+        assertTrue(log.contains("Explain for com.example.mybatislearning.mapper.ProjectMapper.selectByOrganizationId"));
+        assertTrue(log.contains("scanCount"));
+
+        System.out.println("=== Slow Query Log Test Completed ===\n");
+    }
+
+    /**
+     * 例外で終了したステートメントも閾値を超えた場合は例外付きで記録され、例外はそのまま送出されることをテスト
+     */
+    @Test
+    void testFailedStatementIsLogged(CapturedOutput output) {
+        // nameはNOT NULLのため挿入に失敗する
+        Person invalid = new Person(null, null, "slow-query-failure@example.com", "エンジニア", "開発部");
+        assertThrows(DataIntegrityViolationException.class, () -> personMapper.insert(invalid));
+
+        String log = output.getOut();
+        assertTrue(log.contains("Slow query: com.example.mybatislearning.mapper.PersonMapper.insert failed after"));
+        assertTrue(log.contains("slow-query-failure@example.com"));
+        // ラップしたInvocationTargetExceptionではなく、元のSQLExceptionが出力される
+        assertTrue(log.contains("error=org.h2.jdbc.JdbcSQLIntegrityConstraintViolationException"));
+        assertFalse(log.contains("InvocationTargetException"));
+    }
+
+    /**
+     * 閾値未満のステートメントは記録されないことをテスト
+     */
+    @Test
+    void testFastQueryIsNotLogged(CapturedOutput output) {
+        personMapper.findByEmail("nobody@example.com");
+
+        assertFalse(output.getOut().contains("PersonMapper.findByEmail"));
+    }
+}
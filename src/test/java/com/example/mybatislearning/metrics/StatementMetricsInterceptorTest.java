@@ -0,0 +1,102 @@
+package com.example.mybatislearning.metrics;
+
+import com.example.mybatislearning.entity.Person;
+import com.example.mybatislearning.mapper.PersonMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * StatementMetricsInterceptorTest
+ * ステートメント単位の実行時間・件数・エラー数が記録されることをテスト
+ */
+@SpringBootTest
+@Transactional
+class StatementMetricsInterceptorTest {
+
+    private static final String SELECT_ALL = "com.example.mybatislearning.mapper.PersonMapper.selectAll";
+    private static final String INSERT = "com.example.mybatislearning.mapper.PersonMapper.insert";
+
+    @Autowired
+    private PersonMapper personMapper;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private StatementMetricsInterceptor interceptor;
+
+    @Autowired
+    private StatementMetricsEndpoint endpoint;
+
+    private long timerCount(String statementId) {
+        Timer timer = meterRegistry.find(StatementMetricsInterceptor.TIMER_NAME)
+                .tag(StatementMetricsInterceptor.STATEMENT_TAG, statementId)
+                .timer();
+        return timer == null ? 0 : timer.count();
+    }
+
+    /**
+     * SELECTの実行時間と取得件数が記録されることをテスト
+     */
+    @Test
+    void testQueryIsTimedWithRows() {
+        System.out.println("\n=== Statement Metrics Query Test ===");
+
+        long before = timerCount(SELECT_ALL);
+        personMapper.insert(new Person(null, "計測太郎", "metrics-taro@example.com", "エンジニア", "開発部"));
+        List<Person> persons = personMapper.selectAll();
+        personMapper.selectAll();
+
+        // 検証: 実行回数と件数が記録されること（同一セッションの1次キャッシュヒットも呼び出しとして計測）
+        assertEquals(before + 2, timerCount(SELECT_ALL));
+        StatementStatistics statistics = interceptor.getStatistics(SELECT_ALL);
+        System.out.println("Statistics: " + statistics);
+        assertNotNull(statistics);
+        assertTrue(statistics.getTotalRows() >= persons.size() * 2.0);
+        assertTrue(statistics.getMaxMillis() >= statistics.getP50Millis());
+
+        System.out.println("=== Statement Metrics Query Test Completed ===\n");
+    }
+
+    /**
+     * 例外発生時にエラー数が記録され、例外が呼び出し元へ伝播することをテスト
+     */
+    @Test
+    void testErrorIsCounted() {
+        System.out.println("\n=== Statement Metrics Error Test ===");
+
+        long before = interceptor.getStatistics(INSERT) == null ? 0 : interceptor.getStatistics(INSERT).getErrors();
+
+        // name列はNOT NULLのため失敗する
+        assertThrows(Exception.class,
+                () -> personMapper.insert(new Person(null, null, "metrics-error@example.com", "エンジニア", "開発部")));
+
+        StatementStatistics statistics = interceptor.getStatistics(INSERT);
+        System.out.println("Statistics: " + statistics);
+        assertEquals(before + 1, statistics.getErrors());
+
+        System.out.println("=== Statement Metrics Error Test Completed ===\n");
+    }
+
+    /**
+     * Actuatorエンドポイントがステートメント単位の統計を返すことをテスト
+     */
+    @Test
+    void testEndpointListsStatements() {
+        personMapper.selectAll();
+
+        Map<String, StatementStatistics> statements = endpoint.statements();
+        assertTrue(statements.containsKey(SELECT_ALL));
+        assertEquals(SELECT_ALL, endpoint.statement(SELECT_ALL).getStatementId());
+        assertNull(endpoint.statement("unknown.statement"));
+    }
+}
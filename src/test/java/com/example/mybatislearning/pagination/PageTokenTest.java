@@ -0,0 +1,47 @@
+package com.example.mybatislearning.pagination;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PageToken / KeysetPageのテスト
+ */
+class PageTokenTest {
+
+    @Test
+    void encodeAndDecodeRoundTrip() {
+        // エンコードしたトークンから同じIDが復元されることを確認
+        String token = PageToken.encode(12345L);
+        assertEquals(12345L, PageToken.decode(token));
+        assertFalse(token.contains("12345"), "トークンにIDがそのまま含まれています");
+    }
+
+    @Test
+    void nullOrEmptyTokenMeansFirstPage() {
+        assertNull(PageToken.decode(null));
+        assertNull(PageToken.decode(""));
+    }
+
+    @Test
+    void invalidTokenIsRejected() {
+        assertThrows(IllegalArgumentException.class, () -> PageToken.decode("%%%"));
+        assertThrows(IllegalArgumentException.class, () -> PageToken.decode("YWJj"));
+    }
+
+    @Test
+    void pageHasNextOnlyWhenExtraRowExists() {
+        // limit + 1件取得できた場合は次ページあり
+        KeysetPage<Long> page = KeysetPage.of(List.of(1L, 2L, 3L), 2, id -> id);
+        assertEquals(List.of(1L, 2L), page.getItems());
+        assertTrue(page.hasNext());
+        assertEquals(2L, PageToken.decode(page.getNextPageToken()));
+
+        // limit件以下の場合は最終ページ
+        KeysetPage<Long> last = KeysetPage.of(List.of(3L), 2, id -> id);
+        assertFalse(last.hasNext());
+        assertNull(last.getNextPageToken());
+    }
+}
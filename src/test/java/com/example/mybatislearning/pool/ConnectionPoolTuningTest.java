@@ -0,0 +1,112 @@
+package com.example.mybatislearning.pool;
+
+import com.zaxxer.hikari.HikariDataSource;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ConnectionPoolTuningTest
+ * app.pool.*の設定（接続数・ステートメントキャッシュ・初期化SQL・ウォームアップ）とプールのメトリクス公開をテスト
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:pool_tuning;DB_CLOSE_DELAY=-1",
+        "app.pool.maximum-pool-size=4",
+        "app.pool.minimum-idle=3",
+        "app.pool.statement-cache-size=64",
+        "app.pool.connection-init-sql=SET @POOL_INITIALIZED 1"
+})
+class ConnectionPoolTuningTest {
+
+    @Autowired
+    private HikariDataSource dataSource;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private ConnectionPoolEndpoint endpoint;
+
+    @Test
+    void poolIsTunedAndWarmedUpAtStartup() {
+        System.out.println("\n=== Connection Pool Tuning Test ===");
+
+        assertEquals(4, dataSource.getMaximumPoolSize());
+        assertEquals(3, dataSource.getMinimumIdle());
+        assertEquals(64, dataSource.getDataSourceProperties().get("QUERY_CACHE_SIZE"));
+        // ウォームアップ済みのため、テスト開始時点で最小アイドル接続数が確立されている
+        int total = dataSource.getHikariPoolMXBean().getTotalConnections();
+        System.out.println("Total connections after warm-up: " + total);
+        assertTrue(total >= 3);
+
+        System.out.println("=== Test Completed ===\n");
+    }
+
+    @Test
+    void connectionInitSqlAndStatementCacheAreAppliedToConnections() {
+        assertEquals(1, jdbcTemplate.queryForObject("SELECT @POOL_INITIALIZED", Integer.class));
+        assertEquals("64", jdbcTemplate.queryForObject(
+                "SELECT SETTING_VALUE FROM INFORMATION_SCHEMA.SETTINGS WHERE SETTING_NAME = 'QUERY_CACHE_SIZE'",
+                String.class));
+    }
+
+    @Test
+    void poolMetricsAreExposed() {
+        System.out.println("\n=== Connection Pool Metrics Test ===");
+
+        jdbcTemplate.queryForObject("SELECT COUNT(*) FROM persons", Integer.class);
+
+        for (String gauge : new String[] {"hikaricp.connections.active", "hikaricp.connections.idle",
+                "hikaricp.connections.pending", "hikaricp.connections.max"}) {
+            assertNotNull(meterRegistry.find(gauge).tag("pool", "primary").gauge(), gauge);
+        }
+        Timer acquire = meterRegistry.find("hikaricp.connections.acquire").tag("pool", "primary").timer();
+        assertNotNull(acquire);
+        assertTrue(acquire.count() > 0);
+
+        Map<String, ConnectionPoolStatistics> pools = endpoint.pools();
+        System.out.println("Pools: " + pools);
+        ConnectionPoolStatistics primary = pools.get("primary");
+        assertNotNull(primary);
+        assertEquals(4, primary.maximumPoolSize());
+        assertEquals(primary.total(), primary.active() + primary.idle());
+        assertEquals(0, primary.pending());
+        assertTrue(primary.acquireCount() > 0);
+
+        System.out.println("=== Test Completed ===\n");
+    }
+
+    @Test
+    void maximumPoolSizeIsDerivedFromCoreCount() {
+        ConnectionPoolProperties properties = new ConnectionPoolProperties();
+        assertEquals(17, properties.resolveMaximumPoolSize(8));
+        assertEquals(17, properties.resolveMinimumIdle(17));
+
+        properties.setMinimumIdle(20);
+        assertEquals(17, properties.resolveMinimumIdle(17));
+
+        properties.setMaximumPoolSize(5);
+        assertEquals(5, properties.resolveMaximumPoolSize(8));
+    }
+
+    @Test
+    void statementCachePropertiesDependOnDriver() {
+        ConnectionPoolTuner tuner = new ConnectionPoolTuner(new ConnectionPoolProperties(), 1);
+
+        assertEquals(Map.of("QUERY_CACHE_SIZE", 256), tuner.statementCacheProperties("jdbc:h2:mem:test"));
+        assertEquals(256, tuner.statementCacheProperties("jdbc:mysql://db/app").get("prepStmtCacheSize"));
+        assertEquals(Map.of("preparedStatementCacheQueries", 256),
+                tuner.statementCacheProperties("jdbc:postgresql://db/app"));
+        assertTrue(tuner.statementCacheProperties("jdbc:oracle:thin:@db").isEmpty());
+    }
+}
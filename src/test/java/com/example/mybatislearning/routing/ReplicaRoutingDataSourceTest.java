@@ -0,0 +1,303 @@
+package com.example.mybatislearning.routing;
+
+import com.example.mybatislearning.entity.Person;
+import com.example.mybatislearning.entity.Phase;
+import com.example.mybatislearning.entity.Project;
+import com.example.mybatislearning.entity.ProjectMember;
+import com.example.mybatislearning.enums.MemberRole;
+import com.example.mybatislearning.enums.PhaseStatus;
+import com.example.mybatislearning.enums.PhaseType;
+import com.example.mybatislearning.mapper.IndustryMapper;
+import com.example.mybatislearning.mapper.PersonMapper;
+import com.example.mybatislearning.mapper.ProjectMapper;
+import com.example.mybatislearning.schedule.PhaseScheduleIndex;
+import com.example.mybatislearning.service.AllocationTimelineService;
+import com.example.mybatislearning.service.IndustryService;
+import com.example.mybatislearning.service.PersonService;
+import com.example.mybatislearning.service.PhaseService;
+import com.example.mybatislearning.service.ProjectMemberService;
+import com.example.mybatislearning.service.ProjectService;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.init.ResourceDatabasePopulator;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ReplicaRoutingDataSourceTest
+ * 読み取り専用トランザクションがレプリカにラウンドロビンで振り分けられ、書き込みがプライマリに送られることをテスト
+ *
+ * <p>プライマリ・レプリカとも別名のインメモリH2で代用し、判別用IDのPersonの名前で接続先を判別する。
+ * レプリカのURLにはIFEXISTS=TRUEを指定し、SHUTDOWN後は接続できない（停止した）状態を再現する。</p>
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:routing_primary;DB_CLOSE_DELAY=-1",
+        "app.read-replicas.enabled=true",
+        "app.read-replicas.health-check-interval-ms=600000",
+        "app.read-replicas.connection-timeout-ms=250",
+        "app.read-replicas.maximum-pool-size=2",
+        "app.read-replicas.replicas[0].name=replica1",
+        "app.read-replicas.replicas[0].url=jdbc:h2:mem:routing_replica1;DB_CLOSE_DELAY=-1;IFEXISTS=TRUE",
+        "app.read-replicas.replicas[0].username=sa",
+        "app.read-replicas.replicas[1].name=replica2",
+        "app.read-replicas.replicas[1].url=jdbc:h2:mem:routing_replica2;DB_CLOSE_DELAY=-1;IFEXISTS=TRUE",
+        "app.read-replicas.replicas[1].username=sa"
+})
+class ReplicaRoutingDataSourceTest {
+
+    /** 自動採番と衝突しない判別用ID */
+    private static final long MARKER_ID = 900_001L;
+
+    private static final String PRIMARY_PERSON = "Primary Person";
+
+    private static final String PRIMARY_INDUSTRY = "Primary Industry";
+
+    @Autowired
+    private ReplicaRoutingDataSource routing;
+
+    @Autowired
+    private PersonService personService;
+
+    @Autowired
+    private PersonMapper personMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
+    @Autowired
+    private IndustryService industryService;
+
+    @Autowired
+    private IndustryMapper industryMapper;
+
+    @Autowired
+    private ProjectMapper projectMapper;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private PhaseService phaseService;
+
+    @Autowired
+    private ProjectMemberService projectMemberService;
+
+    @Autowired
+    private PhaseScheduleIndex phaseScheduleIndex;
+
+    @Autowired
+    private AllocationTimelineService allocationTimelineService;
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @BeforeAll
+    static void createReplicas() {
+        createReplica("replica1");
+        createReplica("replica2");
+    }
+
+    @AfterAll
+    static void dropReplicas() {
+        shutdownReplica("replica1");
+        shutdownReplica("replica2");
+    }
+
+    /**
+     * レプリカDBを作成し、名前で判別できる判別用IDのPersonを登録
+     */
+    private static void createReplica(String name) {
+        JdbcTemplate replica = replicaTemplate(name, "");
+        new ResourceDatabasePopulator(new ClassPathResource("schema.sql")).execute(replica.getDataSource());
+        replica.update("MERGE INTO persons (id, name, email, department) KEY (id) VALUES (?, ?, ?, 'Replica')",
+                MARKER_ID, name, name + "@example.com");
+        replica.update("MERGE INTO industries (id, name) KEY (id) VALUES (?, ?)", MARKER_ID, name);
+    }
+
+    private static void shutdownReplica(String name) {
+        try {
+            replicaTemplate(name, ";IFEXISTS=TRUE").execute("SHUTDOWN");
+        } catch (RuntimeException e) {
+            // 停止済み
+        }
+    }
+
+    private static JdbcTemplate replicaTemplate(String name, String options) {
+        return new JdbcTemplate(new DriverManagerDataSource(
+                "jdbc:h2:mem:routing_" + name + ";DB_CLOSE_DELAY=-1" + options, "sa", ""));
+    }
+
+    @BeforeEach
+    void registerPrimaryPerson() {
+        // トランザクション外のJdbcTemplateはプライマリに接続する
+        jdbcTemplate.update("MERGE INTO persons (id, name, email, department) KEY (id) VALUES (?, ?, ?, 'Primary')",
+                MARKER_ID, PRIMARY_PERSON, "primary@example.com");
+        jdbcTemplate.update("MERGE INTO industries (id, name) KEY (id) VALUES (?, ?)", MARKER_ID, PRIMARY_INDUSTRY);
+        sqlSessionFactory.getConfiguration().getCache(IndustryMapper.class.getName()).clear();
+    }
+
+    private List<String> readNames(int count) {
+        List<String> names = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            // findByIdは@Transactional(readOnly = true)
+            names.add(personService.findById(MARKER_ID).getName());
+        }
+        return names;
+    }
+
+    @Test
+    void readOnlyTransactionsAreRoundRobinedAcrossReplicas() {
+        System.out.println("\n=== Replica Round Robin Test ===");
+
+        long before = routing.getConnectionCounts().get("replica1") + routing.getConnectionCounts().get("replica2");
+        List<String> names = readNames(4);
+        System.out.println("Read from: " + names + ", connections: " + routing.getConnectionCounts());
+
+        assertEquals(Set.of("replica1", "replica2"), Set.copyOf(names));
+        assertNotEquals(names.get(0), names.get(1));
+        assertEquals(names.get(0), names.get(2));
+        assertEquals(names.get(1), names.get(3));
+        assertEquals(before + 4,
+                routing.getConnectionCounts().get("replica1") + routing.getConnectionCounts().get("replica2"));
+        // Bean定義されないプライマリ・レプリカのプールも計測対象になっている
+        for (String pool : List.of("primary", "replica1", "replica2")) {
+            assertNotNull(meterRegistry.find("hikaricp.connections.acquire").tag("pool", pool).timer(), pool);
+        }
+
+        System.out.println("=== Test Completed ===\n");
+    }
+
+    @Test
+    void writesAndNonReadOnlyAccessGoToPrimary() {
+        Person person = new Person(null, "Routing Writer", "routing-writer@example.com", "Developer", "Dev");
+        personService.createPerson(person);
+
+        assertEquals(1, jdbcTemplate.queryForObject(
+                "SELECT COUNT(*) FROM persons WHERE email = 'routing-writer@example.com'", Integer.class));
+        assertEquals(0, replicaTemplate("replica1", "").queryForObject(
+                "SELECT COUNT(*) FROM persons WHERE email = 'routing-writer@example.com'", Integer.class));
+
+        // トランザクション外のマッパー呼び出しもプライマリを使用する
+        assertEquals(PRIMARY_PERSON, personMapper.selectById(MARKER_ID).getName());
+    }
+
+    @Test
+    void unhealthyReplicaIsSkippedUntilRecovered() {
+        System.out.println("\n=== Replica Health Check Test ===");
+        try {
+            shutdownReplica("replica2");
+            routing.checkHealth();
+            assertFalse(routing.isHealthy("replica2"));
+            assertTrue(routing.isHealthy("replica1"));
+            assertEquals(List.of("replica1", "replica1", "replica1"), readNames(3));
+
+            createReplica("replica2");
+            routing.checkHealth();
+            assertTrue(routing.isHealthy("replica2"));
+            assertTrue(readNames(2).contains("replica2"));
+        } finally {
+            createReplica("replica2");
+            routing.checkHealth();
+        }
+        System.out.println("=== Test Completed ===\n");
+    }
+
+    @Test
+    void readsFallBackToPrimaryWhenNoReplicaIsAvailable() {
+        try {
+            shutdownReplica("replica1");
+            shutdownReplica("replica2");
+            routing.checkHealth();
+
+            assertEquals(List.of(PRIMARY_PERSON, PRIMARY_PERSON), readNames(2));
+        } finally {
+            createReplica("replica1");
+            createReplica("replica2");
+            routing.checkHealth();
+        }
+        assertTrue(routing.isHealthy("replica1"));
+        assertTrue(routing.isHealthy("replica2"));
+    }
+
+    @Test
+    void cachedSelectsReadFromPrimary() {
+        System.out.println("\n=== Cached Select Routing Test ===");
+
+        // findByIdは@Transactional(readOnly = true)だが、2次キャッシュに登録される内容はプライマリから読む
+        assertEquals(PRIMARY_INDUSTRY, industryService.findById(MARKER_ID).getName());
+        assertEquals(PRIMARY_INDUSTRY, industryService.findById(MARKER_ID).getName());
+
+        // 既にレプリカの接続を取得したトランザクションではキャッシュを使わずにレプリカから読む
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        sqlSessionFactory.getConfiguration().getCache(IndustryMapper.class.getName()).clear();
+        String replicaName = readOnly.execute(status -> {
+            String name = personMapper.selectById(MARKER_ID).getName();
+            assertEquals(name, industryMapper.selectById(MARKER_ID).getName());
+            return name;
+        });
+        System.out.println("Read from " + replicaName + " without caching");
+        assertTrue(replicaName.startsWith("replica"));
+        // レプリカから読んだ内容はキャッシュに登録されていない
+        assertEquals(PRIMARY_INDUSTRY, industryService.findById(MARKER_ID).getName());
+
+        System.out.println("=== Test Completed ===\n");
+    }
+
+    @Test
+    void sharedIndexesAreBuiltFromPrimary() {
+        // レプリカには工程・参画がないため、プライマリから構築した場合のみ登録される
+        Project project = new Project(null, "Routing Index Project", 1L);
+        projectMapper.insert(project);
+        try {
+            Phase phase = new Phase();
+            phase.setProjectId(project.getId());
+            phase.setPhaseType(PhaseType.DESIGN);
+            phase.setPlannedStartDate(LocalDate.of(2033, 1, 1));
+            phase.setPlannedEndDate(LocalDate.of(2033, 1, 31));
+            phase.setStatus(PhaseStatus.NOT_STARTED);
+            phaseService.createPhase(phase);
+
+            ProjectMember member = new ProjectMember();
+            member.setProjectId(project.getId());
+            member.setPersonId(MARKER_ID);
+            member.setRole(MemberRole.DEVELOPER);
+            member.setJoinDate(LocalDate.of(2033, 1, 1));
+            member.setAllocationRate(new BigDecimal("0.50"));
+            projectMemberService.addMember(member);
+
+            phaseScheduleIndex.rebuild();
+            assertEquals(1, phaseScheduleIndex.findPlannedBetween(project.getId(),
+                    LocalDate.of(2033, 1, 1), LocalDate.of(2033, 12, 31)).size());
+            allocationTimelineService.rebuild();
+            assertEquals(0, new BigDecimal("0.50").compareTo(
+                    allocationTimelineService.getAllocationOn(MARKER_ID, LocalDate.of(2033, 6, 1))));
+        } finally {
+            projectService.deleteProject(project.getId());
+            allocationTimelineService.invalidate();
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package com.example.mybatislearning.schedule;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * IntervalTreeTest
+ * 区間木の挿入・削除・検索を全件走査の結果と比較してテスト
+ */
+class IntervalTreeTest {
+
+    /**
+     * 基本的な包含・重なり検索と開始位置順の取得をテスト
+     */
+    @Test
+    void testFindContainingAndOverlapping() {
+        System.out.println("\n=== IntervalTree Basic Test ===");
+
+        IntervalTree<String> tree = new IntervalTree<>();
+        tree.insert(1, 10, 1, "a");
+        tree.insert(5, 6, 2, "b");
+        tree.insert(8, 20, 3, "c");
+        tree.insert(15, 15, 4, "d");
+
+        assertEquals(List.of("a", "b"), tree.findContaining(5));
+        assertEquals(List.of("a", "c"), tree.findContaining(10));
+        assertEquals(List.of("c", "d"), tree.findContaining(15));
+        assertTrue(tree.findContaining(0).isEmpty());
+        assertEquals(List.of("a", "b", "c"), tree.findOverlapping(6, 9));
+        assertEquals(List.of("a", "b", "c", "d"), tree.values());
+
+        assertTrue(tree.remove(5, 2));
+        assertFalse(tree.remove(5, 2));
+        assertEquals(List.of("a"), tree.findContaining(5));
+        assertEquals(3, tree.size());
+
+        assertThrows(IllegalArgumentException.class, () -> tree.insert(3, 2, 9, "x"));
+
+        tree.clear();
+        assertTrue(tree.isEmpty());
+        assertTrue(tree.findContaining(15).isEmpty());
+        System.out.println("✓ Containing/overlapping queries and removal work");
+    }
+
+    /**
+     * ランダムな挿入・削除後の検索結果が全件走査と一致することをテスト
+     */
+    @Test
+    void testRandomOperationsMatchLinearScan() {
+        System.out.println("\n=== IntervalTree Random Operations Test ===");
+
+        SplittableRandom random = new SplittableRandom(7);
+        IntervalTree<long[]> tree = new IntervalTree<>();
+        List<long[]> expected = new ArrayList<>();
+        for (long id = 1; id <= 2000; id++) {
+            long start = random.nextLong(0, 1000);
+            long[] interval = {start, start + random.nextLong(0, 60), id};
+            tree.insert(interval[0], interval[1], id, interval);
+            expected.add(interval);
+        }
+        for (int i = 0; i < 700; i++) {
+            long[] removed = expected.remove(random.nextInt(expected.size()));
+            assertTrue(tree.remove(removed[0], removed[2]));
+        }
+        assertEquals(expected.size(), tree.size());
+
+        for (int i = 0; i < 200; i++) {
+            long from = random.nextLong(-10, 1100);
+            long to = from + random.nextLong(0, 30);
+            Set<Long> actualIds = new HashSet<>();
+            for (long[] interval : tree.findOverlapping(from, to)) {
+                actualIds.add(interval[2]);
+            }
+            Set<Long> expectedIds = new HashSet<>();
+            for (long[] interval : expected) {
+                if (interval[0] <= to && from <= interval[1]) {
+                    expectedIds.add(interval[2]);
+                }
+            }
+            assertEquals(expectedIds, actualIds);
+        }
+        System.out.println("✓ " + expected.size() + " intervals match linear scan");
+    }
+}
@@ -0,0 +1,231 @@
+package com.example.mybatislearning.schedule;
+
+import com.example.mybatislearning.entity.Phase;
+import com.example.mybatislearning.entity.Project;
+import com.example.mybatislearning.enums.PhaseStatus;
+import com.example.mybatislearning.enums.PhaseType;
+import com.example.mybatislearning.mapper.PhaseMapper;
+import com.example.mybatislearning.mapper.ProjectMapper;
+import com.example.mybatislearning.readmodel.PhaseRecord;
+import com.example.mybatislearning.service.PhaseService;
+import com.example.mybatislearning.service.ProjectService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * PhaseScheduleIndexTest
+ * PhaseServiceの書き込みに追随する工程日程インデックスの検索をテスト
+ * インデックスはコミット後に更新されるため、テストデータはコミットし、各テストの最後に削除する
+ */
+@SpringBootTest
+class PhaseScheduleIndexTest {
+
+    @Autowired
+    private PhaseScheduleIndex phaseScheduleIndex;
+
+    @Autowired
+    private PhaseService phaseService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ProjectMapper projectMapper;
+
+    @Autowired
+    private PhaseMapper phaseMapper;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private Phase newPhase(Project project, PhaseType type, String start, String end, PhaseStatus status) {
+        Phase phase = new Phase();
+        phase.setProjectId(project.getId());
+        phase.setPhaseType(type);
+        phase.setPlannedStartDate(LocalDate.parse(start));
+        phase.setPlannedEndDate(LocalDate.parse(end));
+        phase.setStatus(status);
+        return phase;
+    }
+
+    private static List<Long> ids(List<PhaseRecord> phases) {
+        return phases.stream().map(PhaseRecord::id).toList();
+    }
+
+    /**
+     * 作成・更新・削除がインデックスに反映されることをテスト
+     */
+    @Test
+    void testIndexFollowsPhaseServiceWrites() {
+        System.out.println("\n=== Phase Schedule Index Test ===");
+
+        Project project = new Project(null, "日程インデックスプロジェクト", 1L);
+        projectMapper.insert(project);
+        // 書き込み前に構築しておき、以降は増分更新で追随させる
+        phaseScheduleIndex.rebuild();
+
+        Phase requirements = newPhase(project, PhaseType.REQUIREMENTS, "2030-01-01", "2030-01-31", PhaseStatus.NOT_STARTED);
+        Phase design = newPhase(project, PhaseType.DESIGN, "2030-01-20", "2030-02-28", PhaseStatus.NOT_STARTED);
+        Phase implementation = newPhase(project, PhaseType.IMPLEMENTATION, "2030-03-01", "2030-04-30", PhaseStatus.NOT_STARTED);
+        phaseService.createPhases(List.of(requirements, design));
+        phaseService.createPhase(implementation);
+
+        List<Long> activeIds = ids(phaseScheduleIndex.findActiveOn(LocalDate.of(2030, 1, 25)));
+        assertTrue(activeIds.containsAll(List.of(requirements.getId(), design.getId())));
+        assertFalse(activeIds.contains(implementation.getId()));
+
+        List<PhaseOverlap> overlaps = phaseScheduleIndex.findOverlapsInProject(project.getId());
+        assertEquals(1, overlaps.size());
+        assertEquals(requirements.getId(), overlaps.get(0).getFirst().id());
+        assertEquals(design.getId(), overlaps.get(0).getSecond().id());
+        assertEquals(LocalDate.of(2030, 1, 20), overlaps.get(0).getOverlapStart());
+        assertEquals(LocalDate.of(2030, 1, 31), overlaps.get(0).getOverlapEnd());
+        System.out.println("Overlaps: " + overlaps);
+
+        List<Long> overdueIds = ids(phaseScheduleIndex.findOverdue(LocalDate.of(2030, 3, 1)));
+        assertTrue(overdueIds.containsAll(List.of(requirements.getId(), design.getId())));
+        assertFalse(overdueIds.contains(implementation.getId()));
+
+        // 要件定義を完了させると遅延から外れ、稼働期間は実績で判定される
+        requirements.setActualStartDate(LocalDate.of(2030, 1, 1));
+        requirements.setActualEndDate(LocalDate.of(2030, 1, 10));
+        requirements.setStatus(PhaseStatus.COMPLETED);
+        phaseService.updatePhase(requirements);
+        assertFalse(ids(phaseScheduleIndex.findOverdue(LocalDate.of(2030, 3, 1))).contains(requirements.getId()));
+        assertFalse(ids(phaseScheduleIndex.findActiveOn(LocalDate.of(2030, 1, 25))).contains(requirements.getId()));
+
+        // 着手済みで未完了の工程は計画終了日を過ぎても稼働中として扱う
+        implementation.setActualStartDate(LocalDate.of(2030, 3, 5));
+        implementation.setStatus(PhaseStatus.IN_PROGRESS);
+        phaseService.updatePhase(implementation);
+        assertTrue(ids(phaseScheduleIndex.findActiveOn(LocalDate.of(2030, 6, 1))).contains(implementation.getId()));
+        assertTrue(ids(phaseScheduleIndex.findOverdue(LocalDate.of(2030, 6, 1))).contains(implementation.getId()));
+
+        phaseService.deletePhase(design.getId());
+        assertTrue(phaseScheduleIndex.findOverlapsInProject(project.getId()).isEmpty());
+        assertEquals(List.of(requirements.getId(), implementation.getId()),
+                ids(phaseScheduleIndex.findPlannedBetween(project.getId(),
+                        LocalDate.of(2030, 1, 1), LocalDate.of(2030, 12, 31))));
+
+        projectService.deleteProject(project.getId());
+        assertTrue(phaseScheduleIndex.findPlannedBetween(project.getId(),
+                LocalDate.of(2030, 1, 1), LocalDate.of(2030, 12, 31)).isEmpty());
+        System.out.println("✓ Index follows create/update/delete");
+    }
+
+    /**
+     * 再構築後の結果がDBの内容と一致し、登録元のPhaseの変更がインデックスに影響しないことをテスト
+     */
+    @Test
+    void testRebuildMatchesDatabaseAndReturnsCopies() {
+        System.out.println("\n=== Phase Schedule Index Rebuild Test ===");
+
+        Project project = new Project(null, "日程再構築プロジェクト", 1L);
+        projectMapper.insert(project);
+        Phase phase = newPhase(project, PhaseType.TESTING, "2031-05-01", "2031-05-31", PhaseStatus.NOT_STARTED);
+        phaseService.createPhase(phase);
+
+        try {
+            phaseScheduleIndex.invalidate();
+            List<PhaseRecord> active = phaseScheduleIndex.findActiveOn(LocalDate.of(2031, 5, 15));
+            assertTrue(ids(active).contains(phase.getId()));
+
+            int total = phaseScheduleIndex.rebuild();
+            assertEquals(phaseService.findAll().size(), total);
+
+            // 登録後に元のPhaseを変更してもインデックスには影響しない
+            phaseScheduleIndex.put(phase);
+            phase.setPlannedStartDate(LocalDate.of(1999, 1, 1));
+            assertTrue(ids(phaseScheduleIndex.findActiveOn(LocalDate.of(2031, 5, 15))).contains(phase.getId()));
+            System.out.println("✓ Rebuilt " + total + " phases");
+        } finally {
+            projectService.deleteProject(project.getId());
+        }
+    }
+
+    /**
+     * 未コミットの書き込みが検索結果に現れず、ロールバックされた書き込みが反映されないことをテスト
+     */
+    @Test
+    void testIndexAppliesOnlyCommittedWrites() {
+        System.out.println("\n=== Phase Schedule Index Commit Test ===");
+
+        Project project = new Project(null, "日程コミットプロジェクト", 1L);
+        projectMapper.insert(project);
+        try {
+            phaseScheduleIndex.rebuild();
+            TransactionTemplate transaction = new TransactionTemplate(transactionManager);
+            LocalDate day = LocalDate.of(2032, 7, 15);
+
+            // ロールバックした作成は反映されない
+            Phase rolledBack = newPhase(project, PhaseType.DESIGN, "2032-07-01", "2032-07-31", PhaseStatus.NOT_STARTED);
+            transaction.executeWithoutResult(status -> {
+                phaseService.createPhase(rolledBack);
+                assertFalse(ids(phaseScheduleIndex.findActiveOn(day)).contains(rolledBack.getId()));
+                status.setRollbackOnly();
+            });
+            assertFalse(ids(phaseScheduleIndex.findActiveOn(day)).contains(rolledBack.getId()));
+
+            // コミットした作成はコミット後に反映される
+            Phase committed = newPhase(project, PhaseType.TESTING, "2032-07-01", "2032-07-31", PhaseStatus.NOT_STARTED);
+            transaction.executeWithoutResult(status -> {
+                phaseService.createPhase(committed);
+                assertFalse(ids(phaseScheduleIndex.findActiveOn(day)).contains(committed.getId()));
+            });
+            assertTrue(ids(phaseScheduleIndex.findActiveOn(day)).contains(committed.getId()));
+
+            // 再構築後の内容も増分更新の結果と一致する
+            phaseScheduleIndex.rebuild();
+            List<Long> rebuilt = ids(phaseScheduleIndex.findActiveOn(day));
+            assertTrue(rebuilt.contains(committed.getId()));
+            assertFalse(rebuilt.contains(rolledBack.getId()));
+            System.out.println("✓ Only committed writes are indexed");
+        } finally {
+            projectService.deleteProject(project.getId());
+        }
+    }
+
+    /**
+     * 計画期間が逆転した工程が登録されず、インデックスにも追加されない（検索を失敗させない）ことをテスト
+     */
+    @Test
+    void testInvertedPlannedRangeIsRejectedAndNotIndexed() {
+        System.out.println("\n=== Phase Schedule Index Inverted Range Test ===");
+
+        Project project = new Project(null, "日程逆転プロジェクト", 1L);
+        projectMapper.insert(project);
+        try {
+            phaseScheduleIndex.rebuild();
+            Phase inverted = newPhase(project, PhaseType.DESIGN, "2033-02-01", "2033-01-01", PhaseStatus.NOT_STARTED);
+
+            // サービスとCHECK制約の両方で拒否される
+            assertThrows(IllegalArgumentException.class, () -> phaseService.createPhase(inverted));
+            assertThrows(DataIntegrityViolationException.class, () -> phaseMapper.insert(inverted));
+
+            // 逆転した行が渡されても増分更新は失敗せず、索引対象外となる
+            PhaseRecord invertedRecord = new PhaseRecord(Long.MAX_VALUE, project.getId(), PhaseType.DESIGN,
+                    LocalDate.of(2033, 2, 1), LocalDate.of(2033, 1, 1), null, null,
+                    PhaseStatus.NOT_STARTED, null, null, null);
+            assertDoesNotThrow(() -> phaseScheduleIndex.put(invertedRecord));
+
+            Phase valid = newPhase(project, PhaseType.TESTING, "2033-01-01", "2033-01-31", PhaseStatus.NOT_STARTED);
+            phaseService.createPhase(valid);
+            assertEquals(List.of(valid.getId()), ids(phaseScheduleIndex.findPlannedBetween(project.getId(),
+                    LocalDate.of(2033, 1, 1), LocalDate.of(2033, 12, 31))));
+            assertFalse(ids(phaseScheduleIndex.findActiveOn(LocalDate.of(2033, 1, 15))).contains(Long.MAX_VALUE));
+            System.out.println("✓ Inverted planned range is rejected and skipped");
+        } finally {
+            phaseScheduleIndex.remove(Long.MAX_VALUE);
+            projectService.deleteProject(project.getId());
+        }
+    }
+}
@@ -0,0 +1,177 @@
+package com.example.mybatislearning.service;
+
+import com.example.mybatislearning.allocation.AllocationSegment;
+import com.example.mybatislearning.allocation.PersonAllocationTimeline;
+import com.example.mybatislearning.entity.Person;
+import com.example.mybatislearning.entity.Project;
+import com.example.mybatislearning.entity.ProjectMember;
+import com.example.mybatislearning.enums.MemberRole;
+import com.example.mybatislearning.mapper.PersonMapper;
+import com.example.mybatislearning.mapper.ProjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * AllocationTimelineServiceTest
+ * project_membersからの稼働タイムライン構築と過剰アサイン検出をテスト
+ */
+@SpringBootTest
+@Transactional
+class AllocationTimelineServiceTest {
+
+    @Autowired
+    private AllocationTimelineService allocationTimelineService;
+
+    @Autowired
+    private ProjectMemberService projectMemberService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ProjectMapper projectMapper;
+
+    @Autowired
+    private PersonMapper personMapper;
+
+    private ProjectMember newMember(Project project, Person person, String join, String leave, String rate) {
+        ProjectMember member = new ProjectMember();
+        member.setProjectId(project.getId());
+        member.setPersonId(person.getId());
+        member.setRole(MemberRole.DEVELOPER);
+        member.setJoinDate(LocalDate.parse(join));
+        member.setLeaveDate(leave == null ? null : LocalDate.parse(leave));
+        member.setAllocationRate(new BigDecimal(rate));
+        return member;
+    }
+
+    /**
+     * 複数プロジェクトへの参画から過剰アサインが検出されることをテスト
+     */
+    @Test
+    void testTimelineAndOverAllocationDetection() {
+        System.out.println("\n=== Allocation Timeline Test ===");
+
+        Project project1 = new Project(null, "稼働プロジェクト1", 1L);
+        Project project2 = new Project(null, "稼働プロジェクト2", 1L);
+        projectMapper.insert(project1);
+        projectMapper.insert(project2);
+        Person busy = new Person(null, "多忙太郎", "busy@example.com", "エンジニア", "開発部");
+        Person normal = new Person(null, "通常花子", "normal@example.com", "エンジニア", "開発部");
+        personMapper.insert(busy);
+        personMapper.insert(normal);
+
+        // 参画の追加でインデックスは破棄され、次回の検索時に再構築される
+        projectMemberService.addMembers(List.of(
+                newMember(project1, busy, "2024-04-01", "2024-09-30", "0.75"),
+                newMember(project2, busy, "2024-07-01", null, "0.50"),
+                newMember(project1, normal, "2024-04-01", "2024-06-30", "0.50"),
+                newMember(project2, normal, "2024-07-01", "2024-12-31", "0.50")));
+
+        assertEquals(0, new BigDecimal("1.25").compareTo(
+                allocationTimelineService.getAllocationOn(busy.getId(), LocalDate.of(2024, 8, 1))));
+        assertEquals(0, new BigDecimal("0.50").compareTo(
+                allocationTimelineService.getAllocationOn(normal.getId(), LocalDate.of(2024, 8, 1))));
+
+        List<AllocationSegment> overAllocations = allocationTimelineService.findOverAllocations();
+        overAllocations.forEach(s -> System.out.println("  over: " + s));
+        assertTrue(overAllocations.stream().anyMatch(s -> s.getPersonId().equals(busy.getId())
+                && s.getStartDate().equals(LocalDate.of(2024, 7, 1))
+                && s.getEndDate().equals(LocalDate.of(2024, 9, 30))));
+        assertTrue(overAllocations.stream().noneMatch(s -> s.getPersonId().equals(normal.getId())));
+
+        List<AllocationSegment> range = allocationTimelineService.getAllocations(
+                busy.getId(), LocalDate.of(2024, 9, 1), LocalDate.of(2024, 10, 31));
+        assertEquals(2, range.size());
+        assertNull(range.get(1).getEndDate());
+
+        // 参画がない人は空のタイムライン
+        assertTrue(allocationTimelineService.getTimeline(-1L).getSegments().isEmpty());
+
+        System.out.println("=== Allocation Timeline Test Completed ===\n");
+    }
+
+    /**
+     * プロジェクトの削除（project_membersのカスケード削除）がタイムラインに反映されることをテスト
+     */
+    @Test
+    void testDeletedProjectIsRemovedFromTimeline() {
+        System.out.println("\n=== Allocation Timeline Project Delete Test ===");
+
+        Project kept = new Project(null, "継続プロジェクト", 1L);
+        Project deleted = new Project(null, "削除プロジェクト", 1L);
+        projectMapper.insert(kept);
+        projectMapper.insert(deleted);
+        Person person = new Person(null, "削除確認太郎", "delete-timeline@example.com", "エンジニア", "開発部");
+        personMapper.insert(person);
+        projectMemberService.addMembers(List.of(
+                newMember(kept, person, "2025-01-01", "2025-12-31", "0.75"),
+                newMember(deleted, person, "2025-01-01", "2025-12-31", "0.50")));
+        LocalDate day = LocalDate.of(2025, 6, 1);
+        assertEquals(0, new BigDecimal("1.25").compareTo(allocationTimelineService.getAllocationOn(person.getId(), day)));
+
+        projectService.deleteProject(deleted.getId());
+
+        assertEquals(0, new BigDecimal("0.75").compareTo(allocationTimelineService.getAllocationOn(person.getId(), day)));
+        assertTrue(allocationTimelineService.findOverAllocations().stream()
+                .noneMatch(s -> s.getPersonId().equals(person.getId())));
+
+        System.out.println("=== Allocation Timeline Project Delete Test Completed ===\n");
+    }
+
+    /**
+     * 破棄後に同時に検索しても、共有のインデックスは1回だけ構築されることをテスト
+     */
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void testConcurrentQueriesShareOneBuild() throws Exception {
+        Project project = new Project(null, "同時構築プロジェクト", 1L);
+        projectMapper.insert(project);
+        Person person = new Person(null, "同時構築花子", "single-flight@example.com", "エンジニア", "開発部");
+        personMapper.insert(person);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            projectMemberService.addMembers(List.of(newMember(project, person, "2025-01-01", null, "0.50")));
+            allocationTimelineService.invalidate();
+
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<PersonAllocationTimeline>> futures = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                futures.add(executor.submit(() -> {
+                    start.await();
+                    return allocationTimelineService.getTimeline(person.getId());
+                }));
+            }
+            start.countDown();
+            // 全員が同じ構築結果（同じインスタンス）を受け取る
+            Set<PersonAllocationTimeline> timelines = Collections.newSetFromMap(new IdentityHashMap<>());
+            for (Future<PersonAllocationTimeline> future : futures) {
+                timelines.add(future.get());
+            }
+            assertEquals(1, timelines.size());
+        } finally {
+            executor.shutdownNow();
+            projectService.deleteProject(project.getId());
+            personMapper.deleteById(person.getId());
+        }
+        // トランザクション外の削除も共有のインデックスに反映される
+        assertTrue(allocationTimelineService.getTimeline(person.getId()).getSegments().isEmpty());
+    }
+}
@@ -1,6 +1,7 @@
 package com.example.mybatislearning.service;
 
 import com.example.mybatislearning.entity.Organization;
+import com.example.mybatislearning.readmodel.OrganizationRecord;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
@@ -53,7 +54,7 @@ class OrganizationServiceTest {
     @Test
     void testGetAllOrganizations() {
         // サービス層経由でALL取得
-        List<Organization> organizations = organizationService.getAllOrganizations();
+        List<OrganizationRecord> organizations = organizationService.getAllOrganizations();
 
         // リストが空でないことを確認
         assertNotNull(organizations);
@@ -1,11 +1,14 @@
 package com.example.mybatislearning.service;
 
 import com.example.mybatislearning.entity.Person;
+import com.example.mybatislearning.pagination.KeysetPage;
+import com.example.mybatislearning.readmodel.PersonRecord;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -78,9 +81,9 @@ class PersonServiceTest {
         personService.createPerson(person2);
 
         // Find All
-        List<Person> allPersons = personService.findAll();
+        List<PersonRecord> allPersons = personService.findAll();
         System.out.println("All Persons: " + allPersons.size() + " records");
-        for (Person p : allPersons) {
+        for (PersonRecord p : allPersons) {
             System.out.println("  - " + p);
         }
 
@@ -91,6 +94,92 @@ class PersonServiceTest {
         System.out.println("=== PersonService FindAll Test Completed ===\n");
     }
 
+    /**
+     * Personの一括作成をテスト
+     */
+    @Test
+    void testCreatePersons() {
+        System.out.println("\n=== PersonService CreatePersons Test ===");
+
+        // Create
+        List<Person> persons = new ArrayList<>();
+        for (int i = 1; i <= 3; i++) {
+            persons.add(new Person(null, "一括" + i, "batch" + i + "@example.com", "開発者", "開発部"));
+        }
+        personService.createPersons(persons);
+
+        // 検証: 全件にIDが設定され、DBから取得できること
+        for (Person person : persons) {
+            assertNotNull(person.getId());
+            System.out.println("Created: " + person);
+            assertEquals(person.getEmail(), personService.findById(person.getId()).getEmail());
+        }
+
+        System.out.println("=== PersonService CreatePersons Test Completed ===\n");
+    }
+
+    /**
+     * 一括作成時に不正なメールアドレスが含まれる場合、1件も書き込まれないことをテスト
+     */
+    @Test
+    void testCreatePersons_InvalidEmail() {
+        List<Person> persons = List.of(
+                new Person(null, "有効", "valid-batch@example.com", "開発者", "開発部"),
+                new Person(null, "無効", "invalid-email", "開発者", "開発部"));
+
+        assertThrows(IllegalArgumentException.class, () -> personService.createPersons(persons));
+        assertNull(personService.findByEmail("valid-batch@example.com"));
+    }
+
+    /**
+     * Personのキーセットページングをテスト
+     */
+    @Test
+    void testFindPage() {
+        System.out.println("\n=== PersonService FindPage Test ===");
+
+        // 事前データ作成
+        for (int i = 1; i <= 5; i++) {
+            personService.createPerson(new Person(null, "ページ" + i, "page" + i + "@example.com", "開発者", "開発部"));
+        }
+        int total = personService.findAll().size();
+
+        // 継続トークンをたどって全件を取得
+        int fetched = 0;
+        int pages = 0;
+        Long previousId = 0L;
+        String token = null;
+        do {
+            KeysetPage<PersonRecord> page = personService.findPage(token, 2);
+            for (PersonRecord p : page.getItems()) {
+                // ID昇順で重複なく取得されることを確認
+                assertTrue(p.id() > previousId);
+                previousId = p.id();
+            }
+            fetched += page.getItems().size();
+            pages++;
+            token = page.getNextPageToken();
+        } while (token != null);
+
+        // 検証
+        assertEquals(total, fetched);
+        assertEquals((total + 1) / 2, pages);
+        System.out.println("Fetched " + fetched + " records in " + pages + " pages");
+
+        System.out.println("=== PersonService FindPage Test Completed ===\n");
+    }
+
+    /**
+     * 不正なページトークンとlimitをテスト
+     */
+    @Test
+    void testFindPage_InvalidArguments() {
+        assertThrows(IllegalArgumentException.class, () -> personService.findPage("not-a-token", 10));
+        assertThrows(IllegalArgumentException.class, () -> personService.findPage(null, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> personService.findPage(null, KeysetPage.MAX_LIMIT + 1));
+    }
+
     /**
      * PersonのfindByEmail検索をテスト
      */
@@ -5,12 +5,14 @@ import com.example.mybatislearning.entity.Project;
 import com.example.mybatislearning.enums.PhaseStatus;
 import com.example.mybatislearning.enums.PhaseType;
 import com.example.mybatislearning.mapper.ProjectMapper;
+import com.example.mybatislearning.readmodel.PhaseRecord;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -133,9 +135,9 @@ class PhaseServiceTest {
         phaseService.createPhase(phase2);
 
         // Find All
-        List<Phase> allPhases = phaseService.findAll();
+        List<PhaseRecord> allPhases = phaseService.findAll();
         System.out.println("All Phases: " + allPhases.size() + " records");
-        for (Phase p : allPhases) {
+        for (PhaseRecord p : allPhases) {
             System.out.println("  - " + p);
         }
 
@@ -146,6 +148,69 @@ class PhaseServiceTest {
         System.out.println("=== PhaseService FindAll Test Completed ===\n");
     }
 
+    /**
+     * Phaseの一括作成をテスト
+     */
+    @Test
+    void testCreatePhases() {
+        System.out.println("\n=== PhaseService CreatePhases Test ===");
+
+        // 事前データ作成
+        Project project = createTestProject("サービステストプロジェクトBatch");
+
+        List<Phase> phases = new ArrayList<>();
+        for (PhaseType type : PhaseType.values()) {
+            Phase phase = new Phase();
+            phase.setProjectId(project.getId());
+            phase.setPhaseType(type);
+            phase.setPlannedStartDate(LocalDate.of(2024, 1, 1));
+            phase.setPlannedEndDate(LocalDate.of(2024, 12, 31));
+            phase.setStatus(PhaseStatus.NOT_STARTED);
+            phases.add(phase);
+        }
+
+        // Create
+        phaseService.createPhases(phases);
+
+        // 検証: 全件にIDが設定され、プロジェクトIDで取得できること
+        phases.forEach(phase -> assertNotNull(phase.getId()));
+        List<PhaseRecord> found = phaseService.findByProjectId(project.getId());
+        System.out.println("Created Phases: " + found.size() + " records");
+        assertEquals(phases.size(), found.size());
+
+        System.out.println("=== PhaseService CreatePhases Test Completed ===\n");
+    }
+
+    /**
+     * PhaseのstreamAll（Cursor読み取り）をテスト
+     */
+    @Test
+    void testStreamAllPhases() {
+        System.out.println("\n=== PhaseService StreamAll Test ===");
+
+        // 事前データ作成
+        Project project = createTestProject("サービステストプロジェクトStream");
+
+        Phase phase = new Phase();
+        phase.setProjectId(project.getId());
+        phase.setPhaseType(PhaseType.RELEASE);
+        phase.setPlannedStartDate(LocalDate.of(2024, 7, 1));
+        phase.setPlannedEndDate(LocalDate.of(2024, 7, 31));
+        phase.setStatus(PhaseStatus.NOT_STARTED);
+        phaseService.createPhase(phase);
+
+        // Stream All
+        List<Long> ids = new ArrayList<>();
+        long count = phaseService.streamAll(p -> ids.add(p.getId()));
+        System.out.println("Streamed Phases: " + count + " records");
+
+        // 検証
+        assertEquals(phaseService.findAll().size(), count);
+        assertTrue(ids.contains(phase.getId()));
+
+        System.out.println("=== PhaseService StreamAll Test Completed ===\n");
+    }
+
     /**
      * PhasefindByProjectId検索をテスト
      */
@@ -176,9 +241,9 @@ class PhaseServiceTest {
         phaseService.createPhase(phase2);
 
         // Find by ProjectId
-        List<Phase> foundPhases = phaseService.findByProjectId(project.getId());
+        List<PhaseRecord> foundPhases = phaseService.findByProjectId(project.getId());
         System.out.println("Found by ProjectId: " + foundPhases.size() + " records");
-        for (Phase p : foundPhases) {
+        for (PhaseRecord p : foundPhases) {
             System.out.println("  - " + p);
         }
 
@@ -0,0 +1,116 @@
+package com.example.mybatislearning.service;
+
+import com.example.mybatislearning.entity.Industry;
+import com.example.mybatislearning.entity.Person;
+import com.example.mybatislearning.entity.Phase;
+import com.example.mybatislearning.entity.Project;
+import com.example.mybatislearning.entity.ProjectMember;
+import com.example.mybatislearning.entity.ProjectTechnology;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ProjectAggregateServiceTest
+ * 並列取得で組み立てたProjectが順次取得（ProjectService.findProjectWithAllRelations）と一致することをテスト
+ *
+ * <p>各読み取りは別スレッドのトランザクションで実行されるため、テストトランザクションではなく合成データ（コミット済み）を使用する。</p>
+ */
+@SpringBootTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:project_aggregate;DB_CLOSE_DELAY=-1",
+        "app.datagen.enabled=true",
+        "app.datagen.projects=20"
+})
+class ProjectAggregateServiceTest {
+
+    @Autowired
+    private ProjectAggregateService projectAggregateService;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private ProjectAggregateProperties properties;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private static List<Long> ids(List<?> entities) {
+        return entities.stream().map(entity -> {
+            if (entity instanceof Phase phase) {
+                return phase.getId();
+            }
+            if (entity instanceof ProjectMember member) {
+                return member.getId();
+            }
+            return ((ProjectTechnology) entity).getId();
+        }).toList();
+    }
+
+    private static Long industryId(Industry industry) {
+        return industry != null ? industry.getId() : null;
+    }
+
+    private static Long personId(Person person) {
+        return person != null ? person.getId() : null;
+    }
+
+    @Test
+    void aggregateMatchesSequentialLoad() {
+        System.out.println("\n=== Project Aggregate Test ===");
+
+        // 初期データ（Industry・人物が未設定）と合成データ（設定済み）の両方を確認する
+        List<Long> projectIds = jdbcTemplate.queryForList(
+                "(SELECT id FROM projects WHERE industry_id IS NULL ORDER BY id LIMIT 1) UNION ALL "
+                        + "(SELECT id FROM projects WHERE industry_id IS NOT NULL AND project_manager_id IS NOT NULL "
+                        + "AND technical_lead_id IS NOT NULL ORDER BY id LIMIT 4)", Long.class);
+        assertEquals(5, projectIds.size());
+        for (Long id : projectIds) {
+            Project expected = projectService.findProjectWithAllRelations(id);
+            Project actual = projectAggregateService.findProjectAggregate(id);
+
+            assertEquals(expected.getProjectName(), actual.getProjectName());
+            assertEquals(expected.getVersion(), actual.getVersion());
+            assertEquals(expected.getIndustryId(), industryId(actual.getIndustry()));
+            assertEquals(industryId(expected.getIndustry()), industryId(actual.getIndustry()));
+            assertEquals(personId(expected.getProjectManager()), personId(actual.getProjectManager()));
+            assertEquals(personId(expected.getTechnicalLead()), personId(actual.getTechnicalLead()));
+            assertEquals(ids(expected.getPhases()), ids(actual.getPhases()));
+            assertEquals(ids(expected.getProjectMembers()), ids(actual.getProjectMembers()));
+            assertEquals(ids(expected.getProjectTechnologies()), ids(actual.getProjectTechnologies()));
+            assertTrue(actual.getProjectMembers().stream().map(ProjectMember::getPerson).allMatch(Objects::nonNull));
+        }
+        System.out.println("Aggregate: " + projectAggregateService.findProjectAggregate(projectIds.get(0)));
+
+        System.out.println("=== Test Completed ===\n");
+    }
+
+    @Test
+    void missingProjectReturnsNull() {
+        assertNull(projectAggregateService.findProjectAggregate(-1L));
+    }
+
+    @Test
+    void subtaskTimeoutIsReported() {
+        Long id = jdbcTemplate.queryForObject("SELECT MIN(id) FROM projects", Long.class);
+        Map<String, Long> original = Map.copyOf(properties.getTimeouts());
+        try {
+            // 0ミリ秒のタイムアウトは読み取りの完了前に必ず失敗する
+            properties.getTimeouts().put(ProjectAggregateService.PHASES, 0L);
+            QueryTimeoutException e = assertThrows(QueryTimeoutException.class,
+                    () -> projectAggregateService.findProjectAggregate(id));
+            assertTrue(e.getMessage().contains("'phases'"));
+        } finally {
+            properties.getTimeouts().clear();
+            properties.getTimeouts().putAll(original);
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package com.example.mybatislearning.service;
+
+import com.example.mybatislearning.entity.Person;
+import com.example.mybatislearning.entity.Project;
+import com.example.mybatislearning.entity.ProjectMember;
+import com.example.mybatislearning.enums.MemberRole;
+import com.example.mybatislearning.mapper.PersonMapper;
+import com.example.mybatislearning.mapper.ProjectMapper;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ProjectMemberServiceTest
+ * ProjectMemberServiceの一括検索・一括追加と入力検証をテスト
+ */
+@SpringBootTest
+@Transactional
+class ProjectMemberServiceTest {
+
+    @Autowired
+    private ProjectMemberService projectMemberService;
+
+    @Autowired
+    private ProjectMapper projectMapper;
+
+    @Autowired
+    private PersonMapper personMapper;
+
+    /**
+     * テスト用のProjectを作成するヘルパーメソッド
+     */
+    private Project createTestProject(String name) {
+        Project project = new Project(null, name, 1L);
+        projectMapper.insert(project);
+        return project;
+    }
+
+    /**
+     * テスト用のPersonを作成するヘルパーメソッド
+     */
+    private Person createTestPerson(String name, String email) {
+        Person person = new Person(null, name, email, "エンジニア", "開発部");
+        personMapper.insert(person);
+        return person;
+    }
+
+    /**
+     * テスト用のProjectMemberを組み立てるヘルパーメソッド（未登録）
+     */
+    private ProjectMember newMember(Project project, Person person, MemberRole role, String rate, LocalDate joinDate) {
+        ProjectMember member = new ProjectMember();
+        member.setProjectId(project.getId());
+        member.setPersonId(person.getId());
+        member.setRole(role);
+        member.setJoinDate(joinDate);
+        member.setAllocationRate(new BigDecimal(rate));
+        return member;
+    }
+
+    /**
+     * 一括追加と、プロジェクトID・Person IDによる一括検索をテスト
+     */
+    @Test
+    void testAddMembersAndBulkLookups() {
+        System.out.println("\n=== ProjectMemberService Bulk Test ===");
+
+        List<Project> projects = new ArrayList<>();
+        for (int i = 0; i < 3; i++) {
+            projects.add(createTestProject("要員配置プロジェクト" + i));
+        }
+        Person alice = createTestPerson("要員A", "staff-a@example.com");
+        Person bob = createTestPerson("要員B", "staff-b@example.com");
+
+        List<ProjectMember> members = List.of(
+                newMember(projects.get(0), alice, MemberRole.PROJECT_MANAGER, "0.50", LocalDate.of(2024, 4, 1)),
+                newMember(projects.get(0), bob, MemberRole.DEVELOPER, "1.00", LocalDate.of(2024, 4, 1)),
+                newMember(projects.get(1), alice, MemberRole.ADVISOR, "0.25", LocalDate.of(2024, 1, 1)));
+        projectMemberService.addMembers(members);
+
+        // 検証: 生成されたIDが設定されること
+        members.forEach(m -> assertNotNull(m.getId()));
+
+        // プロジェクトID単位: 入力順で、メンバーのいないプロジェクトは空リスト
+        Map<Long, List<ProjectMember>> byProject = projectMemberService.findByProjectIds(List.of(
+                projects.get(2).getId(), projects.get(0).getId(), projects.get(1).getId(), projects.get(0).getId()));
+        byProject.forEach((id, list) -> System.out.println("  project " + id + ": " + list.size() + " members"));
+        assertEquals(List.of(projects.get(2).getId(), projects.get(0).getId(), projects.get(1).getId()),
+                new ArrayList<>(byProject.keySet()));
+        assertTrue(byProject.get(projects.get(2).getId()).isEmpty());
+        assertEquals(2, byProject.get(projects.get(0).getId()).size());
+        assertEquals("要員B", byProject.get(projects.get(0).getId()).get(1).getPerson().getName());
+
+        // Person ID単位: 参画日順
+        Map<Long, List<ProjectMember>> byPerson = projectMemberService.findByPersonIds(
+                List.of(alice.getId(), bob.getId()));
+        List<ProjectMember> aliceHistory = byPerson.get(alice.getId());
+        assertEquals(2, aliceHistory.size());
+        assertEquals(MemberRole.ADVISOR, aliceHistory.get(0).getRole());
+        assertEquals(MemberRole.PROJECT_MANAGER, aliceHistory.get(1).getRole());
+        assertEquals(1, byPerson.get(bob.getId()).size());
+
+        // 空の入力ではクエリを発行せず空のMapを返す
+        assertTrue(projectMemberService.findByProjectIds(List.of()).isEmpty());
+
+        System.out.println("=== ProjectMemberService Bulk Test Completed ===\n");
+    }
+
+    /**
+     * 更新と削除をテスト
+     */
+    @Test
+    void testUpdateAndRemoveMember() {
+        Project project = createTestProject("要員配置プロジェクト更新");
+        Person person = createTestPerson("要員C", "staff-c@example.com");
+        ProjectMember member = newMember(project, person, MemberRole.DEVELOPER, "0.50", LocalDate.of(2024, 4, 1));
+        projectMemberService.addMember(member);
+
+        member.setLeaveDate(LocalDate.of(2024, 9, 30));
+        member.setAllocationRate(new BigDecimal("0.75"));
+        projectMemberService.updateMember(member);
+        ProjectMember updated = projectMemberService.findById(member.getId());
+        assertEquals(LocalDate.of(2024, 9, 30), updated.getLeaveDate());
+        assertEquals(0, new BigDecimal("0.75").compareTo(updated.getAllocationRate()));
+
+        projectMemberService.removeMember(member.getId());
+        assertNull(projectMemberService.findById(member.getId()));
+    }
+
+    /**
+     * 不正な入力は1件も登録されずに拒否されることをテスト
+     */
+    @Test
+    void testAddMembers_InvalidInputRejectsWholeBatch() {
+        Project project = createTestProject("要員配置プロジェクト検証");
+        Person person = createTestPerson("要員D", "staff-d@example.com");
+
+        ProjectMember valid = newMember(project, person, MemberRole.DEVELOPER, "0.50", LocalDate.of(2024, 4, 1));
+        ProjectMember overAllocated = newMember(project, person, MemberRole.TESTER, "1.50", LocalDate.of(2024, 4, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> projectMemberService.addMembers(List.of(valid, overAllocated)));
+        assertNull(valid.getId());
+
+        ProjectMember leavesBeforeJoining = newMember(project, person, MemberRole.TESTER, "0.50",
+                LocalDate.of(2024, 4, 1));
+        leavesBeforeJoining.setLeaveDate(LocalDate.of(2024, 3, 31));
+        assertThrows(IllegalArgumentException.class, () -> projectMemberService.addMember(leavesBeforeJoining));
+
+        ProjectMember noRole = newMember(project, person, null, "0.50", LocalDate.of(2024, 4, 1));
+        assertThrows(IllegalArgumentException.class, () -> projectMemberService.addMember(noRole));
+
+        assertTrue(projectMemberService.findByProjectIds(List.of(project.getId())).get(project.getId()).isEmpty());
+    }
+}
@@ -1,12 +1,30 @@
 package com.example.mybatislearning.service;
 
+import com.example.mybatislearning.dto.ProjectSearchCriteria;
+import com.example.mybatislearning.entity.Industry;
+import com.example.mybatislearning.entity.Person;
+import com.example.mybatislearning.entity.Phase;
 import com.example.mybatislearning.entity.Project;
+import com.example.mybatislearning.entity.ProjectMember;
+import com.example.mybatislearning.entity.ProjectTechnology;
+import com.example.mybatislearning.entity.Technology;
+import com.example.mybatislearning.enums.MemberRole;
+import com.example.mybatislearning.enums.PhaseStatus;
+import com.example.mybatislearning.enums.PhaseType;
+import com.example.mybatislearning.enums.TechnologyCategory;
+import com.example.mybatislearning.mapper.ProjectMemberMapper;
+import com.example.mybatislearning.mapper.ProjectTechnologyMapper;
+import com.example.mybatislearning.readmodel.ProjectRecord;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.TimeUnit;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -21,6 +39,24 @@ class ProjectServiceTest {
     @Autowired
     private ProjectService projectService;
 
+    @Autowired
+    private IndustryService industryService;
+
+    @Autowired
+    private PersonService personService;
+
+    @Autowired
+    private PhaseService phaseService;
+
+    @Autowired
+    private TechnologyService technologyService;
+
+    @Autowired
+    private ProjectMemberMapper projectMemberMapper;
+
+    @Autowired
+    private ProjectTechnologyMapper projectTechnologyMapper;
+
     @Test
     void testCreateProject() {
         // 新しいProjectを作成
@@ -34,6 +70,35 @@ class ProjectServiceTest {
         System.out.println("Created via Service: " + project);
     }
 
+    @Test
+    void testCreateProjects() {
+        // 複数のProjectを一括作成
+        List<Project> projects = List.of(
+                new Project(null, "Batch Project 1", 1L),
+                new Project(null, "Batch Project 2", 2L));
+        projectService.createProjects(projects);
+
+        // 全件にIDが自動採番され、取得できることを確認
+        for (Project project : projects) {
+            assertNotNull(project.getId());
+            assertEquals(project.getProjectName(), projectService.getProject(project.getId()).getProjectName());
+        }
+        System.out.println("Created via Service (batch): " + projects);
+    }
+
+    @Test
+    void testCreateProjects_NegativeBudget() {
+        // 1件でもbudgetが負の場合は1件も書き込まれないことを確認
+        Project valid = new Project(null, "Valid Batch Project", 1L);
+        Project invalid = new Project(null, "Invalid Batch Project", 1L);
+        invalid.setBudget(new BigDecimal("-1"));
+        int before = projectService.getAllProjects().size();
+
+        assertThrows(IllegalArgumentException.class, () -> projectService.createProjects(List.of(valid, invalid)));
+        assertNull(valid.getId());
+        assertEquals(before, projectService.getAllProjects().size());
+    }
+
     @Test
     void testGetProject() {
         // テストデータを作成
@@ -68,15 +133,15 @@ class ProjectServiceTest {
     @Test
     void testGetProjectsByOrganization() {
         // 組織ID=1のProjectを取得
-        List<Project> projects = projectService.getProjectsByOrganization(1L);
+        List<ProjectRecord> projects = projectService.getProjectsByOrganization(1L);
 
         // リストが空でないことを確認
         assertNotNull(projects);
         assertFalse(projects.isEmpty());
 
         // すべてのProjectがorganizationId=1であることを確認
-        for (Project p : projects) {
-            assertEquals(1L, p.getOrganizationId());
+        for (ProjectRecord p : projects) {
+            assertEquals(1L, p.organizationId());
         }
         System.out.println("Projects for Organization 1 via Service: " + projects);
     }
@@ -84,7 +149,7 @@ class ProjectServiceTest {
     @Test
     void testGetAllProjects() {
         // サービス層経由でALL取得
-        List<Project> projects = projectService.getAllProjects();
+        List<ProjectRecord> projects = projectService.getAllProjects();
 
         // リストが空でないことを確認
         assertNotNull(projects);
@@ -130,4 +195,160 @@ class ProjectServiceTest {
         assertNull(deleted);
         System.out.println("Deleted via Service, ID: " + projectId);
     }
+
+    @Test
+    void testStreamAll() {
+        // テストデータを作成
+        projectService.createProject(new Project(null, "Stream Test Project", 1L));
+        int expected = projectService.getAllProjects().size();
+
+        // Cursor経由で1件ずつ処理し、ID昇順で全件が渡されることを確認
+        List<Long> ids = new ArrayList<>();
+        long count = projectService.streamAll(p -> ids.add(p.getId()));
+
+        assertEquals(expected, count);
+        assertEquals(expected, ids.size());
+        for (int i = 1; i < ids.size(); i++) {
+            assertTrue(ids.get(i - 1) < ids.get(i));
+        }
+        System.out.println("Streamed via Service: " + count + " projects");
+    }
+
+    @Test
+    void testSearchProjects_InvalidRanges() {
+        // 範囲条件の下限が上限を超える場合はエラー
+        ProjectSearchCriteria dateRange = new ProjectSearchCriteria();
+        dateRange.setPlannedStartFrom(LocalDate.of(2024, 12, 31));
+        dateRange.setPlannedStartTo(LocalDate.of(2024, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> projectService.searchProjects(dateRange));
+
+        ProjectSearchCriteria budgetRange = new ProjectSearchCriteria();
+        budgetRange.setBudgetMin(new BigDecimal("200"));
+        budgetRange.setBudgetMax(new BigDecimal("100"));
+        assertThrows(IllegalArgumentException.class, () -> projectService.searchProjects(budgetRange));
+
+        ProjectSearchCriteria limit = new ProjectSearchCriteria();
+        limit.setLimit(0);
+        assertThrows(IllegalArgumentException.class, () -> projectService.searchProjects(limit));
+    }
+
+    @Test
+    void testFindProjectsWithAllRelations() {
+        // リレーション先のデータを作成
+        Industry industry = new Industry(null, "製造", "製造業");
+        industryService.createIndustry(industry);
+        Person pm = new Person(null, "一括PM", "bulk-pm@example.com", "PM", "PMO");
+        Person tl = new Person(null, "一括TL", "bulk-tl@example.com", "Tech Lead", "技術部");
+        personService.createPerson(pm);
+        personService.createPerson(tl);
+
+        // 同じ人物・業界を参照する複数のProjectを作成
+        Project first = new Project(null, "Bulk Relations 1", 1L);
+        first.setIndustryId(industry.getId());
+        first.setProjectManagerId(pm.getId());
+        first.setTechnicalLeadId(tl.getId());
+        Project second = new Project(null, "Bulk Relations 2", 1L);
+        second.setProjectManagerId(tl.getId());
+        projectService.createProject(first);
+        projectService.createProject(second);
+
+        // 引数の順序で取得され、重複IDと存在しないIDは無視されることを確認
+        List<Project> projects = projectService.findProjectsWithAllRelations(
+                List.of(second.getId(), first.getId(), second.getId(), 99999L));
+        assertEquals(2, projects.size());
+        assertEquals(second.getId(), projects.get(0).getId());
+        assertEquals(first.getId(), projects.get(1).getId());
+
+        // リレーションが設定されていることを確認
+        Project loadedFirst = projects.get(1);
+        assertEquals("製造", loadedFirst.getIndustry().getName());
+        assertEquals("一括PM", loadedFirst.getProjectManager().getName());
+        assertEquals("一括TL", loadedFirst.getTechnicalLead().getName());
+        Project loadedSecond = projects.get(0);
+        assertNull(loadedSecond.getIndustry());
+        assertEquals("一括TL", loadedSecond.getProjectManager().getName());
+        assertNull(loadedSecond.getTechnicalLead());
+        System.out.println("Projects with all relations via Service: " + projects);
+
+        // 空のコレクションの場合は空のリスト
+        assertTrue(projectService.findProjectsWithAllRelations(List.of()).isEmpty());
+    }
+
+    @Test
+    void testFindProjectsWithAllRelationsIncludesCollections() {
+        // 2つのProjectにそれぞれ工程・メンバー・技術を複数登録
+        Person member1 = new Person(null, "集約メンバー1", "aggregate1@example.com", "Engineer", "開発部");
+        Person member2 = new Person(null, "集約メンバー2", "aggregate2@example.com", "Engineer", "開発部");
+        personService.createPerson(member1);
+        personService.createPerson(member2);
+        Technology java = new Technology(null, "Java", TechnologyCategory.LANGUAGE, "言語");
+        Technology react = new Technology(null, "React", TechnologyCategory.FRAMEWORK, "UI");
+        technologyService.createTechnology(java);
+        technologyService.createTechnology(react);
+
+        List<Project> created = List.of(
+                new Project(null, "Aggregate Project 1", 1L),
+                new Project(null, "Aggregate Project 2", 1L));
+        projectService.createProjects(created);
+        for (Project project : created) {
+            for (PhaseType type : List.of(PhaseType.DESIGN, PhaseType.IMPLEMENTATION, PhaseType.TESTING)) {
+                Phase phase = new Phase();
+                phase.setProjectId(project.getId());
+                phase.setPhaseType(type);
+                phase.setPlannedStartDate(LocalDate.of(2024, 1, 1));
+                phase.setPlannedEndDate(LocalDate.of(2024, 3, 31));
+                phase.setStatus(PhaseStatus.NOT_STARTED);
+                phaseService.createPhase(phase);
+            }
+            for (Person person : List.of(member1, member2)) {
+                ProjectMember member = new ProjectMember();
+                member.setProjectId(project.getId());
+                member.setPersonId(person.getId());
+                member.setRole(MemberRole.DEVELOPER);
+                member.setJoinDate(LocalDate.of(2024, 1, 1));
+                member.setAllocationRate(new BigDecimal("0.50"));
+                projectMemberMapper.insert(member);
+            }
+            for (Technology technology : List.of(java, react)) {
+                ProjectTechnology projectTechnology = new ProjectTechnology();
+                projectTechnology.setProjectId(project.getId());
+                projectTechnology.setTechnologyId(technology.getId());
+                projectTechnology.setPurpose("開発");
+                projectTechnologyMapper.insert(projectTechnology);
+            }
+        }
+
+        // 直積にならず、各コレクションが正しい件数で設定されることを確認
+        List<Project> projects = projectService.findProjectsWithAllRelations(
+                List.of(created.get(0).getId(), created.get(1).getId()));
+        assertEquals(2, projects.size());
+        for (Project project : projects) {
+            assertEquals(3, project.getPhases().size());
+            assertEquals(2, project.getProjectMembers().size());
+            assertEquals(2, project.getProjectTechnologies().size());
+            project.getPhases().forEach(p -> assertEquals(project.getId(), p.getProjectId()));
+            assertEquals("集約メンバー1", project.getProjectMembers().get(0).getPerson().getName());
+            assertEquals("Java", project.getProjectTechnologies().get(0).getTechnology().getName());
+            System.out.println("Aggregate via Service: " + project);
+        }
+
+        // 単一取得でもコレクションが設定されることを確認
+        Project single = projectService.findProjectWithAllRelations(created.get(0).getId());
+        assertEquals(3, single.getPhases().size());
+        assertEquals(2, single.getProjectMembers().size());
+        assertEquals(2, single.getProjectTechnologies().size());
+    }
+
+    @Test
+    void testFindProjectWithAllRelationsAsync() throws Exception {
+        // 非同期メソッドは別スレッドの別トランザクションで実行されるため、コミット済みの初期データで確認
+        Project expected = projectService.findProjectWithAllRelations(1L);
+
+        Project project = projectService.findProjectWithAllRelationsAsync(1L).get(10, TimeUnit.SECONDS);
+
+        assertNotNull(project);
+        assertEquals(expected.getProjectName(), project.getProjectName());
+        assertEquals(expected.getPhases().size(), project.getPhases().size());
+        assertNull(projectService.findProjectWithAllRelationsAsync(-1L).get(10, TimeUnit.SECONDS));
+    }
 }
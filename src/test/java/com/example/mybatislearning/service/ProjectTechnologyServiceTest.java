@@ -0,0 +1,194 @@
+package com.example.mybatislearning.service;
+
+import com.example.mybatislearning.dto.IndustryTechnologyUsage;
+import com.example.mybatislearning.dto.TechnologyUsage;
+import com.example.mybatislearning.entity.Industry;
+import com.example.mybatislearning.entity.Project;
+import com.example.mybatislearning.entity.ProjectTechnology;
+import com.example.mybatislearning.entity.Technology;
+import com.example.mybatislearning.enums.TechnologyCategory;
+import com.example.mybatislearning.mapper.IndustryMapper;
+import com.example.mybatislearning.mapper.ProjectMapper;
+import com.example.mybatislearning.mapper.TechnologyMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ProjectTechnologyServiceTest
+ * ProjectTechnologyServiceの登録と技術採用状況の集計をテスト
+ */
+@SpringBootTest
+@Transactional
+class ProjectTechnologyServiceTest {
+
+    @Autowired
+    private ProjectTechnologyService projectTechnologyService;
+
+    @Autowired
+    private ProjectMapper projectMapper;
+
+    @Autowired
+    private IndustryMapper industryMapper;
+
+    @Autowired
+    private TechnologyMapper technologyMapper;
+
+    private Industry finance;
+    private Industry retail;
+    private Technology java;
+    private Technology spring;
+    private Technology postgres;
+    private Technology kotlin;
+
+    /**
+     * テスト用のIndustryを作成するヘルパーメソッド
+     */
+    private Industry createIndustry(String name) {
+        Industry industry = new Industry(null, name, name + "の説明");
+        industryMapper.insert(industry);
+        return industry;
+    }
+
+    /**
+     * テスト用のTechnologyを作成するヘルパーメソッド
+     */
+    private Technology createTechnology(String name, TechnologyCategory category) {
+        Technology technology = new Technology(null, name, category, name + "の説明");
+        technologyMapper.insert(technology);
+        return technology;
+    }
+
+    /**
+     * 業界に属するProjectを作成し、技術スタックを登録するヘルパーメソッド
+     */
+    private Project createProjectUsing(Industry industry, Technology... technologies) {
+        Project project = new Project(null, "技術集計プロジェクト", 1L);
+        project.setIndustryId(industry.getId());
+        projectMapper.insert(project);
+        List<ProjectTechnology> stack = new ArrayList<>();
+        for (Technology technology : technologies) {
+            ProjectTechnology projectTechnology = new ProjectTechnology();
+            projectTechnology.setProjectId(project.getId());
+            projectTechnology.setTechnologyId(technology.getId());
+            projectTechnology.setPurpose("開発");
+            stack.add(projectTechnology);
+        }
+        projectTechnologyService.addTechnologies(stack);
+        return project;
+    }
+
+    @BeforeEach
+    void setUp() {
+        finance = createIndustry("集計用金融");
+        retail = createIndustry("集計用小売");
+        java = createTechnology("集計用Java", TechnologyCategory.LANGUAGE);
+        spring = createTechnology("集計用Spring", TechnologyCategory.FRAMEWORK);
+        postgres = createTechnology("集計用PostgreSQL", TechnologyCategory.DATABASE);
+        kotlin = createTechnology("集計用Kotlin", TechnologyCategory.LANGUAGE);
+    }
+
+    private long countFor(List<TechnologyUsage> usages, Technology technology) {
+        return usages.stream()
+                .filter(u -> u.getTechnologyId().equals(technology.getId()))
+                .findFirst()
+                .orElseThrow()
+                .getProjectCount();
+    }
+
+    /**
+     * 技術ごと・カテゴリごとの採用プロジェクト数の集計をテスト
+     */
+    @Test
+    void testProjectCountsByTechnologyAndCategory() {
+        System.out.println("\n=== ProjectTechnology Aggregation Test ===");
+
+        Map<TechnologyCategory, Long> categoriesBefore = projectTechnologyService.getProjectCountsByCategory();
+        createProjectUsing(finance, java, spring, postgres);
+        createProjectUsing(finance, java, spring);
+        createProjectUsing(finance, java, kotlin);
+        createProjectUsing(retail, kotlin);
+        createProjectUsing(retail, kotlin, postgres);
+
+        List<TechnologyUsage> byTechnology = projectTechnologyService.getProjectCountsByTechnology();
+        byTechnology.forEach(u -> System.out.println("  - " + u));
+        assertEquals(3, countFor(byTechnology, java));
+        assertEquals(2, countFor(byTechnology, spring));
+        assertEquals(2, countFor(byTechnology, postgres));
+        assertEquals(3, countFor(byTechnology, kotlin));
+        // 採用数の降順で並ぶこと
+        for (int i = 1; i < byTechnology.size(); i++) {
+            assertTrue(byTechnology.get(i - 1).getProjectCount() >= byTechnology.get(i).getProjectCount());
+        }
+
+        // JavaとKotlinを両方使うプロジェクトはLANGUAGEで1件として数える
+        Map<TechnologyCategory, Long> categories = projectTechnologyService.getProjectCountsByCategory();
+        System.out.println("Categories: " + categories);
+        assertEquals(TechnologyCategory.values().length, categories.size());
+        assertEquals(5, categories.get(TechnologyCategory.LANGUAGE) - categoriesBefore.get(TechnologyCategory.LANGUAGE));
+        assertEquals(2, categories.get(TechnologyCategory.FRAMEWORK) - categoriesBefore.get(TechnologyCategory.FRAMEWORK));
+        assertEquals(2, categories.get(TechnologyCategory.DATABASE) - categoriesBefore.get(TechnologyCategory.DATABASE));
+
+        System.out.println("=== ProjectTechnology Aggregation Test Completed ===\n");
+    }
+
+    /**
+     * 業界別の上位N件の集計をテスト
+     */
+    @Test
+    void testTopTechnologiesByIndustry() {
+        createProjectUsing(finance, java, spring, postgres);
+        createProjectUsing(finance, java, spring);
+        createProjectUsing(finance, java, kotlin);
+        createProjectUsing(retail, kotlin);
+        createProjectUsing(retail, kotlin, postgres);
+
+        Map<Long, List<IndustryTechnologyUsage>> top = projectTechnologyService.getTopTechnologiesByIndustry(2);
+        top.forEach((industryId, usages) -> usages.forEach(u -> System.out.println("  - " + u)));
+
+        List<IndustryTechnologyUsage> financeTop = top.get(finance.getId());
+        assertEquals(2, financeTop.size());
+        assertEquals(java.getId(), financeTop.get(0).getTechnologyId());
+        assertEquals(1, financeTop.get(0).getRank());
+        assertEquals(3, financeTop.get(0).getProjectCount());
+        assertEquals(spring.getId(), financeTop.get(1).getTechnologyId());
+        assertEquals("集計用金融", financeTop.get(0).getIndustryName());
+
+        List<IndustryTechnologyUsage> retailTop = projectTechnologyService.getTopTechnologies(retail.getId(), 5);
+        assertEquals(2, retailTop.size());
+        assertEquals(kotlin.getId(), retailTop.get(0).getTechnologyId());
+        assertEquals(2, retailTop.get(0).getProjectCount());
+        assertEquals(TechnologyCategory.DATABASE, retailTop.get(1).getCategory());
+
+        assertThrows(IllegalArgumentException.class, () -> projectTechnologyService.getTopTechnologiesByIndustry(0));
+    }
+
+    /**
+     * 一括取得と削除、入力検証をテスト
+     */
+    @Test
+    void testFindByProjectIdsAndRemove() {
+        Project project = createProjectUsing(finance, java, spring);
+
+        List<ProjectTechnology> stack = projectTechnologyService.findByProjectIds(List.of(project.getId()))
+                .get(project.getId());
+        assertEquals(2, stack.size());
+        assertEquals("集計用Java", stack.get(0).getTechnology().getName());
+
+        projectTechnologyService.removeTechnology(stack.get(0).getId());
+        assertEquals(1, projectTechnologyService.findByProjectIds(List.of(project.getId())).get(project.getId()).size());
+
+        ProjectTechnology noPurpose = new ProjectTechnology();
+        noPurpose.setProjectId(project.getId());
+        noPurpose.setTechnologyId(kotlin.getId());
+        assertThrows(IllegalArgumentException.class, () -> projectTechnologyService.addTechnology(noPurpose));
+    }
+}
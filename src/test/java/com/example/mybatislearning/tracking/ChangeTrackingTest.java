@@ -0,0 +1,210 @@
+package com.example.mybatislearning.tracking;
+
+import com.example.mybatislearning.entity.Person;
+import com.example.mybatislearning.entity.Phase;
+import com.example.mybatislearning.entity.Project;
+import com.example.mybatislearning.enums.PhaseStatus;
+import com.example.mybatislearning.enums.PhaseType;
+import com.example.mybatislearning.enums.ProjectStatus;
+import com.example.mybatislearning.enums.ProjectType;
+import com.example.mybatislearning.mapper.PersonMapper;
+import com.example.mybatislearning.mapper.PhaseMapper;
+import com.example.mybatislearning.mapper.ProjectMapper;
+import com.example.mybatislearning.readmodel.PhaseRecord;
+import com.example.mybatislearning.service.PersonService;
+import com.example.mybatislearning.service.PhaseService;
+import com.example.mybatislearning.service.ProjectService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.transaction.TestTransaction;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * ChangeTrackingTest
+ * 変更された列の記録（ChangeTrackedEntity）と、サービスの更新が変更列だけを書き込むことをテスト
+ */
+@SpringBootTest
+@Transactional
+class ChangeTrackingTest {
+
+    @Autowired
+    private ProjectMapper projectMapper;
+
+    @Autowired
+    private PhaseMapper phaseMapper;
+
+    @Autowired
+    private PersonMapper personMapper;
+
+    @Autowired
+    private ProjectService projectService;
+
+    @Autowired
+    private PhaseService phaseService;
+
+    @Autowired
+    private PersonService personService;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private Project insertProject() {
+        Project project = new Project(null, "Tracking Project", 1L, "Customer A",
+                null, ProjectType.NEW_DEVELOPMENT, ProjectStatus.PLANNING);
+        projectMapper.insert(project);
+        return project;
+    }
+
+    @Test
+    void newInstancesRecordAssignedProperties() {
+        Project project = new Project(null, "Detached", 1L);
+        assertEquals(Set.of("projectName", "organizationId"), project.getChangedProperties());
+        assertFalse(project.isLoaded());
+
+        // DBの値が不明なため、同じ値の設定も変更として記録する
+        project.setCustomerName(null);
+        assertTrue(project.getChangedProperties().contains("customerName"));
+
+        // IDは記録の対象外
+        Person person = new Person();
+        person.setId(1L);
+        assertFalse(person.hasChanges());
+    }
+
+    @Test
+    void loadedInstancesRecordOnlyActualChanges() {
+        System.out.println("\n=== Loaded Change Tracking Test ===");
+
+        Project inserted = insertProject();
+        Project project = projectMapper.selectProjectWithAllRelations(inserted.getId());
+
+        assertTrue(project.isLoaded());
+        assertFalse(project.hasChanges());
+        project.setStatus(ProjectStatus.PLANNING);
+        assertFalse(project.hasChanges(), "同じ値の設定は変更として記録しない");
+
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        project.setBudget(null);
+        System.out.println("Changed: " + project.getChangedProperties());
+        assertEquals(Set.of("status"), project.getChangedProperties());
+
+        System.out.println("=== Test Completed ===\n");
+    }
+
+    @Test
+    void cursorRowsAreMarkedLoaded() {
+        Project inserted = insertProject();
+        List<Project> streamed = new ArrayList<>();
+        projectService.streamAll(project -> {
+            if (project.getId().equals(inserted.getId())) {
+                streamed.add(project);
+            }
+        });
+
+        assertEquals(1, streamed.size());
+        Project project = streamed.get(0);
+        assertTrue(project.isLoaded());
+        assertFalse(project.hasChanges());
+
+        // Cursorで読み込んだProjectも変更した列だけを更新する
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        assertEquals(Set.of("status"), project.getChangedProperties());
+        projectService.updateProject(project);
+        assertEquals(1, project.getVersion());
+        assertEquals("Customer A", jdbcTemplate.queryForObject(
+                "SELECT customer_name FROM projects WHERE id = ?", String.class, inserted.getId()));
+    }
+
+    @Test
+    void updateProjectWritesOnlyChangedColumns() {
+        System.out.println("\n=== Partial Update Test ===");
+
+        Project inserted = insertProject();
+        Project project = projectMapper.selectById(inserted.getId());
+
+        // 読み込み後に別の更新者がcustomer_nameを変更する
+        jdbcTemplate.update("UPDATE projects SET customer_name = 'Customer B' WHERE id = ?", project.getId());
+
+        project.setStatus(ProjectStatus.IN_PROGRESS);
+        projectService.updateProject(project);
+        assertFalse(project.hasChanges());
+
+        // statusだけが更新され、他の更新者の変更は上書きされない
+        assertEquals("Customer B", jdbcTemplate.queryForObject(
+                "SELECT customer_name FROM projects WHERE id = ?", String.class, project.getId()));
+        assertEquals((int) ProjectStatus.IN_PROGRESS.getCode(), jdbcTemplate.queryForObject(
+                "SELECT status FROM projects WHERE id = ?", Integer.class, project.getId()));
+
+        System.out.println("=== Test Completed ===\n");
+    }
+
+    @Test
+    void unchangedPersonIsNotWritten() {
+        Person person = new Person(null, "追跡太郎", "tracking@example.com", "開発者", "開発部");
+        personMapper.insert(person);
+        Person loaded = personMapper.selectById(person.getId());
+
+        jdbcTemplate.update("UPDATE persons SET department = '営業部' WHERE id = ?", person.getId());
+
+        // 変更がないためUPDATEは発行されない
+        personService.updatePerson(loaded);
+        assertEquals("営業部", jdbcTemplate.queryForObject(
+                "SELECT department FROM persons WHERE id = ?", String.class, person.getId()));
+
+        // メールアドレスを変更した場合のみ形式を検証する
+        loaded.setEmail("invalid");
+        assertThrows(IllegalArgumentException.class, () -> personService.updatePerson(loaded));
+    }
+
+    @Test
+    void detachedPhaseUpdatesOnlyAssignedColumnsAndRefreshesIndex() {
+        System.out.println("\n=== Detached Phase Update Test ===");
+
+        Project project = insertProject();
+        Phase phase = new Phase();
+        phase.setProjectId(project.getId());
+        phase.setPhaseType(PhaseType.TESTING);
+        phase.setPlannedStartDate(LocalDate.of(2031, 5, 1));
+        phase.setPlannedEndDate(LocalDate.of(2031, 5, 31));
+        phase.setStatus(PhaseStatus.NOT_STARTED);
+        phase.setDeliverables("テスト計画書");
+        phaseService.createPhase(phase);
+
+        // ID・バージョンと変更する列だけを設定した更新
+        Phase update = new Phase();
+        update.setId(phase.getId());
+        update.setVersion(phase.getVersion());
+        update.setStatus(PhaseStatus.IN_PROGRESS);
+        update.setActualStartDate(LocalDate.of(2031, 5, 2));
+        phaseService.updatePhase(update);
+
+        PhaseRecord stored = phaseMapper.selectRecordById(phase.getId());
+        System.out.println("Stored: " + stored);
+        assertEquals(PhaseStatus.IN_PROGRESS, stored.status());
+        assertEquals(LocalDate.of(2031, 5, 2), stored.actualStartDate());
+        assertEquals(PhaseType.TESTING, stored.phaseType());
+        assertEquals("テスト計画書", stored.deliverables());
+        assertEquals(LocalDate.of(2031, 5, 31), stored.plannedEndDate());
+
+        // 工程日程インデックスには読み直した行（計画日付を含む）がコミット後に反映される
+        assertFalse(phaseService.findActiveOn(LocalDate.of(2031, 5, 15)).contains(stored));
+        TestTransaction.flagForCommit();
+        TestTransaction.end();
+        try {
+            assertTrue(phaseService.findActiveOn(LocalDate.of(2031, 5, 15)).contains(stored));
+        } finally {
+            projectService.deleteProject(project.getId());
+        }
+
+        System.out.println("=== Test Completed ===\n");
+    }
+}
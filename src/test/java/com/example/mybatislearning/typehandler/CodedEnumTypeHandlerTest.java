@@ -0,0 +1,126 @@
+package com.example.mybatislearning.typehandler;
+
+import com.example.mybatislearning.entity.Project;
+import com.example.mybatislearning.enums.CodedEnum;
+import com.example.mybatislearning.enums.MemberRole;
+import com.example.mybatislearning.enums.PhaseStatus;
+import com.example.mybatislearning.enums.PhaseType;
+import com.example.mybatislearning.enums.ProjectStatus;
+import com.example.mybatislearning.enums.ProjectType;
+import com.example.mybatislearning.enums.TechnologyCategory;
+import com.example.mybatislearning.mapper.ProjectMapper;
+import org.apache.ibatis.session.SqlSessionFactory;
+import org.apache.ibatis.type.JdbcType;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * CodedEnumTypeHandlerTest
+ * Enumがコード値（SMALLINT）で読み書きされ、全Enumに既定ハンドラとして適用されることをテスト
+ */
+@SpringBootTest
+@Transactional
+class CodedEnumTypeHandlerTest {
+
+    private static final List<Class<? extends Enum<?>>> CODED_ENUMS = List.of(
+            ProjectStatus.class, ProjectType.class, PhaseStatus.class,
+            PhaseType.class, MemberRole.class, TechnologyCategory.class);
+
+    @Autowired
+    private SqlSessionFactory sqlSessionFactory;
+
+    @Autowired
+    private ProjectMapper projectMapper;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    private enum Duplicated implements CodedEnum {
+        A, B;
+
+        @Override
+        public short getCode() {
+            return 1;
+        }
+    }
+
+    private enum NotCoded {
+        A
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void everyConstantRoundTripsThroughItsCode() {
+        for (Class<? extends Enum<?>> type : CODED_ENUMS) {
+            CodedEnumTypeHandler handler = new CodedEnumTypeHandler(type);
+            for (Enum<?> constant : type.getEnumConstants()) {
+                assertSame(constant, handler.decode(((CodedEnum) constant).getCode()), type.getSimpleName());
+            }
+        }
+    }
+
+    @Test
+    void unknownCodeIsRejected() {
+        CodedEnumTypeHandler<PhaseStatus> handler = new CodedEnumTypeHandler<>(PhaseStatus.class);
+
+        assertThrows(IllegalArgumentException.class, () -> handler.decode(PhaseStatus.values().length));
+        assertThrows(IllegalArgumentException.class, () -> handler.decode(-1));
+    }
+
+    @Test
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    void invalidEnumDefinitionsAreRejected() {
+        assertThrows(IllegalArgumentException.class, () -> new CodedEnumTypeHandler(Duplicated.class));
+        assertThrows(IllegalArgumentException.class, () -> new CodedEnumTypeHandler(NotCoded.class));
+    }
+
+    @Test
+    void handlerIsRegisteredForAllEnums() {
+        var registry = sqlSessionFactory.getConfiguration().getTypeHandlerRegistry();
+        for (Class<? extends Enum<?>> type : CODED_ENUMS) {
+            assertInstanceOf(CodedEnumTypeHandler.class, registry.getTypeHandler(type), type.getSimpleName());
+            assertInstanceOf(CodedEnumTypeHandler.class, registry.getTypeHandler(type, JdbcType.SMALLINT),
+                    type.getSimpleName());
+        }
+    }
+
+    @Test
+    void enumsAreStoredAsCodes() {
+        System.out.println("\n=== Coded Enum Storage Test ===");
+
+        Project project = new Project(null, "Coded Enum Project", 1L, "Client",
+                null, ProjectType.PACKAGE, ProjectStatus.CANCELLED);
+        projectMapper.insert(project);
+
+        Map<String, Object> row = jdbcTemplate.queryForMap(
+                "SELECT project_type, status FROM projects WHERE id = ?", project.getId());
+        System.out.println("Stored: " + row);
+        assertEquals((int) ProjectType.PACKAGE.getCode(), ((Number) row.get("PROJECT_TYPE")).intValue());
+        assertEquals((int) ProjectStatus.CANCELLED.getCode(), ((Number) row.get("STATUS")).intValue());
+
+        Project loaded = projectMapper.selectById(project.getId());
+        assertEquals(ProjectType.PACKAGE, loaded.getProjectType());
+        assertEquals(ProjectStatus.CANCELLED, loaded.getStatus());
+
+        // パラメータ（#{status}）もコード値で比較される
+        assertTrue(projectMapper.findByStatus(ProjectStatus.CANCELLED).stream()
+                .anyMatch(p -> p.getId().equals(project.getId())));
+
+        // 未設定の列はnullのまま読み込まれる
+        Project empty = new Project(null, "No Enum Project", 1L, null, null, null, null);
+        projectMapper.insert(empty);
+        Project emptyLoaded = projectMapper.selectById(empty.getId());
+        assertNull(emptyLoaded.getProjectType());
+        assertNull(emptyLoaded.getStatus());
+
+        System.out.println("=== Test Completed ===\n");
+    }
+}